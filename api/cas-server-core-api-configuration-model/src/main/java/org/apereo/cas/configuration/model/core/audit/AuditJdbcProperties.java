@@ -30,6 +30,12 @@ public class AuditJdbcProperties extends AbstractJpaProperties {
      */
     private boolean asynchronous = true;
 
+    /**
+     * Queue audit records and write them to the audit store in batches.
+     */
+    @NestedConfigurationProperty
+    private AuditPipelineProperties pipeline = new AuditPipelineProperties();
+
     /**
      * Indicates how long audit records should be kept in the database.
      * This is used by the clean-up criteria to clean up after stale audit records.
@@ -6,6 +6,7 @@ import org.apereo.cas.configuration.support.RequiresModule;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.experimental.Accessors;
+import org.springframework.boot.context.properties.NestedConfigurationProperty;
 
 /**
  * This is {@link AuditMongoDbProperties}.
@@ -28,6 +29,12 @@ public class AuditMongoDbProperties extends SingleCollectionMongoDbProperties {
      */
     private boolean asynchronous = true;
 
+    /**
+     * Queue audit records and write them to the audit store in batches.
+     */
+    @NestedConfigurationProperty
+    private AuditPipelineProperties pipeline = new AuditPipelineProperties();
+
     public AuditMongoDbProperties() {
         setCollection("MongoDbCasAuditRepository");
     }
@@ -0,0 +1,80 @@
+package org.apereo.cas.configuration.model.core.audit;
+
+import module java.base;
+import org.apereo.cas.configuration.support.DurationCapable;
+import org.apereo.cas.configuration.support.RequiresModule;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+/**
+ * This is {@link AuditPipelineProperties}.
+ *
+ * @author Misagh Moayyed
+ * @since 8.1.0
+ */
+@RequiresModule(name = "cas-server-core-audit", automated = true)
+@Getter
+@Setter
+@Accessors(chain = true)
+public class AuditPipelineProperties implements Serializable {
+    @Serial
+    private static final long serialVersionUID = 2817402941367250814L;
+
+    /**
+     * Whether audit records should be queued and written to the audit store in batches.
+     * When enabled, audit records are placed into a bounded queue and are written
+     * by a background worker once enough records are collected, or once the flush interval passes,
+     * whichever comes first. This takes precedence over asynchronous recording of audit records.
+     */
+    private boolean enabled;
+
+    /**
+     * Maximum number of audit records that can wait in the queue
+     * before the overflow policy is applied.
+     */
+    private int capacity = 10_000;
+
+    /**
+     * Number of audit records that are collected and written to the audit store together.
+     */
+    private int batchSize = 100;
+
+    /**
+     * Maximum amount of time an audit record may wait in the queue
+     * before the current batch is written to the audit store, even if the batch is not full.
+     */
+    @DurationCapable
+    private String flushInterval = "PT1S";
+
+    /**
+     * Decide what should happen to audit records when the queue is full.
+     */
+    private AuditPipelineOverflowPolicies overflowPolicy = AuditPipelineOverflowPolicies.BLOCK;
+
+    /**
+     * Directory where audit records are written when the queue is full
+     * and the overflow policy is set to {@link AuditPipelineOverflowPolicies#SPILL}.
+     * Spilled records are written to the audit store once the queue is drained.
+     * If left blank, the system's temporary directory is used.
+     */
+    private String spillDirectory;
+
+    /**
+     * Overflow policies for the audit pipeline.
+     */
+    public enum AuditPipelineOverflowPolicies {
+        /**
+         * Block the caller until there is room in the queue.
+         */
+        BLOCK,
+        /**
+         * Discard the oldest audit record waiting in the queue to make room.
+         */
+        DROP_OLDEST,
+        /**
+         * Write the audit record to a local file and replay it later.
+         */
+        SPILL
+    }
+}
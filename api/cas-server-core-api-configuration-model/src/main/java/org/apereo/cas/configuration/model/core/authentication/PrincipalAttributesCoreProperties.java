@@ -1,6 +1,7 @@
 package org.apereo.cas.configuration.model.core.authentication;
 
 import module java.base;
+import org.apereo.cas.configuration.support.DurationCapable;
 import org.apereo.cas.configuration.support.RequiresModule;
 import lombok.Getter;
 import lombok.Setter;
@@ -77,6 +78,36 @@ public class PrincipalAttributesCoreProperties implements Serializable {
      */
     private boolean requireAllRepositorySources;
 
+    /**
+     * When {@link #aggregation} is set to {@link AggregationStrategyTypes#MERGE},
+     * this setting allows attribute repositories to be queried concurrently instead of one after another.
+     * Results are still merged in the order in which attribute repositories are defined,
+     * so the final set of attributes is the same regardless of which repository answers first.
+     */
+    private boolean queryConcurrently;
+
+    /**
+     * Maximum amount of time each attribute repository may take to produce results
+     * when repositories are queried concurrently. A repository that fails to answer in time
+     * is treated as a failure, and handled per {@link #recoverExceptions}.
+     * Leaving this blank or setting it to zero imposes no limit.
+     */
+    @DurationCapable
+    private String queryTimeout = "PT0S";
+
+    /**
+     * Maximum amount of time an attribute repository may take to produce results
+     * when repositories are queried concurrently, keyed by the attribute repository identifier.
+     * Values defined here override {@link #queryTimeout} for the matching repository.
+     */
+    private Map<String, String> queryTimeouts = new HashMap<>();
+
+    /**
+     * Identifiers of attribute repositories whose failures, including timeouts, should
+     * halt attribute resolution regardless of {@link #recoverExceptions}.
+     */
+    private Set<String> unrecoverableRepositories = new HashSet<>();
+
     /**
      * CAS provides the ability to release a bundle of principal attributes to all services by default.
      * This bundle is not defined on a per-service basis and is always combined with attributes
@@ -6,6 +6,7 @@ import org.apereo.cas.configuration.support.RequiresModule;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.experimental.Accessors;
+import org.springframework.boot.context.properties.NestedConfigurationProperty;
 
 /**
  * This is {@link RiskBasedAuthenticationCoreProperties}.
@@ -33,4 +34,10 @@ public class RiskBasedAuthenticationCoreProperties implements Serializable {
      * in order to locate authentication events.
      */
     private long daysInRecentHistory = 30;
+
+    /**
+     * Control how risk profiles for principals are tracked.
+     */
+    @NestedConfigurationProperty
+    private RiskBasedAuthenticationProfileProperties profile = new RiskBasedAuthenticationProfileProperties();
 }
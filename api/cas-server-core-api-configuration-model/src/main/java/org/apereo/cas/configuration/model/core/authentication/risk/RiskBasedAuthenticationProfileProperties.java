@@ -0,0 +1,45 @@
+package org.apereo.cas.configuration.model.core.authentication.risk;
+
+import module java.base;
+import org.apereo.cas.configuration.support.DurationCapable;
+import org.apereo.cas.configuration.support.RequiresModule;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+/**
+ * This is {@link RiskBasedAuthenticationProfileProperties}.
+ *
+ * @author Misagh Moayyed
+ * @since 8.1.0
+ */
+@Getter
+@Setter
+@Accessors(chain = true)
+@RequiresModule(name = "cas-server-support-electrofence")
+public class RiskBasedAuthenticationProfileProperties implements Serializable {
+    @Serial
+    private static final long serialVersionUID = 2208518046153621347L;
+
+    /**
+     * Keep risk profiles for principals in memory. A risk profile summarizes
+     * the authentication history of the principal, and is updated as authentication
+     * events are recorded, so that risk calculators do not have to fetch and examine
+     * the authentication history of the principal on every attempt.
+     * When disabled, the risk profile is built from the authentication history every time.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Maximum number of risk profiles to keep in memory.
+     */
+    private long capacity = 10_000;
+
+    /**
+     * Duration after which a risk profile is discarded and built again
+     * from the authentication history. This allows the profile to pick up authentication
+     * events that are recorded by other CAS nodes.
+     */
+    @DurationCapable
+    private String expiration = "PT30M";
+}
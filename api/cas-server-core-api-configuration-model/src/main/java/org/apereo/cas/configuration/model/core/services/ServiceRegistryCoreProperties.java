@@ -2,6 +2,7 @@ package org.apereo.cas.configuration.model.core.services;
 
 import module java.base;
 import org.apereo.cas.configuration.model.support.services.json.JsonServiceRegistryProperties;
+import org.apereo.cas.configuration.support.DurationCapable;
 import org.apereo.cas.configuration.support.RequiresModule;
 import lombok.Getter;
 import lombok.Setter;
@@ -60,4 +61,32 @@ public class ServiceRegistryCoreProperties implements Serializable {
      * The indexes allow CAS to execute a direct query on loaded service objects to find the relevant definition.
      */
     private boolean indexServices = true;
+
+    /**
+     * When set to true, CAS builds an in-memory index of CAS service definitions keyed by their matching strategy
+     * and the literal scheme/host/path prefix of their service identifiers. When locating the service definition
+     * that matches an incoming request, only the definitions whose literal value or prefix could possibly match
+     * the requested service are evaluated, instead of walking through all service definitions in order.
+     * Definitions that cannot be indexed, such as those that use custom matching strategies or regular expressions
+     * without a literal prefix, are always evaluated. The evaluation order of service definitions remains the same.
+     */
+    private boolean indexMatchingStrategies = true;
+
+    /**
+     * When set to true, scheduled reloads of service definitions only apply the definitions that have been
+     * added, updated or removed since the previous load to the cache and indexes, instead of loading, validating
+     * and indexing all service definitions again. Changes are tracked by the service registry itself, for example
+     * using modification timestamps for JPA, MongoDb and LDAP or file modification times for file-based registries.
+     * If the service registry is unable to track changes, all service definitions are loaded instead.
+     */
+    private boolean incrementalLoad;
+
+    /**
+     * When incremental loading is turned on via {@link #isIncrementalLoad()}, this setting controls how often
+     * scheduled reloads should still load all service definitions from the service registry. This allows CAS to catch up with
+     * changes that might have been missed, such as those made directly to the underlying storage without updating modification
+     * timestamps, or those affected by clock drift between CAS nodes and the storage.
+     */
+    @DurationCapable
+    private String fullLoadInterval = "PT1H";
 }
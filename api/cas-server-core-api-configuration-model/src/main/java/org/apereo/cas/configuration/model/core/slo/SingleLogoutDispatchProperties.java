@@ -0,0 +1,69 @@
+package org.apereo.cas.configuration.model.core.slo;
+
+import module java.base;
+import org.apereo.cas.configuration.support.DurationCapable;
+import org.apereo.cas.configuration.support.RequiresModule;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+/**
+ * Configuration properties class for dispatching back-channel single logout messages
+ * through a bounded queue in the background.
+ *
+ * @author Misagh Moayyed
+ * @since 8.1.0
+ */
+@RequiresModule(name = "cas-server-core-authentication", automated = true)
+@Getter
+@Setter
+@Accessors(chain = true)
+public class SingleLogoutDispatchProperties implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 4426352118407529871L;
+
+    /**
+     * Whether asynchronous back-channel logout messages should be queued
+     * and delivered in the background with retries, instead of being handed
+     * to the HTTP client one at a time without retries.
+     */
+    private boolean enabled;
+
+    /**
+     * Maximum number of logout messages that can be waiting for delivery.
+     * Messages that arrive when the queue is full are rejected and recorded as failures.
+     */
+    private int queueCapacity = 10_000;
+
+    /**
+     * Maximum number of logout messages that can be delivered at the same time.
+     */
+    private int maxConcurrentDeliveries = 32;
+
+    /**
+     * Maximum number of logout messages that can be delivered to the same
+     * host at the same time, so a single slow or unavailable application
+     * cannot consume the delivery capacity of all others.
+     */
+    private int maxConcurrentDeliveriesPerHost = 4;
+
+    /**
+     * Maximum number of delivery attempts for a logout message before it is given up.
+     */
+    private int maxAttempts = 3;
+
+    /**
+     * Delay before the first retry of a failed delivery. The delay doubles with each further attempt.
+     */
+    @DurationCapable
+    private String retryDelay = "PT2S";
+
+    /**
+     * Path to a directory used as a persistent outbox for logout messages.
+     * When defined, pending messages are written to this directory and removed once delivered,
+     * and messages left behind by a previous run are delivered again on startup.
+     * Messages that could not be delivered after all attempts are kept with a {@code .failed} extension.
+     */
+    private String outboxDirectory;
+}
@@ -5,6 +5,7 @@ import org.apereo.cas.configuration.support.RequiresModule;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.experimental.Accessors;
+import org.springframework.boot.context.properties.NestedConfigurationProperty;
 
 /**
  * This is {@link SingleLogoutProperties}.
@@ -38,6 +39,12 @@ public class SingleLogoutProperties implements Serializable {
      */
     private LogoutPropagationTypes logoutPropagationType = LogoutPropagationTypes.AJAX;
 
+    /**
+     * Settings that control the background delivery of back-channel logout messages.
+     */
+    @NestedConfigurationProperty
+    private SingleLogoutDispatchProperties dispatch = new SingleLogoutDispatchProperties();
+
     /**
      * The Logout propagation types.
      */
@@ -0,0 +1,49 @@
+package org.apereo.cas.configuration.model.core.ticket.registry;
+
+import module java.base;
+import org.apereo.cas.configuration.model.support.quartz.ScheduledJobProperties;
+import org.apereo.cas.configuration.support.DurationCapable;
+import org.apereo.cas.configuration.support.RequiresModule;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+/**
+ * This is {@link TicketRegistryCleanerProperties}.
+ *
+ * @author Misagh Moayyed
+ * @since 8.1.0
+ */
+@RequiresModule(name = "cas-server-core-tickets", automated = true)
+@Getter
+@Setter
+@Accessors(chain = true)
+public class TicketRegistryCleanerProperties extends ScheduledJobProperties {
+    @Serial
+    private static final long serialVersionUID = -1783410574911297152L;
+
+    /**
+     * Maximum number of cleanup tasks that may run in parallel.
+     * Each task either cleans a single ticket-granting ticket (which involves
+     * logout notifications and events) or removes a batch of other expired tickets.
+     */
+    private int concurrency = 16;
+
+    /**
+     * Number of expired tickets that are grouped together and removed
+     * from the registry in one batch. This is also the page size used when
+     * the cleaner runs in incremental mode and walks through the registry.
+     */
+    private int batchSize = 500;
+
+    /**
+     * Maximum amount of time a single cleanup run is allowed to take.
+     * When defined, the cleaner runs in incremental mode: it walks through the registry
+     * page by page and stops once the time budget is exhausted, remembering where it stopped
+     * so that the next run can resume from that position instead of scanning the entire registry again.
+     * Once the end of the registry is reached, the cleaner starts again from the beginning.
+     * Leaving this blank or setting it to zero scans the entire registry on every run.
+     */
+    @DurationCapable
+    private String timeBudget = "PT0S";
+}
@@ -39,4 +39,30 @@ public class TicketRegistryCoreProperties implements Serializable {
      * and kept in memory.
      */
     private String queueIdentifier;
+
+    /**
+     * Codec used to turn tickets into bytes before they are encrypted
+     * and stored, when the registry is configured to encode tickets.
+     * Switching codecs is safe for tickets that are already stored,
+     * since the binary codecs recognize and read Java-serialized content.
+     */
+    private TicketCodecTypes codec = TicketCodecTypes.SERIALIZATION;
+
+    /**
+     * Codecs that can be used to encode tickets.
+     */
+    public enum TicketCodecTypes {
+        /**
+         * Use Java serialization.
+         */
+        SERIALIZATION,
+        /**
+         * Use a compact, versioned binary format.
+         */
+        BINARY,
+        /**
+         * Use a compact, versioned binary format compressed with LZ4.
+         */
+        BINARY_COMPRESSED
+    }
 }
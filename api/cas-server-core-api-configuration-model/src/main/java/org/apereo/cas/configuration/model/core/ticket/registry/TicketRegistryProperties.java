@@ -13,7 +13,6 @@ import org.apereo.cas.configuration.model.support.kafka.KafkaTicketRegistryPrope
 import org.apereo.cas.configuration.model.support.memcached.MemcachedTicketRegistryProperties;
 import org.apereo.cas.configuration.model.support.mongo.ticketregistry.MongoDbTicketRegistryProperties;
 import org.apereo.cas.configuration.model.support.pulsar.PulsarTicketRegistryProperties;
-import org.apereo.cas.configuration.model.support.quartz.ScheduledJobProperties;
 import org.apereo.cas.configuration.model.support.redis.RedisTicketRegistryProperties;
 import org.apereo.cas.configuration.support.RequiresModule;
 import lombok.Getter;
@@ -132,7 +131,7 @@ public class TicketRegistryProperties implements Serializable {
      * Ticket registry cleaner settings.
      */
     @NestedConfigurationProperty
-    private ScheduledJobProperties cleaner = new ScheduledJobProperties();
+    private TicketRegistryCleanerProperties cleaner = new TicketRegistryCleanerProperties();
 
     /**
      * Ticket registry core settings.
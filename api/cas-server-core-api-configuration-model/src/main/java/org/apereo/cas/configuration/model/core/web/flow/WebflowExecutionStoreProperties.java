@@ -0,0 +1,67 @@
+package org.apereo.cas.configuration.model.core.web.flow;
+
+import module java.base;
+import org.apereo.cas.configuration.support.DurationCapable;
+import org.apereo.cas.configuration.support.RequiresModule;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+/**
+ * This is {@link WebflowExecutionStoreProperties}.
+ *
+ * @author Misagh Moayyed
+ * @since 8.1.0
+ */
+@Getter
+@Setter
+@RequiresModule(name = "cas-server-core-webflow")
+@Accessors(chain = true)
+public class WebflowExecutionStoreProperties implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 2719384472610943117L;
+
+    /**
+     * Controls where flow execution state is kept when state is not stored in the HTTP session.
+     * When a store is selected, flow execution state is kept server-side and only a short
+     * random handle is sent to the browser as the flow execution key, instead of the
+     * encrypted and compressed flow execution state.
+     */
+    private WebflowExecutionStoreTypes type = WebflowExecutionStoreTypes.NONE;
+
+    /**
+     * Maximum amount of memory, in bytes, that flow execution states may occupy.
+     * States are weighed by the size of their serialized form; once the limit is reached,
+     * states are evicted to stay within the limit.
+     * Only relevant if the store type is {@link WebflowExecutionStoreTypes#MEMORY}.
+     */
+    private long maximumSizeInBytes = 256L * 1024 * 1024;
+
+    /**
+     * Amount of time after which an unused flow execution state is removed from memory.
+     * Only relevant if the store type is {@link WebflowExecutionStoreTypes#MEMORY}.
+     * Flow execution states kept in the ticket registry follow the expiration policy of transient session tickets.
+     */
+    @DurationCapable
+    private String timeToLive = "PT30M";
+
+    /**
+     * Flow execution store types.
+     */
+    public enum WebflowExecutionStoreTypes {
+        /**
+         * Flow execution state is sent to the client.
+         */
+        NONE,
+        /**
+         * Flow execution state is kept in a bounded in-memory cache on each node.
+         */
+        MEMORY,
+        /**
+         * Flow execution state is kept in the ticket registry as transient session tickets,
+         * and is shared by all nodes that share the ticket registry.
+         */
+        TICKET_REGISTRY
+    }
+}
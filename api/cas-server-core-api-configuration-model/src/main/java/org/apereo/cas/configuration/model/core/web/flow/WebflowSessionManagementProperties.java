@@ -29,6 +29,12 @@ public class WebflowSessionManagementProperties implements Serializable {
     @NestedConfigurationProperty
     private WebflowServerSessionsProperties server = new WebflowServerSessionsProperties();
 
+    /**
+     * Control server-side storage of flow execution state outside the HTTP session.
+     */
+    @NestedConfigurationProperty
+    private WebflowExecutionStoreProperties store = new WebflowExecutionStoreProperties();
+
     /**
      * Controls whether spring webflow sessions are to be stored server-side or client side.
      * By default state is managed on the client side, that is also signed and encrypted.
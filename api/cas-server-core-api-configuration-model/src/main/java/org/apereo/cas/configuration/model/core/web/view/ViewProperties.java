@@ -55,6 +55,15 @@ public class ViewProperties implements Serializable {
      */
     private List<String> templatePrefixes = new ArrayList<>(1);
 
+    /**
+     * When set to {@code true}, successful CAS2 and CAS3 service validation responses
+     * are written directly to the response instead of being rendered from templates.
+     * The output matches what the default templates produce, and the template locations
+     * defined for success views are then ignored. Failure responses and JSON responses
+     * are not affected.
+     */
+    private boolean streamValidationResponses;
+
     /**
      * How to search for theme resource bundles and how to deal with multiple property files found for a given theme.
      * The {@link ThemeSourceTypes#DEFAULT} type uses the first theme resource bundle found across the template prefixes.
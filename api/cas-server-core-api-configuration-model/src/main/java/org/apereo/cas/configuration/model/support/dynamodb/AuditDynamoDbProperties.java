@@ -1,10 +1,12 @@
 package org.apereo.cas.configuration.model.support.dynamodb;
 
 import module java.base;
+import org.apereo.cas.configuration.model.core.audit.AuditPipelineProperties;
 import org.apereo.cas.configuration.support.RequiresModule;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.experimental.Accessors;
+import org.springframework.boot.context.properties.NestedConfigurationProperty;
 
 /**
  * This is {@link AuditDynamoDbProperties}.
@@ -30,4 +32,10 @@ public class AuditDynamoDbProperties extends AbstractDynamoDbProperties {
      * Make storage requests asynchronously.
      */
     private boolean asynchronous = true;
+
+    /**
+     * Queue audit records and write them to the audit store in batches.
+     */
+    @NestedConfigurationProperty
+    private AuditPipelineProperties pipeline = new AuditPipelineProperties();
 }
@@ -29,6 +29,15 @@ public class HazelcastTicketRegistryProperties extends BaseHazelcastProperties {
     @NestedConfigurationProperty
     private EncryptionRandomizedSigningJwtCryptographyProperties crypto = new EncryptionRandomizedSigningJwtCryptographyProperties();
 
+    /**
+     * Keep the services and service tickets tracked by ticket-granting tickets
+     * in a separate Hazelcast multimap keyed by ticket-granting ticket, instead of inside the ticket-granting ticket itself.
+     * Granting a service ticket then only adds the new entry, which keeps ticket-granting ticket
+     * entries small for sessions that access many applications.
+     * All CAS nodes sharing the registry should agree on this setting.
+     */
+    private boolean trackServicesExternally;
+
     public HazelcastTicketRegistryProperties() {
         this.crypto.setEnabled(false);
     }
@@ -57,6 +57,15 @@ public class JpaTicketRegistryProperties extends AbstractJpaProperties {
     @RequiredProperty
     private boolean enabled = true;
 
+    /**
+     * Keep the services and service tickets tracked by ticket-granting tickets
+     * in a separate table, one row per service ticket, instead of inside the ticket-granting ticket itself.
+     * Granting a service ticket then only inserts the new row, which keeps ticket-granting ticket
+     * rows small for sessions that access many applications.
+     * All CAS nodes sharing the registry should agree on this setting.
+     */
+    private boolean trackServicesExternally;
+
     public JpaTicketRegistryProperties() {
         setUrl("jdbc:hsqldb:mem:cas-ticket-registry");
         this.crypto.setEnabled(false);
@@ -2,10 +2,12 @@ package org.apereo.cas.configuration.model.support.ldap;
 
 import module java.base;
 import org.apereo.cas.configuration.model.core.authentication.AttributeRepositoryStates;
+import org.apereo.cas.configuration.model.core.cache.ExpiringSimpleCacheProperties;
 import org.apereo.cas.configuration.support.RequiresModule;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.experimental.Accessors;
+import org.springframework.boot.context.properties.NestedConfigurationProperty;
 
 /**
  * This is {@link LdapPrincipalAttributesProperties}.
@@ -75,5 +77,26 @@ public class LdapPrincipalAttributesProperties extends AbstractLdapSearchPropert
      */
     private Map<String, String> queryAttributes = new HashMap<>();
 
+    /**
+     * Whether the LDAP entry retrieved by an LDAP authentication handler during the same authentication
+     * attempt should be reused instead of searching for it again. The entry is only reused when the
+     * authentication handler points at the same LDAP URL and base DN, locates the entry using the same search filter,
+     * and has retrieved all attributes that are requested by this attribute repository.
+     * Attribute repositories that define search entry handlers or binary attributes always search for the entry.
+     */
+    private boolean reuseAuthenticatedEntry = true;
+
+    /**
+     * Settings for a short-lived cache of LDAP entries fetched by this attribute repository,
+     * kept across authentication attempts. This is only appropriate for attributes that are not
+     * expected to change often, as changes in the directory are not observed until cached entries expire.
+     * The cache is turned off by default; to enable it, assign a cache size greater than {@code 0}.
+     */
+    @NestedConfigurationProperty
+    private ExpiringSimpleCacheProperties entryCache = new ExpiringSimpleCacheProperties();
 
+    public LdapPrincipalAttributesProperties() {
+        entryCache.setDuration("PT30S");
+        entryCache.setCacheSize(0);
+    }
 }
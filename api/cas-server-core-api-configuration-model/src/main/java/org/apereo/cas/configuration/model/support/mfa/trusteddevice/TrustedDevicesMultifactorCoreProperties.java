@@ -1,6 +1,7 @@
 package org.apereo.cas.configuration.model.support.mfa.trusteddevice;
 
 import module java.base;
+import org.apereo.cas.configuration.support.DurationCapable;
 import org.apereo.cas.configuration.support.RequiresModule;
 import lombok.Getter;
 import lombok.Setter;
@@ -41,4 +42,12 @@ public class TrustedDevicesMultifactorCoreProperties implements Serializable {
      * a device name should be automatically selected and assigned by CAS.
      */
     private boolean autoAssignDeviceName;
+
+    /**
+     * How long CAS should remember that a device is not trusted for a principal
+     * before the trusted device storage is consulted again. Devices that are registered
+     * are forgotten immediately. Set to zero to always consult the storage.
+     */
+    @DurationCapable
+    private String untrustedDeviceCacheExpiration = "PT15S";
 }
@@ -69,6 +69,12 @@ public class OAuthAccessTokenProperties implements Serializable {
     @NestedConfigurationProperty
     private EncryptionOptionalSigningOptionalJwtCryptographyProperties crypto = new EncryptionOptionalSigningOptionalJwtCryptographyProperties();
 
+    /**
+     * Settings that control how access tokens presented to CAS are verified.
+     */
+    @NestedConfigurationProperty
+    private OAuthAccessTokenVerificationProperties verification = new OAuthAccessTokenVerificationProperties();
+
     public OAuthAccessTokenProperties() {
         crypto.getEncryption().setKeySize(EncryptionJwtCryptoProperties.DEFAULT_STRINGABLE_ENCRYPTION_KEY_SIZE);
         crypto.getSigning().setKeySize(SigningJwtCryptoProperties.DEFAULT_STRINGABLE_SIGNING_KEY_SIZE);
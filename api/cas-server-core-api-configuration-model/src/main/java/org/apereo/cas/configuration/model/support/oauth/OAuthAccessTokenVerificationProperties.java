@@ -0,0 +1,64 @@
+package org.apereo.cas.configuration.model.support.oauth;
+
+import module java.base;
+import org.apereo.cas.configuration.model.core.cache.ExpiringSimpleCacheProperties;
+import org.apereo.cas.configuration.support.DurationCapable;
+import org.apereo.cas.configuration.support.RequiresModule;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+import org.springframework.boot.context.properties.NestedConfigurationProperty;
+
+/**
+ * This is {@link OAuthAccessTokenVerificationProperties}.
+ *
+ * @author Misagh Moayyed
+ * @since 8.1.0
+ */
+@RequiresModule(name = "cas-server-support-oauth")
+@Getter
+@Setter
+@Accessors(chain = true)
+public class OAuthAccessTokenVerificationProperties implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = -3196548236108357713L;
+
+    /**
+     * Whether JWT access tokens should be validated statelessly before the token is looked up.
+     * When enabled, the signature and the expiration date of the JWT are verified and the token identifier
+     * is checked against the list of revoked tokens; tokens that fail these checks are rejected
+     * without contacting the ticket registry.
+     */
+    private boolean statelessJwtValidation;
+
+    /**
+     * Maximum number of revoked token identifiers that are remembered.
+     * Revoked tokens are remembered for the maximum lifetime of an access token.
+     */
+    private long revocationFilterSize = 100_000L;
+
+    /**
+     * How often nodes check the ticket registry for tokens revoked on other nodes,
+     * when the cache of verified access tokens is turned on. Nodes that find new revocations
+     * clear their cache of verified access tokens, so revocations on other nodes are observed
+     * within this interval.
+     */
+    @DurationCapable
+    private String revocationCheckInterval = "PT5S";
+
+    /**
+     * Settings for the cache of verified access tokens, used to avoid looking up
+     * the same token in the ticket registry on every request. Cached tokens are still checked for expiration,
+     * and tokens removed from the ticket registry on this node are removed from the cache immediately.
+     * Revocations on other nodes are observed at the next revocation check.
+     * The cache is turned off by default; to enable it, assign a cache size greater than {@code 0}.
+     */
+    @NestedConfigurationProperty
+    private ExpiringSimpleCacheProperties cache = new ExpiringSimpleCacheProperties();
+
+    public OAuthAccessTokenVerificationProperties() {
+        cache.setDuration("PT30S");
+        cache.setCacheSize(0);
+    }
+}
@@ -54,6 +54,15 @@ public class RedisTicketRegistryProperties extends BaseRedisProperties {
      */
     private boolean enableRedisSearch = true;
 
+    /**
+     * Keep the services and service tickets tracked by ticket-granting tickets
+     * in a separate Redis hash per ticket-granting ticket, instead of inside the ticket-granting ticket itself.
+     * Granting a service ticket then only writes the new entry, which keeps ticket-granting ticket
+     * documents small for sessions that access many applications.
+     * All CAS nodes sharing the registry should agree on this setting.
+     */
+    private boolean trackServicesExternally;
+
     public RedisTicketRegistryProperties() {
         crypto.setEnabled(false);
     }
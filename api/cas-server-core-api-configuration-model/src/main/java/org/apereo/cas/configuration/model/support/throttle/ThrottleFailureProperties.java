@@ -50,4 +50,25 @@ public class ThrottleFailureProperties implements Serializable {
      */
     @DurationCapable
     private String throttleWindowSeconds = "0";
+
+    /**
+     * Throttling strategies that examine the audit log (i.e. JDBC, MongoDb, etc)
+     * track authentication failures in memory and only consult the audit log
+     * for a given client and user at most once per this interval, merging
+     * what is found with the failures recorded locally.
+     * This bounds how long failures recorded by other CAS nodes
+     * may remain unnoticed. A zero or negative value examines the audit log
+     * for every authentication attempt.
+     */
+    @DurationCapable
+    private String reconcileInterval = "PT5S";
+
+    /**
+     * Authentication failures may be written to the audit log some time after they
+     * are recorded, i.e. when the audit trail manager is asynchronous or writes records in batches.
+     * When tracking failures in memory, failures that are recorded locally within this period
+     * before the audit log is consulted are kept in addition to what is found in the audit log.
+     */
+    @DurationCapable
+    private String auditLag = "PT10S";
 }
@@ -0,0 +1,78 @@
+package org.apereo.cas.support.events;
+
+import module java.base;
+import org.apereo.cas.support.events.dao.CasEvent;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * This is {@link CasEventQuery} that describes the events to fetch from a {@link CasEventRepository}.
+ * Every criterion is optional; events must match all criteria that are defined.
+ * Matching events are ordered by their creation time, most recent first,
+ * so that a limited query produces the latest events.
+ *
+ * @author Misagh Moayyed
+ * @since 8.1.0
+ */
+@Getter
+@ToString
+@Builder(toBuilder = true)
+public class CasEventQuery implements Serializable {
+    /**
+     * Order events by their creation time, most recent first.
+     */
+    public static final Comparator<CasEvent> MOST_RECENT_FIRST = Comparator.comparing(CasEvent::getCreationTime).reversed();
+
+    @Serial
+    private static final long serialVersionUID = 6326873211407411585L;
+
+    /**
+     * The principal that is linked to the event.
+     */
+    private final @Nullable String principalId;
+
+    /**
+     * The event type.
+     */
+    private final @Nullable String type;
+
+    /**
+     * Events created at or after this instant.
+     */
+    private final @Nullable ZonedDateTime from;
+
+    /**
+     * Events created before this instant.
+     */
+    private final @Nullable ZonedDateTime to;
+
+    /**
+     * Maximum number of events to fetch.
+     */
+    @Builder.Default
+    private final long limit = Long.MAX_VALUE;
+
+    /**
+     * Is the number of events to fetch limited?
+     *
+     * @return true/false
+     */
+    public boolean isLimited() {
+        return limit > 0 && limit < Long.MAX_VALUE;
+    }
+
+    /**
+     * Does the event match this query?
+     *
+     * @param event the event
+     * @return true/false
+     */
+    public boolean matches(final CasEvent event) {
+        return (principalId == null || principalId.equalsIgnoreCase(event.getPrincipalId()))
+            && (type == null || type.equals(event.getType()))
+            && (from == null || !event.getCreationTime().isBefore(from.toInstant()))
+            && (to == null || event.getCreationTime().isBefore(to.toInstant()));
+    }
+}
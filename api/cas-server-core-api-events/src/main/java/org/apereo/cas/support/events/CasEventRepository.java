@@ -81,6 +81,18 @@ public interface CasEventRepository {
         return Stream.empty();
     }
 
+    /**
+     * Fetch events that match the query.
+     * Repositories should evaluate the query natively,
+     * rather than loading and filtering all events.
+     *
+     * @param query the query
+     * @return the events, most recent first
+     */
+    default Stream<? extends CasEvent> query(final CasEventQuery query) {
+        return Stream.empty();
+    }
+
     /**
      * Gets events of type for principal.
      *
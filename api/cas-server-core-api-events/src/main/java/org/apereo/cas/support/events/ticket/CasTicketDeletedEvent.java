@@ -0,0 +1,37 @@
+package org.apereo.cas.support.events.ticket;
+
+import module java.base;
+import org.apereo.cas.support.events.AbstractCasEvent;
+import org.apereo.cas.ticket.Ticket;
+import lombok.Getter;
+import lombok.ToString;
+import org.apereo.inspektr.common.web.ClientInfo;
+
+/**
+ * Concrete subclass of {@link AbstractCasEvent} representing
+ * the removal of a ticket from the ticket registry.
+ *
+ * @author Misagh Moayyed
+ * @since 8.1.0
+ */
+@ToString(callSuper = true)
+@Getter
+public class CasTicketDeletedEvent extends AbstractCasEvent {
+
+    @Serial
+    private static final long serialVersionUID = -6318046214985302337L;
+
+    private final Ticket ticket;
+
+    /**
+     * Instantiates a new CAS ticket deleted event.
+     *
+     * @param source     the source
+     * @param ticket     the ticket
+     * @param clientInfo the client info
+     */
+    public CasTicketDeletedEvent(final Object source, final Ticket ticket, final ClientInfo clientInfo) {
+        super(source, clientInfo);
+        this.ticket = ticket;
+    }
+}
@@ -0,0 +1,41 @@
+package org.apereo.cas.multitenancy;
+
+import module java.base;
+
+/**
+ * This is {@link TenantComponentRegistry} that keeps track of components,
+ * such as authentication handlers or attribute repositories, that are built
+ * from the properties of a tenant definition. Components are built once for each
+ * version of a tenant definition and are reused until the definition changes
+ * or is removed, at which point they are released and closed.
+ *
+ * @author Misagh Moayyed
+ * @since 8.1.0
+ */
+public interface TenantComponentRegistry {
+
+    /**
+     * Get the components registered under the given name for the tenant,
+     * or build and register them if the tenant definition has changed since they were built.
+     *
+     * @param <T>              the component type
+     * @param tenantDefinition the tenant definition
+     * @param name             the name under which components are registered
+     * @param builder          the builder
+     * @return the components
+     */
+    <T> List<T> getOrBuild(TenantDefinition tenantDefinition, String name,
+                           Function<TenantDefinition, List<? extends T>> builder);
+
+    /**
+     * Release and close all components built for the tenant.
+     *
+     * @param tenantId the tenant id
+     */
+    void release(String tenantId);
+
+    /**
+     * Release and close all components for all tenants.
+     */
+    void releaseAll();
+}
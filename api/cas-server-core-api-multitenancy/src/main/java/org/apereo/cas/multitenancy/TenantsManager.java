@@ -1,6 +1,8 @@
 package org.apereo.cas.multitenancy;
 
 import module java.base;
+import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.configuration.support.ConfigurationPropertiesBindingContext;
 import org.jspecify.annotations.Nullable;
 
 /**
@@ -30,6 +32,19 @@ public interface TenantsManager {
      */
     List<TenantDefinition> findTenants();
 
+    /**
+     * Bind the properties of the tenant definition to CAS properties.
+     * Implementations may hand out the same bound properties for as long as
+     * the tenant definition remains unchanged, and callers must treat
+     * the bound properties as read-only.
+     *
+     * @param tenantDefinition the tenant definition
+     * @return the binding context
+     */
+    default ConfigurationPropertiesBindingContext<CasConfigurationProperties> bindProperties(final TenantDefinition tenantDefinition) {
+        return tenantDefinition.bindProperties();
+    }
+
     /**
      * Save/register a tenant definition.
      *
@@ -50,4 +65,11 @@ public interface TenantsManager {
      * Load.
      */
     void load();
+
+    /**
+     * Gets the registry of components built for tenants.
+     *
+     * @return the component registry
+     */
+    TenantComponentRegistry getComponentRegistry();
 }
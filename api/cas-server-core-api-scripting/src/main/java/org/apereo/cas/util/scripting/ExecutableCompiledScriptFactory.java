@@ -16,6 +16,13 @@ public interface ExecutableCompiledScriptFactory {
      */
     String SYSTEM_PROPERTY_GROOVY_COMPILE_STATIC = "org.apereo.cas.groovy.compile.static";
 
+    /**
+     * System property to indicate whether groovy scripts may execute concurrently,
+     * using a new script instance per invocation, instead of sharing and locking a single instance.
+     * Concurrent execution is disabled by default.
+     */
+    String SYSTEM_PROPERTY_GROOVY_EXECUTION_CONCURRENT = "org.apereo.cas.groovy.execution.concurrent";
+
     /**
      * From resource executable compiled script.
      *
@@ -71,6 +71,13 @@ public interface RegisteredServiceIndexService {
      */
     void indexService(RegisteredService service);
 
+    /**
+     * Remove service from the index.
+     *
+     * @param service the service
+     */
+    void removeService(RegisteredService service);
+
     /**
      * Apply query against registered service and find a match.
      *
@@ -79,6 +79,19 @@ public interface ServiceRegistry extends NamedObject, Ordered {
      */
     Collection<RegisteredService> load();
 
+    /**
+     * Retrieve the services from the data store that have changed since the given watermark,
+     * along with the identifiers of all services that are present in the data store.
+     * Registries that are unable to track changes to service definitions return an empty result,
+     * in which case callers are expected to fall back onto {@link #load()}.
+     *
+     * @param since the watermark returned by the previous set of changes
+     * @return the changes, if any
+     */
+    default Optional<ServiceRegistryChanges> loadChanges(final Instant since) {
+        return Optional.empty();
+    }
+
     /**
      * Gets services stream.
      * <p>
@@ -0,0 +1,18 @@
+package org.apereo.cas.services;
+
+import module java.base;
+
+/**
+ * This is {@link ServiceRegistryChanges}, describing the service definitions
+ * that have changed in a service registry since a given watermark.
+ * Service definitions that are removed from the registry are determined by comparing
+ * the identifiers of all definitions that are present in the registry with those that are loaded.
+ *
+ * @param modifiedServices service definitions that are added or updated since the watermark
+ * @param serviceIds       identifiers of all service definitions that are present in the registry
+ * @param watermark        the watermark to use when asking the registry for the next set of changes
+ * @author Misagh Moayyed
+ * @since 8.1.0
+ */
+public record ServiceRegistryChanges(Collection<RegisteredService> modifiedServices, Set<Long> serviceIds, Instant watermark) {
+}
@@ -205,6 +205,17 @@ public interface ServicesManager extends Ordered, NamedObject {
      */
     Collection<RegisteredService> load();
 
+    /**
+     * Inform the ServicesManager to apply changes to service definitions
+     * that have occurred since the previous load. Managers that are unable
+     * to track changes load all services instead.
+     *
+     * @return the collection of services that are added or updated
+     */
+    default Collection<RegisteredService> loadChanges() {
+        return load();
+    }
+
     /**
      * Return a count of loaded services by this manager.
      *
@@ -5,6 +5,7 @@ import org.apereo.cas.authentication.principal.Service;
 import org.apereo.cas.ticket.Ticket;
 import org.apereo.cas.ticket.TicketGrantingTicket;
 import org.apereo.cas.util.crypto.CipherExecutor;
+import lombok.val;
 import org.jooq.lambda.Unchecked;
 import org.jspecify.annotations.Nullable;
 
@@ -96,6 +97,107 @@ public interface TicketRegistry {
      */
     int deleteTicket(Ticket ticketId) throws Exception;
 
+    /**
+     * Remove a ticket from the registry and return it, so that the ticket
+     * is handed to at most one caller. Registries that are able to remove and return
+     * an entry in one atomic operation should override this operation to do so natively,
+     * and report so via {@link #isTicketConsumptionAtomic()}.
+     *
+     * @param ticketId the ticket id
+     * @return the ticket that was removed, or null if the ticket could not be found.
+     * @throws Exception the exception
+     */
+    default @Nullable Ticket consumeTicket(final String ticketId) throws Exception {
+        val ticket = getTicket(ticketId);
+        if (ticket != null) {
+            deleteTicket(ticket);
+        }
+        return ticket;
+    }
+
+    /**
+     * Whether {@link #consumeTicket(String)} removes and returns tickets
+     * in one atomic operation, guaranteeing that a ticket is consumed once
+     * without further coordination between nodes.
+     *
+     * @return true/false
+     */
+    default boolean isTicketConsumptionAtomic() {
+        return false;
+    }
+
+    /**
+     * Whether the registry keeps services tracked by ticket-granting tickets
+     * in a separate append-only structure, instead of inside the ticket-granting ticket.
+     * When enabled, granting a service ticket only writes the new tracked entry
+     * and tracked services must be read back via {@link #getTrackedServices(TicketGrantingTicket)}.
+     *
+     * @return true/false
+     */
+    default boolean isServiceTrackingExternalized() {
+        return false;
+    }
+
+    /**
+     * Record the service ticket and its service for the ticket-granting ticket.
+     *
+     * @param ticketGrantingTicket the ticket granting ticket
+     * @param serviceTicketId      the service ticket id
+     * @param service              the service
+     * @throws Exception the exception
+     */
+    default void trackService(final TicketGrantingTicket ticketGrantingTicket,
+                              final String serviceTicketId, final Service service) throws Exception {
+        ticketGrantingTicket.getServices().put(serviceTicketId, service);
+    }
+
+    /**
+     * Remove the given service tickets from the services tracked by the ticket-granting ticket.
+     *
+     * @param ticketGrantingTicket the ticket granting ticket
+     * @param serviceTicketIds     the service ticket ids
+     * @throws Exception the exception
+     */
+    default void untrackServices(final TicketGrantingTicket ticketGrantingTicket,
+                                 final Collection<String> serviceTicketIds) throws Exception {
+        serviceTicketIds.forEach(ticketGrantingTicket.getServices()::remove);
+    }
+
+    /**
+     * Gets all services tracked by the ticket-granting ticket,
+     * including those that are kept outside the ticket by the registry.
+     *
+     * @param ticketGrantingTicket the ticket granting ticket
+     * @return the tracked services keyed by service ticket id
+     */
+    default Map<String, Service> getTrackedServices(final TicketGrantingTicket ticketGrantingTicket) {
+        return ticketGrantingTicket.getServices();
+    }
+
+    /**
+     * Remove the given tickets from the registry in one batch.
+     * Registries that are able to remove multiple entries at once
+     * should override this operation to do so natively.
+     * If a ticket to delete is a TGT then related service tickets, etc are removed as well.
+     *
+     * @param tickets the tickets to delete
+     * @return the number of tickets deleted including children.
+     */
+    default int deleteTickets(final Stream<? extends Ticket> tickets) {
+        return tickets.mapToInt(Unchecked.toIntFunction(this::deleteTicket)).sum();
+    }
+
+    /**
+     * Whether this registry is able to remove multiple tickets at once
+     * via {@link #deleteTickets(Stream)} without a round trip to the underlying store per ticket.
+     * Callers should otherwise remove tickets one at a time, in parallel if needed.
+     *
+     * @return true/false
+     */
+    default boolean isBatchDeletionSupported() {
+        return false;
+    }
+
     /**
      * Delete all tickets from the registry.
      *
@@ -156,10 +258,14 @@ public interface TicketRegistry {
      * The returning stream may be bound to an IO channel (such as database connection),
      * so it should be properly closed after usage.
      *
+     * @param criteria the criteria that controls the position and size of the requested page
      * @return the tickets stream
      */
     default Stream<? extends Ticket> stream(final TicketRegistryStreamCriteria criteria) {
-        return getTickets().parallelStream();
+        if (criteria.getFrom() <= 0 && criteria.isInfiniteCount() && criteria.getAfter() == null) {
+            return getTickets().parallelStream();
+        }
+        return criteria.apply(getTickets().stream(), ticket -> digestIdentifier(ticket.getId()));
     }
 
     /**
@@ -0,0 +1,103 @@
+package org.apereo.cas.ticket.registry;
+
+import module java.base;
+import org.apereo.cas.ticket.Ticket;
+
+/**
+ * This is {@link TicketRegistryCounter}. It keeps track of the number of tickets
+ * stored in a ticket registry by type, along with an index of ticket-granting tickets
+ * per principal, so that session and ticket counts can be answered without
+ * streaming through the entire registry. Implementations are maintained by the
+ * ticket registry as tickets are added, updated and removed, and may be backed by
+ * local memory or by a store that is shared with other nodes.
+ *
+ * @author Misagh Moayyed
+ * @since 8.1.0
+ */
+public interface TicketRegistryCounter {
+
+    /**
+     * No-op ticket registry counter that
+     * forces the registry to compute counts on its own.
+     *
+     * @return the ticket registry counter
+     */
+    static TicketRegistryCounter noOp() {
+        return new TicketRegistryCounter() {
+            @Override
+            public boolean isEnabled() {
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Record the ticket as added or updated in the registry.
+     * Recording the same ticket more than once must not change the counts.
+     *
+     * @param ticket the ticket
+     */
+    default void track(final Ticket ticket) {
+    }
+
+    /**
+     * Record the ticket as removed from the registry.
+     *
+     * @param ticketId the ticket id
+     */
+    default void untrack(final String ticketId) {
+    }
+
+    /**
+     * Remove all records.
+     */
+    default void clear() {
+    }
+
+    /**
+     * Count the number of ticket-granting tickets.
+     *
+     * @return the count
+     */
+    default long countSessions() {
+        return 0;
+    }
+
+    /**
+     * Count the number of service tickets.
+     *
+     * @return the count
+     */
+    default long countServiceTickets() {
+        return 0;
+    }
+
+    /**
+     * Count the number of ticket-granting tickets
+     * that belong to the given principal.
+     *
+     * @param principalId the principal id
+     * @return the count
+     */
+    default long countSessionsFor(final String principalId) {
+        return 0;
+    }
+
+    /**
+     * Count all tracked tickets.
+     *
+     * @return the count
+     */
+    default long countTickets() {
+        return 0;
+    }
+
+    /**
+     * Whether this counter is able to answer count queries.
+     *
+     * @return true/false
+     */
+    default boolean isEnabled() {
+        return true;
+    }
+}
@@ -1,6 +1,7 @@
 package org.apereo.cas.ticket.registry;
 
 import module java.base;
+import org.apereo.cas.ticket.Ticket;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -11,6 +12,7 @@ import lombok.ToString;
 import lombok.With;
 import lombok.experimental.Accessors;
 import lombok.experimental.SuperBuilder;
+import org.jspecify.annotations.Nullable;
 
 /**
  * This is {@link TicketRegistryStreamCriteria}.
@@ -35,6 +37,14 @@ public class TicketRegistryStreamCriteria implements Serializable {
     @Builder.Default
     private long count = Long.MAX_VALUE;
 
+    /**
+     * Identifier, as stored by the registry, after which tickets should be streamed.
+     * When defined, tickets are streamed in ascending order of their stored identifiers,
+     * which allows callers to resume from a stable position regardless of tickets that are
+     * added or removed in between. An empty value streams all tickets in order.
+     */
+    private @Nullable String after;
+
     /**
      * Is count infinite?.
      *
@@ -44,4 +54,24 @@ public class TicketRegistryStreamCriteria implements Serializable {
     public boolean isInfiniteCount() {
         return count == Long.MAX_VALUE || count <= 0;
     }
+
+    /**
+     * Apply this criteria to the given tickets, ordering them by their stored identifier
+     * if the criteria is to resume after a given identifier.
+     *
+     * @param <T>              the ticket type
+     * @param tickets          the tickets
+     * @param storedIdentifier the function that produces the stored identifier of a ticket
+     * @return the tickets
+     */
+    public <T extends Ticket> Stream<T> apply(final Stream<T> tickets, final Function<? super T, String> storedIdentifier) {
+        var results = tickets;
+        if (after != null) {
+            results = results
+                .filter(ticket -> storedIdentifier.apply(ticket).compareTo(after) > 0)
+                .sorted(Comparator.comparing(storedIdentifier));
+        }
+        results = results.skip(Math.max(from, 0));
+        return isInfiniteCount() ? results : results.limit(count);
+    }
 }
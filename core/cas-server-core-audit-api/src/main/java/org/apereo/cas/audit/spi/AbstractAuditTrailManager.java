@@ -1,13 +1,17 @@
 package org.apereo.cas.audit.spi;
 
 import module java.base;
+import org.apereo.cas.configuration.model.core.audit.AuditPipelineProperties;
+import org.apereo.cas.util.function.FunctionUtils;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.AccessLevel;
-import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import lombok.val;
 import org.apereo.inspektr.audit.AuditActionContext;
 import org.apereo.inspektr.audit.AuditTrailManager;
+import org.jspecify.annotations.Nullable;
 import org.springframework.beans.factory.DisposableBean;
 
 /**
@@ -19,7 +23,6 @@ import org.springframework.beans.factory.DisposableBean;
 @Setter
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@AllArgsConstructor(access = AccessLevel.PROTECTED)
 public abstract class AbstractAuditTrailManager implements AuditTrailManager, DisposableBean {
     /**
      * Default maximum number of audit records to fetch.
@@ -30,9 +33,44 @@ public abstract class AbstractAuditTrailManager implements AuditTrailManager, Di
 
     private final ExecutorService executorService = Executors.newVirtualThreadPerTaskExecutor();
 
+    @Setter(AccessLevel.NONE)
+    private @Nullable BatchingAuditTrailPipeline auditTrailPipeline;
+
+    protected AbstractAuditTrailManager(final boolean asynchronous) {
+        this.asynchronous = asynchronous;
+    }
+
+    /**
+     * Queue audit records and write them in batches,
+     * if the pipeline is enabled.
+     *
+     * @param properties the pipeline properties
+     */
+    public void configurePipeline(final AuditPipelineProperties properties) {
+        configurePipeline(properties, null);
+    }
+
+    /**
+     * Queue audit records and write them in batches,
+     * if the pipeline is enabled, and publish the pipeline
+     * metrics to the meter registry, if one is available.
+     *
+     * @param properties    the pipeline properties
+     * @param meterRegistry the meter registry
+     */
+    public void configurePipeline(final AuditPipelineProperties properties, final @Nullable MeterRegistry meterRegistry) {
+        if (properties.isEnabled()) {
+            val pipeline = new BatchingAuditTrailPipeline(this, properties);
+            FunctionUtils.doIfNotNull(meterRegistry, pipeline::bindTo);
+            this.auditTrailPipeline = pipeline.start();
+        }
+    }
+
     @Override
     public void record(final AuditActionContext audit) {
-        if (this.asynchronous) {
+        if (auditTrailPipeline != null) {
+            auditTrailPipeline.submit(audit);
+        } else if (this.asynchronous) {
             executorService.execute(() -> saveAuditRecord(audit));
         } else {
             saveAuditRecord(audit);
@@ -41,8 +79,21 @@ public abstract class AbstractAuditTrailManager implements AuditTrailManager, Di
 
     @Override
     public void destroy() {
+        if (auditTrailPipeline != null) {
+            auditTrailPipeline.close();
+        }
         executorService.shutdown();
     }
 
     protected abstract void saveAuditRecord(AuditActionContext audit);
+
+    /**
+     * Save a batch of audit records. Audit stores that are able to
+     * write multiple records at once should override this operation.
+     *
+     * @param audits the audit records
+     */
+    protected void saveAuditRecords(final List<AuditActionContext> audits) {
+        audits.forEach(this::saveAuditRecord);
+    }
 }
@@ -0,0 +1,23 @@
+package org.apereo.cas.audit.spi;
+
+import module java.base;
+
+/**
+ * This is {@link AuditTrailPipelineStatistics} that describes
+ * the state of a {@link BatchingAuditTrailPipeline}.
+ *
+ * @param queueDepth          number of audit records waiting in the queue
+ * @param submitted           number of audit records submitted to the pipeline
+ * @param flushed             number of audit records written to the audit store
+ * @param dropped             number of audit records discarded because the queue was full
+ * @param spilled             number of audit records written to the spill file because the queue was full
+ * @param failed              number of audit records that could not be written to the audit store
+ * @param lastFlushLatency    time it took to write the most recent batch
+ * @param maximumFlushLatency longest time it took to write a batch
+ * @author Misagh Moayyed
+ * @since 8.1.0
+ */
+public record AuditTrailPipelineStatistics(int queueDepth, long submitted, long flushed,
+                                           long dropped, long spilled, long failed,
+                                           Duration lastFlushLatency, Duration maximumFlushLatency) {
+}
@@ -0,0 +1,272 @@
+package org.apereo.cas.audit.spi;
+
+import module java.base;
+import org.apereo.cas.configuration.model.core.audit.AuditPipelineProperties;
+import org.apereo.cas.configuration.support.Beans;
+import org.apereo.cas.util.EncodingUtils;
+import org.apereo.cas.util.function.FunctionUtils;
+import org.apereo.cas.util.serialization.SerializationUtils;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+import org.apereo.inspektr.audit.AuditActionContext;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * This is {@link BatchingAuditTrailPipeline} that places audit records into a bounded queue,
+ * and hands them over to the audit trail manager in batches from a background worker.
+ * A batch is written once it is full, or once the flush interval passes, whichever comes first.
+ * When the queue is full, records are handled according to the configured overflow policy.
+ * Once bound to a meter registry, the queue depth, record counts and flush latency
+ * are published as meters tagged with the audit store.
+ *
+ * @author Misagh Moayyed
+ * @since 8.1.0
+ */
+@Slf4j
+public class BatchingAuditTrailPipeline implements AutoCloseable, MeterBinder {
+    private final AbstractAuditTrailManager auditTrailManager;
+
+    private final AuditPipelineProperties properties;
+
+    private final BlockingQueue<AuditActionContext> queue;
+
+    private final Duration flushInterval;
+
+    private final Path spillFile;
+
+    private final ReentrantLock spillLock = new ReentrantLock();
+
+    private final LongAdder submitted = new LongAdder();
+
+    private final LongAdder flushed = new LongAdder();
+
+    private final LongAdder dropped = new LongAdder();
+
+    private final LongAdder spilled = new LongAdder();
+
+    private final LongAdder failed = new LongAdder();
+
+    private final AtomicReference<Duration> lastFlushLatency = new AtomicReference<>(Duration.ZERO);
+
+    private final AtomicReference<Duration> maximumFlushLatency = new AtomicReference<>(Duration.ZERO);
+
+    @Nullable
+    private volatile Timer flushTimer;
+
+    private volatile boolean running;
+
+    private @Nullable Thread worker;
+
+    public BatchingAuditTrailPipeline(final AbstractAuditTrailManager auditTrailManager,
+                                      final AuditPipelineProperties properties) {
+        this.auditTrailManager = auditTrailManager;
+        this.properties = properties;
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, properties.getCapacity()));
+        val interval = Beans.newDuration(properties.getFlushInterval());
+        this.flushInterval = interval.isZero() || interval.isNegative() ? Duration.ofSeconds(1) : interval;
+        val directory = StringUtils.defaultIfBlank(properties.getSpillDirectory(), System.getProperty("java.io.tmpdir"));
+        this.spillFile = Path.of(directory, auditTrailManager.getClass().getSimpleName() + "-audit-spill.log");
+    }
+
+    /**
+     * Start the background worker that writes batches of audit records.
+     *
+     * @return this pipeline
+     */
+    public BatchingAuditTrailPipeline start() {
+        running = true;
+        worker = Thread.ofVirtual().name(auditTrailManager.getClass().getSimpleName() + "-audit-pipeline").start(this::process);
+        return this;
+    }
+
+    /**
+     * Submit the audit record to the pipeline.
+     *
+     * @param audit the audit record
+     */
+    public void submit(final AuditActionContext audit) {
+        submitted.increment();
+        switch (properties.getOverflowPolicy()) {
+            case BLOCK -> {
+                try {
+                    queue.put(audit);
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    dropped.increment();
+                    LOGGER.warn("Interrupted while waiting to queue audit record [{}]", audit);
+                }
+            }
+            case DROP_OLDEST -> {
+                while (!queue.offer(audit)) {
+                    if (queue.poll() != null) {
+                        dropped.increment();
+                    }
+                }
+            }
+            case SPILL -> {
+                if (!queue.offer(audit)) {
+                    spill(audit);
+                }
+            }
+        }
+    }
+
+    /**
+     * Collect statistics about the state of the pipeline.
+     *
+     * @return the statistics
+     */
+    public AuditTrailPipelineStatistics getStatistics() {
+        return new AuditTrailPipelineStatistics(queue.size(), submitted.sum(), flushed.sum(),
+            dropped.sum(), spilled.sum(), failed.sum(), lastFlushLatency.get(), maximumFlushLatency.get());
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        val store = auditTrailManager.getClass().getSimpleName();
+        Gauge.builder("cas.audit.pipeline.queue.depth", queue, BlockingQueue::size)
+            .description("Number of audit records waiting to be written")
+            .tag("store", store)
+            .register(registry);
+        bindCounter(registry, "cas.audit.pipeline.submitted", "Number of audit records submitted to the pipeline", submitted, store);
+        bindCounter(registry, "cas.audit.pipeline.flushed", "Number of audit records written to the audit store", flushed, store);
+        bindCounter(registry, "cas.audit.pipeline.dropped", "Number of audit records dropped by the overflow policy", dropped, store);
+        bindCounter(registry, "cas.audit.pipeline.spilled", "Number of audit records spilled to disk", spilled, store);
+        bindCounter(registry, "cas.audit.pipeline.failed", "Number of audit records that could not be written", failed, store);
+        flushTimer = Timer.builder("cas.audit.pipeline.flush")
+            .description("Latency of writing a batch of audit records")
+            .tag("store", store)
+            .publishPercentileHistogram()
+            .register(registry);
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        if (worker != null) {
+            try {
+                worker.join(flushInterval.multipliedBy(2));
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        flushRemaining();
+    }
+
+    private void process() {
+        while (running) {
+            try {
+                val batch = collectBatch();
+                if (batch.isEmpty()) {
+                    replaySpilledRecords();
+                } else {
+                    flush(batch);
+                }
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (final Exception e) {
+                LOGGER.error(e.getMessage(), e);
+            }
+        }
+    }
+
+    private List<AuditActionContext> collectBatch() throws InterruptedException {
+        val batchSize = Math.max(1, properties.getBatchSize());
+        val batch = new ArrayList<AuditActionContext>(batchSize);
+        val deadline = System.nanoTime() + flushInterval.toNanos();
+        while (batch.size() < batchSize) {
+            val remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                break;
+            }
+            val audit = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (audit == null) {
+                break;
+            }
+            batch.add(audit);
+            queue.drainTo(batch, batchSize - batch.size());
+        }
+        return batch;
+    }
+
+    private void flushRemaining() {
+        val batchSize = Math.max(1, properties.getBatchSize());
+        val batch = new ArrayList<AuditActionContext>(batchSize);
+        while (queue.drainTo(batch, batchSize) > 0) {
+            flush(batch);
+            batch.clear();
+        }
+        replaySpilledRecords();
+    }
+
+    private void flush(final List<AuditActionContext> batch) {
+        val startTime = System.nanoTime();
+        try {
+            auditTrailManager.saveAuditRecords(List.copyOf(batch));
+            flushed.add(batch.size());
+        } catch (final Exception e) {
+            failed.add(batch.size());
+            LOGGER.error("Unable to write [{}] audit record(s): [{}]", batch.size(), e.getMessage());
+            LOGGER.debug(e.getMessage(), e);
+        } finally {
+            val latency = Duration.ofNanos(System.nanoTime() - startTime);
+            FunctionUtils.doIfNotNull(flushTimer, timer -> timer.record(latency));
+            lastFlushLatency.set(latency);
+            maximumFlushLatency.accumulateAndGet(latency, (current, given) -> given.compareTo(current) > 0 ? given : current);
+            LOGGER.debug("Wrote [{}] audit record(s) in [{}] with [{}] record(s) remaining in the queue", batch.size(), latency, queue.size());
+        }
+    }
+
+    private static void bindCounter(final MeterRegistry registry, final String name, final String description,
+                                    final LongAdder counter, final String store) {
+        FunctionCounter.builder(name, counter, LongAdder::sum)
+            .description(description)
+            .tag("store", store)
+            .register(registry);
+    }
+
+    private void spill(final AuditActionContext audit) {
+        spillLock.lock();
+        try {
+            Files.writeString(spillFile, SerializationUtils.serializeBase64(audit) + System.lineSeparator(),
+                StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            spilled.increment();
+        } catch (final IOException e) {
+            dropped.increment();
+            LOGGER.error("Unable to spill audit record [{}] to [{}]: [{}]", audit, spillFile, e.getMessage());
+        } finally {
+            spillLock.unlock();
+        }
+    }
+
+    private void replaySpilledRecords() {
+        if (!Files.exists(spillFile)) {
+            return;
+        }
+        val records = new ArrayList<AuditActionContext>();
+        spillLock.lock();
+        try {
+            Files.readAllLines(spillFile, StandardCharsets.UTF_8)
+                .stream()
+                .filter(StringUtils::isNotBlank)
+                .map(line -> SerializationUtils.deserialize(EncodingUtils.decodeBase64(line), AuditActionContext.class))
+                .forEach(records::add);
+            Files.delete(spillFile);
+        } catch (final Exception e) {
+            LOGGER.error("Unable to replay audit records from [{}]: [{}]", spillFile, e.getMessage());
+        } finally {
+            spillLock.unlock();
+        }
+        val batchSize = Math.max(1, properties.getBatchSize());
+        for (var i = 0; i < records.size(); i += batchSize) {
+            flush(records.subList(i, Math.min(records.size(), i + batchSize)));
+        }
+    }
+}
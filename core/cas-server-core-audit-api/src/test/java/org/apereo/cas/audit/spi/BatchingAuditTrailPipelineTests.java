@@ -0,0 +1,133 @@
+package org.apereo.cas.audit.spi;
+
+import module java.base;
+import org.apereo.cas.configuration.model.core.audit.AuditPipelineProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.Getter;
+import lombok.val;
+import org.apereo.inspektr.audit.AuditActionContext;
+import org.apereo.inspektr.common.web.ClientInfo;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link BatchingAuditTrailPipelineTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 8.1.0
+ */
+@Tag("Audits")
+class BatchingAuditTrailPipelineTests {
+
+    @TempDir
+    private Path spillDirectory;
+
+    @Test
+    void verifyRecordsWrittenInBatches() {
+        val manager = new BatchingAuditTrailManager();
+        manager.configurePipeline(new AuditPipelineProperties()
+            .setEnabled(true)
+            .setBatchSize(10)
+            .setFlushInterval("PT0.2S"));
+        assertNotNull(manager.getAuditTrailPipeline());
+        IntStream.range(0, 25).forEach(i -> manager.record(getAuditActionContext("casuser" + i)));
+        manager.destroy();
+
+        assertEquals(25, manager.getAuditRecords().size());
+        assertTrue(manager.getBatches().stream().allMatch(batch -> batch.size() <= 10));
+        assertEquals(0, manager.getSingleRecords());
+        val statistics = manager.getAuditTrailPipeline().getStatistics();
+        assertEquals(25, statistics.submitted());
+        assertEquals(25, statistics.flushed());
+        assertEquals(0, statistics.queueDepth());
+    }
+
+    @Test
+    void verifyMetricsArePublished() {
+        val manager = new BatchingAuditTrailManager();
+        val meterRegistry = new SimpleMeterRegistry();
+        manager.configurePipeline(new AuditPipelineProperties()
+            .setEnabled(true)
+            .setBatchSize(10)
+            .setFlushInterval("PT0.2S"), meterRegistry);
+        IntStream.range(0, 15).forEach(i -> manager.record(getAuditActionContext("casuser" + i)));
+        manager.destroy();
+
+        val store = BatchingAuditTrailManager.class.getSimpleName();
+        assertEquals(0, meterRegistry.get("cas.audit.pipeline.queue.depth").tag("store", store).gauge().value());
+        assertEquals(15, meterRegistry.get("cas.audit.pipeline.submitted").tag("store", store).functionCounter().count());
+        assertEquals(15, meterRegistry.get("cas.audit.pipeline.flushed").tag("store", store).functionCounter().count());
+        assertEquals(manager.getBatches().size(), meterRegistry.get("cas.audit.pipeline.flush").tag("store", store).timer().count());
+    }
+
+    @Test
+    void verifyDropOldestRecords() {
+        val manager = new BatchingAuditTrailManager();
+        val pipeline = new BatchingAuditTrailPipeline(manager, new AuditPipelineProperties()
+            .setEnabled(true)
+            .setCapacity(5)
+            .setOverflowPolicy(AuditPipelineProperties.AuditPipelineOverflowPolicies.DROP_OLDEST));
+        IntStream.range(0, 8).forEach(i -> pipeline.submit(getAuditActionContext("casuser" + i)));
+        assertEquals(5, pipeline.getStatistics().queueDepth());
+        assertEquals(3, pipeline.getStatistics().dropped());
+        pipeline.close();
+        assertEquals(List.of("casuser3", "casuser4", "casuser5", "casuser6", "casuser7"),
+            manager.getAuditRecords().stream().map(AuditActionContext::getPrincipal).toList());
+    }
+
+    @Test
+    void verifySpillRecords() {
+        val manager = new BatchingAuditTrailManager();
+        val pipeline = new BatchingAuditTrailPipeline(manager, new AuditPipelineProperties()
+            .setEnabled(true)
+            .setCapacity(2)
+            .setSpillDirectory(spillDirectory.toString())
+            .setOverflowPolicy(AuditPipelineProperties.AuditPipelineOverflowPolicies.SPILL));
+        IntStream.range(0, 5).forEach(i -> pipeline.submit(getAuditActionContext("casuser" + i)));
+        assertEquals(2, pipeline.getStatistics().queueDepth());
+        assertEquals(3, pipeline.getStatistics().spilled());
+        assertEquals(1, spillDirectory.toFile().list().length);
+        pipeline.close();
+        assertEquals(5, manager.getAuditRecords().size());
+        assertEquals(0, spillDirectory.toFile().list().length);
+    }
+
+    private static AuditActionContext getAuditActionContext(final String principal) {
+        return new AuditActionContext(principal, "TEST", "TEST",
+            "CAS", LocalDateTime.now(Clock.systemUTC()),
+            new ClientInfo("1.2.3.4", "1.2.3.4", UUID.randomUUID().toString(), "London"));
+    }
+
+    @Getter
+    private static final class BatchingAuditTrailManager extends AbstractAuditTrailManager {
+        private final List<AuditActionContext> auditRecords = new CopyOnWriteArrayList<>();
+
+        private final List<List<AuditActionContext>> batches = new CopyOnWriteArrayList<>();
+
+        private int singleRecords;
+
+        @Override
+        protected void saveAuditRecord(final AuditActionContext audit) {
+            singleRecords++;
+            auditRecords.add(audit);
+        }
+
+        @Override
+        protected void saveAuditRecords(final List<AuditActionContext> audits) {
+            batches.add(audits);
+            auditRecords.addAll(audits);
+        }
+
+        @Override
+        public List<? extends AuditActionContext> getAuditRecords(final Map<WhereClauseFields, Object> whereClause) {
+            return auditRecords;
+        }
+
+        @Override
+        public void removeAll() {
+            auditRecords.clear();
+        }
+    }
+}
@@ -4,6 +4,8 @@ import module java.base;
 import org.apereo.cas.authentication.handler.ByCredentialSourceAuthenticationHandlerResolver;
 import org.apereo.cas.authentication.handler.TenantAuthenticationHandlerBuilder;
 import org.apereo.cas.authentication.principal.PrincipalResolver;
+import org.apereo.cas.multitenancy.TenantAuthenticationPolicy;
+import org.apereo.cas.multitenancy.TenantDefinition;
 import org.apereo.cas.multitenancy.TenantExtractor;
 import org.apereo.cas.util.CollectionUtils;
 import org.apereo.cas.util.function.FunctionUtils;
@@ -19,6 +21,7 @@ import org.apereo.inspektr.common.web.ClientInfoHolder;
 import org.jooq.lambda.Unchecked;
 import org.jspecify.annotations.NonNull;
 import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.core.annotation.AnnotationAwareOrderComparator;
 
 /**
@@ -205,30 +208,28 @@ public class DefaultAuthenticationEventExecutionPlan implements AuthenticationEv
     @Override
     public Set<AuthenticationHandler> resolveAuthenticationHandlers() {
         val clientInfo = ClientInfoHolder.getClientInfo();
+        val tenantDefinition = clientInfo != null && StringUtils.isNotBlank(clientInfo.getTenant())
+            ? tenantExtractor.getTenantsManager().findTenant(clientInfo.getTenant()).orElseThrow()
+            : null;
+        val allowedHandlers = Optional.ofNullable(tenantDefinition)
+            .map(TenantDefinition::getAuthenticationPolicy)
+            .map(TenantAuthenticationPolicy::getAuthenticationHandlers)
+            .<Set<String>>map(HashSet::new)
+            .orElseGet(Set::of);
         val handlers = authenticationHandlerPrincipalResolverMap
             .keySet()
             .stream()
             .filter(BeanSupplier::isNotProxy)
-            .filter(handler -> {
-                if (clientInfo != null && StringUtils.isNotBlank(clientInfo.getTenant())) {
-                    val tenantDefinition = tenantExtractor.getTenantsManager().findTenant(clientInfo.getTenant()).orElseThrow();
-                    val authenticationHandlers = tenantDefinition.getAuthenticationPolicy() != null
-                        ? tenantDefinition.getAuthenticationPolicy().getAuthenticationHandlers()
-                        : List.of();
-                    return authenticationHandlers == null || authenticationHandlers.isEmpty() || authenticationHandlers.contains(handler.getName());
-                }
-                return true;
-            })
+            .filter(handler -> allowedHandlers.isEmpty() || allowedHandlers.contains(handler.getName()))
             .collect(Collectors.toList());
 
-        if (clientInfo != null && StringUtils.isNotBlank(clientInfo.getTenant())) {
-            val tenantDefinition = tenantExtractor.getTenantsManager().findTenant(clientInfo.getTenant()).orElseThrow();
-            if (!tenantDefinition.getProperties().isEmpty()) {
-                getTenantAuthenticationHandlerBuilders()
-                    .stream()
-                    .map(builder -> builder.build(tenantDefinition))
-                    .forEach(handlers::addAll);
-            }
+        if (tenantDefinition != null && !tenantDefinition.getProperties().isEmpty()) {
+            val componentRegistry = tenantExtractor.getTenantsManager().getComponentRegistry();
+            getTenantAuthenticationHandlerBuilders()
+                .stream()
+                .map(builder -> componentRegistry.<AuthenticationHandler>getOrBuild(tenantDefinition, builder.getClass().getName(),
+                    definition -> retainAuthenticationHandlers(builder.build(definition))))
+                .forEach(handlers::addAll);
         }
 
         AnnotationAwareOrderComparator.sort(handlers);
@@ -331,4 +332,17 @@ public class DefaultAuthenticationEventExecutionPlan implements AuthenticationEv
         LOGGER.trace("Sorted and registered authentication policy resolvers for this transaction are [{}]", list);
         return list;
     }
+
+    /**
+     * Tenant authentication handlers are kept by the tenant component registry
+     * and are closed once the tenant definition changes, so they must not be
+     * disposed of once the authentication attempt is complete.
+     */
+    private static List<? extends AuthenticationHandler> retainAuthenticationHandlers(final List<? extends AuthenticationHandler> handlers) {
+        handlers
+            .stream()
+            .filter(AuthenticationHandler::isDisposable)
+            .forEach(handler -> handler.getTags().put(DisposableBean.class.getName(), Boolean.FALSE));
+        return handlers;
+    }
 }
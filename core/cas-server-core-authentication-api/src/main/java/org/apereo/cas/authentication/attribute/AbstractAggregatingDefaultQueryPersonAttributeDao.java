@@ -27,6 +27,18 @@ import org.jspecify.annotations.Nullable;
 @Setter
 @SuppressWarnings("NullAway.Init")
 public abstract class AbstractAggregatingDefaultQueryPersonAttributeDao extends AbstractDefaultAttributePersonAttributeDao implements AggregatingPersonAttributeDao {
+    /**
+     * Tag that may be put on a child DAO to define how long it may take
+     * to produce results when DAOs are queried concurrently, overriding {@link #queryTimeout}.
+     */
+    public static final String TAG_QUERY_TIMEOUT = "queryTimeout";
+
+    /**
+     * Tag that may be put on a child DAO to define whether its failures
+     * should be recovered, overriding {@link #recoverExceptions}.
+     */
+    public static final String TAG_RECOVER_EXCEPTIONS = "recoverExceptions";
+
     protected List<PersonAttributeDao> personAttributeDaos;
 
     /**
@@ -52,6 +64,20 @@ public abstract class AbstractAggregatingDefaultQueryPersonAttributeDao extends
      */
     protected boolean requireAll;
 
+    /**
+     * Query child DAOs concurrently and merge their results in the configured order,
+     * as long as the results of one DAO do not depend on those produced by another
+     * and iteration does not stop on success.
+     */
+    protected boolean queryConcurrently;
+
+    /**
+     * Maximum amount of time each child DAO may take to produce results
+     * when DAOs are queried concurrently. Zero or negative means no limit.
+     * A DAO that times out is treated as one that failed.
+     */
+    protected Duration queryTimeout = Duration.ZERO;
+
     @Override
     public String[] getId() {
         val ids = new ArrayList<String>();
@@ -64,6 +90,9 @@ public abstract class AbstractAggregatingDefaultQueryPersonAttributeDao extends
     public @Nullable Set<PersonAttributes> getPeopleWithMultivaluedAttributes(final Map<String, List<Object>> query,
                                                                               @Nullable final PersonAttributeDaoFilter filter,
                                                                               @Nullable final Set<PersonAttributes> resultPeople) {
+        if (shouldQueryConcurrently()) {
+            return getPeopleConcurrently(query, filter);
+        }
         Set<PersonAttributes> results = null;
         var isFirstQuery = true;
         for (val currentlyConsidering : this.personAttributeDaos) {
@@ -109,8 +138,91 @@ public abstract class AbstractAggregatingDefaultQueryPersonAttributeDao extends
         return Set.copyOf(results);
     }
 
+    /**
+     * Whether child DAOs can be queried concurrently, which is only possible
+     * if queries do not depend on the results produced by earlier DAOs.
+     *
+     * @return true/false
+     */
+    protected boolean isConcurrentQuerySupported() {
+        return true;
+    }
+
+    protected Duration getQueryTimeout(final PersonAttributeDao personAttributeDao) {
+        return personAttributeDao.getTags().get(TAG_QUERY_TIMEOUT) instanceof final Duration timeout ? timeout : queryTimeout;
+    }
+
+    protected boolean isRecoverExceptions(final PersonAttributeDao personAttributeDao) {
+        return personAttributeDao.getTags().get(TAG_RECOVER_EXCEPTIONS) instanceof final Boolean recover ? recover : recoverExceptions;
+    }
+
+    private boolean shouldQueryConcurrently() {
+        return queryConcurrently && !stopOnSuccess && personAttributeDaos.size() > 1 && isConcurrentQuerySupported();
+    }
+
+    private @Nullable Set<PersonAttributes> getPeopleConcurrently(final Map<String, List<Object>> query,
+                                                                  @Nullable final PersonAttributeDaoFilter filter) {
+        val candidates = personAttributeDaos
+            .stream()
+            .filter(dao -> filter == null || filter.choosePersonAttributeDao(dao))
+            .toList();
+        val executor = Executors.newVirtualThreadPerTaskExecutor();
+        try {
+            val startTime = System.nanoTime();
+            val queries = candidates
+                .stream()
+                .map(dao -> executor.submit(() -> getAttributesFromDao(query, true, dao, null, filter)))
+                .toList();
+            Set<PersonAttributes> results = null;
+            for (var i = 0; i < candidates.size(); i++) {
+                val currentlyConsidering = candidates.get(i);
+                val currentPeople = waitForAttributesFromDao(currentlyConsidering, queries.get(i), startTime);
+                LOGGER.debug("Retrieved attributes=[{}] for query=[{}], currentlyConsidering=[{}], resultAttributes=[{}]",
+                    currentPeople, query, currentlyConsidering, results);
+                if (currentPeople != null) {
+                    results = results == null ? new LinkedHashSet<>(currentPeople) : attributeMerger.mergeResults(results, currentPeople);
+                } else if (this.requireAll) {
+                    LOGGER.debug("Attribute repository dao [{}] did not resolve a person "
+                        + "and configuration requires all sources to produce valid results. ", currentlyConsidering);
+                    return null;
+                }
+            }
+            if (results == null) {
+                return null;
+            }
+            LOGGER.debug("Aggregated search results [{}] for query [{}]", results, query);
+            return Set.copyOf(results);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private @Nullable Set<PersonAttributes> waitForAttributesFromDao(final PersonAttributeDao currentlyConsidering,
+                                                                     final Future<Set<PersonAttributes>> query,
+                                                                     final long startTime) {
+        val timeout = getQueryTimeout(currentlyConsidering);
+        try {
+            if (timeout.isZero() || timeout.isNegative()) {
+                return query.get();
+            }
+            val remaining = timeout.toNanos() - (System.nanoTime() - startTime);
+            return query.get(Math.max(remaining, 0), TimeUnit.NANOSECONDS);
+        } catch (final TimeoutException e) {
+            query.cancel(true);
+            LOGGER.warn("Attribute repository [{}] did not produce results within [{}]", currentlyConsidering, timeout);
+            handleRuntimeException(currentlyConsidering, e);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            query.cancel(true);
+            handleRuntimeException(currentlyConsidering, e);
+        } catch (final ExecutionException e) {
+            handleRuntimeException(currentlyConsidering, e.getCause() instanceof final Exception cause ? cause : e);
+        }
+        return null;
+    }
+
     private boolean handleRuntimeException(final PersonAttributeDao currentlyConsidering, final Exception ex) {
-        if (this.recoverExceptions) {
+        if (isRecoverExceptions(currentlyConsidering)) {
             LOGGER.warn("Recovering From Exception thrown by [{}]", currentlyConsidering, ex);
             return true;
         }
@@ -276,4 +276,65 @@ class MergingPersonAttributeDaoImplTests {
 
         assertEquals(expectedHomeUsers, homeUsers);
     }
+
+    @Test
+    void verifyConcurrentQueriesMergeInOrder() {
+        val attributeSources = List.<PersonAttributeDao>of(delayed(sourceOne, Duration.ofMillis(300)), sourceTwo, collidesWithOne);
+        val queryMap = new HashMap<String, List<Object>>();
+        queryMap.put(QUERY_ATTR, List.of("awp9"));
+
+        val sequential = new MergingPersonAttributeDaoImpl();
+        sequential.setPersonAttributeDaos(attributeSources);
+        val expected = sequential.getPeopleWithMultivaluedAttributes(queryMap);
+
+        val concurrent = new MergingPersonAttributeDaoImpl();
+        concurrent.setPersonAttributeDaos(attributeSources);
+        concurrent.setQueryConcurrently(true);
+        val result = concurrent.getPeopleWithMultivaluedAttributes(queryMap);
+        assertEquals(expected, result);
+        val attributes = new HashMap<>(oneAndTwoAndThree);
+        attributes.putAll(queryMap);
+        assertEquals(attributes, result.iterator().next().getAttributes());
+    }
+
+    @Test
+    void verifyConcurrentQueriesWithTimeout() {
+        val slowSource = delayed(collidesWithOne, Duration.ofSeconds(10));
+        slowSource.putTag(AbstractAggregatingDefaultQueryPersonAttributeDao.TAG_QUERY_TIMEOUT, Duration.ofMillis(200));
+
+        val impl = new MergingPersonAttributeDaoImpl();
+        impl.setPersonAttributeDaos(List.of(sourceOne, slowSource, sourceTwo));
+        impl.setQueryConcurrently(true);
+        impl.setQueryTimeout(Duration.ofSeconds(5));
+
+        val queryMap = new HashMap<String, List<Object>>();
+        queryMap.put(QUERY_ATTR, List.of("awp9"));
+        val startTime = System.nanoTime();
+        val result = impl.getPeopleWithMultivaluedAttributes(queryMap);
+        assertTrue(Duration.ofNanos(System.nanoTime() - startTime).compareTo(Duration.ofSeconds(5)) < 0);
+        val attributes = new HashMap<>(oneAndTwo);
+        attributes.putAll(queryMap);
+        assertEquals(attributes, result.iterator().next().getAttributes());
+
+        slowSource.putTag(AbstractAggregatingDefaultQueryPersonAttributeDao.TAG_RECOVER_EXCEPTIONS, Boolean.FALSE);
+        assertThrows(RuntimeException.class, () -> impl.getPeopleWithMultivaluedAttributes(queryMap));
+    }
+
+    private static PersonAttributeDao delayed(final StubPersonAttributeDao source, final Duration delay) {
+        val dao = new StubPersonAttributeDao() {
+            @Override
+            public Set<PersonAttributes> getPeopleWithMultivaluedAttributes(final Map<String, List<Object>> query,
+                                                                            final PersonAttributeDaoFilter filter,
+                                                                            final Set<PersonAttributes> resultPeople) {
+                try {
+                    Thread.sleep(delay);
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.getPeopleWithMultivaluedAttributes(query, filter, resultPeople);
+            }
+        };
+        dao.setBackingPerson(source.getBackingPerson());
+        return dao;
+    }
 }
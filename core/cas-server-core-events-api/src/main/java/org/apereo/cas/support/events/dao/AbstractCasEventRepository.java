@@ -1,9 +1,9 @@
 package org.apereo.cas.support.events.dao;
 
 import module java.base;
+import org.apereo.cas.support.events.CasEventQuery;
 import org.apereo.cas.support.events.CasEventRepository;
 import org.apereo.cas.support.events.CasEventRepositoryFilter;
-import org.apereo.cas.util.DateTimeUtils;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
@@ -46,10 +46,6 @@ public abstract class AbstractCasEventRepository implements CasEventRepository,
     @Nullable
     private ApplicationEventPublisher applicationEventPublisher;
 
-    private static ZonedDateTime convertEventCreationTime(final CasEvent event) {
-        return DateTimeUtils.zonedDateTimeOf(event.getCreationTime());
-    }
-
     @Override
     public CasEvent save(final CasEvent event) throws Throwable {
         if (getEventRepositoryFilter().shouldSaveEvent(event)) {
@@ -57,7 +53,8 @@ public abstract class AbstractCasEventRepository implements CasEventRepository,
             Optional.ofNullable(applicationEventPublisher).ifPresent(publisher -> {
                 val properties = new HashMap(event.getProperties());
                 properties.put(CasEventRepository.PARAM_SOURCE, "CAS");
-                val auditEvent = new AuditEvent(event.getPrincipalId(), event.getType(), properties);
+                val timestamp = Optional.ofNullable(event.getCreationTime()).orElseGet(() -> Instant.now(Clock.systemUTC()));
+                val auditEvent = new AuditEvent(timestamp, event.getPrincipalId(), event.getType(), properties);
                 publisher.publishEvent(new AuditApplicationEvent(auditEvent));
             });
             return result;
@@ -65,58 +62,54 @@ public abstract class AbstractCasEventRepository implements CasEventRepository,
         return event;
     }
 
+    /**
+     * Fetch events that match the query by loading and filtering all events.
+     * Repositories that are able to evaluate queries natively should override this operation.
+     *
+     * @param query the query
+     * @return the events
+     */
+    @Override
+    public Stream<? extends CasEvent> query(final CasEventQuery query) {
+        val results = load().filter(query::matches).sorted(CasEventQuery.MOST_RECENT_FIRST);
+        return query.isLimited() ? results.limit(query.getLimit()) : results;
+    }
+
     @Override
     public Stream<? extends CasEvent> load(final ZonedDateTime dateTime) {
-        return load()
-            .filter(e -> {
-                val dt = convertEventCreationTime(e);
-                return dt.isEqual(dateTime) || dt.isAfter(dateTime);
-            });
+        return query(CasEventQuery.builder().from(dateTime).build());
     }
 
     @Override
     public Stream<? extends CasEvent> getEventsOfTypeForPrincipal(final String type, final String principal) {
-        return getEventsForPrincipal(principal)
-            .filter(event -> event.getType().equals(type));
+        return query(CasEventQuery.builder().type(type).principalId(principal).build());
     }
 
     @Override
     public Stream<? extends CasEvent> getEventsOfTypeForPrincipal(final String type, final String principal,
                                                                   final ZonedDateTime dateTime) {
-        return getEventsOfTypeForPrincipal(type, principal)
-            .filter(e -> {
-                val dt = convertEventCreationTime(e);
-                return dt.isEqual(dateTime) || dt.isAfter(dateTime);
-            });
+        return query(CasEventQuery.builder().type(type).principalId(principal).from(dateTime).build());
     }
 
     @Override
     public Stream<? extends CasEvent> getEventsOfType(final String type) {
-        return load().filter(event -> event.getType().equals(type));
+        return query(CasEventQuery.builder().type(type).build());
     }
 
     @Override
     public Stream<? extends CasEvent> getEventsOfType(final String type, final ZonedDateTime dateTime) {
-        return getEventsOfType(type)
-            .filter(e -> {
-                val dt = convertEventCreationTime(e);
-                return dt.isEqual(dt) || dt.isAfter(dt);
-            });
+        return query(CasEventQuery.builder().type(type).from(dateTime).build());
     }
 
     @Override
     public Stream<? extends CasEvent> getEventsForPrincipal(final String id) {
-        return load().filter(e -> e.getPrincipalId().equalsIgnoreCase(id));
+        return query(CasEventQuery.builder().principalId(id).build());
     }
 
     @Override
     public Stream<? extends CasEvent> getEventsForPrincipal(final String id, final ZonedDateTime dateTime) {
-        return getEventsForPrincipal(id)
-            .filter(e -> {
-                val dt = convertEventCreationTime(e);
-                return dt.isEqual(dateTime) || dt.isAfter(dateTime);
-            });
+        return query(CasEventQuery.builder().principalId(id).from(dateTime).build());
     }
-    
+
     protected abstract CasEvent saveInternal(CasEvent event) throws Exception;
 }
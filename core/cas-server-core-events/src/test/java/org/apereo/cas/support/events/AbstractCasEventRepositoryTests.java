@@ -107,6 +107,41 @@ public abstract class AbstractCasEventRepositoryTests {
         }));
     }
 
+    @Test
+    protected void verifyQueryOps() {
+        val eventRepository = getEventRepository();
+        eventRepository.withTransaction(Unchecked.consumer(_ -> {
+            eventRepository.removeAll();
+
+            val principal = UUID.randomUUID().toString();
+            val now = Instant.now(Clock.systemUTC()).truncatedTo(ChronoUnit.SECONDS);
+            for (var i = 1; i <= 5; i++) {
+                val event = getCasEvent(principal);
+                event.setCreationTime(now.minus(i, ChronoUnit.HOURS));
+                event.putTimestamp(event.getCreationTime().toEpochMilli());
+                eventRepository.save(event);
+            }
+            val other = getCasEvent(UUID.randomUUID().toString());
+            other.setType("OtherEventType");
+            other.setCreationTime(now.minus(2, ChronoUnit.HOURS));
+            other.putTimestamp(other.getCreationTime().toEpochMilli());
+            eventRepository.save(other);
+
+            val latest = eventRepository.query(CasEventQuery.builder().principalId(principal).limit(2).build()).toList();
+            assertEquals(2, latest.size());
+            assertEquals(now.minus(1, ChronoUnit.HOURS), latest.getFirst().getCreationTime().truncatedTo(ChronoUnit.SECONDS));
+            assertEquals(now.minus(2, ChronoUnit.HOURS), latest.getLast().getCreationTime().truncatedTo(ChronoUnit.SECONDS));
+
+            assertEquals(1, eventRepository.query(CasEventQuery.builder().type(other.getType()).build()).count());
+
+            val from = ZonedDateTime.ofInstant(now.minus(3, ChronoUnit.HOURS), ZoneOffset.UTC);
+            val to = ZonedDateTime.ofInstant(now.minus(1, ChronoUnit.HOURS), ZoneOffset.UTC);
+            assertEquals(2, eventRepository.query(CasEventQuery.builder().principalId(principal).from(from).to(to).build()).count());
+            assertEquals(3, eventRepository.query(CasEventQuery.builder().from(from).to(to).build()).count());
+            assertEquals(5, eventRepository.getEventsForPrincipal(principal).count());
+        }));
+    }
+
     public abstract CasEventRepository getEventRepository();
 
     protected CasEvent getCasEvent(final String user) {
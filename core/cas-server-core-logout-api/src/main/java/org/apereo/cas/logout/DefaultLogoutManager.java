@@ -9,6 +9,7 @@ import org.apereo.cas.authentication.principal.WebApplicationService;
 import org.apereo.cas.logout.slo.SingleLogoutExecutionRequest;
 import org.apereo.cas.logout.slo.SingleLogoutRequestContext;
 import org.apereo.cas.logout.slo.SingleLogoutServiceMessageHandler;
+import org.apereo.cas.ticket.registry.TicketRegistry;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -30,6 +31,8 @@ public class DefaultLogoutManager implements LogoutManager {
 
     private final LogoutExecutionPlan logoutExecutionPlan;
 
+    private final TicketRegistry ticketRegistry;
+
     private static <T> Predicate<T> distinctByKey(final Function<? super T, Object> keyExtractor) {
         val seen = new ConcurrentHashMap<>();
         return t -> seen.putIfAbsent(keyExtractor.apply(t), Boolean.TRUE) == null;
@@ -59,7 +62,7 @@ public class DefaultLogoutManager implements LogoutManager {
     private List<SingleLogoutRequestContext> performLogoutForTicket(final SingleLogoutExecutionRequest context) {
         val ticketToBeLoggedOut = context.getTicketGrantingTicket();
         val streamServices = new LinkedHashMap<String, Service>();
-        val services = ticketToBeLoggedOut.getServices();
+        val services = ticketRegistry.getTrackedServices(ticketToBeLoggedOut);
         streamServices.putAll(services);
         streamServices.putAll(ticketToBeLoggedOut.getProxyGrantingTickets());
         val logoutServices = streamServices
@@ -0,0 +1,371 @@
+package org.apereo.cas.logout.slo;
+
+import module java.base;
+import org.apereo.cas.configuration.model.core.slo.SingleLogoutDispatchProperties;
+import org.apereo.cas.configuration.support.Beans;
+import org.apereo.cas.util.LoggingUtils;
+import org.apereo.cas.util.function.FunctionUtils;
+import org.apereo.cas.util.http.HttpClient;
+import org.apereo.cas.util.http.HttpClientFactory;
+import org.apereo.cas.util.serialization.JacksonObjectMapperFactory;
+import org.apereo.cas.web.HttpMessage;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.DisposableBean;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * This is {@link SingleLogoutMessageDispatcher} that decorates an {@link HttpClient}
+ * to deliver asynchronous logout messages in the background. Messages are placed
+ * on a bounded queue and delivered by a pool of workers, with a cap on the number of
+ * concurrent deliveries to the same host. Workers never wait on a saturated host;
+ * the message is requeued shortly after instead, so a slow host cannot hold up
+ * deliveries to other hosts. Failed deliveries are retried with an
+ * exponential backoff. Pending messages may be kept in an outbox directory so they
+ * survive restarts; messages that could not be delivered remain in the outbox as failed.
+ * Synchronous messages and all other operations are passed to the decorated client as-is.
+ * Once bound to a meter registry, the queue depth, delivery outcomes and the latency
+ * of delivery attempts are published as meters.
+ *
+ * @author Misagh Moayyed
+ * @since 8.1.0
+ */
+@Slf4j
+public class SingleLogoutMessageDispatcher implements HttpClient, DisposableBean, MeterBinder {
+    private static final ObjectMapper MAPPER = JacksonObjectMapperFactory.builder()
+        .minimal(true).build().toObjectMapper();
+
+    private static final String OUTBOX_EXTENSION = ".json";
+
+    private static final String FAILED_EXTENSION = ".failed";
+
+    private static final int MAX_BACKOFF_EXPONENT = 16;
+
+    private static final Duration HOST_SATURATED_DELAY = Duration.ofMillis(100);
+
+    private final HttpClient delegate;
+
+    private final int maxAttempts;
+
+    private final int maxConcurrentDeliveriesPerHost;
+
+    private final Duration retryDelay;
+
+    @Nullable
+    private final File outboxDirectory;
+
+    private final ThreadPoolExecutor deliveryExecutor;
+
+    private final ScheduledExecutorService retryExecutor;
+
+    private final Map<String, Semaphore> hostPermits = new ConcurrentHashMap<>();
+
+    private final LongAdder deliveredCount = new LongAdder();
+
+    private final LongAdder failedCount = new LongAdder();
+
+    private final LongAdder retriedCount = new LongAdder();
+
+    private final LongAdder deliveryAttempts = new LongAdder();
+
+    private final LongAdder deliveryLatencyNanos = new LongAdder();
+
+    @Nullable
+    private volatile Timer deliveryTimer;
+
+    public SingleLogoutMessageDispatcher(final HttpClient delegate, final SingleLogoutDispatchProperties properties) {
+        this.delegate = delegate;
+        this.maxAttempts = Math.max(1, properties.getMaxAttempts());
+        this.maxConcurrentDeliveriesPerHost = Math.max(1, properties.getMaxConcurrentDeliveriesPerHost());
+        this.retryDelay = Beans.newDuration(properties.getRetryDelay());
+        val maxConcurrentDeliveries = Math.max(1, properties.getMaxConcurrentDeliveries());
+        this.deliveryExecutor = new ThreadPoolExecutor(maxConcurrentDeliveries, maxConcurrentDeliveries,
+            1, TimeUnit.MINUTES, new LinkedBlockingQueue<>(Math.max(1, properties.getQueueCapacity())),
+            Thread.ofVirtual().name("slo-dispatch-", 0).factory());
+        this.deliveryExecutor.allowCoreThreadTimeOut(true);
+        this.retryExecutor = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().daemon().name("slo-dispatch-retry").factory());
+        this.outboxDirectory = StringUtils.isNotBlank(properties.getOutboxDirectory())
+            ? new File(properties.getOutboxDirectory())
+            : null;
+        recoverOutbox();
+    }
+
+    @Override
+    public boolean sendMessageToEndPoint(final HttpMessage message) {
+        if (!message.isAsynchronous()) {
+            return delegate.sendMessageToEndPoint(message);
+        }
+        val delivery = new SingleLogoutDelivery(UUID.randomUUID().toString(), message.getUrl().toExternalForm(),
+            message.getMessage(), message.getContentType(), 1);
+        storeInOutbox(delivery);
+        return submit(delivery);
+    }
+
+    @Override
+    public @Nullable HttpMessage sendMessageToEndPoint(final URL url) {
+        return delegate.sendMessageToEndPoint(url);
+    }
+
+    @Override
+    public boolean isValidEndPoint(final String url) {
+        return delegate.isValidEndPoint(url);
+    }
+
+    @Override
+    public boolean isValidEndPoint(final URL url) {
+        return delegate.isValidEndPoint(url);
+    }
+
+    @Override
+    public org.apache.hc.client5.http.classic.HttpClient wrappedHttpClient() {
+        return delegate.wrappedHttpClient();
+    }
+
+    @Override
+    public HttpClientFactory httpClientFactory() {
+        return delegate.httpClientFactory();
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        Gauge.builder("cas.slo.dispatch.queue.depth", this, SingleLogoutMessageDispatcher::getQueueDepth)
+            .description("Number of logout messages waiting for delivery")
+            .register(registry);
+        FunctionCounter.builder("cas.slo.dispatch.delivered", this, SingleLogoutMessageDispatcher::getDeliveredCount)
+            .description("Number of logout messages that were delivered")
+            .register(registry);
+        FunctionCounter.builder("cas.slo.dispatch.failed", this, SingleLogoutMessageDispatcher::getFailedCount)
+            .description("Number of logout messages that were rejected or could not be delivered")
+            .register(registry);
+        FunctionCounter.builder("cas.slo.dispatch.retried", this, SingleLogoutMessageDispatcher::getRetriedCount)
+            .description("Number of delivery attempts that were scheduled for a retry")
+            .register(registry);
+        deliveryTimer = Timer.builder("cas.slo.dispatch.delivery")
+            .description("Latency of logout message delivery attempts")
+            .publishPercentileHistogram()
+            .register(registry);
+    }
+
+    @Override
+    public void destroy() {
+        retryExecutor.shutdownNow();
+        deliveryExecutor.shutdown();
+    }
+
+    /**
+     * Gets the number of logout messages waiting for delivery.
+     *
+     * @return the queue depth
+     */
+    public int getQueueDepth() {
+        return deliveryExecutor.getQueue().size();
+    }
+
+    /**
+     * Gets the number of logout messages that were delivered.
+     *
+     * @return the delivered count
+     */
+    public long getDeliveredCount() {
+        return deliveredCount.sum();
+    }
+
+    /**
+     * Gets the number of logout messages that were rejected or could not be delivered after all attempts.
+     *
+     * @return the failed count
+     */
+    public long getFailedCount() {
+        return failedCount.sum();
+    }
+
+    /**
+     * Gets the number of delivery attempts that were scheduled for a retry.
+     *
+     * @return the retried count
+     */
+    public long getRetriedCount() {
+        return retriedCount.sum();
+    }
+
+    /**
+     * Gets the average latency of a delivery attempt.
+     *
+     * @return the average delivery latency
+     */
+    public Duration getAverageDeliveryLatency() {
+        val attempts = deliveryAttempts.sum();
+        return attempts == 0 ? Duration.ZERO : Duration.ofNanos(deliveryLatencyNanos.sum() / attempts);
+    }
+
+    private boolean submit(final SingleLogoutDelivery delivery) {
+        try {
+            deliveryExecutor.execute(() -> deliver(delivery));
+            return true;
+        } catch (final RejectedExecutionException e) {
+            if (deliveryExecutor.isShutdown()) {
+                LOGGER.debug("Logout message to [{}] is kept for delivery after restart since the dispatcher is shut down", delivery.url());
+                return false;
+            }
+            LOGGER.warn("Logout message to [{}] is rejected since the dispatch queue is full", delivery.url());
+            failedCount.increment();
+            markFailedInOutbox(delivery);
+            return false;
+        }
+    }
+
+    private void deliver(final SingleLogoutDelivery delivery) {
+        val permits = hostPermits.computeIfAbsent(getHost(delivery), _ -> new Semaphore(maxConcurrentDeliveriesPerHost));
+        if (!permits.tryAcquire()) {
+            LOGGER.trace("Host for [{}] is busy with other logout messages; Requeueing delivery", delivery.url());
+            schedule(delivery, HOST_SATURATED_DELAY);
+            return;
+        }
+        try {
+            attempt(delivery);
+        } finally {
+            permits.release();
+        }
+    }
+
+    private void attempt(final SingleLogoutDelivery delivery) {
+        val started = System.nanoTime();
+        val delivered = sendToEndpoint(delivery);
+        val latency = System.nanoTime() - started;
+        deliveryLatencyNanos.add(latency);
+        deliveryAttempts.increment();
+        FunctionUtils.doIfNotNull(deliveryTimer, timer -> timer.record(latency, TimeUnit.NANOSECONDS));
+
+        if (delivered) {
+            LOGGER.debug("Delivered logout message to [{}] after [{}] attempt(s)", delivery.url(), delivery.attempt());
+            deliveredCount.increment();
+            removeFromOutbox(delivery);
+        } else if (delivery.attempt() < maxAttempts) {
+            val nextAttempt = delivery.withNextAttempt();
+            val delay = retryDelay.multipliedBy(1L << Math.min(delivery.attempt() - 1, MAX_BACKOFF_EXPONENT));
+            LOGGER.debug("Unable to deliver logout message to [{}]; Retrying in [{}]", delivery.url(), delay);
+            retriedCount.increment();
+            storeInOutbox(nextAttempt);
+            schedule(nextAttempt, delay);
+        } else {
+            LOGGER.warn("Unable to deliver logout message to [{}] after [{}] attempt(s)", delivery.url(), delivery.attempt());
+            failedCount.increment();
+            markFailedInOutbox(delivery);
+        }
+    }
+
+    private void schedule(final SingleLogoutDelivery delivery, final Duration delay) {
+        try {
+            retryExecutor.schedule(() -> submit(delivery), delay.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (final RejectedExecutionException e) {
+            LOGGER.debug("Delivery of logout message to [{}] is not scheduled since the dispatcher is shut down", delivery.url());
+        }
+    }
+
+    private boolean sendToEndpoint(final SingleLogoutDelivery delivery) {
+        try {
+            val url = new URI(delivery.url()).toURL();
+            return delegate.sendMessageToEndPoint(new PreparedHttpMessage(url, delivery.message(), delivery.contentType()));
+        } catch (final Exception e) {
+            LoggingUtils.warn(LOGGER, e);
+        }
+        return false;
+    }
+
+    private static String getHost(final SingleLogoutDelivery delivery) {
+        try {
+            return StringUtils.defaultString(new URI(delivery.url()).getHost());
+        } catch (final URISyntaxException e) {
+            return StringUtils.EMPTY;
+        }
+    }
+
+    private void recoverOutbox() {
+        if (outboxDirectory != null) {
+            if (!outboxDirectory.exists() && !outboxDirectory.mkdirs()) {
+                LOGGER.warn("Unable to create single logout outbox directory [{}]", outboxDirectory);
+                return;
+            }
+            val files = Objects.requireNonNullElseGet(outboxDirectory.listFiles((_, name) -> name.endsWith(OUTBOX_EXTENSION)),
+                () -> new File[0]);
+            for (val file : files) {
+                try {
+                    val delivery = MAPPER.readValue(file, SingleLogoutDelivery.class);
+                    LOGGER.debug("Recovered pending logout message to [{}] from [{}]", delivery.url(), file);
+                    submit(delivery);
+                } catch (final Exception e) {
+                    LOGGER.warn("Unable to recover pending logout message from [{}]", file);
+                    LoggingUtils.warn(LOGGER, e);
+                }
+            }
+        }
+    }
+
+    private void storeInOutbox(final SingleLogoutDelivery delivery) {
+        if (outboxDirectory != null) {
+            try {
+                MAPPER.writeValue(getOutboxFile(delivery, OUTBOX_EXTENSION), delivery);
+            } catch (final Exception e) {
+                LoggingUtils.warn(LOGGER, e);
+            }
+        }
+    }
+
+    private void removeFromOutbox(final SingleLogoutDelivery delivery) {
+        if (outboxDirectory != null) {
+            FileUtils.deleteQuietly(getOutboxFile(delivery, OUTBOX_EXTENSION));
+        }
+    }
+
+    private void markFailedInOutbox(final SingleLogoutDelivery delivery) {
+        if (outboxDirectory != null) {
+            val pending = getOutboxFile(delivery, OUTBOX_EXTENSION);
+            if (pending.exists() && !pending.renameTo(getOutboxFile(delivery, FAILED_EXTENSION))) {
+                LOGGER.warn("Unable to mark logout message [{}] as failed", pending);
+            }
+        }
+    }
+
+    private File getOutboxFile(final SingleLogoutDelivery delivery, final String extension) {
+        return new File(Objects.requireNonNull(outboxDirectory), delivery.id() + extension);
+    }
+
+    /**
+     * A logout message prepared for delivery, along with the attempt number.
+     *
+     * @param id          the id
+     * @param url         the url
+     * @param message     the formatted message
+     * @param contentType the content type
+     * @param attempt     the attempt
+     */
+    record SingleLogoutDelivery(String id, String url, String message, String contentType, int attempt) {
+        SingleLogoutDelivery withNextAttempt() {
+            return new SingleLogoutDelivery(id, url, message, contentType, attempt + 1);
+        }
+    }
+
+    private static final class PreparedHttpMessage extends HttpMessage {
+        @Serial
+        private static final long serialVersionUID = -4204880251834734652L;
+
+        PreparedHttpMessage(final URL url, final String message, final String contentType) {
+            super(url, message, false);
+            setContentType(contentType);
+        }
+
+        @Override
+        protected String formatOutputMessageInternal(final String message) {
+            return message;
+        }
+    }
+}
@@ -25,6 +25,7 @@ import org.apereo.cas.logout.slo.DefaultSingleLogoutRequestExecutor;
 import org.apereo.cas.logout.slo.DefaultSingleLogoutServiceLogoutUrlBuilder;
 import org.apereo.cas.logout.slo.DefaultSingleLogoutServiceMessageHandler;
 import org.apereo.cas.logout.slo.SingleLogoutMessageCreator;
+import org.apereo.cas.logout.slo.SingleLogoutMessageDispatcher;
 import org.apereo.cas.logout.slo.SingleLogoutRequestExecutor;
 import org.apereo.cas.logout.slo.SingleLogoutServiceLogoutUrlBuilder;
 import org.apereo.cas.logout.slo.SingleLogoutServiceLogoutUrlBuilderConfigurer;
@@ -40,8 +41,10 @@ import org.apereo.cas.util.spring.beans.BeanSupplier;
 import org.apereo.cas.util.spring.boot.ConditionalOnFeatureEnabled;
 import org.apereo.cas.web.UrlValidator;
 import org.apereo.cas.web.support.ArgumentExtractor;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.AutoConfigureOrder;
@@ -125,10 +128,33 @@ public class CasCoreLogoutAutoConfiguration {
     @Configuration(value = "CasCoreLogoutMessagesConfiguration", proxyBeanMethods = false)
     @EnableConfigurationProperties(CasConfigurationProperties.class)
     static class CasCoreLogoutMessagesConfiguration {
+        @ConditionalOnMissingBean(name = "singleLogoutMessageDispatcher")
+        @Bean
+        @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
+        public HttpClient singleLogoutMessageDispatcher(
+            final ConfigurableApplicationContext applicationContext,
+            final CasConfigurationProperties casProperties,
+            final ObjectProvider<MeterRegistry> meterRegistry,
+            @Qualifier(HttpClient.BEAN_NAME_HTTPCLIENT_NO_REDIRECT)
+            final HttpClient noRedirectHttpClient) {
+            return BeanSupplier.of(HttpClient.class)
+                .when(BeanCondition.on("cas.slo.dispatch.enabled").isTrue()
+                    .given(applicationContext.getEnvironment()))
+                .supply(() -> {
+                    val dispatcher = new SingleLogoutMessageDispatcher(noRedirectHttpClient, casProperties.getSlo().getDispatch());
+                    meterRegistry.ifAvailable(dispatcher::bindTo);
+                    return dispatcher;
+                })
+                .otherwiseProxy()
+                .get();
+        }
+
         @ConditionalOnMissingBean(name = "defaultSingleLogoutServiceMessageHandler")
         @Bean
         @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
         public SingleLogoutServiceMessageHandler defaultSingleLogoutServiceMessageHandler(
+            @Qualifier("singleLogoutMessageDispatcher")
+            final HttpClient singleLogoutMessageDispatcher,
             @Qualifier(AuthenticationServiceSelectionPlan.BEAN_NAME)
             final AuthenticationServiceSelectionPlan authenticationServiceSelectionPlan,
             @Qualifier(ServicesManager.BEAN_NAME)
@@ -140,7 +166,8 @@ public class CasCoreLogoutAutoConfiguration {
             final HttpClient noRedirectHttpClient,
             @Qualifier("singleLogoutServiceLogoutUrlBuilder")
             final SingleLogoutServiceLogoutUrlBuilder singleLogoutServiceLogoutUrlBuilder) {
-            return new DefaultSingleLogoutServiceMessageHandler(noRedirectHttpClient,
+            return new DefaultSingleLogoutServiceMessageHandler(
+                BeanSupplier.isNotProxy(singleLogoutMessageDispatcher) ? singleLogoutMessageDispatcher : noRedirectHttpClient,
                 defaultSingleLogoutMessageCreator,
                 servicesManager,
                 singleLogoutServiceLogoutUrlBuilder,
@@ -166,8 +193,10 @@ public class CasCoreLogoutAutoConfiguration {
         public LogoutManager logoutManager(
             @Qualifier(LogoutExecutionPlan.BEAN_NAME)
             final LogoutExecutionPlan logoutExecutionPlan,
+            @Qualifier(TicketRegistry.BEAN_NAME)
+            final TicketRegistry ticketRegistry,
             final CasConfigurationProperties casProperties) {
-            return new DefaultLogoutManager(casProperties.getSlo().isDisabled(), logoutExecutionPlan);
+            return new DefaultLogoutManager(casProperties.getSlo().isDisabled(), logoutExecutionPlan, ticketRegistry);
         }
 
         @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
@@ -7,6 +7,7 @@ import org.apereo.cas.authentication.principal.AbstractWebApplicationService;
 import org.apereo.cas.logout.slo.DefaultSingleLogoutServiceLogoutUrlBuilder;
 import org.apereo.cas.logout.slo.DefaultSingleLogoutServiceMessageHandler;
 import org.apereo.cas.logout.slo.SingleLogoutExecutionRequest;
+import org.apereo.cas.logout.slo.SingleLogoutRequestContext;
 import org.apereo.cas.mock.MockTicketGrantingTicket;
 import org.apereo.cas.services.BaseRegisteredService;
 import org.apereo.cas.services.CasRegisteredService;
@@ -14,8 +15,17 @@ import org.apereo.cas.services.RegexMatchingRegisteredServiceProxyPolicy;
 import org.apereo.cas.services.RegisteredServiceLogoutType;
 import org.apereo.cas.services.RegisteredServiceTestUtils;
 import org.apereo.cas.services.ServicesManager;
+import org.apereo.cas.support.events.logout.CasRequestSingleLogoutEvent;
+import org.apereo.cas.ticket.DefaultTicketCatalog;
+import org.apereo.cas.ticket.TicketGrantingTicket;
+import org.apereo.cas.ticket.expiration.HardTimeoutExpirationPolicy;
+import org.apereo.cas.ticket.registry.DefaultTicketRegistry;
+import org.apereo.cas.ticket.registry.DefaultTicketRegistryCleaner;
+import org.apereo.cas.ticket.registry.TicketRegistry;
+import org.apereo.cas.ticket.serialization.TicketSerializationManager;
 import org.apereo.cas.util.RandomUtils;
 import org.apereo.cas.util.http.HttpClient;
+import org.apereo.cas.util.lock.LockRepository;
 import org.apereo.cas.web.HttpMessage;
 import org.apereo.cas.web.SimpleUrlValidatorFactoryBean;
 import lombok.val;
@@ -24,6 +34,7 @@ import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.mock.web.MockHttpServletResponse;
 import static org.junit.jupiter.api.Assertions.*;
@@ -52,6 +63,11 @@ class DefaultLogoutManagerTests {
 
     @Mock
     private HttpClient client;
+
+    @Mock
+    private TicketRegistry ticketRegistry;
+
+    private DefaultLogoutExecutionPlan logoutExecutionPlan;
     
     private DefaultSingleLogoutServiceMessageHandler singleLogoutServiceMessageHandler;
     
@@ -85,13 +101,14 @@ class DefaultLogoutManagerTests {
         this.simpleWebApplicationServiceImpl = RegisteredServiceTestUtils.getService(URL);
         tgt.getServices().put(ID, this.simpleWebApplicationServiceImpl);
 
-        val plan = new DefaultLogoutExecutionPlan();
-        plan.registerSingleLogoutServiceMessageHandler(singleLogoutServiceMessageHandler);
+        logoutExecutionPlan = new DefaultLogoutExecutionPlan();
+        logoutExecutionPlan.registerSingleLogoutServiceMessageHandler(singleLogoutServiceMessageHandler);
+        when(ticketRegistry.getTrackedServices(any())).thenAnswer(invocation -> invocation.getArgument(0, TicketGrantingTicket.class).getServices());
 
-        this.logoutManager = new DefaultLogoutManager(false, plan);
+        this.logoutManager = new DefaultLogoutManager(false, logoutExecutionPlan, ticketRegistry);
         this.registeredService = getRegisteredService(URL);
         when(servicesManager.findServiceBy(this.simpleWebApplicationServiceImpl)).thenReturn(this.registeredService);
-        assertTrue(plan.getLogoutRedirectionStrategies().isEmpty());
+        assertTrue(logoutExecutionPlan.getLogoutRedirectionStrategies().isEmpty());
     }
 
     @Test
@@ -109,11 +126,42 @@ class DefaultLogoutManagerTests {
         assertEquals(this.registeredService.getLogoutUrl(), logoutRequest.getLogoutUrl().toExternalForm());
     }
 
+    @Test
+    void verifyLogoutForExpiredTicketWithExternallyTrackedServices() throws Throwable {
+        val registry = spy(new DefaultTicketRegistry(mock(TicketSerializationManager.class),
+            new DefaultTicketCatalog(), mock(ConfigurableApplicationContext.class)));
+        doReturn(true).when(registry).isServiceTrackingExternalized();
+        doReturn(Map.of(ID, simpleWebApplicationServiceImpl)).when(registry).getTrackedServices(any(TicketGrantingTicket.class));
+
+        val expiredTicket = new MockTicketGrantingTicket("casuser");
+        expiredTicket.setExpirationPolicy(new HardTimeoutExpirationPolicy(1));
+        registry.addTicket(expiredTicket);
+        expiredTicket.markTicketExpired();
+
+        val manager = new DefaultLogoutManager(false, logoutExecutionPlan, registry);
+        val logoutRequests = new ArrayList<SingleLogoutRequestContext>();
+        val applicationContext = mock(ConfigurableApplicationContext.class);
+        doAnswer(invocation -> {
+            val event = invocation.getArgument(0, CasRequestSingleLogoutEvent.class);
+            logoutRequests.addAll(manager.performLogout(SingleLogoutExecutionRequest.builder()
+                .ticketGrantingTicket(event.getTicketGrantingTicket())
+                .build()));
+            return null;
+        }).when(applicationContext).publishEvent(any(CasRequestSingleLogoutEvent.class));
+
+        val cleaner = new DefaultTicketRegistryCleaner(LockRepository.noOp(), applicationContext, registry);
+        cleaner.clean();
+        assertTrue(expiredTicket.getServices().isEmpty());
+        assertEquals(1, logoutRequests.size());
+        assertEquals(ID, logoutRequests.getFirst().getTicketId());
+        assertNull(registry.getTicket(expiredTicket.getId()));
+    }
+
     @Test
     void verifyLogoutDisabled() {
         val plan = new DefaultLogoutExecutionPlan();
         plan.registerSingleLogoutServiceMessageHandler(singleLogoutServiceMessageHandler);
-        this.logoutManager = new DefaultLogoutManager(true, plan);
+        this.logoutManager = new DefaultLogoutManager(true, plan, ticketRegistry);
 
         val logoutRequests = this.logoutManager.performLogout(SingleLogoutExecutionRequest
             .builder()
@@ -0,0 +1,150 @@
+package org.apereo.cas.logout;
+
+import module java.base;
+import org.apereo.cas.CasProtocolConstants;
+import org.apereo.cas.configuration.model.core.slo.SingleLogoutDispatchProperties;
+import org.apereo.cas.logout.slo.SingleLogoutMessageDispatcher;
+import org.apereo.cas.util.http.HttpClient;
+import org.apereo.cas.web.HttpMessage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import static org.awaitility.Awaitility.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * This is {@link SingleLogoutMessageDispatcherTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 8.1.0
+ */
+@Tag("Logout")
+class SingleLogoutMessageDispatcherTests {
+
+    @Test
+    void verifyDeliveryWithRetries() throws Throwable {
+        val httpClient = mock(HttpClient.class);
+        when(httpClient.sendMessageToEndPoint(any(HttpMessage.class))).thenReturn(false, true);
+        val properties = new SingleLogoutDispatchProperties().setRetryDelay("PT0.01S");
+        val dispatcher = new SingleLogoutMessageDispatcher(httpClient, properties);
+        try {
+            assertTrue(dispatcher.sendMessageToEndPoint(newLogoutMessage(true)));
+            await().atMost(Duration.ofSeconds(5)).until(() -> dispatcher.getDeliveredCount() == 1);
+            assertEquals(1, dispatcher.getRetriedCount());
+            assertEquals(0, dispatcher.getFailedCount());
+            assertEquals(0, dispatcher.getQueueDepth());
+            verify(httpClient, times(2)).sendMessageToEndPoint(argThat((HttpMessage message) -> !message.isAsynchronous()
+                && message.getMessage().startsWith(CasProtocolConstants.PARAMETER_LOGOUT_REQUEST + '=')));
+        } finally {
+            dispatcher.destroy();
+        }
+    }
+
+    @Test
+    void verifyMetricsArePublished() throws Throwable {
+        val httpClient = mock(HttpClient.class);
+        when(httpClient.sendMessageToEndPoint(any(HttpMessage.class))).thenReturn(true);
+        val dispatcher = new SingleLogoutMessageDispatcher(httpClient, new SingleLogoutDispatchProperties());
+        try {
+            val meterRegistry = new SimpleMeterRegistry();
+            dispatcher.bindTo(meterRegistry);
+            assertTrue(dispatcher.sendMessageToEndPoint(newLogoutMessage(true)));
+            await().atMost(Duration.ofSeconds(5)).until(() -> dispatcher.getDeliveredCount() == 1);
+            assertEquals(0, meterRegistry.get("cas.slo.dispatch.queue.depth").gauge().value());
+            assertEquals(1, meterRegistry.get("cas.slo.dispatch.delivered").functionCounter().count());
+            assertEquals(1, meterRegistry.get("cas.slo.dispatch.delivery").timer().count());
+        } finally {
+            dispatcher.destroy();
+        }
+    }
+
+    @Test
+    void verifySynchronousMessagesPassThrough() throws Throwable {
+        val httpClient = mock(HttpClient.class);
+        when(httpClient.sendMessageToEndPoint(any(HttpMessage.class))).thenReturn(true);
+        val dispatcher = new SingleLogoutMessageDispatcher(httpClient, new SingleLogoutDispatchProperties());
+        try {
+            val message = newLogoutMessage(false);
+            assertTrue(dispatcher.sendMessageToEndPoint(message));
+            verify(httpClient).sendMessageToEndPoint(message);
+            assertEquals(0, dispatcher.getDeliveredCount());
+        } finally {
+            dispatcher.destroy();
+        }
+    }
+
+    @Test
+    void verifyOutboxKeepsFailedAndRecoversPending() throws Throwable {
+        val outbox = Files.createTempDirectory("slo-outbox").toFile();
+        val httpClient = mock(HttpClient.class);
+        when(httpClient.sendMessageToEndPoint(any(HttpMessage.class))).thenReturn(false);
+        val properties = new SingleLogoutDispatchProperties()
+            .setMaxAttempts(1)
+            .setOutboxDirectory(outbox.getAbsolutePath());
+        val dispatcher = new SingleLogoutMessageDispatcher(httpClient, properties);
+        try {
+            assertTrue(dispatcher.sendMessageToEndPoint(newLogoutMessage(true)));
+            await().atMost(Duration.ofSeconds(5)).until(() -> dispatcher.getFailedCount() == 1);
+            assertEquals(1, Objects.requireNonNull(outbox.listFiles((_, name) -> name.endsWith(".failed"))).length);
+        } finally {
+            dispatcher.destroy();
+        }
+
+        val failed = Objects.requireNonNull(outbox.listFiles((_, name) -> name.endsWith(".failed")))[0];
+        val pending = new File(outbox, failed.getName().replace(".failed", ".json"));
+        assertTrue(failed.renameTo(pending));
+        when(httpClient.sendMessageToEndPoint(any(HttpMessage.class))).thenReturn(true);
+        val recovered = new SingleLogoutMessageDispatcher(httpClient, properties);
+        try {
+            await().atMost(Duration.ofSeconds(5)).until(() -> recovered.getDeliveredCount() == 1);
+            await().atMost(Duration.ofSeconds(5)).until(() -> !pending.exists());
+        } finally {
+            recovered.destroy();
+        }
+    }
+
+    @Test
+    void verifySlowHostDoesNotBlockOtherHosts() throws Throwable {
+        val release = new CountDownLatch(1);
+        val httpClient = mock(HttpClient.class);
+        when(httpClient.sendMessageToEndPoint(any(HttpMessage.class))).thenAnswer(invocation -> {
+            val message = invocation.getArgument(0, HttpMessage.class);
+            if ("slow.example.org".equals(message.getUrl().getHost())) {
+                release.await();
+            }
+            return true;
+        });
+        val properties = new SingleLogoutDispatchProperties()
+            .setMaxConcurrentDeliveries(2)
+            .setMaxConcurrentDeliveriesPerHost(1);
+        val dispatcher = new SingleLogoutMessageDispatcher(httpClient, properties);
+        try {
+            for (var i = 0; i < 3; i++) {
+                assertTrue(dispatcher.sendMessageToEndPoint(newLogoutMessage("https://slow.example.org/logout")));
+            }
+            assertTrue(dispatcher.sendMessageToEndPoint(newLogoutMessage("https://app.example.org/logout")));
+            await().atMost(Duration.ofSeconds(5)).until(() -> dispatcher.getDeliveredCount() == 1);
+            verify(httpClient, times(1)).sendMessageToEndPoint(argThat((HttpMessage message) ->
+                "slow.example.org".equals(message.getUrl().getHost())));
+            release.countDown();
+            await().atMost(Duration.ofSeconds(5)).until(() -> dispatcher.getDeliveredCount() == 4);
+            assertEquals(0, dispatcher.getRetriedCount());
+            assertEquals(0, dispatcher.getFailedCount());
+        } finally {
+            release.countDown();
+            dispatcher.destroy();
+        }
+    }
+
+    private static HttpMessage newLogoutMessage(final String url) throws Exception {
+        return new LogoutHttpMessage(CasProtocolConstants.PARAMETER_LOGOUT_REQUEST, new URI(url).toURL(), "<samlp:LogoutRequest/>", true);
+    }
+
+    private static HttpMessage newLogoutMessage(final boolean asynchronous) throws Exception {
+        return new LogoutHttpMessage(CasProtocolConstants.PARAMETER_LOGOUT_REQUEST,
+            new URI("https://app.example.org/logout").toURL(), "<samlp:LogoutRequest/>", asynchronous);
+    }
+}
@@ -0,0 +1,95 @@
+package org.apereo.cas.multitenancy;
+
+import module java.base;
+import org.apereo.cas.util.LoggingUtils;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.springframework.beans.factory.DisposableBean;
+
+/**
+ * This is {@link DefaultTenantComponentRegistry} that keeps components in memory,
+ * keyed by tenant id. Components remember the tenant definition they were built from;
+ * once a different version of the definition is presented, existing components
+ * for the tenant are closed and built again.
+ *
+ * @author Misagh Moayyed
+ * @since 8.1.0
+ */
+@Slf4j
+public class DefaultTenantComponentRegistry implements TenantComponentRegistry {
+    private final Map<String, TenantComponents> tenantComponents = new ConcurrentHashMap<>();
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> List<T> getOrBuild(final TenantDefinition tenantDefinition, final String name,
+                                  final Function<TenantDefinition, List<? extends T>> builder) {
+        val key = tenantDefinition.getId().toLowerCase(Locale.ENGLISH);
+        while (true) {
+            val components = tenantComponents.compute(key, (_, current) -> {
+                if (current != null && current.tenantDefinition().equals(tenantDefinition)) {
+                    return current;
+                }
+                if (current != null) {
+                    LOGGER.debug("Tenant definition [{}] has changed; releasing components built for the previous definition", key);
+                    current.close();
+                }
+                return new TenantComponents(tenantDefinition, new ConcurrentHashMap<>());
+            });
+            val built = components.components().computeIfAbsent(name, _ -> {
+                LOGGER.debug("Building components [{}] for tenant [{}]", name, key);
+                return List.copyOf(builder.apply(tenantDefinition));
+            });
+            if (tenantComponents.get(key) == components) {
+                return (List<T>) built;
+            }
+            if (components.components().remove(name, built)) {
+                LOGGER.debug("Components [{}] for tenant [{}] were released while being built; closing them", name, key);
+                TenantComponents.close(built);
+            }
+        }
+    }
+
+    @Override
+    public void release(final String tenantId) {
+        val components = tenantComponents.remove(tenantId.toLowerCase(Locale.ENGLISH));
+        if (components != null) {
+            LOGGER.debug("Releasing components built for tenant [{}]", tenantId);
+            components.close();
+        }
+    }
+
+    @Override
+    public void releaseAll() {
+        tenantComponents.keySet().forEach(this::release);
+    }
+
+    private record TenantComponents(TenantDefinition tenantDefinition, Map<String, List<?>> components) {
+        /**
+         * Close all components. Entries are removed before they are closed,
+         * so a component that is still being built is closed either here or
+         * by the caller that built it, but never by both.
+         */
+        void close() {
+            components.keySet().forEach(name -> {
+                val removed = components.remove(name);
+                if (removed != null) {
+                    close(removed);
+                }
+            });
+        }
+
+        static void close(final List<?> components) {
+            components.forEach(component -> {
+                try {
+                    if (component instanceof final DisposableBean disposable) {
+                        disposable.destroy();
+                    } else if (component instanceof final AutoCloseable closeable) {
+                        closeable.close();
+                    }
+                } catch (final Exception e) {
+                    LoggingUtils.warn(LOGGER, e);
+                }
+            });
+        }
+    }
+}
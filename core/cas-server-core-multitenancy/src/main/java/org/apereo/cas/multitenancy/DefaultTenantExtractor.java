@@ -5,6 +5,9 @@ import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.util.DigestUtils;
 import org.apereo.cas.util.function.FunctionUtils;
 import org.apereo.cas.util.serialization.JacksonObjectMapperFactory;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -15,6 +18,8 @@ import tools.jackson.databind.ObjectMapper;
 
 /**
  * This is {@link DefaultTenantExtractor}.
+ * Tenant keys are remembered for each tenant definition instance handed out
+ * by the tenants manager, and are calculated again once the definition is replaced.
  *
  * @author Misagh Moayyed
  * @since 7.2.0
@@ -32,6 +37,9 @@ public class DefaultTenantExtractor implements TenantExtractor {
     
     private final CasConfigurationProperties casProperties;
 
+    @Getter(AccessLevel.NONE)
+    private final Cache<TenantDefinition, String> tenantKeys = Caffeine.newBuilder().weakKeys().build();
+
     @Override
     public Optional<TenantDefinition> extract(final String requestPath) {
         val tenantId = casProperties.getMultitenancy().getCore().isEnabled()
@@ -42,10 +50,10 @@ public class DefaultTenantExtractor implements TenantExtractor {
 
     @Override
     public String getTenantKey(final TenantDefinition tenantDefinition) {
-        return FunctionUtils.doUnchecked(() -> {
-            val record = MAPPER.writerWithDefaultPrettyPrinter().writeValueAsString(tenantDefinition);
+        return Objects.requireNonNull(tenantKeys.get(tenantDefinition, definition -> FunctionUtils.doUnchecked(() -> {
+            val record = MAPPER.writerWithDefaultPrettyPrinter().writeValueAsString(definition);
             return DigestUtils.sha512(record);
-        });
+        })));
     }
 
 
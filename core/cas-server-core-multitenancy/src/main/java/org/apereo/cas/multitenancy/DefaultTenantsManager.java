@@ -1,10 +1,13 @@
 package org.apereo.cas.multitenancy;
 
 import module java.base;
+import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.configuration.support.ConfigurationPropertiesBindingContext;
 import org.apereo.cas.util.ResourceUtils;
 import org.apereo.cas.util.function.FunctionUtils;
 import org.apereo.cas.util.io.FileWatcherService;
 import org.apereo.cas.util.io.WatcherService;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.RequiredArgsConstructor;
 import lombok.val;
@@ -19,6 +22,11 @@ import tools.jackson.databind.ObjectMapper;
 
 /**
  * This is {@link DefaultTenantsManager}.
+ * Tenant definitions are kept in an immutable snapshot that is indexed by tenant identifier
+ * and is swapped whenever definitions are saved, removed or reloaded. The snapshot also
+ * keeps the CAS properties bound for each tenant, so that tenant properties are bound once
+ * and reused until the tenant definition changes. Components built for a tenant are released
+ * once the tenant definition is changed, reloaded or removed.
  *
  * @author Misagh Moayyed
  * @since 7.2.0
@@ -33,7 +41,10 @@ public class DefaultTenantsManager implements TenantsManager, DisposableBean, In
     @Nullable
     private WatcherService watcherService;
 
-    private final List<TenantDefinition> tenantDefinitionList = new CopyOnWriteArrayList<>();
+    private final AtomicReference<TenantsSnapshot> snapshot = new AtomicReference<>(TenantsSnapshot.empty());
+
+    @Getter
+    private final TenantComponentRegistry componentRegistry = new DefaultTenantComponentRegistry();
 
     private void initializeWatchService() {
         FunctionUtils.doAndHandle(_ -> {
@@ -47,44 +58,63 @@ public class DefaultTenantsManager implements TenantsManager, DisposableBean, In
     @Override
     public void destroy() {
         FunctionUtils.doIfNotNull(watcherService, WatcherService::close);
+        componentRegistry.releaseAll();
     }
 
     @Override
     public Optional<TenantDefinition> findTenant(@Nullable final String tenantId) {
-        return tenantDefinitionList
-            .stream()
-            .filter(t -> t.getId().equalsIgnoreCase(tenantId))
-            .findFirst();
+        return tenantId == null
+            ? Optional.empty()
+            : Optional.ofNullable(snapshot.get().index().get(getIndexKey(tenantId)));
     }
 
     @Override
     public List<TenantDefinition> findTenants() {
-        return List.copyOf(tenantDefinitionList);
+        return snapshot.get().definitions();
+    }
+
+    @Override
+    public ConfigurationPropertiesBindingContext<CasConfigurationProperties> bindProperties(final TenantDefinition tenantDefinition) {
+        return snapshot.get().bindProperties(tenantDefinition);
     }
 
     @Override
-    public TenantDefinition save(final TenantDefinition tenantDefinition) {
-        tenantDefinitionList.removeIf(t -> t.getId().equalsIgnoreCase(tenantDefinition.getId()));
-        tenantDefinitionList.add(tenantDefinition);
+    public synchronized TenantDefinition save(final TenantDefinition tenantDefinition) {
+        val current = snapshot.get();
+        val definitions = new ArrayList<>(current.definitions());
+        definitions.removeIf(t -> t.getId().equalsIgnoreCase(tenantDefinition.getId()));
+        definitions.add(tenantDefinition);
+        snapshot.set(current.update(definitions, Set.of(getIndexKey(tenantDefinition.getId()))));
+        componentRegistry.release(tenantDefinition.getId());
         writeTenantDefinitionsToResource();
         return tenantDefinition;
     }
 
     @Override
-    public boolean delete(final String tenantId) {
-        val removed = tenantDefinitionList.removeIf(t -> t.getId().equalsIgnoreCase(tenantId));
+    public synchronized boolean delete(final String tenantId) {
+        val current = snapshot.get();
+        val definitions = new ArrayList<>(current.definitions());
+        val removed = definitions.removeIf(t -> t.getId().equalsIgnoreCase(tenantId));
         if (removed) {
+            snapshot.set(current.update(definitions, Set.of(getIndexKey(tenantId))));
+            componentRegistry.release(tenantId);
             writeTenantDefinitionsToResource();
         }
         return removed;
     }
 
     @Override
-    public void load() {
+    public synchronized void load() {
         val resources = readFromJsonResource();
         if (!resources.isEmpty()) {
-            tenantDefinitionList.clear();
-            tenantDefinitionList.addAll(resources);
+            val current = snapshot.get();
+            val loaded = current.update(resources, Set.of());
+            snapshot.set(loaded);
+            current.index().forEach((key, definition) -> {
+                if (!definition.equals(loaded.index().get(key))) {
+                    componentRegistry.release(definition.getId());
+                }
+            });
         }
     }
 
@@ -94,6 +124,10 @@ public class DefaultTenantsManager implements TenantsManager, DisposableBean, In
         initializeWatchService();
     }
 
+    private static String getIndexKey(final String tenantId) {
+        return tenantId.toLowerCase(Locale.ENGLISH);
+    }
+
     private List<TenantDefinition> readFromJsonResource() {
         return FunctionUtils.doAndHandle((CheckedSupplier<List<TenantDefinition>>) () -> {
             if (ResourceUtils.doesResourceExist(jsonResource)) {
@@ -112,8 +146,37 @@ public class DefaultTenantsManager implements TenantsManager, DisposableBean, In
         FunctionUtils.doAndHandle(_ -> {
             if (ResourceUtils.isFile(jsonResource)) {
                 val writer = objectMapper.writerWithDefaultPrettyPrinter();
-                writer.writeValue(jsonResource.getFile(), tenantDefinitionList);
+                writer.writeValue(jsonResource.getFile(), snapshot.get().definitions());
             }
         });
     }
+
+    private record TenantsSnapshot(List<TenantDefinition> definitions, Map<String, TenantDefinition> index,
+                                   Map<String, ConfigurationPropertiesBindingContext<CasConfigurationProperties>> properties) {
+        static TenantsSnapshot empty() {
+            return new TenantsSnapshot(List.of(), Map.of(), new ConcurrentHashMap<>());
+        }
+
+        TenantsSnapshot update(final List<TenantDefinition> tenantDefinitions, final Set<String> changedTenants) {
+            val updatedIndex = tenantDefinitions
+                .stream()
+                .collect(Collectors.toMap(definition -> getIndexKey(definition.getId()), Function.identity(), (_, last) -> last));
+            val boundProperties = new ConcurrentHashMap<String, ConfigurationPropertiesBindingContext<CasConfigurationProperties>>();
+            properties.forEach((key, bindingContext) -> {
+                if (!changedTenants.contains(key) && Objects.equals(index.get(key), updatedIndex.get(key))) {
+                    boundProperties.put(key, bindingContext);
+                }
+            });
+            return new TenantsSnapshot(List.copyOf(tenantDefinitions), Map.copyOf(updatedIndex), boundProperties);
+        }
+
+        ConfigurationPropertiesBindingContext<CasConfigurationProperties> bindProperties(final TenantDefinition tenantDefinition) {
+            val key = getIndexKey(tenantDefinition.getId());
+            val indexedDefinition = index.get(key);
+            if (indexedDefinition != null && (indexedDefinition == tenantDefinition || indexedDefinition.equals(tenantDefinition))) {
+                return properties.computeIfAbsent(key, _ -> indexedDefinition.bindProperties());
+            }
+            return tenantDefinition.bindProperties();
+        }
+    }
 }
@@ -7,6 +7,7 @@ import org.apereo.cas.util.function.FunctionUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
+import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.Strings;
 import org.jspecify.annotations.Nullable;
 import jakarta.servlet.Filter;
@@ -19,6 +20,8 @@ import jakarta.servlet.http.HttpServletResponse;
 
 /**
  * This is {@link TenantRoutingFilter}.
+ * Tenants are matched to the requested host name using an index of tenant host names
+ * that is rebuilt only when the list of tenant definitions is changed.
  *
  * @author Misagh Moayyed
  * @since 7.3.0
@@ -28,28 +31,46 @@ import jakarta.servlet.http.HttpServletResponse;
 public class TenantRoutingFilter implements Filter {
     private final TenantExtractor tenantExtractor;
 
+    private final AtomicReference<TenantHostIndex> tenantHostIndex =
+        new AtomicReference<>(new TenantHostIndex(List.of(), Map.of()));
+
     @Override
     public void doFilter(final ServletRequest req, final ServletResponse res, final FilterChain chain) throws IOException, ServletException {
         val request = (HttpServletRequest) req;
         val response = (HttpServletResponse) res;
         val servletPath = Strings.CI.prependIfMissing(request.getServletPath(), "/");
-        if (isValidServletPath(servletPath)) {
-            val tenantDefinitions = tenantExtractor.getTenantsManager().findTenants();
+        if (isValidServletPath(servletPath) && StringUtils.isNotBlank(request.getServerName())) {
+            val tenantDefinition = getTenantHostIndex().hosts().get(request.getServerName().toLowerCase(Locale.ENGLISH));
+            if (tenantDefinition != null) {
+                val dispatch = "/tenants/" + tenantDefinition.getId() + servletPath;
+                LOGGER.info("Routing request [{}] to tenant [{}] at [{}]", request.getRequestURI(), tenantDefinition.getId(), dispatch);
+                val dispatcher = request.getRequestDispatcher(dispatch);
+                dispatcher.forward(request, response);
+                return;
+            }
+        }
+        chain.doFilter(request, response);
+    }
+
+    private TenantHostIndex getTenantHostIndex() {
+        val tenantsManager = tenantExtractor.getTenantsManager();
+        val tenantDefinitions = tenantsManager.findTenants();
+        return tenantHostIndex.updateAndGet(current -> {
+            if (current.tenantDefinitions() == tenantDefinitions) {
+                return current;
+            }
+            val hosts = new HashMap<String, TenantDefinition>();
             for (val tenantDefinition : tenantDefinitions) {
-                val bindingContext = tenantDefinition.bindProperties();
+                val bindingContext = tenantsManager.bindProperties(tenantDefinition);
                 if (bindingContext.isBound()) {
                     val tenantHostname = extractTenantHost(bindingContext);
-                    if (Strings.CI.equals(request.getServerName(), tenantHostname)) {
-                        val dispatch = "/tenants/" + tenantDefinition.getId() + servletPath;
-                        LOGGER.info("Routing request [{}] to tenant [{}] at [{}]", request.getRequestURI(), tenantDefinition.getId(), dispatch);
-                        val dispatcher = request.getRequestDispatcher(dispatch);
-                        dispatcher.forward(request, response);
-                        return;
+                    if (StringUtils.isNotBlank(tenantHostname)) {
+                        hosts.putIfAbsent(tenantHostname.toLowerCase(Locale.ENGLISH), tenantDefinition);
                     }
                 }
             }
-        }
-        chain.doFilter(request, response);
+            return new TenantHostIndex(tenantDefinitions, Map.copyOf(hosts));
+        });
     }
 
     private static @Nullable String extractTenantHost(final ConfigurationPropertiesBindingContext<CasConfigurationProperties> bindingContext) {
@@ -72,4 +93,7 @@ public class TenantRoutingFilter implements Filter {
             && !Strings.CI.startsWith(flowId, "/images/")
             && !Strings.CI.startsWith(flowId, "/js/");
     }
+
+    private record TenantHostIndex(List<TenantDefinition> tenantDefinitions, Map<String, TenantDefinition> hosts) {
+    }
 }
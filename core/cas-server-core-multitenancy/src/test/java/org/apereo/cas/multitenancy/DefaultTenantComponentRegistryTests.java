@@ -0,0 +1,68 @@
+package org.apereo.cas.multitenancy;
+
+import module java.base;
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.DisposableBean;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link DefaultTenantComponentRegistryTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 8.1.0
+ */
+@Tag("Web")
+class DefaultTenantComponentRegistryTests {
+
+    @Test
+    void verifyComponentsBuiltOncePerDefinition() {
+        val registry = new DefaultTenantComponentRegistry();
+        val builds = new AtomicInteger();
+        val destroyed = new AtomicInteger();
+        Function<TenantDefinition, List<? extends DisposableBean>> builder = _ -> {
+            builds.incrementAndGet();
+            return List.<DisposableBean>of(destroyed::incrementAndGet);
+        };
+
+        val tenant = TenantDefinition.builder().id("Shire").properties(Map.of("cas.authn.accept.users", "casuser::Mellon")).build();
+        val components = registry.<DisposableBean>getOrBuild(tenant, "handlers", builder);
+        IntStream.range(0, 10).forEach(_ -> assertSame(components, registry.getOrBuild(tenant, "handlers", builder)));
+        assertEquals(1, builds.get());
+        assertEquals(0, destroyed.get());
+
+        val updated = TenantDefinition.builder().id("shire").properties(Map.of("cas.authn.accept.users", "casuser::Melon")).build();
+        assertNotSame(components, registry.getOrBuild(updated, "handlers", builder));
+        assertEquals(2, builds.get());
+        assertEquals(1, destroyed.get());
+
+        registry.release("SHIRE");
+        assertEquals(2, destroyed.get());
+        registry.getOrBuild(updated, "handlers", builder);
+        assertEquals(3, builds.get());
+        registry.releaseAll();
+        assertEquals(3, destroyed.get());
+    }
+
+    @Test
+    void verifyComponentsReleasedWhileBuildingAreClosed() {
+        val registry = new DefaultTenantComponentRegistry();
+        val builds = new AtomicInteger();
+        val destroyed = new AtomicInteger();
+        Function<TenantDefinition, List<? extends DisposableBean>> builder = definition -> {
+            if (builds.incrementAndGet() == 1) {
+                registry.release(definition.getId());
+            }
+            return List.<DisposableBean>of(destroyed::incrementAndGet);
+        };
+
+        val tenant = TenantDefinition.builder().id("shire").build();
+        val components = registry.<DisposableBean>getOrBuild(tenant, "handlers", builder);
+        assertEquals(2, builds.get());
+        assertEquals(1, destroyed.get());
+        assertSame(components, registry.getOrBuild(tenant, "handlers", builder));
+        registry.releaseAll();
+        assertEquals(2, destroyed.get());
+    }
+}
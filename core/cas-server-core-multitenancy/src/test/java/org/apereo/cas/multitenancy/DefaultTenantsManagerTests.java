@@ -48,6 +48,18 @@ class DefaultTenantsManagerTests {
             val hostedDefinition = tenantsManager.findTenant("hosted").orElseThrow();
             assertEquals("sso.system.org", hostedDefinition.getProperties().get("cas.host.name"));
         }
+
+        @Test
+        void verifyPropertiesBoundOncePerDefinition() {
+            val hostedDefinition = tenantsManager.findTenant("HOSTED").orElseThrow();
+            val bindingContext = tenantsManager.bindProperties(hostedDefinition);
+            assertTrue(bindingContext.isBound());
+            assertSame(bindingContext, tenantsManager.bindProperties(hostedDefinition));
+            assertSame(tenantsManager.findTenants(), tenantsManager.findTenants());
+
+            tenantsManager.load();
+            assertSame(bindingContext, tenantsManager.bindProperties(tenantsManager.findTenant("hosted").orElseThrow()));
+        }
     }
 
     @Nested
@@ -12,12 +12,18 @@ import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
+import org.codehaus.groovy.runtime.InvokerHelper;
 import org.jspecify.annotations.Nullable;
 import org.springframework.core.io.ByteArrayResource;
 import org.springframework.core.io.Resource;
 
 /**
  * This is {@link GroovyShellScript}.
+ * <p>
+ * The script is compiled once. When concurrent execution is enabled, each invocation
+ * runs on its own script instance created from the compiled class with its own binding,
+ * so invocations do not need to lock; otherwise, the compiled script instance is shared
+ * and invocations are serialized.
  *
  * @author Misagh Moayyed
  * @since 6.0.0
@@ -30,10 +36,12 @@ public class GroovyShellScript implements ExecutableCompiledScript {
     private static final ThreadLocal<Map<String, Object>> BINDING_THREAD_LOCAL = new ThreadLocal<>();
 
     private final CasReentrantLock lock = new CasReentrantLock();
+    private final boolean concurrentExecution = ScriptingUtils.isConcurrentExecutionEnabled();
+
     private final String script;
 
     @Nullable
-    private Script compiledScript;
+    private volatile Script compiledScript;
 
     @Override
     public <T> @Nullable T execute(final Object[] args, final Class<T> clazz) throws Throwable {
@@ -47,6 +55,9 @@ public class GroovyShellScript implements ExecutableCompiledScript {
 
     @Override
     public <T> @Nullable T execute(final Object[] args, final Class<T> clazz, final boolean failOnError) {
+        if (concurrentExecution) {
+            return executeConcurrently(clazz);
+        }
         if (lock.tryLock()) {
             try {
                 LOGGER.trace("Beginning to execute script [{}]", this);
@@ -76,6 +87,29 @@ public class GroovyShellScript implements ExecutableCompiledScript {
         return null;
     }
 
+    private <T> @Nullable T executeConcurrently(final Class<T> clazz) {
+        try {
+            LOGGER.trace("Beginning to execute script [{}]", this);
+            val binding = Objects.requireNonNullElseGet(BINDING_THREAD_LOCAL.get(), HashMap<String, Object>::new);
+            var prototype = compiledScript;
+            if (prototype == null) {
+                prototype = ScriptingUtils.parseGroovyShellScript(Map.of(), script);
+                compiledScript = prototype;
+            }
+            val scriptInstance = InvokerHelper.createScript(prototype.getClass(), new Binding(binding));
+            LOGGER.trace("Current binding [{}]", scriptInstance.getBinding());
+            val result = ScriptingUtils.executeGroovyShellScript(scriptInstance, clazz);
+            LOGGER.debug("Groovy script [{}] returns result [{}]", this, result);
+            return result;
+        } catch (final GroovyRuntimeException e) {
+            LoggingUtils.error(LOGGER, e);
+        } finally {
+            BINDING_THREAD_LOCAL.remove();
+            LOGGER.trace("Completed script execution [{}]", this);
+        }
+        return null;
+    }
+
     @Override
     public <T> @Nullable T execute(final String methodName, final Class<T> clazz, final Object... args) throws Throwable {
         return execute(args, clazz);
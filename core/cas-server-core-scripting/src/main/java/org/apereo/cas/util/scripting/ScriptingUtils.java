@@ -305,6 +305,18 @@ public class ScriptingUtils {
         return null;
     }
 
+    /**
+     * Whether groovy scripts may execute concurrently without locking.
+     * Concurrent execution is disabled unless explicitly enabled via
+     * {@link ExecutableCompiledScriptFactory#SYSTEM_PROPERTY_GROOVY_EXECUTION_CONCURRENT},
+     * since scripts that keep state in fields or bindings rely on a single, locked instance.
+     *
+     * @return true or false
+     */
+    public static boolean isConcurrentExecutionEnabled() {
+        return BooleanUtils.toBoolean(System.getProperty(ExecutableCompiledScriptFactory.SYSTEM_PROPERTY_GROOVY_EXECUTION_CONCURRENT, "false"));
+    }
+
     /**
      * New groovy class loader.
      *
@@ -11,11 +11,18 @@ import lombok.Setter;
 import lombok.ToString;
 import lombok.experimental.Accessors;
 import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.jooq.lambda.fi.util.function.CheckedFunction;
 import org.jspecify.annotations.Nullable;
 import org.springframework.core.io.Resource;
 
 /**
  * This is {@link WatchableGroovyScriptResource}.
+ * <p>
+ * When concurrent execution is enabled, each invocation runs on its own instance
+ * of the most recently compiled script class, so invocations do not need to lock
+ * and a reloaded script is picked up by the next invocation. Otherwise, or if a new instance
+ * of the script class cannot be created, the compiled script instance is shared and invocations are serialized.
  *
  * @author Misagh Moayyed
  * @since 6.0.0
@@ -27,13 +34,15 @@ import org.springframework.core.io.Resource;
 public class WatchableGroovyScriptResource implements ExecutableCompiledScript {
     private final CasReentrantLock lock = new CasReentrantLock();
 
+    private final boolean concurrentExecution = ScriptingUtils.isConcurrentExecutionEnabled();
+
     private final Resource resource;
 
     @Nullable
     private FileWatcherService watcherService;
 
     @Nullable
-    private GroovyObject compiledScript;
+    private volatile GroovyObject compiledScript;
 
     @Setter
     private boolean failOnError = true;
@@ -76,16 +85,7 @@ public class WatchableGroovyScriptResource implements ExecutableCompiledScript {
 
     @Override
     public <T> @Nullable T execute(final Object[] args, final Class<T> clazz, final boolean failOnError) {
-        return lock.tryLock(() -> {
-            try {
-                LOGGER.trace("Beginning to execute script [{}]", this);
-                return compiledScript != null
-                    ? ScriptingUtils.executeGroovyScript(this.compiledScript, args, clazz, failOnError)
-                    : null;
-            } finally {
-                LOGGER.trace("Completed script execution [{}]", this);
-            }
-        });
+        return executeScript(script -> ScriptingUtils.executeGroovyScript(script, args, clazz, failOnError));
     }
 
     /**
@@ -100,16 +100,7 @@ public class WatchableGroovyScriptResource implements ExecutableCompiledScript {
      */
     public <T> @Nullable T execute(final String methodName, final Class<T> clazz, final boolean failOnError,
                          final Object... args) {
-        return lock.tryLock(() -> {
-            try {
-                LOGGER.trace("Beginning to execute script [{}]", this);
-                return compiledScript != null
-                    ? ScriptingUtils.executeGroovyScript(compiledScript, methodName, args, clazz, failOnError)
-                    : null;
-            } finally {
-                LOGGER.trace("Completed script execution [{}]", this);
-            }
-        });
+        return executeScript(script -> ScriptingUtils.executeGroovyScript(script, methodName, args, clazz, failOnError));
     }
     
     @Override
@@ -125,6 +116,37 @@ public class WatchableGroovyScriptResource implements ExecutableCompiledScript {
         return ScriptingUtils.parseGroovyScript(this.resource, false);
     }
 
+    private <T> @Nullable T executeScript(final CheckedFunction<GroovyObject, T> execution) {
+        if (concurrentExecution) {
+            val script = compiledScript;
+            if (script == null) {
+                return null;
+            }
+            val scriptInstance = newScriptInstance(script);
+            if (scriptInstance != null) {
+                return FunctionUtils.doUnchecked(() -> execution.apply(scriptInstance));
+            }
+        }
+        return lock.tryLock(() -> {
+            try {
+                LOGGER.trace("Beginning to execute script [{}]", this);
+                return compiledScript != null ? execution.apply(compiledScript) : null;
+            } finally {
+                LOGGER.trace("Completed script execution [{}]", this);
+            }
+        });
+    }
+
+    private static @Nullable GroovyObject newScriptInstance(final GroovyObject script) {
+        try {
+            return script.getClass().getDeclaredConstructor().newInstance();
+        } catch (final ReflectiveOperationException e) {
+            LOGGER.debug("Unable to create a new instance of [{}]; executing the shared script instance instead: [{}]",
+                script.getClass().getName(), e.getMessage());
+            return null;
+        }
+    }
+
     private void compileScriptResource(final Resource script) {
         this.compiledScript = ScriptingUtils.parseGroovyScript(script, failOnError);
     }
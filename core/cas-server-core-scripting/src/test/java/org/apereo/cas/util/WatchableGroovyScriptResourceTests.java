@@ -7,6 +7,7 @@ import org.apache.commons.io.FileUtils;
 import org.apache.commons.lang3.ArrayUtils;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
+import org.junitpioneer.jupiter.SetSystemProperty;
 import org.springframework.core.io.FileSystemResource;
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -31,4 +32,57 @@ class WatchableGroovyScriptResourceTests {
         Files.setLastModifiedTime(file.toPath(), FileTime.from(Instant.now()));
         Thread.sleep(5_000);
     }
+
+    @Test
+    @SetSystemProperty(key = ExecutableCompiledScriptFactory.SYSTEM_PROPERTY_GROOVY_EXECUTION_CONCURRENT, value = "true")
+    void verifyConcurrentExecution() throws Throwable {
+        val file = Files.createTempFile("file", ".groovy").toFile();
+        val script = """
+            def run(Object[] args) {
+                def latch = args[0]
+                latch.countDown()
+                return latch.await(30, java.util.concurrent.TimeUnit.SECONDS)
+            }
+            """;
+        FileUtils.writeStringToFile(file, script, StandardCharsets.UTF_8);
+
+        val threads = 64;
+        val latch = new CountDownLatch(threads);
+        val scriptFactory = ExecutableCompiledScriptFactory.getExecutableCompiledScriptFactory();
+        try (val resource = scriptFactory.fromResource(new FileSystemResource(file), false);
+             val executor = Executors.newFixedThreadPool(threads)) {
+            val tasks = IntStream.range(0, threads)
+                .mapToObj(_ -> (Callable<Boolean>) () -> resource.execute(new Object[]{latch}, Boolean.class, true))
+                .toList();
+            for (val result : executor.invokeAll(tasks)) {
+                assertEquals(Boolean.TRUE, result.get());
+            }
+        }
+        assertEquals(0, latch.getCount());
+    }
+
+    @Test
+    @SetSystemProperty(key = ExecutableCompiledScriptFactory.SYSTEM_PROPERTY_GROOVY_EXECUTION_CONCURRENT, value = "true")
+    void verifyConcurrentExecutionWithoutNewInstance() throws Throwable {
+        val file = Files.createTempFile("file", ".groovy").toFile();
+        val script = """
+            class SingleInstanceScript {
+                static int instances = 0
+                SingleInstanceScript() {
+                    if (++instances > 1) {
+                        throw new IllegalStateException("Only one instance is allowed")
+                    }
+                }
+                def run(Object... args) {
+                    return "result"
+                }
+            }
+            """;
+        FileUtils.writeStringToFile(file, script, StandardCharsets.UTF_8);
+        val scriptFactory = ExecutableCompiledScriptFactory.getExecutableCompiledScriptFactory();
+        try (val resource = scriptFactory.fromResource(new FileSystemResource(file), false)) {
+            assertEquals("result", resource.execute(ArrayUtils.EMPTY_OBJECT_ARRAY, String.class, true));
+            assertEquals("result", resource.execute(ArrayUtils.EMPTY_OBJECT_ARRAY, String.class, true));
+        }
+    }
 }
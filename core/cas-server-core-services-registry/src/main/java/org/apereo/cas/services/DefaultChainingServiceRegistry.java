@@ -59,6 +59,32 @@ public class DefaultChainingServiceRegistry extends AbstractServiceRegistry impl
             .collect(Collectors.toList());
     }
 
+    @Override
+    public Optional<ServiceRegistryChanges> loadChanges(final Instant since) {
+        val changes = new ArrayList<ServiceRegistryChanges>(serviceRegistries.size());
+        for (val serviceRegistry : serviceRegistries) {
+            val registryChanges = serviceRegistry.loadChanges(since);
+            if (registryChanges.isEmpty()) {
+                LOGGER.debug("Service registry [{}] is unable to track changes to service definitions", serviceRegistry.getName());
+                return Optional.empty();
+            }
+            changes.add(registryChanges.get());
+        }
+        val modifiedServices = changes.stream()
+            .map(ServiceRegistryChanges::modifiedServices)
+            .flatMap(Collection::stream)
+            .collect(Collectors.toList());
+        val serviceIds = changes.stream()
+            .map(ServiceRegistryChanges::serviceIds)
+            .flatMap(Collection::stream)
+            .collect(Collectors.toSet());
+        val watermark = changes.stream()
+            .map(ServiceRegistryChanges::watermark)
+            .min(Comparator.naturalOrder())
+            .orElseGet(() -> Instant.now(Clock.systemUTC()));
+        return Optional.of(new ServiceRegistryChanges(modifiedServices, serviceIds, watermark));
+    }
+
     @Override
     public RegisteredService findServiceById(final long id) {
         return serviceRegistries.stream()
@@ -18,6 +18,8 @@ public class InMemoryServiceRegistry extends AbstractServiceRegistry {
 
     private final List<RegisteredService> registeredServices;
 
+    private final Map<Long, Instant> modificationTimes = new ConcurrentHashMap<>();
+
     public InMemoryServiceRegistry(final ConfigurableApplicationContext applicationContext) {
         this(applicationContext, new ArrayList<>(), new ArrayList<>());
     }
@@ -38,11 +40,13 @@ public class InMemoryServiceRegistry extends AbstractServiceRegistry {
             registeredServices.remove(svc);
         }
         registeredServices.add(registeredService);
+        modificationTimes.put(registeredService.getId(), Instant.now(Clock.systemUTC()));
         return registeredService;
     }
 
     @Override
     public boolean delete(final RegisteredService registeredService) {
+        modificationTimes.remove(registeredService.getId());
         return !registeredServices.contains(registeredService)
             || registeredServices.removeIf(rs -> rs.getId() == registeredService.getId());
     }
@@ -50,6 +54,7 @@ public class InMemoryServiceRegistry extends AbstractServiceRegistry {
     @Override
     public void deleteAll() {
         this.registeredServices.clear();
+        this.modificationTimes.clear();
     }
 
     @Override
@@ -67,6 +72,26 @@ public class InMemoryServiceRegistry extends AbstractServiceRegistry {
         return services;
     }
 
+    /**
+     * Services that are added to the list of services directly, without being saved
+     * via this registry, are reported as changed the first time they are found.
+     */
+    @Override
+    public Optional<ServiceRegistryChanges> loadChanges(final Instant since) {
+        val watermark = Instant.now(Clock.systemUTC());
+        val clientInfo = ClientInfoHolder.getClientInfo();
+        val modifiedServices = registeredServices
+            .stream()
+            .filter(service -> !modificationTimes.computeIfAbsent(service.getId(), _ -> watermark).isBefore(since))
+            .map(this::invokeServiceRegistryListenerPostLoad)
+            .filter(Objects::nonNull)
+            .peek(service -> publishEvent(new CasRegisteredServiceLoadedEvent(this, service, clientInfo)))
+            .collect(Collectors.toList());
+        val serviceIds = registeredServices.stream().map(RegisteredService::getId).collect(Collectors.toSet());
+        modificationTimes.keySet().retainAll(serviceIds);
+        return Optional.of(new ServiceRegistryChanges(modifiedServices, serviceIds, watermark));
+    }
+
     @Override
     public Stream<? extends RegisteredService> getServicesStream() {
         return this.registeredServices.stream();
@@ -32,6 +32,6 @@ public class ServicesManagerScheduledLoader implements Runnable {
     )
     @Override
     public void run() {
-        servicesManager.load();
+        servicesManager.loadChanges();
     }
 }
@@ -2,11 +2,13 @@ package org.apereo.cas.services.mgmt;
 
 import module java.base;
 import org.apereo.cas.authentication.principal.Service;
+import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.services.CacheableServicesManager;
 import org.apereo.cas.services.IndexableServicesManager;
 import org.apereo.cas.services.RegisteredService;
 import org.apereo.cas.services.RegisteredServiceAccessStrategyUtils;
 import org.apereo.cas.services.RegisteredServiceChainingAttributeReleasePolicy;
+import org.apereo.cas.services.ServiceRegistryChanges;
 import org.apereo.cas.services.ServicesManagerConfigurationContext;
 import org.apereo.cas.services.query.RegisteredServiceQuery;
 import org.apereo.cas.support.events.service.CasRegisteredServiceDeletedEvent;
@@ -34,14 +36,28 @@ import org.springframework.context.ApplicationEvent;
 @Slf4j
 @Getter
 public abstract class AbstractServicesManager implements IndexableServicesManager, CacheableServicesManager {
+    /**
+     * Changes are requested from the service registry slightly before the previous watermark
+     * to account for small clock differences between CAS and the registry storage.
+     */
+    private static final Duration LOAD_WATERMARK_TOLERANCE = Duration.ofSeconds(5);
+
     protected final ServicesManagerConfigurationContext configurationContext;
 
     protected final CasReentrantLock lock = new CasReentrantLock();
 
     protected @Nullable List<RegisteredService> sortedRegisteredServices;
 
+    protected final RegisteredServiceCandidateIndex candidateIndex;
+
+    protected @Nullable Instant loadWatermark;
+
+    protected @Nullable Instant fullLoadWatermark;
+
     protected AbstractServicesManager(final ServicesManagerConfigurationContext configurationContext) {
         this.configurationContext = configurationContext;
+        this.candidateIndex = new RegisteredServiceCandidateIndex(
+            configurationContext.getCasProperties().getServiceRegistry().getCore().isIndexMatchingStrategies());
         configurationContext.getRegisteredServiceIndexService().initialize();
     }
 
@@ -112,6 +128,7 @@ public abstract class AbstractServicesManager implements IndexableServicesManage
         lock.tryLock(_ -> {
             configurationContext.getServicesCache().asMap().forEach((key, v) -> delete(v));
             configurationContext.getServicesCache().invalidateAll();
+            candidateIndex.clear();
             val clientInfo = ClientInfoHolder.getClientInfo();
             publishEvent(new CasRegisteredServicesDeletedEvent(this, clientInfo));
         });
@@ -149,6 +166,8 @@ public abstract class AbstractServicesManager implements IndexableServicesManage
     @Override
     public void removeRegisteredServiceFromCache(final RegisteredService service) {
         configurationContext.getServicesCache().invalidate(service.getId());
+        candidateIndex.remove(service);
+        configurationContext.getRegisteredServiceIndexService().removeService(service);
         sortedRegisteredServices = null;
     }
 
@@ -237,8 +256,13 @@ public abstract class AbstractServicesManager implements IndexableServicesManage
 
     @Override
     public RegisteredService findCachedRegisteredService(final Long key, final Class<? extends RegisteredService> clazz) {
-        return configurationContext.getServicesCache().get(key,
-            _ -> configurationContext.getServiceRegistry().findServiceById(key, clazz));
+        return configurationContext.getServicesCache().get(key, _ -> {
+            val registeredService = configurationContext.getServiceRegistry().findServiceById(key, clazz);
+            if (registeredService != null) {
+                candidateIndex.index(registeredService);
+            }
+            return registeredService;
+        });
     }
 
     @Override
@@ -327,23 +351,20 @@ public abstract class AbstractServicesManager implements IndexableServicesManage
     public Collection<RegisteredService> load() {
         return lock.tryLock(() -> {
             LOGGER.trace("Loading services from [{}]", configurationContext.getServiceRegistry().getName());
+            val watermark = Instant.now(Clock.systemUTC());
             val servicesMap = configurationContext.getServiceRegistry()
                 .load()
                 .stream()
-                .filter(this::supports)
-                .filter(this::validateAndFilterServiceByEnvironment)
-                .peek(this::loadInternal)
+                .map(this::prepareLoadedService)
                 .filter(Objects::nonNull)
-                .map(this::applyTemplate)
-                .filter(service -> Objects.nonNull(service)
-                    && StringUtils.isNotBlank(service.getName())
-                    && StringUtils.isNotBlank(service.getServiceId()))
                 .collect(Collectors.toMap(service -> {
                     LOGGER.trace("Adding registered service [{}] with name [{}] and internal identifier [{}]",
                         service.getServiceId(), service.getName(), service.getId());
                     return service.getId();
                 }, Function.identity(), (__, service) -> service));
             cacheRegisteredServices(servicesMap);
+            loadWatermark = watermark;
+            fullLoadWatermark = watermark;
             loadInternal();
             val clientInfo = ClientInfoHolder.getClientInfo();
             publishEvent(new CasRegisteredServicesLoadedEvent(this, getAllServices(), clientInfo));
@@ -367,6 +388,33 @@ public abstract class AbstractServicesManager implements IndexableServicesManage
         });
     }
 
+    /**
+     * Only the service definitions that are added, updated or removed in the service registry
+     * since the previous load are applied to the cache and indexes. All services are loaded instead
+     * if incremental loading is turned off, if services have never been loaded or a full load is due,
+     * or if the service registry is unable to track changes.
+     */
+    @Override
+    public Collection<RegisteredService> loadChanges() {
+        val core = configurationContext.getCasProperties().getServiceRegistry().getCore();
+        val watermark = loadWatermark;
+        val fullLoadDueAt = Optional.ofNullable(fullLoadWatermark)
+            .map(lastFullLoad -> lastFullLoad.plus(Beans.newDuration(core.getFullLoadInterval())))
+            .orElse(Instant.EPOCH);
+        if (!core.isIncrementalLoad() || watermark == null || !Instant.now(Clock.systemUTC()).isBefore(fullLoadDueAt)) {
+            return load();
+        }
+        val results = lock.tryLock(() -> configurationContext.getServiceRegistry()
+            .loadChanges(watermark.minus(LOAD_WATERMARK_TOLERANCE))
+            .map(this::applyServiceRegistryChanges));
+        if (results != null && results.isPresent()) {
+            return results.get();
+        }
+        LOGGER.debug("Changes to service definitions cannot be tracked by [{}]; loading all services instead",
+            configurationContext.getServiceRegistry().getName());
+        return load();
+    }
+
     @Override
     public Map<Long, RegisteredService> getCachedRegisteredServices() {
         return configurationContext.getServicesCache().asMap();
@@ -387,6 +435,8 @@ public abstract class AbstractServicesManager implements IndexableServicesManage
         servicesCache.putAll(servicesMap);
 
         sortedRegisteredServices = null;
+        candidateIndex.clear();
+        candidateIndex.index(servicesMap.values());
 
         configurationContext.getRegisteredServiceIndexService().clear();
         configurationContext.getRegisteredServiceIndexService().indexServices(servicesMap.values());
@@ -432,6 +482,17 @@ public abstract class AbstractServicesManager implements IndexableServicesManage
         return this.configurationContext.getRegisteredServicesTemplatesManager().apply(service);
     }
 
+    protected @Nullable RegisteredService prepareLoadedService(final RegisteredService registeredService) {
+        if (!supports(registeredService) || !validateAndFilterServiceByEnvironment(registeredService)) {
+            return null;
+        }
+        loadInternal(registeredService);
+        val service = applyTemplate(registeredService);
+        return Objects.nonNull(service)
+            && StringUtils.isNotBlank(service.getName())
+            && StringUtils.isNotBlank(service.getServiceId()) ? service : null;
+    }
+
     protected Supplier<Stream<RegisteredService>> getCacheableServicesStream() {
         cleanRegisteredServicesCache();
         val size = getCachedRegisteredServicesSize();
@@ -454,10 +515,53 @@ public abstract class AbstractServicesManager implements IndexableServicesManage
     @Override
     public void cacheRegisteredService(final RegisteredService service) {
         configurationContext.getServicesCache().put(service.getId(), service);
+        candidateIndex.index(service);
         configurationContext.getRegisteredServiceIndexService().indexService(service);
         sortedRegisteredServices = null;
     }
 
+    private Collection<RegisteredService> applyServiceRegistryChanges(final ServiceRegistryChanges changes) {
+        val servicesCache = configurationContext.getServicesCache();
+        val removedServices = servicesCache.asMap()
+            .values()
+            .stream()
+            .filter(service -> !changes.serviceIds().contains(service.getId()))
+            .toList();
+        removedServices.forEach(service -> {
+            LOGGER.trace("Removing registered service [{}] with name [{}] and internal identifier [{}]",
+                service.getServiceId(), service.getName(), service.getId());
+            removeRegisteredServiceFromCache(service);
+        });
+        /*
+         * Unchanged services are put back into the cache so they
+         * do not expire in between full loads.
+         */
+        servicesCache.asMap().replaceAll((id, service) -> service);
+
+        val modifiedServices = new ArrayList<RegisteredService>();
+        changes.modifiedServices().forEach(registeredService -> {
+            val service = prepareLoadedService(registeredService);
+            if (service != null) {
+                LOGGER.trace("Updating registered service [{}] with name [{}] and internal identifier [{}]",
+                    service.getServiceId(), service.getName(), service.getId());
+                cacheRegisteredService(service);
+                modifiedServices.add(service);
+            } else if (servicesCache.getIfPresent(registeredService.getId()) != null) {
+                removeRegisteredServiceFromCache(registeredService);
+            }
+        });
+        loadWatermark = changes.watermark();
+        loadInternal();
+        if (!modifiedServices.isEmpty() || !removedServices.isEmpty()) {
+            val clientInfo = ClientInfoHolder.getClientInfo();
+            publishEvent(new CasRegisteredServicesLoadedEvent(this, getAllServices(), clientInfo));
+        }
+        evaluateExpiredServiceDefinitions();
+        LOGGER.debug("Applied [{}] updated and [{}] removed service(s) from service registry [{}]",
+            modifiedServices.size(), removedServices.size(), configurationContext.getServiceRegistry().getName());
+        return modifiedServices;
+    }
+
     private void evaluateExpiredServiceDefinitions() {
         getCacheableServicesStream()
             .get()
@@ -170,6 +170,16 @@ public class DefaultChainingServicesManager implements ChainingServicesManager,
             .collect(Collectors.toList());
     }
 
+    @Override
+    public Collection<RegisteredService> loadChanges() {
+        return serviceManagers
+            .stream()
+            .map(ServicesManager::loadChanges)
+            .filter(Objects::nonNull)
+            .flatMap(Collection::stream)
+            .collect(Collectors.toList());
+    }
+
     @Override
     public long count() {
         return serviceManagers.stream()
@@ -28,6 +28,9 @@ public class DefaultServicesManager extends AbstractServicesManager {
 
     @Override
     protected @Nullable Collection<RegisteredService> getCandidateServicesToMatch(final String serviceId) {
+        if (candidateIndex.isEnabled() && getCachedRegisteredServicesSize() > 0) {
+            return candidateIndex.findCandidates(serviceId, configurationContext.getServicesCache()::getIfPresent);
+        }
         return collectServices();
     }
 
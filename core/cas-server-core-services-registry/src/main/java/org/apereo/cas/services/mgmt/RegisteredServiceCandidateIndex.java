@@ -0,0 +1,309 @@
+package org.apereo.cas.services.mgmt;
+
+import module java.base;
+import org.apereo.cas.services.CasRegisteredService;
+import org.apereo.cas.services.FullRegexRegisteredServiceMatchingStrategy;
+import org.apereo.cas.services.LiteralRegisteredServiceMatchingStrategy;
+import org.apereo.cas.services.PartialRegexRegisteredServiceMatchingStrategy;
+import org.apereo.cas.services.RegisteredService;
+import org.apereo.cas.services.StartsWithRegisteredServiceMatchingStrategy;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * This is {@link RegisteredServiceCandidateIndex}. It buckets registered service definitions
+ * by the matching strategy they carry and by the literal scheme/host/path prefix that any
+ * matching service identifier must begin with, so that locating a service for an incoming request
+ * only needs to evaluate the handful of definitions that could possibly match.
+ * <p>
+ * The index is deliberately conservative: it only ever narrows down the set of candidates
+ * and never decides a match on its own. Definitions whose matching behavior cannot be reasoned about
+ * statically (i.e. custom matching strategies, regular expressions without a literal prefix,
+ * or service types that are not located by their service identifier) are always returned as candidates.
+ * Candidates are handed back in their natural order, which preserves the evaluation-order semantics
+ * of the services manager.
+ *
+ * @author Misagh Moayyed
+ * @since 8.1.0
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class RegisteredServiceCandidateIndex {
+    private static final String REGEX_META_CHARACTERS = ".[]()*+?{}|^$\\";
+
+    private static final int ASCII_LIMIT = 128;
+
+    private static final int UNSUPPORTED_PATTERN_FLAGS = Pattern.COMMENTS | Pattern.LITERAL | Pattern.CANON_EQ
+        | Pattern.UNICODE_CASE | Pattern.UNICODE_CHARACTER_CLASS | Pattern.MULTILINE;
+
+    @Getter
+    private final boolean enabled;
+
+    private final Map<Long, IndexKey> indexedServices = new ConcurrentHashMap<>();
+
+    private final Set<Long> unindexedServices = ConcurrentHashMap.newKeySet();
+
+    private final Map<String, Set<Long>> literalIndex = new ConcurrentHashMap<>();
+
+    private final Map<String, Set<Long>> caseInsensitiveLiteralIndex = new ConcurrentHashMap<>();
+
+    private final NavigableMap<String, Set<Long>> prefixIndex = new ConcurrentSkipListMap<>();
+
+    private final NavigableMap<String, Set<Long>> caseInsensitivePrefixIndex = new ConcurrentSkipListMap<>();
+
+    /**
+     * Index the given service definitions.
+     *
+     * @param services the services
+     */
+    public void index(final Collection<? extends RegisteredService> services) {
+        services.forEach(this::index);
+    }
+
+    /**
+     * Index the service definition, replacing any previous entry
+     * that might have been linked to the same service identifier.
+     *
+     * @param registeredService the registered service
+     */
+    public void index(final RegisteredService registeredService) {
+        if (enabled) {
+            remove(registeredService);
+            val indexKey = computeIndexKey(registeredService);
+            LOGGER.trace("Indexing registered service [{}] with key [{}]", registeredService.getId(), indexKey);
+            indexedServices.put(registeredService.getId(), indexKey);
+            indexKey.bucket().ifPresentOrElse(
+                bucket -> getBucketIndex(indexKey.type()).computeIfAbsent(bucket, _ -> ConcurrentHashMap.newKeySet()).add(registeredService.getId()),
+                () -> unindexedServices.add(registeredService.getId()));
+        }
+    }
+
+    /**
+     * Remove the service definition from the index.
+     *
+     * @param registeredService the registered service
+     */
+    public void remove(final RegisteredService registeredService) {
+        val indexKey = indexedServices.remove(registeredService.getId());
+        if (indexKey != null) {
+            indexKey.bucket().ifPresentOrElse(bucket -> getBucketIndex(indexKey.type()).computeIfPresent(bucket, (_, ids) -> {
+                ids.remove(registeredService.getId());
+                return ids.isEmpty() ? null : ids;
+            }), () -> unindexedServices.remove(registeredService.getId()));
+        }
+    }
+
+    /**
+     * Clear the index.
+     */
+    public void clear() {
+        indexedServices.clear();
+        unindexedServices.clear();
+        literalIndex.clear();
+        caseInsensitiveLiteralIndex.clear();
+        prefixIndex.clear();
+        caseInsensitivePrefixIndex.clear();
+    }
+
+    /**
+     * Count the number of indexed service definitions.
+     *
+     * @return the count
+     */
+    public long count() {
+        return indexedServices.size();
+    }
+
+    /**
+     * Find candidate service definitions that might match the given service id,
+     * sorted in their natural evaluation order. Candidates that can no longer be resolved
+     * (i.e. expired or evicted from the cache) are skipped.
+     *
+     * @param serviceId the service id
+     * @param resolver  the resolver that maps service definition identifiers to the actual definitions
+     * @return the candidates
+     */
+    public List<RegisteredService> findCandidates(final String serviceId,
+                                                  final Function<Long, @Nullable RegisteredService> resolver) {
+        val candidateIds = new HashSet<>(unindexedServices);
+        if (StringUtils.isNotBlank(serviceId)) {
+            val foldedServiceId = foldCase(serviceId);
+            Optional.ofNullable(literalIndex.get(serviceId)).ifPresent(candidateIds::addAll);
+            Optional.ofNullable(caseInsensitiveLiteralIndex.get(foldedServiceId)).ifPresent(candidateIds::addAll);
+            collectPrefixesOf(prefixIndex, serviceId, candidateIds);
+            collectPrefixesOf(caseInsensitivePrefixIndex, foldedServiceId, candidateIds);
+        }
+        LOGGER.trace("Found [{}] candidate service(s) out of [{}] indexed for [{}]", candidateIds.size(), count(), serviceId);
+        return candidateIds
+            .stream()
+            .map(resolver)
+            .filter(Objects::nonNull)
+            .sorted()
+            .collect(Collectors.toList());
+    }
+
+    private Map<String, Set<Long>> getBucketIndex(final IndexType type) {
+        return switch (type) {
+            case LITERAL -> literalIndex;
+            case LITERAL_CASE_INSENSITIVE -> caseInsensitiveLiteralIndex;
+            case PREFIX -> prefixIndex;
+            case PREFIX_CASE_INSENSITIVE -> caseInsensitivePrefixIndex;
+            case NONE -> throw new IllegalArgumentException("Unindexed service definitions are not tracked in buckets");
+        };
+    }
+
+    /**
+     * Walk backwards through the sorted keys to find every key that is a prefix of the given value.
+     * All prefixes of a value form a chain that sorts at or below the value itself, so each step
+     * either records a prefix or jumps to the longest common prefix of the current key and the value.
+     */
+    private static void collectPrefixesOf(final NavigableMap<String, Set<Long>> index,
+                                          final String value, final Collection<Long> results) {
+        var key = index.floorKey(value);
+        while (key != null) {
+            val commonPrefix = StringUtils.getCommonPrefix(key, value);
+            if (commonPrefix.length() == key.length()) {
+                Optional.ofNullable(index.get(key)).ifPresent(results::addAll);
+                key = key.isEmpty() ? null : index.floorKey(key.substring(0, key.length() - 1));
+            } else {
+                key = index.floorKey(commonPrefix);
+            }
+        }
+    }
+
+    private static IndexKey computeIndexKey(final RegisteredService registeredService) {
+        val serviceId = registeredService.getServiceId();
+        if (StringUtils.isBlank(serviceId)
+            || !CasRegisteredService.FRIENDLY_NAME.equalsIgnoreCase(registeredService.getFriendlyName())) {
+            return IndexKey.unindexed();
+        }
+        val matchingStrategy = Objects.requireNonNullElseGet(registeredService.getMatchingStrategy(),
+            FullRegexRegisteredServiceMatchingStrategy::new);
+        return switch (matchingStrategy) {
+            case final LiteralRegisteredServiceMatchingStrategy literal when literal.isCaseInsensitive() ->
+                isAscii(serviceId.trim())
+                    ? new IndexKey(IndexType.LITERAL_CASE_INSENSITIVE, foldCase(serviceId.trim()))
+                    : IndexKey.unindexed();
+            case LiteralRegisteredServiceMatchingStrategy _ -> new IndexKey(IndexType.LITERAL, serviceId.trim());
+            case final StartsWithRegisteredServiceMatchingStrategy startsWith ->
+                StringUtils.isNotEmpty(startsWith.getExpectedUrl()) && isAscii(startsWith.getExpectedUrl())
+                    ? new IndexKey(IndexType.PREFIX_CASE_INSENSITIVE, foldCase(startsWith.getExpectedUrl()))
+                    : IndexKey.unindexed();
+            case FullRegexRegisteredServiceMatchingStrategy _ -> computeRegexIndexKey(registeredService, false);
+            case PartialRegexRegisteredServiceMatchingStrategy _ -> computeRegexIndexKey(registeredService, true);
+            default -> IndexKey.unindexed();
+        };
+    }
+
+    private static IndexKey computeRegexIndexKey(final RegisteredService registeredService, final boolean requireAnchor) {
+        val pattern = registeredService.compileServiceIdPattern();
+        val regex = pattern.pattern();
+        if ((pattern.flags() & UNSUPPORTED_PATTERN_FLAGS) != 0 || (requireAnchor && !regex.startsWith("^"))) {
+            return IndexKey.unindexed();
+        }
+        val caseInsensitive = (pattern.flags() & Pattern.CASE_INSENSITIVE) != 0;
+        var prefix = extractLiteralPrefix(regex);
+        if (caseInsensitive) {
+            val asciiLength = (int) prefix.chars().takeWhile(character -> character < ASCII_LIMIT).count();
+            prefix = foldCase(prefix.substring(0, asciiLength));
+        }
+        if (prefix.isEmpty()) {
+            return IndexKey.unindexed();
+        }
+        return new IndexKey(caseInsensitive ? IndexType.PREFIX_CASE_INSENSITIVE : IndexType.PREFIX, prefix);
+    }
+
+    /**
+     * Extract the literal characters that any input matched by the regular expression must start with.
+     * Extraction stops at the first meta character, and a literal that is made optional by a quantifier
+     * is dropped. Expressions that contain alternations produce no prefix at all.
+     *
+     * @param regex the regular expression
+     * @return the literal prefix, or an empty string.
+     */
+    static String extractLiteralPrefix(final String regex) {
+        if (containsAlternation(regex)) {
+            return StringUtils.EMPTY;
+        }
+        val prefix = new StringBuilder();
+        var index = regex.startsWith("^") ? 1 : 0;
+        while (index < regex.length()) {
+            var current = regex.charAt(index);
+            var consumed = 1;
+            if (current == '\\') {
+                if (index + 1 >= regex.length() || Character.isLetterOrDigit(regex.charAt(index + 1))) {
+                    break;
+                }
+                current = regex.charAt(index + 1);
+                consumed = 2;
+            } else if (REGEX_META_CHARACTERS.indexOf(current) >= 0) {
+                break;
+            }
+            val next = index + consumed;
+            if (next < regex.length()) {
+                val quantifier = regex.charAt(next);
+                if (quantifier == '?' || quantifier == '*' || quantifier == '{') {
+                    break;
+                }
+                if (quantifier == '+') {
+                    prefix.append(current);
+                    break;
+                }
+            }
+            prefix.append(current);
+            index = next;
+        }
+        return prefix.toString();
+    }
+
+    private static boolean containsAlternation(final String regex) {
+        for (var index = 0; index < regex.length(); index++) {
+            val current = regex.charAt(index);
+            if (current == '\\') {
+                index++;
+            } else if (current == '|') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Fold the case of each character the same way {@link String#equalsIgnoreCase(String)}
+     * and {@link String#regionMatches(boolean, int, String, int, int)} compare characters,
+     * keeping the length of the value intact.
+     */
+    private static String foldCase(final String value) {
+        val chars = value.toCharArray();
+        for (var index = 0; index < chars.length; index++) {
+            chars[index] = Character.toLowerCase(Character.toUpperCase(chars[index]));
+        }
+        return new String(chars);
+    }
+
+    private static boolean isAscii(final String value) {
+        return value.chars().allMatch(character -> character < ASCII_LIMIT);
+    }
+
+    private enum IndexType {
+        NONE,
+        LITERAL,
+        LITERAL_CASE_INSENSITIVE,
+        PREFIX,
+        PREFIX_CASE_INSENSITIVE
+    }
+
+    private record IndexKey(IndexType type, @Nullable String value) {
+        static IndexKey unindexed() {
+            return new IndexKey(IndexType.NONE, null);
+        }
+
+        Optional<String> bucket() {
+            return type == IndexType.NONE ? Optional.empty() : Optional.ofNullable(value);
+        }
+    }
+}
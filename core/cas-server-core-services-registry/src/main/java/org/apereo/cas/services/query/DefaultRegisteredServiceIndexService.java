@@ -109,6 +109,13 @@ public class DefaultRegisteredServiceIndexService extends BaseRegisteredServiceI
         }
     }
 
+    @Override
+    public void removeService(final RegisteredService service) {
+        if (isEnabled()) {
+            indexedRegisteredServices.removeIf(registeredService -> registeredService.getId() == service.getId());
+        }
+    }
+
     @Override
     public boolean matches(final RegisteredService registeredService, final RegisteredServiceQuery query) {
         val queryAttribute = new RegisteredServiceQueryAttribute(query);
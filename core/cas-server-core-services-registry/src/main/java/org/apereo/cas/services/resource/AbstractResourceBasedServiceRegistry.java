@@ -5,6 +5,7 @@ import org.apereo.cas.configuration.api.CasConfigurationPropertiesSourceLocator;
 import org.apereo.cas.services.AbstractServiceRegistry;
 import org.apereo.cas.services.RegisteredService;
 import org.apereo.cas.services.ResourceBasedServiceRegistry;
+import org.apereo.cas.services.ServiceRegistryChanges;
 import org.apereo.cas.services.ServiceRegistryListener;
 import org.apereo.cas.services.replication.NoOpRegisteredServiceReplicationStrategy;
 import org.apereo.cas.services.replication.RegisteredServiceReplicationStrategy;
@@ -63,6 +64,8 @@ public abstract class AbstractResourceBasedServiceRegistry extends AbstractServi
 
     private final CasReentrantLock lock = new CasReentrantLock();
 
+    private final Map<File, ServiceDefinitionResource> serviceDefinitionResources = new ConcurrentHashMap<>();
+
     private Collection<StringSerializer<RegisteredService>> registeredServiceSerializers;
 
     @Setter
@@ -231,19 +234,13 @@ public abstract class AbstractResourceBasedServiceRegistry extends AbstractServi
     @Override
     public Collection<RegisteredService> load() {
         return lock.tryLock(() -> {
-            LOGGER.trace("Loading files from [{}]", this.serviceRegistryDirectory);
-            val serviceRegistryDirectoryFile = serviceRegistryDirectory.toFile();
-            val files = serviceRegistryDirectoryFile.exists()
-                ? FileUtils.listFiles(serviceRegistryDirectoryFile, getExtensions(), true)
-                : List.<File>of();
-            
-            LOGGER.trace("Located [{}] files from [{}] are [{}]",
-                Arrays.toString(getExtensions()), this.serviceRegistryDirectory, files);
+            val files = listServiceDefinitionFiles();
             val clientInfo = ClientInfoHolder.getClientInfo();
 
+            serviceDefinitionResources.clear();
             this.services = files
                 .stream()
-                .map(this::load)
+                .map(this::loadServiceDefinitionResource)
                 .filter(Objects::nonNull)
                 .flatMap(Collection::stream)
                 .filter(service -> StringUtils.isNotBlank(service.getServiceId()) && StringUtils.isNotBlank(service.getName()))
@@ -260,6 +257,47 @@ public abstract class AbstractResourceBasedServiceRegistry extends AbstractServi
         });
     }
 
+    /**
+     * Changes are determined by comparing the last-modified time of each service definition file
+     * with the time recorded when the file was last read. Registries that replicate service
+     * definitions across nodes are unable to track changes and always load all services.
+     */
+    @Override
+    public Optional<ServiceRegistryChanges> loadChanges(final Instant since) {
+        if (!(registeredServiceReplicationStrategy instanceof NoOpRegisteredServiceReplicationStrategy)) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(lock.tryLock(() -> {
+            val watermark = Instant.now(Clock.systemUTC());
+            val files = listServiceDefinitionFiles();
+            val removedFiles = new HashSet<>(serviceDefinitionResources.keySet());
+            files.forEach(removedFiles::remove);
+            removedFiles.forEach(file -> {
+                LOGGER.debug("Service definition file [{}] is removed", file);
+                serviceDefinitionResources.remove(file).serviceIds().forEach(services::remove);
+            });
+
+            val clientInfo = ClientInfoHolder.getClientInfo();
+            val modifiedServices = files
+                .stream()
+                .filter(file -> {
+                    val resource = serviceDefinitionResources.get(file);
+                    return resource == null || resource.lastModified() != file.lastModified();
+                })
+                .map(file -> {
+                    LOGGER.debug("Service definition file [{}] is added or modified", file);
+                    Optional.ofNullable(serviceDefinitionResources.get(file))
+                        .ifPresent(resource -> resource.serviceIds().forEach(services::remove));
+                    return loadServiceDefinitionResource(file);
+                })
+                .flatMap(Collection::stream)
+                .peek(service -> services.put(service.getId(), service))
+                .peek(service -> publishEvent(new CasRegisteredServiceLoadedEvent(this, service, clientInfo)))
+                .collect(Collectors.toList());
+            return new ServiceRegistryChanges(modifiedServices, Set.copyOf(services.keySet()), watermark);
+        }));
+    }
+
     @Override
     public Collection<RegisteredService> load(final File file) {
         val fileName = file.getName();
@@ -339,6 +377,25 @@ public abstract class AbstractResourceBasedServiceRegistry extends AbstractServi
         }
     }
 
+    private Collection<File> listServiceDefinitionFiles() {
+        LOGGER.trace("Loading files from [{}]", this.serviceRegistryDirectory);
+        val serviceRegistryDirectoryFile = serviceRegistryDirectory.toFile();
+        val files = serviceRegistryDirectoryFile.exists()
+            ? FileUtils.listFiles(serviceRegistryDirectoryFile, getExtensions(), true)
+            : List.<File>of();
+        LOGGER.trace("Located [{}] files from [{}] are [{}]",
+            Arrays.toString(getExtensions()), this.serviceRegistryDirectory, files);
+        return files;
+    }
+
+    private Collection<RegisteredService> loadServiceDefinitionResource(final File file) {
+        val lastModified = file.lastModified();
+        val loadedServices = load(file);
+        val serviceIds = loadedServices.stream().map(RegisteredService::getId).collect(Collectors.toSet());
+        serviceDefinitionResources.put(file, new ServiceDefinitionResource(lastModified, serviceIds));
+        return loadedServices;
+    }
+
     protected void removeRegisteredService(final RegisteredService service) {
         this.services.remove(service.getId());
     }
@@ -425,4 +482,6 @@ public abstract class AbstractResourceBasedServiceRegistry extends AbstractServi
         }
     }
 
+    private record ServiceDefinitionResource(long lastModified, Set<Long> serviceIds) {
+    }
 }
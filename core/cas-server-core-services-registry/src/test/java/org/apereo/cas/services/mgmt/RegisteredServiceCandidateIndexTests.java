@@ -0,0 +1,112 @@
+package org.apereo.cas.services.mgmt;
+
+import module java.base;
+import org.apereo.cas.services.CasRegisteredService;
+import org.apereo.cas.services.LiteralRegisteredServiceMatchingStrategy;
+import org.apereo.cas.services.PartialRegexRegisteredServiceMatchingStrategy;
+import org.apereo.cas.services.RegisteredService;
+import org.apereo.cas.services.RegisteredServiceMatchingStrategy;
+import org.apereo.cas.services.StartsWithRegisteredServiceMatchingStrategy;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link RegisteredServiceCandidateIndexTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 8.1.0
+ */
+@Tag("RegisteredService")
+class RegisteredServiceCandidateIndexTests {
+
+    private static CasRegisteredService newService(final long id, final String serviceId,
+                                                   final RegisteredServiceMatchingStrategy strategy) {
+        val registeredService = new CasRegisteredService();
+        registeredService.setId(id);
+        registeredService.setName("Service" + id);
+        registeredService.setServiceId(serviceId);
+        registeredService.setEvaluationOrder((int) id);
+        if (strategy != null) {
+            registeredService.setMatchingStrategy(strategy);
+        }
+        return registeredService;
+    }
+
+    private static List<RegisteredService> findMatches(final Collection<RegisteredService> candidates, final String serviceId) {
+        return candidates.stream().filter(service -> service.matches(serviceId)).toList();
+    }
+
+    @Test
+    void verifyLiteralPrefixExtraction() {
+        assertEquals("https://app.example.org/", RegisteredServiceCandidateIndex.extractLiteralPrefix("^https://app\\.example\\.org/.*"));
+        assertEquals("https://app.example.org", RegisteredServiceCandidateIndex.extractLiteralPrefix("https://app\\.example\\.org(/.*)?"));
+        assertEquals("http", RegisteredServiceCandidateIndex.extractLiteralPrefix("https?://.*"));
+        assertEquals("https:/", RegisteredServiceCandidateIndex.extractLiteralPrefix("https:/+.*"));
+        assertEquals(StringUtils.EMPTY, RegisteredServiceCandidateIndex.extractLiteralPrefix("^(https|imaps)://.*"));
+        assertEquals(StringUtils.EMPTY, RegisteredServiceCandidateIndex.extractLiteralPrefix("https://a.org|https://b.org"));
+        assertEquals(StringUtils.EMPTY, RegisteredServiceCandidateIndex.extractLiteralPrefix("\\Qhttps://app\\E.*"));
+    }
+
+    @Test
+    void verifyCandidatesAreNarrowedDown() {
+        val index = new RegisteredServiceCandidateIndex(true);
+        val services = new LinkedHashMap<Long, RegisteredService>();
+        services.put(1L, newService(1, "https://app1.example.org/.*", null));
+        services.put(2L, newService(2, "https://APP2.example.org/login", new LiteralRegisteredServiceMatchingStrategy(true)));
+        services.put(3L, newService(3, "https://app3.example.org/exact", new LiteralRegisteredServiceMatchingStrategy(false)));
+        services.put(4L, newService(4, "https://app4.example.org",
+            new StartsWithRegisteredServiceMatchingStrategy("https://app4.example.org")));
+        services.put(5L, newService(5, "^https://app5.example.org/.+", new PartialRegexRegisteredServiceMatchingStrategy()));
+        services.put(6L, newService(6, "app6", new PartialRegexRegisteredServiceMatchingStrategy()));
+        services.put(7L, newService(7, "^(https|imaps)://.*", null));
+        index.index(services.values());
+        assertEquals(services.size(), index.count());
+
+        assertEquals(List.of(1L, 6L, 7L), findIds(index, services, "https://APP1.example.org/login"));
+        assertEquals(List.of(2L, 6L, 7L), findIds(index, services, "https://app2.EXAMPLE.org/login"));
+        assertEquals(List.of(6L, 7L), findIds(index, services, "https://app3.example.org/EXACT"));
+        assertEquals(List.of(3L, 6L, 7L), findIds(index, services, "https://app3.example.org/exact"));
+        assertEquals(List.of(4L, 6L, 7L), findIds(index, services, "HTTPS://app4.example.org.evil.com"));
+        assertEquals(List.of(5L, 6L, 7L), findIds(index, services, "https://app5.example.org/app"));
+
+        index.remove(services.get(1L));
+        assertEquals(List.of(6L, 7L), findIds(index, services, "https://app1.example.org/login"));
+        index.clear();
+        assertEquals(0, index.count());
+        assertTrue(findIds(index, services, "https://app1.example.org/login").isEmpty());
+    }
+
+    @Test
+    void verifyMatchesAreIdenticalWithLargeRegistry() {
+        val index = new RegisteredServiceCandidateIndex(true);
+        val services = new LinkedHashMap<Long, RegisteredService>();
+        for (var i = 0L; i < 10_000; i++) {
+            val strategy = switch ((int) (i % 4)) {
+                case 0 -> new LiteralRegisteredServiceMatchingStrategy(i % 8 == 0);
+                case 1 -> new StartsWithRegisteredServiceMatchingStrategy("https://app" + i + ".example.org/");
+                case 2 -> new PartialRegexRegisteredServiceMatchingStrategy();
+                default -> null;
+            };
+            val serviceId = i % 4 == 0 ? "https://app" + i + ".example.org/login" : "^https://app" + i + "\\.example\\.org/.*";
+            services.put(i, newService(i, serviceId, strategy));
+        }
+        services.put(20_000L, newService(20_000, "^https://.*", null));
+        index.index(services.values());
+
+        for (var i = 0L; i < 10_000; i += 7) {
+            val serviceId = "https://app" + i + ".example.org/login";
+            val candidates = index.findCandidates(serviceId, services::get);
+            assertTrue(candidates.size() <= 3);
+            val expected = findMatches(services.values().stream().sorted().toList(), serviceId);
+            assertEquals(expected, findMatches(candidates, serviceId));
+        }
+    }
+
+    private static List<Long> findIds(final RegisteredServiceCandidateIndex index,
+                                      final Map<Long, RegisteredService> services, final String serviceId) {
+        return index.findCandidates(serviceId, services::get).stream().map(RegisteredService::getId).toList();
+    }
+}
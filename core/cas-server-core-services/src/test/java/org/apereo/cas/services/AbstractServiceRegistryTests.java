@@ -526,6 +526,23 @@ public abstract class AbstractServiceRegistryTests {
         });
     }
 
+    @Test
+    void verifyLoadChanges() {
+        getRegisteredServiceTypes().forEach(type -> {
+            val since = Instant.now(Clock.systemUTC()).minus(Duration.ofMinutes(1));
+            val savedService = serviceRegistry.save(buildRegisteredServiceInstance(RandomUtils.nextInt(), type)
+                .setId(RegisteredServiceDefinition.INITIAL_IDENTIFIER_VALUE));
+            serviceRegistry.loadChanges(since).ifPresent(changes -> {
+                assertTrue(changes.serviceIds().contains(savedService.getId()));
+                assertTrue(changes.modifiedServices().stream().anyMatch(service -> service.getId() == savedService.getId()));
+                serviceRegistry.delete(savedService);
+                val nextChanges = serviceRegistry.loadChanges(changes.watermark()).orElseThrow();
+                assertFalse(nextChanges.serviceIds().contains(savedService.getId()));
+                assertTrue(nextChanges.modifiedServices().stream().noneMatch(service -> service.getId() == savedService.getId()));
+            });
+        });
+    }
+
     @Test
     void checkForAuthorizationStrategy() {
         getRegisteredServiceTypes().forEach(type -> {
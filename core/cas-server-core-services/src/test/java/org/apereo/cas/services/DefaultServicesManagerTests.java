@@ -59,6 +59,64 @@ class DefaultServicesManagerTests {
         }
     }
 
+    @Nested
+    @SpringBootTest(classes = BaseAutoConfigurationTests.SharedTestConfiguration.class,
+        properties = "cas.service-registry.core.index-matching-strategies=false")
+    class NoMatchingStrategyIndexTests extends AbstractServicesManagerTests {
+        @Test
+        void verifyFindByServiceWithoutIndex() {
+            val registeredService = new CasRegisteredService();
+            registeredService.setId(RandomUtils.nextLong());
+            registeredService.setName(UUID.randomUUID().toString());
+            registeredService.setServiceId("https://app.example.org/" + registeredService.getId() + "/.*");
+            servicesManager.save(registeredService);
+            assertNotNull(servicesManager.findServiceBy(RegisteredServiceTestUtils.getService(
+                "https://app.example.org/" + registeredService.getId() + "/login")));
+        }
+    }
+
+    @Nested
+    @SpringBootTest(classes = BaseAutoConfigurationTests.SharedTestConfiguration.class)
+    class MatchingStrategyIndexTests extends AbstractServicesManagerTests {
+        @Test
+        void verifyEvaluationOrderIsKept() {
+            servicesManager.deleteAll();
+            val catchAll = new CasRegisteredService();
+            catchAll.setId(RandomUtils.nextLong());
+            catchAll.setName("CatchAll");
+            catchAll.setServiceId("^https://.*");
+            catchAll.setEvaluationOrder(100);
+            servicesManager.save(catchAll);
+
+            val literal = new CasRegisteredService();
+            literal.setId(RandomUtils.nextLong());
+            literal.setName("Literal");
+            literal.setServiceId("https://app.example.org/literal");
+            literal.setMatchingStrategy(new LiteralRegisteredServiceMatchingStrategy());
+            literal.setEvaluationOrder(10);
+            servicesManager.save(literal);
+
+            val startsWith = new CasRegisteredService();
+            startsWith.setId(RandomUtils.nextLong());
+            startsWith.setName("StartsWith");
+            startsWith.setServiceId("https://app.example.org/starts");
+            startsWith.setMatchingStrategy(new StartsWithRegisteredServiceMatchingStrategy("https://APP.example.org/starts"));
+            startsWith.setEvaluationOrder(20);
+            servicesManager.save(startsWith);
+
+            assertEquals(literal, servicesManager.findServiceBy(
+                RegisteredServiceTestUtils.getService("https://app.example.org/literal")));
+            assertEquals(startsWith, servicesManager.findServiceBy(
+                RegisteredServiceTestUtils.getService("https://app.example.org/starts/here")));
+            assertEquals(catchAll, servicesManager.findServiceBy(
+                RegisteredServiceTestUtils.getService("https://app.example.org/literal/other")));
+
+            servicesManager.delete(startsWith);
+            assertEquals(catchAll, servicesManager.findServiceBy(
+                RegisteredServiceTestUtils.getService("https://app.example.org/starts/here")));
+        }
+    }
+
     @Nested
     @SpringBootTest(classes = BaseAutoConfigurationTests.SharedTestConfiguration.class)
     class DefaultTests extends AbstractServicesManagerTests {
@@ -237,6 +295,31 @@ class DefaultServicesManagerTests {
         }
     }
 
+    @Nested
+    @SpringBootTest(classes = BaseAutoConfigurationTests.SharedTestConfiguration.class,
+        properties = "cas.service-registry.core.incremental-load=true")
+    class IncrementalLoadTests extends AbstractServicesManagerTests {
+        @Test
+        void verifyChangesAreLoaded() {
+            val registeredService = new CasRegisteredService();
+            registeredService.setId(RandomUtils.nextLong());
+            registeredService.setName(UUID.randomUUID().toString());
+            registeredService.setServiceId("https://incremental.example.org/" + registeredService.getId());
+            serviceRegistry.save(registeredService);
+            assertFalse(isServiceInCache(null, registeredService.getId()));
+
+            val changes = servicesManager.loadChanges();
+            assertTrue(changes.stream().anyMatch(service -> service.getId() == registeredService.getId()));
+            assertTrue(isServiceInCache(null, registeredService.getId()));
+            assertNotNull(servicesManager.findServiceBy(RegisteredServiceTestUtils.getService(registeredService.getServiceId())));
+
+            serviceRegistry.delete(registeredService);
+            assertTrue(servicesManager.loadChanges().stream().noneMatch(service -> service.getId() == registeredService.getId()));
+            assertFalse(isServiceInCache(null, registeredService.getId()));
+            assertNull(servicesManager.findServiceBy(RegisteredServiceTestUtils.getService(registeredService.getServiceId())));
+        }
+    }
+
     @Nested
     @SpringBootTest(classes = BaseAutoConfigurationTests.SharedTestConfiguration.class,
         properties = "cas.service-registry.cache.cache-size=0")
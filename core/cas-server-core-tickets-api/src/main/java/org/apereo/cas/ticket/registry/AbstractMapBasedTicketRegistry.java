@@ -41,6 +41,7 @@ public abstract class AbstractMapBasedTicketRegistry extends AbstractTicketRegis
         super(cipherExecutor, ticketSerializationManager, ticketCatalog, applicationContext);
         this.ticketPublisher = ticketPublisher;
         this.publisherIdentifier = publisherIdentifier;
+        this.ticketRegistryCounter = new DefaultTicketRegistryCounter();
     }
 
     @Override
@@ -63,6 +64,29 @@ public abstract class AbstractMapBasedTicketRegistry extends AbstractTicketRegis
         return result;
     }
 
+    @Override
+    public Ticket consumeTicket(final String ticketId) {
+        if (StringUtils.isBlank(ticketId)) {
+            return null;
+        }
+        val found = getMapInstance().remove(digestIdentifier(ticketId));
+        if (found == null) {
+            LOGGER.debug("Ticket [{}] could not be found or has already been consumed", ticketId);
+            return null;
+        }
+        ticketRegistryCounter.untrack(ticketId);
+        if (ticketPublisher.isEnabled()) {
+            LOGGER.trace("Publishing delete command for id [{}] and ticket [{}]", publisherIdentifier, ticketId);
+            ticketPublisher.publishMessageToQueue(new DeleteTicketMessageQueueCommand(publisherIdentifier, ticketId));
+        }
+        return decodeTicket(found);
+    }
+
+    @Override
+    public boolean isTicketConsumptionAtomic() {
+        return !ticketPublisher.isEnabled();
+    }
+
     @Override
     public long deleteAll() {
         val result = deleteAllFromQueue();
@@ -77,6 +101,19 @@ public abstract class AbstractMapBasedTicketRegistry extends AbstractTicketRegis
         return decodeTickets(getMapInstance().values());
     }
 
+    @Override
+    public Stream<? extends Ticket> stream(final TicketRegistryStreamCriteria criteria) {
+        if (criteria.getFrom() <= 0 && criteria.isInfiniteCount() && criteria.getAfter() == null) {
+            return super.stream(criteria);
+        }
+        return decodeTickets(criteria.apply(getMapInstance().values().stream(), Ticket::getId));
+    }
+
+    @Override
+    public boolean isBatchDeletionSupported() {
+        return true;
+    }
+
     @Override
     public Ticket updateTicket(final Ticket ticket) throws Exception {
         val result = updateTicketInQueue(ticket);
@@ -116,6 +153,7 @@ public abstract class AbstractMapBasedTicketRegistry extends AbstractTicketRegis
         val encTicket = encodeTicket(ticket);
         LOGGER.debug("Putting ticket [{}] in registry.", ticket.getId());
         getMapInstance().put(encTicket.getId(), encTicket);
+        ticketRegistryCounter.track(ticket);
     }
 
     @Override
@@ -128,6 +166,7 @@ public abstract class AbstractMapBasedTicketRegistry extends AbstractTicketRegis
     @Override
     public long deleteTicketFromQueue(final String ticketId) {
         val encTicketId = digestIdentifier(ticketId);
+        ticketRegistryCounter.untrack(ticketId);
         return !StringUtils.isBlank(encTicketId) && getMapInstance().remove(encTicketId) != null ? 1 : 0;
     }
 
@@ -135,6 +174,7 @@ public abstract class AbstractMapBasedTicketRegistry extends AbstractTicketRegis
     public long deleteAllFromQueue() {
         val size = getMapInstance().size();
         getMapInstance().clear();
+        ticketRegistryCounter.clear();
         return size;
     }
 
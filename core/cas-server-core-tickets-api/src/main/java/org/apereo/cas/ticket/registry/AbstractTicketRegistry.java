@@ -4,6 +4,7 @@ import module java.base;
 import org.apereo.cas.authentication.CoreAuthenticationUtils;
 import org.apereo.cas.authentication.principal.Service;
 import org.apereo.cas.support.events.logout.CasRequestSingleLogoutEvent;
+import org.apereo.cas.support.events.ticket.CasTicketDeletedEvent;
 import org.apereo.cas.support.events.ticket.CasTicketGrantingTicketDestroyedEvent;
 import org.apereo.cas.ticket.AuthenticationAwareTicket;
 import org.apereo.cas.ticket.EncodedTicket;
@@ -14,19 +15,21 @@ import org.apereo.cas.ticket.Ticket;
 import org.apereo.cas.ticket.TicketCatalog;
 import org.apereo.cas.ticket.TicketGrantingTicket;
 import org.apereo.cas.ticket.proxy.ProxyGrantingTicket;
+import org.apereo.cas.ticket.serialization.TicketCodec;
 import org.apereo.cas.ticket.serialization.TicketSerializationManager;
 import org.apereo.cas.util.CollectionUtils;
 import org.apereo.cas.util.DigestUtils;
+import org.apereo.cas.util.EncodingUtils;
 import org.apereo.cas.util.LoggingUtils;
 import org.apereo.cas.util.crypto.CipherExecutor;
 import org.apereo.cas.util.function.FunctionUtils;
 import org.apereo.cas.util.serialization.SerializationUtils;
 import com.google.common.io.ByteSource;
-import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
+import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.Strings;
 import org.apereo.inspektr.common.web.ClientInfoHolder;
@@ -42,7 +45,6 @@ import org.springframework.context.ApplicationContext;
  * @since 3.0.0
  */
 @Slf4j
-@AllArgsConstructor
 public abstract class AbstractTicketRegistry implements TicketRegistry {
 
     private static final String TICKET_ENCRYPTION_LOG_MESSAGE = "Ticket encryption is not enabled. Falling back to default behavior";
@@ -57,6 +59,24 @@ public abstract class AbstractTicketRegistry implements TicketRegistry {
 
     protected final ApplicationContext applicationContext;
 
+    @Setter
+    @Getter
+    protected TicketRegistryCounter ticketRegistryCounter = TicketRegistryCounter.noOp();
+
+    @Setter
+    @Getter
+    protected TicketCodec ticketCodec = TicketCodec.serialization();
+
+    protected AbstractTicketRegistry(final CipherExecutor cipherExecutor,
+                                     final TicketSerializationManager ticketSerializationManager,
+                                     final TicketCatalog ticketCatalog,
+                                     final ApplicationContext applicationContext) {
+        this.cipherExecutor = cipherExecutor;
+        this.ticketSerializationManager = ticketSerializationManager;
+        this.ticketCatalog = ticketCatalog;
+        this.applicationContext = applicationContext;
+    }
+
     protected String getPrincipalIdFrom(final Ticket ticket) {
         return ticket instanceof final AuthenticationAwareTicket authenticationAwareTicket
             ? Optional.ofNullable(authenticationAwareTicket.getAuthentication())
@@ -177,12 +197,19 @@ public abstract class AbstractTicketRegistry implements TicketRegistry {
             }
         }
         LOGGER.debug("Removing ticket [{}] from the registry.", ticket);
-        count.getAndAdd(deleteSingleTicket(ticket));
+        val deleted = deleteSingleTicket(ticket);
+        if (deleted > 0) {
+            applicationContext.publishEvent(new CasTicketDeletedEvent(this, ticket, ClientInfoHolder.getClientInfo()));
+        }
+        count.getAndAdd(deleted);
         return count.intValue();
     }
 
     @Override
     public long sessionCount() {
+        if (ticketRegistryCounter.isEnabled()) {
+            return ticketRegistryCounter.countSessions();
+        }
         try (val tgtStream = stream().filter(TicketGrantingTicket.class::isInstance)) {
             return tgtStream.count();
         } catch (final Exception t) {
@@ -194,6 +221,9 @@ public abstract class AbstractTicketRegistry implements TicketRegistry {
 
     @Override
     public long serviceTicketCount() {
+        if (ticketRegistryCounter.isEnabled()) {
+            return ticketRegistryCounter.countServiceTickets();
+        }
         try (val stStream = stream().filter(ServiceTicket.class::isInstance)) {
             return stStream.count();
         } catch (final Exception t) {
@@ -205,6 +235,9 @@ public abstract class AbstractTicketRegistry implements TicketRegistry {
 
     @Override
     public long countSessionsFor(final String principalId) {
+        if (ticketRegistryCounter.isEnabled()) {
+            return ticketRegistryCounter.countSessionsFor(principalId);
+        }
         val ticketPredicate = (Predicate<Ticket>) t -> {
             if (t instanceof final TicketGrantingTicket ticket) {
                 return ticket.getAuthentication().getPrincipal().getId().equalsIgnoreCase(principalId);
@@ -214,6 +247,14 @@ public abstract class AbstractTicketRegistry implements TicketRegistry {
         return getTickets(ticketPredicate).count();
     }
 
+    @Override
+    public long countTickets() {
+        if (ticketRegistryCounter.isEnabled()) {
+            return ticketRegistryCounter.countTickets();
+        }
+        return TicketRegistry.super.countTickets();
+    }
+
     @Override
     public String digestIdentifier(final String identifier) {
         if (StringUtils.isBlank(identifier)) {
@@ -280,13 +321,33 @@ public abstract class AbstractTicketRegistry implements TicketRegistry {
         return 0;
     }
 
+    @Override
+    public int deleteTickets(final Stream<? extends Ticket> tickets) {
+        val partitions = tickets.collect(Collectors.partitioningBy(TicketGrantingTicket.class::isInstance));
+        val count = partitions.get(Boolean.TRUE).stream().mapToInt(Unchecked.toIntFunction(this::deleteTicket)).sum();
+        val remaining = partitions.get(Boolean.FALSE);
+        return remaining.isEmpty() ? count : count + Math.toIntExact(deleteSingleTickets(remaining));
+    }
+
+    /**
+     * Remove the given tickets, none of which have children, from the registry.
+     * Registries that support batch deletions should override this operation to
+     * remove all tickets using a single native operation.
+     *
+     * @param tickets the tickets
+     * @return the number of tickets deleted
+     */
+    protected long deleteSingleTickets(final List<? extends Ticket> tickets) {
+        return tickets.stream().mapToLong(this::deleteSingleTicket).sum();
+    }
+
     protected abstract Ticket addSingleTicket(Ticket ticket) throws Exception;
 
     protected int deleteTickets(final Set<String> tickets) {
-        return deleteTickets(tickets.stream());
+        return deleteTicketsById(tickets.stream());
     }
 
-    protected int deleteTickets(final Stream<String> tickets) {
+    protected int deleteTicketsById(final Stream<String> tickets) {
         return tickets.mapToInt(Unchecked.toIntFunction(this::deleteTicket)).sum();
     }
 
@@ -298,7 +359,7 @@ public abstract class AbstractTicketRegistry implements TicketRegistry {
      */
     protected int deleteServiceTickets(final TicketGrantingTicket ticket) {
         val count = new AtomicLong(0);
-        val services = ticket.getServices();
+        val services = getTrackedServices(ticket);
         if (services != null && !services.isEmpty()) {
             services.keySet()
                 .stream()
@@ -358,7 +419,8 @@ public abstract class AbstractTicketRegistry implements TicketRegistry {
     }
 
     protected Ticket decodeAndDeserialize(final byte[] encodedTicket) {
-        return SerializationUtils.decodeAndDeserializeObject(encodedTicket, this.cipherExecutor, Ticket.class);
+        val decoded = (byte[]) cipherExecutor.decode(encodedTicket, ArrayUtils.EMPTY_OBJECT_ARRAY);
+        return ticketCodec.decode(decoded);
     }
 
     protected Collection<Ticket> decodeTickets(final Collection<Ticket> items) {
@@ -373,6 +435,39 @@ public abstract class AbstractTicketRegistry implements TicketRegistry {
         return items.map(this::decodeTicket);
     }
 
+    /**
+     * Serialize a service tracked by a ticket-granting ticket so it can be kept outside the ticket,
+     * encrypted with the registry cipher when ticket encryption is enabled.
+     *
+     * @param serviceTicketId the service ticket id
+     * @param service         the service
+     * @return the serialized tracked service
+     */
+    protected String serializeTrackedService(final String serviceTicketId, final Service service) {
+        val trackedEntry = new LinkedHashMap<String, Service>();
+        trackedEntry.put(serviceTicketId, service);
+        val serialized = SerializationUtils.serialize(trackedEntry);
+        return EncodingUtils.encodeBase64(isCipherExecutorEnabled()
+            ? (byte[]) cipherExecutor.encode(serialized, ArrayUtils.EMPTY_OBJECT_ARRAY)
+            : serialized);
+    }
+
+    /**
+     * Deserialize a tracked service produced by {@link #serializeTrackedService(String, Service)}.
+     *
+     * @param value the serialized tracked service
+     * @return the tracked service keyed by service ticket id, or null if it cannot be read
+     */
+    protected @Nullable Map<String, Service> deserializeTrackedService(final String value) {
+        return FunctionUtils.doAndHandle(() -> {
+            val decoded = EncodingUtils.decodeBase64(value);
+            val serialized = isCipherExecutorEnabled()
+                ? (byte[]) cipherExecutor.decode(decoded, ArrayUtils.EMPTY_OBJECT_ARRAY)
+                : decoded;
+            return (Map<String, Service>) SerializationUtils.deserialize(serialized, Map.class);
+        });
+    }
+
     protected boolean isCipherExecutorEnabled() {
         return this.cipherExecutor != null && this.cipherExecutor.isEnabled();
     }
@@ -388,7 +483,7 @@ public abstract class AbstractTicketRegistry implements TicketRegistry {
     }
 
     protected byte[] serializeAndEncodeTicket(final Ticket ticket) {
-        return SerializationUtils.serializeAndEncodeObject(cipherExecutor, ticket);
+        return (byte[]) cipherExecutor.encode(ticketCodec.encode(ticket), ArrayUtils.EMPTY_OBJECT_ARRAY);
     }
 
     protected Ticket toEncodedTicket(final Ticket ticket, final byte[] encodedTicketObject) throws Exception {
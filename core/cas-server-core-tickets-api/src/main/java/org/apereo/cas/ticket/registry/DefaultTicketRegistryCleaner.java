@@ -1,22 +1,38 @@
 package org.apereo.cas.ticket.registry;
 
 import module java.base;
+import org.apereo.cas.configuration.model.core.ticket.registry.TicketRegistryCleanerProperties;
+import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.support.events.logout.CasRequestSingleLogoutEvent;
 import org.apereo.cas.support.events.ticket.CasTicketGrantingTicketDestroyedEvent;
 import org.apereo.cas.ticket.Ticket;
 import org.apereo.cas.ticket.TicketGrantingTicket;
 import org.apereo.cas.util.LoggingUtils;
+import org.apereo.cas.util.function.FunctionUtils;
 import org.apereo.cas.util.lock.LockRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
+import org.apache.commons.lang3.StringUtils;
 import org.apereo.inspektr.common.web.ClientInfoHolder;
-import org.jooq.lambda.Unchecked;
+import org.jspecify.annotations.Nullable;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.transaction.annotation.Transactional;
 
 /**
  * This is {@link DefaultTicketRegistryCleaner}.
+ * Expired ticket-granting tickets are cleaned individually so that logout
+ * notifications and events can be issued for each, while all other expired tickets
+ * are grouped into batches and removed together if the registry is able to do so natively,
+ * or removed one at a time otherwise. Cleanup tasks run in parallel, bounded by the configured
+ * concurrency level. When a time budget is defined, the cleaner walks through the registry
+ * in the order of ticket identifiers and resumes after the last examined ticket on the next run.
+ * Outcomes of the most recent run are published as gauges, and the duration of each run is recorded as a timer.
  *
  * @author Misagh Moayyed
  * @since 5.0.0
@@ -24,15 +40,37 @@ import org.springframework.transaction.annotation.Transactional;
 @Slf4j
 @RequiredArgsConstructor
 @Transactional(transactionManager = TicketRegistry.TICKET_TRANSACTION_MANAGER)
-public class DefaultTicketRegistryCleaner implements TicketRegistryCleaner {
+public class DefaultTicketRegistryCleaner implements TicketRegistryCleaner, MeterBinder {
     private final LockRepository lockRepository;
 
     private final ConfigurableApplicationContext applicationContext;
 
     private final TicketRegistry ticketRegistry;
 
+    private final TicketRegistryCleanerProperties properties;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    private final AtomicReference<String> cursor = new AtomicReference<>(StringUtils.EMPTY);
+
+    @Getter
+    private volatile TicketRegistryCleanerStatistics statistics = TicketRegistryCleanerStatistics.empty();
+
+    @Nullable
+    private volatile Timer runTimer;
+
+    public DefaultTicketRegistryCleaner(final LockRepository lockRepository,
+                                        final ConfigurableApplicationContext applicationContext,
+                                        final TicketRegistry ticketRegistry) {
+        this(lockRepository, applicationContext, ticketRegistry, new TicketRegistryCleanerProperties());
+    }
+
     @Override
     public int clean() {
+        if (!running.compareAndSet(false, true)) {
+            LOGGER.debug("Ticket registry cleaner is still running from a previous run; skipping this run");
+            return 0;
+        }
         try {
             if (!isCleanerSupported()) {
                 LOGGER.trace("Ticket registry cleaner is not supported by [{}]", getClass().getSimpleName());
@@ -41,10 +79,32 @@ public class DefaultTicketRegistryCleaner implements TicketRegistryCleaner {
             return cleanInternal();
         } catch (final Throwable e) {
             LoggingUtils.error(LOGGER, e);
+        } finally {
+            running.set(false);
         }
         return 0;
     }
 
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        bindGauge(registry, "cas.ticket.registry.cleaner.scanned", "Number of tickets examined by the most recent run",
+            TicketRegistryCleanerStatistics::scanned);
+        bindGauge(registry, "cas.ticket.registry.cleaner.expired", "Number of expired tickets found by the most recent run",
+            TicketRegistryCleanerStatistics::expired);
+        bindGauge(registry, "cas.ticket.registry.cleaner.deleted", "Number of tickets removed by the most recent run",
+            TicketRegistryCleanerStatistics::deleted);
+        bindGauge(registry, "cas.ticket.registry.cleaner.backlog", "Number of expired tickets the most recent run could not remove",
+            TicketRegistryCleanerStatistics::backlog);
+        bindGauge(registry, "cas.ticket.registry.cleaner.completed", "Whether the most recent run examined the remainder of the registry",
+            stats -> stats.completed() ? 1 : 0);
+        bindGauge(registry, "cas.ticket.registry.cleaner.cursor", "Whether the next run resumes after the last ticket examined by the most recent run",
+            stats -> StringUtils.isNotBlank(stats.cursor()) ? 1 : 0);
+        runTimer = Timer.builder("cas.ticket.registry.cleaner.run")
+            .description("Duration of ticket registry cleanup runs")
+            .publishPercentileHistogram()
+            .register(registry);
+    }
+
     @Override
     public int cleanTicket(final Ticket ticket) {
         return lockRepository.execute(ticket.getId(), () -> {
@@ -68,18 +128,194 @@ public class DefaultTicketRegistryCleaner implements TicketRegistryCleaner {
     }
 
     protected int cleanInternal() {
-        try (val executor = Executors.newVirtualThreadPerTaskExecutor()) {
-            val ticketsDeleted = ticketRegistry.stream()
-                .unordered()
-                .filter(Objects::nonNull)
-                .filter(Ticket::isExpired)
-                .map(ticket -> executor.submit(() -> cleanTicket(ticket)))
-                .mapToInt(Unchecked.toIntFunction(Future::get))
-                .sum();
-            if (ticketsDeleted > 0) {
-                LOGGER.info("[{}] expired tickets removed.", ticketsDeleted);
+        val startTime = Instant.now();
+        val started = System.nanoTime();
+        val timeBudget = getTimeBudget();
+        val run = new CleanupRun(Math.max(1, properties.getConcurrency()), Math.max(1, properties.getBatchSize()));
+        var completed = true;
+        try (run) {
+            if (timeBudget.isPositive()) {
+                completed = cleanIncrementally(run, started + timeBudget.toNanos());
+            } else {
+                try (val tickets = streamTickets()) {
+                    tickets.unordered().filter(Objects::nonNull).forEach(run::examine);
+                }
+            }
+        }
+        statistics = run.toStatistics(startTime, Duration.ofNanos(System.nanoTime() - started), completed, cursor.get());
+        FunctionUtils.doIfNotNull(runTimer, timer -> timer.record(statistics.duration()));
+        if (statistics.deleted() > 0 || statistics.backlog() > 0) {
+            LOGGER.info("[{}] expired tickets removed in [{}] at [{}] tickets/sec; [{}] tickets scanned, [{}] expired tickets remain.",
+                statistics.deleted(), statistics.duration(), Math.round(statistics.throughput()),
+                statistics.scanned(), statistics.backlog());
+        }
+        return (int) statistics.deleted();
+    }
+
+    /**
+     * Stream the tickets that should be examined by the cleaner,
+     * when the entire registry is scanned in one run.
+     *
+     * @return the tickets
+     */
+    protected Stream<? extends Ticket> streamTickets() {
+        return ticketRegistry.stream();
+    }
+
+    /**
+     * Maximum amount of time a single cleanup run is allowed to take.
+     * A zero duration scans the entire registry in one run.
+     *
+     * @return the time budget
+     */
+    protected Duration getTimeBudget() {
+        return Beans.newDuration(properties.getTimeBudget());
+    }
+
+    /**
+     * Walk through the registry in the order of stored ticket identifiers, starting after the
+     * identifier of the last ticket examined by the previous run, until either the end of the registry
+     * is reached or the deadline has passed. The position is a ticket identifier rather than an offset,
+     * so tickets that are added or removed in the meantime do not cause others to be skipped or examined twice.
+     * Tickets that could not be removed are left behind and examined again on the next pass.
+     *
+     * @param run      the cleanup run
+     * @param deadline the deadline, in nanoseconds
+     * @return true if the end of the registry was reached.
+     */
+    private boolean cleanIncrementally(final CleanupRun run, final long deadline) {
+        var position = cursor.get();
+        val criteria = TicketRegistryStreamCriteria.builder().after(position).build();
+        try (val tickets = ticketRegistry.stream(criteria)) {
+            val iterator = tickets.filter(Objects::nonNull).iterator();
+            while (iterator.hasNext()) {
+                val ticket = iterator.next();
+                run.examine(ticket);
+                position = ticketRegistry.digestIdentifier(ticket.getId());
+                if (System.nanoTime() >= deadline) {
+                    run.await();
+                    cursor.set(position);
+                    return false;
+                }
+            }
+        }
+        run.await();
+        cursor.set(StringUtils.EMPTY);
+        return true;
+    }
+
+    private void bindGauge(final MeterRegistry registry, final String name, final String description,
+                           final ToDoubleFunction<TicketRegistryCleanerStatistics> value) {
+        Gauge.builder(name, this, cleaner -> value.applyAsDouble(cleaner.getStatistics()))
+            .description(description)
+            .register(registry);
+    }
+
+    private final class CleanupRun implements AutoCloseable {
+        private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+        private final LongAdder scanned = new LongAdder();
+
+        private final LongAdder expired = new LongAdder();
+
+        private final LongAdder deleted = new LongAdder();
+
+        private final LongAdder backlog = new LongAdder();
+
+        private final Lock lock = new ReentrantLock();
+
+        private final Semaphore permits;
+
+        private final int concurrency;
+
+        private final int batchSize;
+
+        private List<Ticket> batch = new ArrayList<>();
+
+        CleanupRun(final int concurrency, final int batchSize) {
+            this.concurrency = concurrency;
+            this.batchSize = batchSize;
+            this.permits = new Semaphore(concurrency);
+        }
+
+        boolean examine(final Ticket ticket) {
+            scanned.increment();
+            if (!ticket.isExpired()) {
+                return false;
+            }
+            expired.increment();
+            if (ticket instanceof TicketGrantingTicket) {
+                submit(List.of(ticket), () -> {
+                    val count = cleanTicket(ticket);
+                    if (count == 0) {
+                        backlog.increment();
+                    }
+                    return count;
+                });
+            } else if (ticketRegistry.isBatchDeletionSupported()) {
+                submitBatch(collect(ticket));
+            } else {
+                submit(List.of(ticket), () -> ticketRegistry.deleteTicket(ticket));
             }
-            return ticketsDeleted;
+            return true;
+        }
+
+        void await() {
+            submitBatch(collect(null));
+            permits.acquireUninterruptibly(concurrency);
+            permits.release(concurrency);
+        }
+
+        @Override
+        public void close() {
+            await();
+            executor.close();
+        }
+
+        TicketRegistryCleanerStatistics toStatistics(final Instant startTime, final Duration duration,
+                                                     final boolean completed, final String position) {
+            return new TicketRegistryCleanerStatistics(startTime, duration, scanned.sum(),
+                expired.sum(), deleted.sum(), backlog.sum(), completed, position);
+        }
+
+        private List<Ticket> collect(final @Nullable Ticket ticket) {
+            lock.lock();
+            try {
+                if (ticket != null) {
+                    batch.add(ticket);
+                    if (batch.size() < batchSize) {
+                        return List.of();
+                    }
+                }
+                val tickets = batch;
+                batch = new ArrayList<>();
+                return tickets;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void submitBatch(final List<Ticket> tickets) {
+            if (!tickets.isEmpty()) {
+                submit(tickets, () -> {
+                    LOGGER.debug("Removing a batch of [{}] expired tickets", tickets.size());
+                    return ticketRegistry.deleteTickets(tickets.stream());
+                });
+            }
+        }
+
+        private void submit(final List<Ticket> tickets, final Callable<Integer> task) {
+            permits.acquireUninterruptibly();
+            executor.execute(() -> {
+                try {
+                    deleted.add(task.call());
+                } catch (final Throwable e) {
+                    backlog.add(tickets.size());
+                    LoggingUtils.error(LOGGER, e);
+                } finally {
+                    permits.release();
+                }
+            });
         }
     }
 
@@ -0,0 +1,117 @@
+package org.apereo.cas.ticket.registry;
+
+import module java.base;
+import org.apereo.cas.ticket.ServiceTicket;
+import org.apereo.cas.ticket.Ticket;
+import org.apereo.cas.ticket.TicketGrantingTicket;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * This is {@link DefaultTicketRegistryCounter} that tracks tickets in memory.
+ * Each tracked ticket is remembered by its identifier so that repeated updates
+ * and removals of the same ticket keep the counts accurate.
+ *
+ * @author Misagh Moayyed
+ * @since 8.1.0
+ */
+public class DefaultTicketRegistryCounter implements TicketRegistryCounter {
+
+    private final Map<String, TrackedTicket> trackedTickets = new ConcurrentHashMap<>();
+
+    private final Map<String, Set<String>> sessionsByPrincipal = new ConcurrentHashMap<>();
+
+    private final LongAdder sessionCount = new LongAdder();
+
+    private final LongAdder serviceTicketCount = new LongAdder();
+
+    @Override
+    public void track(final Ticket ticket) {
+        val trackedTicket = new TrackedTicket(ticket instanceof TicketGrantingTicket,
+            ticket instanceof ServiceTicket, getPrincipalKey(ticket));
+        trackedTickets.compute(ticket.getId(), (ticketId, previous) -> {
+            if (previous != null) {
+                release(ticketId, previous);
+            }
+            acquire(ticketId, trackedTicket);
+            return trackedTicket;
+        });
+    }
+
+    @Override
+    public void untrack(final String ticketId) {
+        trackedTickets.computeIfPresent(ticketId, (id, previous) -> {
+            release(id, previous);
+            return null;
+        });
+    }
+
+    @Override
+    public void clear() {
+        trackedTickets.clear();
+        sessionsByPrincipal.clear();
+        sessionCount.reset();
+        serviceTicketCount.reset();
+    }
+
+    @Override
+    public long countSessions() {
+        return sessionCount.sum();
+    }
+
+    @Override
+    public long countServiceTickets() {
+        return serviceTicketCount.sum();
+    }
+
+    @Override
+    public long countSessionsFor(final String principalId) {
+        return Optional.ofNullable(sessionsByPrincipal.get(StringUtils.lowerCase(principalId, Locale.ROOT)))
+            .map(Set::size)
+            .orElse(0);
+    }
+
+    @Override
+    public long countTickets() {
+        return trackedTickets.size();
+    }
+
+    private void acquire(final String ticketId, final TrackedTicket trackedTicket) {
+        if (trackedTicket.session()) {
+            sessionCount.increment();
+            if (trackedTicket.principal() != null) {
+                sessionsByPrincipal.computeIfAbsent(trackedTicket.principal(), _ -> ConcurrentHashMap.newKeySet()).add(ticketId);
+            }
+        }
+        if (trackedTicket.serviceTicket()) {
+            serviceTicketCount.increment();
+        }
+    }
+
+    private void release(final String ticketId, final TrackedTicket trackedTicket) {
+        if (trackedTicket.session()) {
+            sessionCount.decrement();
+            if (trackedTicket.principal() != null) {
+                sessionsByPrincipal.computeIfPresent(trackedTicket.principal(), (_, tickets) -> {
+                    tickets.remove(ticketId);
+                    return tickets.isEmpty() ? null : tickets;
+                });
+            }
+        }
+        if (trackedTicket.serviceTicket()) {
+            serviceTicketCount.decrement();
+        }
+    }
+
+    private static @Nullable String getPrincipalKey(final Ticket ticket) {
+        if (ticket instanceof final TicketGrantingTicket tgt
+            && tgt.getAuthentication() != null && tgt.getAuthentication().getPrincipal() != null) {
+            return StringUtils.lowerCase(tgt.getAuthentication().getPrincipal().getId(), Locale.ROOT);
+        }
+        return null;
+    }
+
+    private record TrackedTicket(boolean session, boolean serviceTicket, @Nullable String principal) {
+    }
+}
@@ -0,0 +1,43 @@
+package org.apereo.cas.ticket.registry;
+
+import module java.base;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * This is {@link TicketRegistryCleanerStatistics} that describes
+ * the outcome of the most recent ticket registry cleanup run.
+ *
+ * @param startTime  the instant the run started
+ * @param duration   the time it took to complete the run
+ * @param scanned    number of tickets examined
+ * @param expired    number of expired tickets found
+ * @param deleted    number of tickets removed from the registry, including children
+ * @param backlog    number of expired tickets found that could not be removed
+ * @param completed  whether the run examined the remainder of the registry, or stopped early due to its time budget
+ * @param cursor     identifier of the ticket after which the next incremental run will resume, or blank to start over
+ * @author Misagh Moayyed
+ * @since 8.1.0
+ */
+public record TicketRegistryCleanerStatistics(Instant startTime, Duration duration, long scanned,
+                                              long expired, long deleted, long backlog,
+                                              boolean completed, String cursor) {
+    /**
+     * Statistics for a cleaner that has not run yet.
+     *
+     * @return the statistics
+     */
+    public static TicketRegistryCleanerStatistics empty() {
+        return new TicketRegistryCleanerStatistics(Instant.EPOCH, Duration.ZERO, 0, 0, 0, 0, true, StringUtils.EMPTY);
+    }
+
+    /**
+     * Number of tickets removed per second.
+     *
+     * @return the throughput
+     */
+    public double throughput() {
+        val millis = duration.toMillis();
+        return millis <= 0 ? deleted : deleted * 1000.0D / millis;
+    }
+}
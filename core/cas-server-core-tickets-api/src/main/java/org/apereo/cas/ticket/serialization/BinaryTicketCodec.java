@@ -0,0 +1,89 @@
+package org.apereo.cas.ticket.serialization;
+
+import module java.base;
+import org.apereo.cas.ticket.ProxyGrantingTicketImpl;
+import org.apereo.cas.ticket.ServiceTicketImpl;
+import org.apereo.cas.ticket.Ticket;
+import org.apereo.cas.ticket.TicketGrantingTicketImpl;
+import org.apereo.cas.ticket.TransientSessionTicketImpl;
+import org.apereo.cas.util.serialization.LZ4CompressionHandler;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+
+/**
+ * This is {@link BinaryTicketCodec} that writes tickets into a compact, versioned binary envelope.
+ * The envelope starts with a marker byte, followed by the version of the format, a set of flags
+ * and a tag that identifies the ticket type, and ends with the ticket content produced by
+ * the {@link TicketSerializationManager}, optionally compressed using LZ4.
+ * Ticket types that have no tag are handled using Java serialization, and so is any content
+ * that was not produced by this codec, such as tickets that were written before the codec was switched.
+ *
+ * @author Misagh Moayyed
+ * @since 8.1.0
+ */
+@RequiredArgsConstructor
+public class BinaryTicketCodec implements TicketCodec {
+    /**
+     * Marker byte that identifies content produced by this codec.
+     */
+    static final byte MARKER = (byte) 0xCB;
+
+    /**
+     * Current version of the binary format.
+     */
+    static final byte VERSION = 1;
+
+    private static final byte FLAG_COMPRESSED = 1;
+
+    private static final int HEADER_LENGTH = 4;
+
+    private static final List<Class<? extends Ticket>> TICKET_TYPES = List.of(
+        TicketGrantingTicketImpl.class,
+        ServiceTicketImpl.class,
+        ProxyGrantingTicketImpl.class,
+        TransientSessionTicketImpl.class);
+
+    private final TicketCodec fallbackCodec = TicketCodec.serialization();
+
+    private final LZ4CompressionHandler compressionHandler = new LZ4CompressionHandler();
+
+    private final TicketSerializationManager ticketSerializationManager;
+
+    private final boolean compressed;
+
+    @Override
+    public byte[] encode(final Ticket ticket) {
+        val tag = TICKET_TYPES.indexOf(ticket.getClass());
+        if (tag < 0) {
+            return fallbackCodec.encode(ticket);
+        }
+        val content = ticketSerializationManager.serializeTicket(ticket).getBytes(StandardCharsets.UTF_8);
+        val payload = compressed ? Objects.requireNonNull(compressionHandler.compress(content)) : content;
+        val result = new byte[HEADER_LENGTH + payload.length];
+        result[0] = MARKER;
+        result[1] = VERSION;
+        result[2] = compressed ? FLAG_COMPRESSED : 0;
+        result[3] = (byte) (tag + 1);
+        System.arraycopy(payload, 0, result, HEADER_LENGTH, payload.length);
+        return result;
+    }
+
+    @Override
+    public Ticket decode(final byte[] content) {
+        if (content.length < HEADER_LENGTH || content[0] != MARKER) {
+            return fallbackCodec.decode(content);
+        }
+        if (content[1] != VERSION) {
+            throw new IllegalArgumentException("Unsupported ticket codec version " + content[1]);
+        }
+        val tag = content[3] - 1;
+        if (tag < 0 || tag >= TICKET_TYPES.size()) {
+            throw new IllegalArgumentException("Unknown ticket type tag " + content[3]);
+        }
+        var payload = Arrays.copyOfRange(content, HEADER_LENGTH, content.length);
+        if ((content[2] & FLAG_COMPRESSED) != 0) {
+            payload = Objects.requireNonNull(compressionHandler.decompress(payload));
+        }
+        return ticketSerializationManager.deserializeTicket(new String(payload, StandardCharsets.UTF_8), TICKET_TYPES.get(tag));
+    }
+}
@@ -0,0 +1,23 @@
+package org.apereo.cas.ticket.serialization;
+
+import module java.base;
+import org.apereo.cas.ticket.Ticket;
+import org.apereo.cas.util.serialization.SerializationUtils;
+
+/**
+ * This is {@link SerializationTicketCodec} that relies on Java serialization.
+ *
+ * @author Misagh Moayyed
+ * @since 8.1.0
+ */
+public class SerializationTicketCodec implements TicketCodec {
+    @Override
+    public byte[] encode(final Ticket ticket) {
+        return SerializationUtils.serialize(ticket);
+    }
+
+    @Override
+    public Ticket decode(final byte[] content) {
+        return SerializationUtils.deserializeAndCheckObject(content, Ticket.class);
+    }
+}
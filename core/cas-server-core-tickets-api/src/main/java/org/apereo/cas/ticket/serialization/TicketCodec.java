@@ -0,0 +1,43 @@
+package org.apereo.cas.ticket.serialization;
+
+import module java.base;
+import org.apereo.cas.ticket.Ticket;
+
+/**
+ * This is {@link TicketCodec} that turns tickets into bytes and back,
+ * typically before tickets are encrypted and handed over to a ticket registry.
+ *
+ * @author Misagh Moayyed
+ * @since 8.1.0
+ */
+public interface TicketCodec {
+    /**
+     * Default bean name.
+     */
+    String BEAN_NAME = "ticketCodec";
+
+    /**
+     * Codec that relies on Java serialization.
+     *
+     * @return the ticket codec
+     */
+    static TicketCodec serialization() {
+        return new SerializationTicketCodec();
+    }
+
+    /**
+     * Encode the ticket.
+     *
+     * @param ticket the ticket
+     * @return the bytes
+     */
+    byte[] encode(Ticket ticket);
+
+    /**
+     * Decode the ticket.
+     *
+     * @param content the content
+     * @return the ticket
+     */
+    Ticket decode(byte[] content);
+}
@@ -30,7 +30,7 @@ public class AllServicesSessionTrackingPolicy implements TicketTrackingPolicy {
             ticketGrantingTicket.update();
             serviceTicket.getService().setPrincipal(ticketGrantingTicket.getRoot().getAuthentication().getPrincipal().getId());
             beforeTrackingServiceTicket(ownerTicket, serviceTicket);
-            ticketGrantingTicket.getServices().put(serviceTicket.getId(), serviceTicket.getService());
+            ticketRegistry.trackService(ticketGrantingTicket, serviceTicket.getId(), serviceTicket.getService());
         });
         return trackedEntry;
     }
@@ -6,6 +6,7 @@ import org.apereo.cas.ticket.ServiceTicket;
 import org.apereo.cas.ticket.Ticket;
 import org.apereo.cas.ticket.TicketGrantingTicket;
 import org.apereo.cas.ticket.registry.TicketRegistry;
+import org.apereo.cas.util.function.FunctionUtils;
 import lombok.val;
 import org.apache.commons.lang3.StringUtils;
 import org.jooq.lambda.Unchecked;
@@ -27,18 +28,20 @@ public class MostRecentServiceSessionTrackingPolicy extends AllServicesSessionTr
                                                final ServiceTicket serviceTicket) {
         val ticketGrantingTicket = (TicketGrantingTicket) ownerTicket;
         val path = normalizePath(serviceTicket.getService());
-        val toRemove = ticketGrantingTicket.getServices()
+        val toRemove = ticketRegistry.getTrackedServices(ticketGrantingTicket)
             .entrySet()
             .stream()
             .filter(entry -> {
                 val normalizedExistingPath = normalizePath(entry.getValue());
                 return path.equals(normalizedExistingPath);
-            }).toList();
+            })
+            .map(Map.Entry::getKey)
+            .toList();
 
-        toRemove.forEach(Unchecked.consumer(entry -> {
-            ticketGrantingTicket.getServices().remove(entry.getKey());
-            ticketRegistry.deleteTicket(entry.getKey());
-        }));
+        if (!toRemove.isEmpty()) {
+            FunctionUtils.doUnchecked(_ -> ticketRegistry.untrackServices(ticketGrantingTicket, toRemove));
+            toRemove.forEach(Unchecked.consumer(serviceTicketId -> ticketRegistry.deleteTicket(serviceTicketId)));
+        }
     }
 
     /**
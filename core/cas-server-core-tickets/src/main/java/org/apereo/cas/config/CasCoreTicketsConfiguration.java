@@ -40,6 +40,7 @@ import org.apereo.cas.ticket.registry.pubsub.DefaultQueueableTicketRegistryMessa
 import org.apereo.cas.ticket.registry.pubsub.QueueableTicketRegistry;
 import org.apereo.cas.ticket.registry.pubsub.queue.QueueableTicketRegistryMessagePublisher;
 import org.apereo.cas.ticket.registry.pubsub.queue.QueueableTicketRegistryMessageReceiver;
+import org.apereo.cas.ticket.serialization.TicketCodec;
 import org.apereo.cas.ticket.serialization.TicketSerializationManager;
 import org.apereo.cas.ticket.tracking.AllProxyGrantingTicketsTrackingPolicy;
 import org.apereo.cas.ticket.tracking.AllServicesSessionTrackingPolicy;
@@ -198,13 +199,17 @@ class CasCoreTicketsConfiguration {
             final ConfigurableApplicationContext applicationContext,
             @Qualifier(TicketSerializationManager.BEAN_NAME)
             final TicketSerializationManager ticketSerializationManager,
+            @Qualifier(TicketCodec.BEAN_NAME)
+            final TicketCodec ticketCodec,
             final CasConfigurationProperties casProperties) {
             LOGGER.info("Runtime memory is used as the persistence storage for retrieving and managing tickets. "
                         + "Tickets that are issued during runtime will be LOST when the web server is restarted. This MAY impact SSO functionality.");
             val mem = casProperties.getTicket().getRegistry().getInMemory();
             val storageMap = new ConcurrentHashMap<String, Ticket>(mem.getInitialCapacity(), mem.getLoadFactor(), mem.getConcurrency());
-            return new DefaultTicketRegistry(defaultTicketRegistryCipherExecutor, ticketSerializationManager, ticketCatalog,
+            val registry = new DefaultTicketRegistry(defaultTicketRegistryCipherExecutor, ticketSerializationManager, ticketCatalog,
                     applicationContext, storageMap, messageQueueTicketRegistryPublisher, messageQueueTicketRegistryIdentifier);
+            registry.setTicketCodec(ticketCodec);
+            return registry;
         }
 
         @Bean
@@ -12,8 +12,11 @@ import org.apereo.cas.util.spring.beans.BeanCondition;
 import org.apereo.cas.util.spring.beans.BeanSupplier;
 import org.apereo.cas.util.spring.boot.ConditionalOnFeatureEnabled;
 import org.apereo.cas.util.spring.boot.ConditionalOnMatchingHostname;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
@@ -52,8 +55,12 @@ class CasCoreTicketsSchedulingConfiguration {
         final CasConfigurationProperties casProperties,
         @Qualifier(LockRepository.BEAN_NAME) final LockRepository lockRepository,
         final ConfigurableApplicationContext applicationContext,
+        final ObjectProvider<MeterRegistry> meterRegistry,
         @Qualifier(TicketRegistry.BEAN_NAME) final TicketRegistry ticketRegistry) {
-        return new DefaultTicketRegistryCleaner(lockRepository, applicationContext, ticketRegistry);
+        val cleaner = new DefaultTicketRegistryCleaner(lockRepository, applicationContext,
+            ticketRegistry, casProperties.getTicket().getRegistry().getCleaner());
+        meterRegistry.ifAvailable(cleaner::bindTo);
+        return cleaner;
     }
 
     @ConditionalOnMissingBean(name = "ticketRegistryCleanerScheduler")
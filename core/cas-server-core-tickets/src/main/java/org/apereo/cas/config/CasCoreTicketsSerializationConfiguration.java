@@ -3,8 +3,10 @@ package org.apereo.cas.config;
 import module java.base;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.configuration.features.CasFeatureModule;
+import org.apereo.cas.ticket.serialization.BinaryTicketCodec;
 import org.apereo.cas.ticket.serialization.DefaultTicketSerializationExecutionPlan;
 import org.apereo.cas.ticket.serialization.DefaultTicketStringSerializationManager;
+import org.apereo.cas.ticket.serialization.TicketCodec;
 import org.apereo.cas.ticket.serialization.TicketSerializationExecutionPlan;
 import org.apereo.cas.ticket.serialization.TicketSerializationExecutionPlanConfigurer;
 import org.apereo.cas.ticket.serialization.TicketSerializationManager;
@@ -60,6 +62,19 @@ class CasCoreTicketsSerializationConfiguration {
             @Qualifier("ticketSerializationExecutionPlan") final TicketSerializationExecutionPlan ticketSerializationExecutionPlan) {
             return new DefaultTicketStringSerializationManager(ticketSerializationExecutionPlan);
         }
+
+        @Bean
+        @ConditionalOnMissingBean(name = TicketCodec.BEAN_NAME)
+        @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
+        public TicketCodec ticketCodec(
+            final CasConfigurationProperties casProperties,
+            @Qualifier(TicketSerializationManager.BEAN_NAME) final TicketSerializationManager ticketSerializationManager) {
+            return switch (casProperties.getTicket().getRegistry().getCore().getCodec()) {
+                case BINARY -> new BinaryTicketCodec(ticketSerializationManager, false);
+                case BINARY_COMPRESSED -> new BinaryTicketCodec(ticketSerializationManager, true);
+                case SERIALIZATION -> TicketCodec.serialization();
+            };
+        }
     }
 
 }
@@ -441,7 +441,7 @@ public abstract class BaseTicketRegistryTests {
             ? ticketRegistry.getTicket(updatedTgt.getId(), TicketGrantingTicket.class)
             : ticketRegistry.getTicket(tgt.getId(), TicketGrantingTicket.class);
         assertInstanceOf(TicketGrantingTicket.class, tgtResult);
-        services = tgtResult.getServices();
+        services = ticketRegistry.getTrackedServices(tgtResult);
         assertEquals(Set.of(serviceTicketId), services.keySet());
     }
 
@@ -495,6 +495,26 @@ public abstract class BaseTicketRegistryTests {
         assertNull(ticketRegistry.getTicket(addedTicket.getId()), () -> TICKET_SHOULD_BE_NULL_USE_ENCRYPTION + useEncryption + ']');
     }
 
+    @RepeatedTest(2)
+    void verifyConsumeServiceTicket() throws Throwable {
+        assumeTrue(canTicketRegistryDelete());
+        val ticketGrantingTicket = new TicketGrantingTicketImpl(
+            TestTicketIdentifiers.generate().ticketGrantingTicketId(),
+            CoreAuthenticationTestUtils.getAuthentication(), NeverExpiresExpirationPolicy.INSTANCE);
+        ticketRegistry.addTicket(ticketGrantingTicket);
+        val serviceTicket = ticketGrantingTicket.grantServiceTicket(
+            TestTicketIdentifiers.generate().serviceTicketId(),
+            RegisteredServiceTestUtils.getService(), NeverExpiresExpirationPolicy.INSTANCE,
+            false, serviceTicketSessionTrackingPolicy);
+        ticketRegistry.updateTicket(ticketGrantingTicket);
+        ticketRegistry.addTicket(serviceTicket);
+        val consumed = ticketRegistry.consumeTicket(serviceTicket.getId());
+        assertNotNull(consumed);
+        assertEquals(serviceTicket.getId(), consumed.getId());
+        assertNull(ticketRegistry.consumeTicket(serviceTicket.getId()));
+        assertNull(ticketRegistry.getTicket(serviceTicket.getId()), () -> TICKET_SHOULD_BE_NULL_USE_ENCRYPTION + useEncryption + ']');
+    }
+
     @RepeatedTest(2)
     void verifyTransientSessionTickets() throws Throwable {
         assumeTrue(canTicketRegistryDelete());
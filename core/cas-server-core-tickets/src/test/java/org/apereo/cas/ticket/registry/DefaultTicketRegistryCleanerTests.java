@@ -1,14 +1,19 @@
 package org.apereo.cas.ticket.registry;
 
 import module java.base;
+import org.apereo.cas.configuration.model.core.ticket.registry.TicketRegistryCleanerProperties;
+import org.apereo.cas.mock.MockServiceTicket;
 import org.apereo.cas.mock.MockTicketGrantingTicket;
+import org.apereo.cas.services.RegisteredServiceTestUtils;
 import org.apereo.cas.support.events.logout.CasRequestSingleLogoutEvent;
 import org.apereo.cas.support.events.ticket.CasTicketGrantingTicketDestroyedEvent;
 import org.apereo.cas.test.CasTestExtension;
 import org.apereo.cas.ticket.DefaultTicketCatalog;
+import org.apereo.cas.ticket.Ticket;
 import org.apereo.cas.ticket.expiration.HardTimeoutExpirationPolicy;
 import org.apereo.cas.ticket.serialization.TicketSerializationManager;
 import org.apereo.cas.util.lock.LockRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import lombok.val;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
@@ -61,6 +66,146 @@ class DefaultTicketRegistryCleanerTests {
         assertEquals(0, ticketRegistry.sessionCount());
     }
 
+    @Test
+    void verifyServiceTicketsInBatches() throws Throwable {
+        val applicationContext = mock(ConfigurableApplicationContext.class);
+        val ticketRegistry = spy(newTicketRegistry());
+        val tgt = new MockTicketGrantingTicket("casuser");
+        ticketRegistry.addTicket(tgt);
+        for (var i = 0; i < 25; i++) {
+            val st = new MockServiceTicket("ST-" + i, RegisteredServiceTestUtils.getService(), tgt);
+            st.setExpirationPolicy(new HardTimeoutExpirationPolicy(1));
+            ticketRegistry.addTicket(st);
+            st.markTicketExpired();
+        }
+        val properties = new TicketRegistryCleanerProperties().setBatchSize(10).setConcurrency(2);
+        val cleaner = new DefaultTicketRegistryCleaner(LockRepository.noOp(), applicationContext, ticketRegistry, properties);
+        assertEquals(25, cleaner.clean());
+        assertEquals(1, ticketRegistry.getTickets().size());
+        verify(ticketRegistry, times(3)).deleteTickets(any(Stream.class));
+        verify(applicationContext, never()).publishEvent(any(CasRequestSingleLogoutEvent.class));
+
+        val statistics = cleaner.getStatistics();
+        assertEquals(26, statistics.scanned());
+        assertEquals(25, statistics.expired());
+        assertEquals(25, statistics.deleted());
+        assertEquals(0, statistics.backlog());
+        assertTrue(statistics.completed());
+    }
+
+    @Test
+    void verifyServiceTicketsWithoutBatchDeletion() throws Throwable {
+        val applicationContext = mock(ConfigurableApplicationContext.class);
+        val ticketRegistry = spy(newTicketRegistry());
+        doReturn(false).when(ticketRegistry).isBatchDeletionSupported();
+        val tgt = new MockTicketGrantingTicket("casuser");
+        ticketRegistry.addTicket(tgt);
+        for (var i = 0; i < 25; i++) {
+            val st = new MockServiceTicket("ST-" + i, RegisteredServiceTestUtils.getService(), tgt);
+            st.setExpirationPolicy(new HardTimeoutExpirationPolicy(1));
+            ticketRegistry.addTicket(st);
+            st.markTicketExpired();
+        }
+        val properties = new TicketRegistryCleanerProperties().setBatchSize(10).setConcurrency(4);
+        val cleaner = new DefaultTicketRegistryCleaner(LockRepository.noOp(), applicationContext, ticketRegistry, properties);
+        assertEquals(25, cleaner.clean());
+        assertEquals(1, ticketRegistry.getTickets().size());
+        verify(ticketRegistry, never()).deleteTickets(any(Stream.class));
+        verify(ticketRegistry, times(25)).deleteTicket(any(Ticket.class));
+    }
+
+    @Test
+    void verifyIncrementalCleanup() throws Throwable {
+        val applicationContext = mock(ConfigurableApplicationContext.class);
+        val ticketRegistry = newTicketRegistry();
+        for (var i = 0; i < 100; i++) {
+            val tgt = new MockTicketGrantingTicket("casuser-" + i);
+            tgt.setExpirationPolicy(new HardTimeoutExpirationPolicy(1));
+            ticketRegistry.addTicket(tgt);
+            if (i % 2 == 0) {
+                tgt.markTicketExpired();
+            }
+        }
+        val properties = new TicketRegistryCleanerProperties().setBatchSize(10).setTimeBudget("PT1M");
+        val cleaner = new DefaultTicketRegistryCleaner(LockRepository.noOp(), applicationContext, ticketRegistry, properties);
+        assertEquals(50, cleaner.clean());
+        assertEquals(50, ticketRegistry.sessionCount());
+        val statistics = cleaner.getStatistics();
+        assertTrue(statistics.completed());
+        assertTrue(statistics.cursor().isEmpty());
+        assertEquals(50, statistics.deleted());
+        assertTrue(statistics.scanned() >= 100);
+    }
+
+    @Test
+    void verifyIncrementalCleanupWithoutBudget() throws Throwable {
+        val applicationContext = mock(ConfigurableApplicationContext.class);
+        val ticketRegistry = newTicketRegistry();
+        for (var i = 0; i < 20; i++) {
+            val tgt = new MockTicketGrantingTicket("casuser-" + i);
+            tgt.setExpirationPolicy(new HardTimeoutExpirationPolicy(1));
+            ticketRegistry.addTicket(tgt);
+            tgt.markTicketExpired();
+        }
+        val properties = new TicketRegistryCleanerProperties().setBatchSize(5).setTimeBudget("PT0.000000001S");
+        val cleaner = new DefaultTicketRegistryCleaner(LockRepository.noOp(), applicationContext, ticketRegistry, properties);
+        cleaner.clean();
+        assertFalse(cleaner.getStatistics().completed());
+        assertTrue(ticketRegistry.sessionCount() > 0);
+    }
+
+    @Test
+    void verifyIncrementalCleanupResumesAfterCursor() throws Throwable {
+        val applicationContext = mock(ConfigurableApplicationContext.class);
+        val ticketRegistry = newTicketRegistry();
+        for (var i = 0; i < 20; i++) {
+            val tgt = new MockTicketGrantingTicket("casuser-" + i);
+            tgt.setExpirationPolicy(new HardTimeoutExpirationPolicy(1));
+            ticketRegistry.addTicket(tgt);
+            if (i % 2 == 0) {
+                tgt.markTicketExpired();
+            }
+        }
+        val properties = new TicketRegistryCleanerProperties().setTimeBudget("PT0.000000001S");
+        val cleaner = new DefaultTicketRegistryCleaner(LockRepository.noOp(), applicationContext, ticketRegistry, properties);
+        val cursors = new ArrayList<String>();
+        for (var i = 0; i < 20; i++) {
+            cleaner.clean();
+            cursors.add(cleaner.getStatistics().cursor());
+        }
+        assertEquals(10, ticketRegistry.sessionCount());
+        assertEquals(cursors.stream().distinct().sorted().toList(), cursors);
+        cleaner.clean();
+        assertTrue(cleaner.getStatistics().completed());
+        assertTrue(cleaner.getStatistics().cursor().isEmpty());
+    }
+
+    @Test
+    void verifyMetricsArePublished() throws Throwable {
+        val applicationContext = mock(ConfigurableApplicationContext.class);
+        val ticketRegistry = newTicketRegistry();
+        for (var i = 0; i < 10; i++) {
+            val tgt = new MockTicketGrantingTicket("casuser-" + i);
+            tgt.setExpirationPolicy(new HardTimeoutExpirationPolicy(1));
+            ticketRegistry.addTicket(tgt);
+            if (i % 2 == 0) {
+                tgt.markTicketExpired();
+            }
+        }
+        val cleaner = new DefaultTicketRegistryCleaner(LockRepository.noOp(), applicationContext, ticketRegistry);
+        val meterRegistry = new SimpleMeterRegistry();
+        cleaner.bindTo(meterRegistry);
+        assertEquals(0, meterRegistry.get("cas.ticket.registry.cleaner.scanned").gauge().value());
+        assertEquals(5, cleaner.clean());
+        assertEquals(10, meterRegistry.get("cas.ticket.registry.cleaner.scanned").gauge().value());
+        assertEquals(5, meterRegistry.get("cas.ticket.registry.cleaner.expired").gauge().value());
+        assertEquals(5, meterRegistry.get("cas.ticket.registry.cleaner.deleted").gauge().value());
+        assertEquals(0, meterRegistry.get("cas.ticket.registry.cleaner.backlog").gauge().value());
+        assertEquals(1, meterRegistry.get("cas.ticket.registry.cleaner.completed").gauge().value());
+        assertEquals(0, meterRegistry.get("cas.ticket.registry.cleaner.cursor").gauge().value());
+        assertEquals(1, meterRegistry.get("cas.ticket.registry.cleaner.run").timer().count());
+    }
+
     @Test
     void verifyCleanFail() {
         val applicationContext = mock(ConfigurableApplicationContext.class);
@@ -0,0 +1,82 @@
+package org.apereo.cas.ticket.registry;
+
+import module java.base;
+import org.apereo.cas.mock.MockServiceTicket;
+import org.apereo.cas.mock.MockTicketGrantingTicket;
+import org.apereo.cas.services.RegisteredServiceTestUtils;
+import org.apereo.cas.ticket.DefaultTicketCatalog;
+import org.apereo.cas.ticket.serialization.TicketSerializationManager;
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ConfigurableApplicationContext;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * This is {@link DefaultTicketRegistryCounterTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 8.1.0
+ */
+@Tag("Tickets")
+class DefaultTicketRegistryCounterTests {
+
+    @Test
+    void verifyTrackingIsIdempotent() {
+        val counter = new DefaultTicketRegistryCounter();
+        val tgt = new MockTicketGrantingTicket("CasUser");
+        val st = new MockServiceTicket("ST-1", RegisteredServiceTestUtils.getService(), tgt);
+        counter.track(tgt);
+        counter.track(tgt);
+        counter.track(st);
+        assertEquals(1, counter.countSessions());
+        assertEquals(1, counter.countServiceTickets());
+        assertEquals(1, counter.countSessionsFor("casuser"));
+        assertEquals(2, counter.countTickets());
+
+        counter.untrack(tgt.getId());
+        counter.untrack(tgt.getId());
+        assertEquals(0, counter.countSessions());
+        assertEquals(0, counter.countSessionsFor("casuser"));
+        assertEquals(1, counter.countServiceTickets());
+
+        counter.clear();
+        assertEquals(0, counter.countTickets());
+        assertEquals(0, counter.countServiceTickets());
+    }
+
+    @Test
+    void verifyRegistryCounts() throws Throwable {
+        val registry = new DefaultTicketRegistry(mock(TicketSerializationManager.class), new DefaultTicketCatalog(),
+            mock(ConfigurableApplicationContext.class));
+        assertTrue(registry.getTicketRegistryCounter().isEnabled());
+        val tgt1 = new MockTicketGrantingTicket("casuser");
+        val tgt2 = new MockTicketGrantingTicket("casuser");
+        registry.addTicket(tgt1);
+        registry.addTicket(tgt2);
+        registry.addTicket(new MockServiceTicket("ST-1", RegisteredServiceTestUtils.getService(), tgt1));
+        registry.updateTicket(tgt1);
+        assertEquals(2, registry.sessionCount());
+        assertEquals(1, registry.serviceTicketCount());
+        assertEquals(2, registry.countSessionsFor("CASUSER"));
+
+        registry.deleteTicket(tgt2.getId());
+        assertEquals(1, registry.sessionCount());
+        assertEquals(1, registry.countSessionsFor("casuser"));
+
+        registry.deleteAll();
+        assertEquals(0, registry.sessionCount());
+        assertEquals(0, registry.serviceTicketCount());
+    }
+
+    @Test
+    void verifyNoOpCounterFallsBackToRegistry() throws Throwable {
+        val registry = new DefaultTicketRegistry(mock(TicketSerializationManager.class), new DefaultTicketCatalog(),
+            mock(ConfigurableApplicationContext.class));
+        registry.setTicketRegistryCounter(TicketRegistryCounter.noOp());
+        registry.addTicket(new MockTicketGrantingTicket("casuser"));
+        assertEquals(1, registry.sessionCount());
+        assertEquals(1, registry.countSessionsFor("casuser"));
+    }
+}
@@ -0,0 +1,123 @@
+package org.apereo.cas.ticket.serialization;
+
+import module java.base;
+import org.apereo.cas.config.CasCoreAuthenticationAutoConfiguration;
+import org.apereo.cas.config.CasCoreAutoConfiguration;
+import org.apereo.cas.config.CasCoreLogoutAutoConfiguration;
+import org.apereo.cas.config.CasCoreNotificationsAutoConfiguration;
+import org.apereo.cas.config.CasCoreScriptingAutoConfiguration;
+import org.apereo.cas.config.CasCoreServicesAutoConfiguration;
+import org.apereo.cas.config.CasCoreTicketsAutoConfiguration;
+import org.apereo.cas.config.CasCoreUtilAutoConfiguration;
+import org.apereo.cas.config.CasCoreWebAutoConfiguration;
+import org.apereo.cas.config.CasPersonDirectoryAutoConfiguration;
+import org.apereo.cas.mock.MockTicketGrantingTicket;
+import org.apereo.cas.services.RegisteredServiceTestUtils;
+import org.apereo.cas.test.CasTestExtension;
+import org.apereo.cas.ticket.ServiceTicket;
+import org.apereo.cas.ticket.ServiceTicketFactory;
+import org.apereo.cas.ticket.TicketFactory;
+import org.apereo.cas.ticket.TicketGrantingTicket;
+import org.apereo.cas.ticket.TicketGrantingTicketFactory;
+import org.apereo.cas.util.spring.boot.SpringBootTestAutoConfigurations;
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link BinaryTicketCodecTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 8.1.0
+ */
+@SpringBootTestAutoConfigurations
+@SpringBootTest(classes = {
+    CasCoreLogoutAutoConfiguration.class,
+    CasCoreTicketsAutoConfiguration.class,
+    CasCoreNotificationsAutoConfiguration.class,
+    CasCoreUtilAutoConfiguration.class,
+    CasCoreScriptingAutoConfiguration.class,
+    CasCoreAuthenticationAutoConfiguration.class,
+    CasPersonDirectoryAutoConfiguration.class,
+    CasCoreAutoConfiguration.class,
+    CasCoreWebAutoConfiguration.class,
+    CasCoreServicesAutoConfiguration.class
+}, properties = "cas.ticket.registry.core.codec=BINARY_COMPRESSED")
+@Tag("Tickets")
+@ExtendWith(CasTestExtension.class)
+class BinaryTicketCodecTests {
+    @Autowired
+    @Qualifier(TicketSerializationManager.BEAN_NAME)
+    private TicketSerializationManager ticketSerializationManager;
+
+    @Autowired
+    @Qualifier(TicketCodec.BEAN_NAME)
+    private TicketCodec ticketCodec;
+
+    @Autowired
+    @Qualifier(TicketFactory.BEAN_NAME)
+    private TicketFactory defaultTicketFactory;
+
+    @Test
+    void verifyConfiguredCodec() {
+        assertInstanceOf(BinaryTicketCodec.class, ticketCodec);
+    }
+
+    @Test
+    void verifyRoundTrip() throws Throwable {
+        val tgt = createTicketGrantingTicket();
+        val stFactory = (ServiceTicketFactory) defaultTicketFactory.get(ServiceTicket.class);
+        val st = stFactory.create(tgt, RegisteredServiceTestUtils.getService(), false, ServiceTicket.class);
+
+        for (val codec : List.of(new BinaryTicketCodec(ticketSerializationManager, false),
+            new BinaryTicketCodec(ticketSerializationManager, true))) {
+            val encodedTgt = codec.encode(tgt);
+            assertEquals(BinaryTicketCodec.MARKER, encodedTgt[0]);
+            assertEquals(BinaryTicketCodec.VERSION, encodedTgt[1]);
+            assertEquals(tgt, codec.decode(encodedTgt));
+            assertEquals(st, codec.decode(codec.encode(st)));
+        }
+    }
+
+    @Test
+    void verifySmallerThanSerialization() throws Throwable {
+        val tgt = createTicketGrantingTicket();
+        val serialized = TicketCodec.serialization().encode(tgt);
+        val binary = new BinaryTicketCodec(ticketSerializationManager, false).encode(tgt);
+        val compressed = new BinaryTicketCodec(ticketSerializationManager, true).encode(tgt);
+        assertTrue(binary.length < serialized.length);
+        assertTrue(compressed.length < binary.length);
+    }
+
+    @Test
+    void verifySerializedContentIsDecoded() throws Throwable {
+        val tgt = createTicketGrantingTicket();
+        val serialized = TicketCodec.serialization().encode(tgt);
+        assertEquals(tgt, ticketCodec.decode(serialized));
+
+        val untagged = new MockTicketGrantingTicket("casuser");
+        val encoded = ticketCodec.encode(untagged);
+        assertNotEquals(BinaryTicketCodec.MARKER, encoded[0]);
+        assertEquals(untagged, ticketCodec.decode(encoded));
+    }
+
+    @Test
+    void verifyUnknownVersion() throws Throwable {
+        val encoded = ticketCodec.encode(createTicketGrantingTicket());
+        encoded[1] = Byte.MAX_VALUE;
+        assertThrows(IllegalArgumentException.class, () -> ticketCodec.decode(encoded));
+        encoded[1] = BinaryTicketCodec.VERSION;
+        encoded[3] = Byte.MAX_VALUE;
+        assertThrows(IllegalArgumentException.class, () -> ticketCodec.decode(encoded));
+    }
+
+    private TicketGrantingTicket createTicketGrantingTicket() throws Throwable {
+        val factory = (TicketGrantingTicketFactory) defaultTicketFactory.get(TicketGrantingTicket.class);
+        return factory.create(RegisteredServiceTestUtils.getAuthentication(), RegisteredServiceTestUtils.getService());
+    }
+}
@@ -43,7 +43,7 @@ public class DefaultCipherExecutorResolver implements CipherExecutorResolver {
     }
 
     private CipherExecutor bindTenantToCipherExecutor(final TenantDefinition tenantDefinition) {
-        val bindingContext = tenantDefinition.bindProperties();
+        val bindingContext = tenantExtractor.getTenantsManager().bindProperties(tenantDefinition);
         if (bindingContext.isBound() && bindingContext.containsBindingFor(cryptoPropertiesClass)) {
             return cipherExecutorSupplier.apply(bindingContext);
         }
@@ -0,0 +1,542 @@
+package org.apereo.cas.util.io;
+
+import module java.base;
+import org.apereo.cas.util.DigestUtils;
+import org.apereo.cas.util.EncodingUtils;
+import org.apereo.cas.util.LoggingUtils;
+import org.apereo.cas.util.ResourceUtils;
+import org.apereo.cas.util.function.FunctionUtils;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+import org.jooq.lambda.Unchecked;
+import org.jooq.lambda.fi.util.function.CheckedSupplier;
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.core.io.Resource;
+
+/**
+ * This is {@link IndexedJsonFileStore} that keeps the contents of a JSON file in memory,
+ * indexed by entry identifier and by username, so that repositories backed by a JSON file
+ * do not need to read or rewrite the entire file for every operation.
+ * <p>
+ * By default, every change is written through to the JSON file while holding a file lock,
+ * after picking up changes that other writers made to the file since it was last written.
+ * This keeps the file consistent when several CAS nodes share it, and other nodes see each change
+ * through the file watcher as soon as it is written.
+ * <p>
+ * A write-ahead journal may be enabled instead, via a positive compaction threshold or
+ * {@link #SYSTEM_PROPERTY_JOURNAL_COMPACTION_THRESHOLD}. Changes are then appended to a journal
+ * that sits next to the JSON file, and the journal is compacted into the JSON file once it grows
+ * past the threshold or when the store is closed. Journal entries that are found on startup are replayed
+ * on top of the JSON file. Compaction rewrites the JSON file from memory, so the journal
+ * must only be enabled when a single CAS node writes to the file.
+ * <p>
+ * External changes to the JSON file are detected by a file watcher and reload the store.
+ * Reloads build a new index and publish it at once, so lookups never observe a partially loaded store.
+ * Resources that are not backed by a file are loaded once and changes are only kept in memory.
+ *
+ * @param <V> the type of entries in the store
+ * @author Misagh Moayyed
+ * @since 8.1.0
+ */
+@Slf4j
+public class IndexedJsonFileStore<V> implements DisposableBean, Closeable {
+    /**
+     * Compaction threshold that disables the journal and writes every change through to the JSON file.
+     */
+    public static final int WRITE_THROUGH = 0;
+
+    /**
+     * System property that enables the journal for stores that are not given an explicit
+     * compaction threshold, by specifying the number of journal entries that trigger compaction.
+     * The journal is disabled by default.
+     */
+    public static final String SYSTEM_PROPERTY_JOURNAL_COMPACTION_THRESHOLD = "org.apereo.cas.json.store.journal.compaction-threshold";
+
+    private static final String JOURNAL_FILE_SUFFIX = ".journal";
+
+    private static final String LOCK_FILE_SUFFIX = ".lock";
+
+    private static final String OPERATION_PUT = "PUT";
+
+    private static final String OPERATION_DELETE = "DEL";
+
+    private static final String JOURNAL_SEPARATOR = "\t";
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final AtomicReference<Index<V>> currentIndex = new AtomicReference<>(new Index<>());
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    private final List<Consumer<IndexedJsonFileStore<V>>> reloadListeners = new CopyOnWriteArrayList<>();
+
+    @Getter
+    private final Resource resource;
+
+    private final Codec<V> codec;
+
+    private final Function<V, String> idExtractor;
+
+    private final Function<V, @Nullable String> usernameExtractor;
+
+    private final int compactionThreshold;
+
+    @Nullable
+    private final File file;
+
+    @Nullable
+    private final File journal;
+
+    @Nullable
+    private final File lockFile;
+
+    private int journalSize;
+
+    private boolean fileLockHeld;
+
+    @Nullable
+    private String lastWrittenDigest;
+
+    @Getter
+    @Nullable
+    private WatcherService watcherService;
+
+    public IndexedJsonFileStore(final Resource resource, final Codec<V> codec,
+                                final Function<V, String> idExtractor,
+                                final Function<V, @Nullable String> usernameExtractor) {
+        this(resource, codec, idExtractor, usernameExtractor, Integer.getInteger(SYSTEM_PROPERTY_JOURNAL_COMPACTION_THRESHOLD, WRITE_THROUGH));
+    }
+
+    public IndexedJsonFileStore(final Resource resource, final Codec<V> codec,
+                                final Function<V, String> idExtractor,
+                                final Function<V, @Nullable String> usernameExtractor,
+                                final int compactionThreshold) {
+        this.resource = resource;
+        this.codec = codec;
+        this.idExtractor = idExtractor;
+        this.usernameExtractor = usernameExtractor;
+        this.compactionThreshold = Math.max(WRITE_THROUGH, compactionThreshold);
+        this.file = ResourceUtils.isFile(resource) ? FunctionUtils.doUnchecked(resource::getFile) : null;
+        this.journal = file != null ? new File(file.getParentFile(), file.getName() + JOURNAL_FILE_SUFFIX) : null;
+        this.lockFile = file != null ? new File(file.getParentFile(), file.getName() + LOCK_FILE_SUFFIX) : null;
+    }
+
+    /**
+     * Load the store from the JSON file, replay outstanding journal entries
+     * and optionally start watching the JSON file for external changes.
+     *
+     * @param watch whether the file should be watched for changes
+     * @return the store
+     */
+    public IndexedJsonFileStore<V> initialize(final boolean watch) {
+        try {
+            locked(() -> withFileLock(() -> {
+                load(readContents());
+                if (file != null && (journalSize > 0 || !file.exists())) {
+                    compact();
+                }
+                return null;
+            }));
+        } catch (final Exception e) {
+            LoggingUtils.error(LOGGER, e);
+        }
+        if (watch && file != null) {
+            val watcher = new FileWatcherService(file, this::handleFileChange, this::handleFileChange, _ -> {
+            });
+            watcher.start(getClass().getSimpleName() + '-' + file.getName());
+            this.watcherService = watcher;
+        }
+        return this;
+    }
+
+    /**
+     * Register a listener that is notified once the store is reloaded
+     * because of external changes to the JSON file.
+     *
+     * @param listener the listener
+     * @return the store
+     */
+    public IndexedJsonFileStore<V> onReload(final Consumer<IndexedJsonFileStore<V>> listener) {
+        reloadListeners.add(listener);
+        return this;
+    }
+
+    /**
+     * Find entry by its identifier.
+     *
+     * @param id the id
+     * @return the entry
+     */
+    public Optional<V> findById(final String id) {
+        return Optional.ofNullable(currentIndex.get().entries().get(id)).map(IndexedEntry::value);
+    }
+
+    /**
+     * Find entries that belong to the given username.
+     * Usernames are matched regardless of case.
+     *
+     * @param username the username
+     * @return the entries
+     */
+    public List<V> findByUsername(final String username) {
+        val index = currentIndex.get();
+        val ids = index.usernames().get(normalizeUsername(username));
+        if (ids == null) {
+            return new ArrayList<>();
+        }
+        return ids
+            .stream()
+            .map(index.entries()::get)
+            .filter(Objects::nonNull)
+            .sorted(Comparator.comparingLong(IndexedEntry::sequence))
+            .map(IndexedEntry::value)
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * All entries, in the order they were first added to the store.
+     *
+     * @return the entries
+     */
+    public List<V> values() {
+        return currentIndex.get()
+            .entries()
+            .values()
+            .stream()
+            .sorted(Comparator.comparingLong(IndexedEntry::sequence))
+            .map(IndexedEntry::value)
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Number of entries in the store.
+     *
+     * @return the size
+     */
+    public int size() {
+        return currentIndex.get().entries().size();
+    }
+
+    /**
+     * Number of distinct usernames in the store.
+     *
+     * @return the count
+     */
+    public int countUsernames() {
+        return currentIndex.get().usernames().size();
+    }
+
+    /**
+     * Store the entry, replacing any entry with the same identifier.
+     *
+     * @param entry the entry
+     * @return the entry
+     */
+    public V put(final V entry) {
+        return write(() -> {
+            index(currentIndex.get(), entry);
+            appendToJournal(OPERATION_PUT, idExtractor.apply(entry), codec.encode(List.of(entry)));
+            return entry;
+        });
+    }
+
+    /**
+     * Remove the entry by its identifier.
+     *
+     * @param id the id
+     * @return the removed entry
+     */
+    public Optional<V> remove(final String id) {
+        return Optional.ofNullable(write(() -> delete(id)));
+    }
+
+    /**
+     * Remove entries that match the given predicate.
+     *
+     * @param predicate the predicate
+     * @return the removed entries
+     */
+    public List<V> removeIf(final Predicate<V> predicate) {
+        return write(() -> {
+            val ids = values().stream().filter(predicate).map(idExtractor).toList();
+            val removed = new ArrayList<V>();
+            for (val id : ids) {
+                val entry = delete(id);
+                if (entry != null) {
+                    removed.add(entry);
+                }
+            }
+            return removed;
+        });
+    }
+
+    /**
+     * Remove all entries and compact the store.
+     */
+    public void removeAll() {
+        write(() -> {
+            currentIndex.set(new Index<>());
+            if (isJournalEnabled()) {
+                compact();
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Write all entries to the JSON file and discard the journal.
+     */
+    public void compact() {
+        locked(() -> withFileLock(() -> {
+            if (file != null && journal != null) {
+                val contents = codec.encode(values());
+                val parent = file.getAbsoluteFile().getParentFile();
+                if (parent != null && !parent.exists() && !parent.mkdirs()) {
+                    LOGGER.warn("Unable to create directory [{}]", parent);
+                }
+                val temporaryFile = new File(parent, '.' + file.getName() + ".tmp");
+                Files.writeString(temporaryFile.toPath(), contents, StandardCharsets.UTF_8);
+                lastWrittenDigest = DigestUtils.sha256(contents);
+                Files.move(temporaryFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                Files.deleteIfExists(journal.toPath());
+                LOGGER.debug("Compacted [{}] entries into [{}] after [{}] journal entries", size(), file, journalSize);
+                journalSize = 0;
+            }
+            return null;
+        }));
+    }
+
+    /**
+     * Reload the store from the JSON file and replay outstanding journal entries.
+     */
+    public void reload() {
+        locked(() -> {
+            load(readContents());
+            return null;
+        });
+        reloadListeners.forEach(listener -> listener.accept(this));
+    }
+
+    @Override
+    public void close() {
+        FunctionUtils.doIfNotNull(watcherService, WatcherService::close);
+        if (journalSize > 0) {
+            compact();
+        }
+    }
+
+    @Override
+    public void destroy() {
+        close();
+    }
+
+    private void handleFileChange(final File changedFile) {
+        try {
+            val contents = Files.readString(changedFile.toPath(), StandardCharsets.UTF_8);
+            if (!DigestUtils.sha256(contents).equals(lastWrittenDigest)) {
+                LOGGER.debug("JSON file [{}] is changed externally and will be reloaded", changedFile);
+                locked(() -> {
+                    load(contents);
+                    return null;
+                });
+                reloadListeners.forEach(listener -> listener.accept(this));
+            }
+        } catch (final Exception e) {
+            LoggingUtils.error(LOGGER, e);
+        }
+    }
+
+    private String readContents() throws Exception {
+        if (file != null) {
+            return file.exists() ? Files.readString(file.toPath(), StandardCharsets.UTF_8) : StringUtils.EMPTY;
+        }
+        if (ResourceUtils.doesResourceExist(resource)) {
+            try (val input = resource.getInputStream()) {
+                return new String(input.readAllBytes(), StandardCharsets.UTF_8);
+            }
+        }
+        return StringUtils.EMPTY;
+    }
+
+    private void load(final String contents) throws Exception {
+        val decoded = StringUtils.isNotBlank(contents) ? codec.decode(contents) : List.<V>of();
+        val loaded = new Index<V>();
+        decoded.forEach(entry -> index(loaded, entry));
+        journalSize = 0;
+        if (journal != null && journal.exists()) {
+            try (val lines = Files.lines(journal.toPath(), StandardCharsets.UTF_8)) {
+                lines.filter(StringUtils::isNotBlank).forEach(Unchecked.consumer(line -> replay(loaded, line)));
+            }
+        }
+        currentIndex.set(loaded);
+        lastWrittenDigest = DigestUtils.sha256(contents);
+        LOGGER.debug("Loaded [{}] entries from [{}] with [{}] journal entries", loaded.entries().size(), resource, journalSize);
+    }
+
+    private void replay(final Index<V> index, final String line) throws Exception {
+        val fields = line.split(JOURNAL_SEPARATOR, -1);
+        if (OPERATION_PUT.equals(fields[0]) && fields.length == 3) {
+            codec.decode(EncodingUtils.decodeBase64ToString(fields[2])).forEach(entry -> index(index, entry));
+        } else if (OPERATION_DELETE.equals(fields[0]) && fields.length >= 2) {
+            unindex(index, EncodingUtils.decodeBase64ToString(fields[1]));
+        } else {
+            LOGGER.warn("Skipping unrecognized journal entry in [{}]", journal);
+        }
+        journalSize++;
+    }
+
+    private <T> T locked(final CheckedSupplier<T> operation) {
+        lock.lock();
+        try {
+            return FunctionUtils.doUnchecked(operation);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private <T> T withFileLock(final CheckedSupplier<T> operation) throws Throwable {
+        if (lockFile == null || fileLockHeld) {
+            return operation.get();
+        }
+        val parent = lockFile.getAbsoluteFile().getParentFile();
+        if (parent != null && !parent.exists() && !parent.mkdirs()) {
+            LOGGER.warn("Unable to create directory [{}]", parent);
+        }
+        try (val channel = FileChannel.open(lockFile.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+             val fileLock = channel.lock()) {
+            fileLockHeld = fileLock.isValid();
+            return operation.get();
+        } finally {
+            fileLockHeld = false;
+        }
+    }
+
+    private <T> T write(final CheckedSupplier<T> change) {
+        return locked(() -> withFileLock(() -> {
+            if (isJournalEnabled()) {
+                return change.get();
+            }
+            synchronizeWithFile();
+            val result = change.get();
+            compact();
+            return result;
+        }));
+    }
+
+    private void synchronizeWithFile() throws Exception {
+        if (file != null && file.exists()) {
+            val contents = Files.readString(file.toPath(), StandardCharsets.UTF_8);
+            if (!DigestUtils.sha256(contents).equals(lastWrittenDigest)) {
+                LOGGER.debug("JSON file [{}] is changed by another writer and will be reloaded before writing", file);
+                load(contents);
+            }
+        }
+    }
+
+    private boolean isJournalEnabled() {
+        return journal != null && compactionThreshold > WRITE_THROUGH;
+    }
+
+    private @Nullable V delete(final String id) throws Exception {
+        val removed = unindex(currentIndex.get(), id);
+        if (removed != null) {
+            appendToJournal(OPERATION_DELETE, id, StringUtils.EMPTY);
+        }
+        return removed;
+    }
+
+    private void appendToJournal(final String operation, final String id, final String contents) throws Exception {
+        if (isJournalEnabled()) {
+            val line = String.join(JOURNAL_SEPARATOR, operation,
+                EncodingUtils.encodeBase64(id), EncodingUtils.encodeBase64(contents)) + System.lineSeparator();
+            Files.writeString(Objects.requireNonNull(journal).toPath(), line, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            journalSize++;
+            if (journalSize >= compactionThreshold) {
+                compact();
+            }
+        }
+    }
+
+    private void index(final Index<V> index, final V entry) {
+        val id = idExtractor.apply(entry);
+        val existing = index.entries().get(id);
+        val position = existing != null ? existing.sequence() : sequence.incrementAndGet();
+        index.entries().put(id, new IndexedEntry<>(position, entry));
+        val username = getUsernameKey(entry);
+        if (username != null) {
+            index.usernames().computeIfAbsent(username, _ -> ConcurrentHashMap.newKeySet()).add(id);
+        }
+        if (existing != null) {
+            val previousUsername = getUsernameKey(existing.value());
+            if (previousUsername != null && !previousUsername.equals(username)) {
+                unindexUsername(index, previousUsername, id);
+            }
+        }
+    }
+
+    private @Nullable V unindex(final Index<V> index, final String id) {
+        val removed = index.entries().remove(id);
+        if (removed != null) {
+            val username = getUsernameKey(removed.value());
+            if (username != null) {
+                unindexUsername(index, username, id);
+            }
+            return removed.value();
+        }
+        return null;
+    }
+
+    private static void unindexUsername(final Index<?> index, final String username, final String id) {
+        index.usernames().computeIfPresent(username, (_, ids) -> {
+            ids.remove(id);
+            return ids.isEmpty() ? null : ids;
+        });
+    }
+
+    private @Nullable String getUsernameKey(final V entry) {
+        val username = usernameExtractor.apply(entry);
+        return StringUtils.isNotBlank(username) ? normalizeUsername(username) : null;
+    }
+
+    private static String normalizeUsername(final String username) {
+        return username.trim().toLowerCase(Locale.ENGLISH);
+    }
+
+    private record IndexedEntry<V>(long sequence, V value) {
+    }
+
+    private record Index<V>(Map<String, IndexedEntry<V>> entries, Map<String, Set<String>> usernames) {
+        Index() {
+            this(new ConcurrentHashMap<>(), new ConcurrentHashMap<>());
+        }
+    }
+
+    /**
+     * Translates between the contents of the JSON file and the entries in the store.
+     * The same codec is used to write individual entries into the journal.
+     *
+     * @param <V> the type of entries
+     */
+    public interface Codec<V> {
+        /**
+         * Decode entries from the given JSON content.
+         *
+         * @param contents the contents
+         * @return the entries
+         * @throws Exception the exception
+         */
+        Collection<V> decode(String contents) throws Exception;
+
+        /**
+         * Encode entries into JSON content.
+         *
+         * @param entries the entries
+         * @return the contents
+         * @throws Exception the exception
+         */
+        String encode(Collection<V> entries) throws Exception;
+    }
+}
@@ -0,0 +1,188 @@
+package org.apereo.cas.util.io;
+
+import module java.base;
+import org.apereo.cas.util.serialization.JacksonObjectMapperFactory;
+import lombok.val;
+import org.apache.commons.io.FileUtils;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.FileSystemResource;
+import tools.jackson.core.type.TypeReference;
+import tools.jackson.databind.ObjectMapper;
+import static org.awaitility.Awaitility.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link IndexedJsonFileStoreTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 8.1.0
+ */
+@Tag("FileSystem")
+class IndexedJsonFileStoreTests {
+    private static final ObjectMapper MAPPER = JacksonObjectMapperFactory.builder()
+        .defaultTypingEnabled(false).build().toObjectMapper();
+
+    private static final IndexedJsonFileStore.Codec<Account> CODEC = new IndexedJsonFileStore.Codec<>() {
+        @Override
+        public Collection<Account> decode(final String contents) {
+            return MAPPER.readValue(contents, new TypeReference<List<Account>>() {
+            });
+        }
+
+        @Override
+        public String encode(final Collection<Account> entries) {
+            return MAPPER.writeValueAsString(entries);
+        }
+    };
+
+    private static File newJsonFile() {
+        return new File(FileUtils.getTempDirectory(), UUID.randomUUID() + ".json");
+    }
+
+    private static IndexedJsonFileStore<Account> newStore(final File file, final int compactionThreshold) {
+        return new IndexedJsonFileStore<>(new FileSystemResource(file), CODEC,
+            Account::id, Account::username, compactionThreshold);
+    }
+
+    @Test
+    void verifyIndexedLookups() {
+        val file = newJsonFile();
+        try (val store = newStore(file, 10).initialize(false)) {
+            assertTrue(file.exists());
+            store.put(new Account("1", "casuser", "first"));
+            store.put(new Account("2", "CASUser", "second"));
+            store.put(new Account("3", "another", "third"));
+            assertEquals(3, store.size());
+            assertEquals(2, store.countUsernames());
+            assertEquals("second", store.findById("2").orElseThrow().value());
+            assertEquals(2, store.findByUsername("casuser ").size());
+
+            store.put(new Account("2", "another", "updated"));
+            assertEquals(1, store.findByUsername("casuser").size());
+            assertEquals(2, store.findByUsername("another").size());
+
+            assertTrue(store.remove("1").isPresent());
+            assertTrue(store.remove("1").isEmpty());
+            assertTrue(store.findByUsername("casuser").isEmpty());
+            assertEquals(1, store.countUsernames());
+
+            assertEquals(2, store.removeIf(account -> "another".equals(account.username())).size());
+            assertEquals(0, store.size());
+        }
+    }
+
+    @Test
+    void verifyWriteThroughWithSharedFile() throws Throwable {
+        val file = newJsonFile();
+        val journal = new File(file.getParentFile(), file.getName() + ".journal");
+        try (val first = new IndexedJsonFileStore<>(new FileSystemResource(file), CODEC, Account::id, Account::username).initialize(false);
+             val second = new IndexedJsonFileStore<>(new FileSystemResource(file), CODEC, Account::id, Account::username).initialize(false)) {
+            first.put(new Account("1", "casuser", "first"));
+            assertFalse(journal.exists());
+            second.put(new Account("2", "casuser", "second"));
+            assertEquals(2, second.size());
+            first.put(new Account("3", "casuser", "third"));
+            assertEquals(3, first.findByUsername("casuser").size());
+            second.remove("1");
+            val contents = FileUtils.readFileToString(file, StandardCharsets.UTF_8);
+            assertFalse(contents.contains("first"));
+            assertTrue(contents.contains("second"));
+            assertTrue(contents.contains("third"));
+            assertFalse(journal.exists());
+        }
+    }
+
+    @Test
+    void verifyJournalIsReplayed() throws Throwable {
+        val file = newJsonFile();
+        val journal = new File(file.getParentFile(), file.getName() + ".journal");
+        val store = newStore(file, 10).initialize(false);
+        store.put(new Account("1", "casuser", "first"));
+        store.put(new Account("2", "casuser", "second"));
+        store.remove("1");
+        assertTrue(journal.exists());
+        assertFalse(FileUtils.readFileToString(file, StandardCharsets.UTF_8).contains("second"));
+
+        val recovered = newStore(file, 10).initialize(false);
+        assertEquals(1, recovered.size());
+        assertEquals("second", recovered.findById("2").orElseThrow().value());
+        assertFalse(journal.exists());
+        assertTrue(FileUtils.readFileToString(file, StandardCharsets.UTF_8).contains("second"));
+        recovered.close();
+    }
+
+    @Test
+    void verifyJournalIsCompacted() throws Throwable {
+        val file = newJsonFile();
+        val journal = new File(file.getParentFile(), file.getName() + ".journal");
+        try (val store = newStore(file, 2).initialize(false)) {
+            store.put(new Account("1", "casuser", "first"));
+            assertTrue(journal.exists());
+            store.put(new Account("2", "casuser", "second"));
+            assertFalse(journal.exists());
+            val contents = FileUtils.readFileToString(file, StandardCharsets.UTF_8);
+            assertTrue(contents.contains("first"));
+            assertTrue(contents.contains("second"));
+
+            store.removeAll();
+            assertEquals(0, store.size());
+            assertFalse(FileUtils.readFileToString(file, StandardCharsets.UTF_8).contains("first"));
+        }
+    }
+
+    @Test
+    void verifyExternalChangesAreReloaded() throws Throwable {
+        val file = newJsonFile();
+        val reloaded = new AtomicInteger();
+        try (val store = newStore(file, 10).initialize(true)) {
+            store.onReload(_ -> reloaded.incrementAndGet());
+            store.put(new Account("1", "casuser", "first"));
+            FileUtils.writeStringToFile(file, CODEC.encode(List.of(new Account("9", "external", "value"))), StandardCharsets.UTF_8);
+            await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> assertTrue(store.findById("9").isPresent()));
+            assertTrue(reloaded.get() > 0);
+            assertTrue(store.findById("1").isPresent());
+        }
+    }
+
+    @Test
+    void verifyReloadNeverHidesEntries() throws Throwable {
+        val file = newJsonFile();
+        try (val store = newStore(file, 1000).initialize(false)) {
+            for (var i = 0; i < 500; i++) {
+                store.put(new Account(String.valueOf(i), "casuser", "value-" + i));
+            }
+            store.compact();
+            val running = new AtomicBoolean(true);
+            val misses = new AtomicInteger();
+            val reader = Thread.ofPlatform().start(() -> {
+                while (running.get()) {
+                    if (store.findById("250").isEmpty() || store.findByUsername("casuser").size() != 500) {
+                        misses.incrementAndGet();
+                    }
+                }
+            });
+            for (var i = 0; i < 50; i++) {
+                store.reload();
+                store.put(new Account("250", "casuser", "updated-" + i));
+            }
+            running.set(false);
+            reader.join();
+            assertEquals(0, misses.get());
+        }
+    }
+
+    @Test
+    void verifyResourceWithoutFile() {
+        val resource = new ByteArrayResource(CODEC.encode(List.of(new Account("1", "casuser", "first"))).getBytes(StandardCharsets.UTF_8));
+        try (val store = new IndexedJsonFileStore<>(resource, CODEC, Account::id, Account::username).initialize(true)) {
+            assertEquals(1, store.findByUsername("CASUSER").size());
+            store.put(new Account("2", "casuser", "second"));
+            assertEquals(2, store.size());
+        }
+    }
+
+    record Account(String id, String username, String value) {
+    }
+}
@@ -44,12 +44,13 @@ public class CasReloadableMessageBundle extends ReloadableResourceBundleMessageS
     protected String getMessageInternal(final String code, final Object @NonNull [] args, final Locale locale) {
         val clientInfo = ClientInfoHolder.getClientInfo();
         if (clientInfo != null && StringUtils.isNotBlank(clientInfo.getTenant())) {
-            val tenantDefinition = tenantExtractor.getTenantsManager().findTenant(clientInfo.getTenant()).orElseThrow();
-            val bindingContext = tenantDefinition.bindProperties();
+            val tenantsManager = tenantExtractor.getTenantsManager();
+            val tenantDefinition = tenantsManager.findTenant(clientInfo.getTenant()).orElseThrow();
+            val bindingContext = tenantsManager.bindProperties(tenantDefinition);
             if (bindingContext.isBound() && bindingContext.containsBindingFor(MessageBundleProperties.class)) {
-                val properties = bindingContext.value();
-                properties.getMessageBundle().getBaseNames().addAll(getBasenameSet());
-                val bean = configure(new ReloadableResourceBundleMessageSource(), properties);
+                val bean = new ReloadableResourceBundleMessageSource();
+                configure(bean, bindingContext.value());
+                bean.addBasenames(getBasenameSet().toArray(ArrayUtils.EMPTY_STRING_ARRAY));
                 return bean.getMessage(code, args, locale);
             }
         }
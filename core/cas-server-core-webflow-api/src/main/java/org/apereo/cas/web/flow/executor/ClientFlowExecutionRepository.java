@@ -74,15 +74,7 @@ public class ClientFlowExecutionRepository implements FlowExecutionRepository, F
     public FlowExecution getFlowExecution(final FlowExecutionKey key) throws FlowExecutionRepositoryException {
         if (key instanceof final ClientFlowExecutionKey clientFlowExecutionKey) {
             try {
-                val encoded = clientFlowExecutionKey.getData();
-                val state = (SerializedFlowExecutionState) determineTranscoder().decode(encoded);
-
-                if (webflowProperties.getSession().isPinToSession()) {
-                    verifyWebflowSessionIsCorrectlyPinned(state);
-                }
-                val conversationScope = state.getConversationScope();
-                val flow = flowDefinitionLocator.getFlowDefinition(state.getFlowId());
-                return flowExecutionFactory.restoreFlowExecution(state.getExecution(), flow, key, conversationScope, this.flowDefinitionLocator);
+                return decodeFlowExecution(key, clientFlowExecutionKey.getData());
             } catch (final Exception e) {
                 throw new ClientFlowExecutionRepositoryException("Error decoding flow execution", e);
             }
@@ -102,11 +94,7 @@ public class ClientFlowExecutionRepository implements FlowExecutionRepository, F
     @Override
     public FlowExecutionKey getKey(final FlowExecution execution) {
         try {
-            if (webflowProperties.getSession().isPinToSession()) {
-                recordWebflowSessionPinningInfo(execution);
-            }
-            val state = new SerializedFlowExecutionState(execution);
-            return new ClientFlowExecutionKey(determineTranscoder().encode(state));
+            return new ClientFlowExecutionKey(encodeFlowExecution(execution));
         } catch (final Exception e) {
             throw new ClientFlowExecutionRepositoryException("Error encoding flow execution", e);
         }
@@ -124,6 +112,24 @@ public class ClientFlowExecutionRepository implements FlowExecutionRepository, F
     public void removeAllFlowExecutionSnapshots(final FlowExecution execution) {
     }
 
+    protected byte[] encodeFlowExecution(final FlowExecution execution) throws Exception {
+        if (webflowProperties.getSession().isPinToSession()) {
+            recordWebflowSessionPinningInfo(execution);
+        }
+        val state = new SerializedFlowExecutionState(execution);
+        return determineTranscoder().encode(state);
+    }
+
+    protected FlowExecution decodeFlowExecution(final FlowExecutionKey key, final byte[] encoded) throws Exception {
+        val state = (SerializedFlowExecutionState) determineTranscoder().decode(encoded);
+        if (webflowProperties.getSession().isPinToSession()) {
+            verifyWebflowSessionIsCorrectlyPinned(state);
+        }
+        val conversationScope = state.getConversationScope();
+        val flow = flowDefinitionLocator.getFlowDefinition(state.getFlowId());
+        return flowExecutionFactory.restoreFlowExecution(state.getExecution(), flow, key, conversationScope, this.flowDefinitionLocator);
+    }
+
     protected Transcoder determineTranscoder() {
         val clientInfo = Objects.requireNonNull(ClientInfoHolder.getClientInfo(), "Client info cannot be null");
         val cipherExecutor = cipherExecutorResolver.resolve(clientInfo.getTenant());
@@ -0,0 +1,40 @@
+package org.apereo.cas.web.flow.executor;
+
+import module java.base;
+
+/**
+ * This is {@link FlowExecutionStateStore} that keeps serialized flow execution state
+ * server-side, keyed by the handle that is sent to the client as the flow execution key.
+ *
+ * @author Misagh Moayyed
+ * @since 8.1.0
+ */
+public interface FlowExecutionStateStore {
+    /**
+     * Default bean name.
+     */
+    String BEAN_NAME = "flowExecutionStateStore";
+
+    /**
+     * Store the flow execution state under the given handle.
+     *
+     * @param handle the handle
+     * @param state  the serialized state
+     */
+    void put(String handle, byte[] state);
+
+    /**
+     * Get the flow execution state stored under the given handle.
+     *
+     * @param handle the handle
+     * @return the serialized state, or empty if the state is missing or has expired
+     */
+    Optional<byte[]> get(String handle);
+
+    /**
+     * Remove the flow execution state stored under the given handle.
+     *
+     * @param handle the handle
+     */
+    void remove(String handle);
+}
@@ -0,0 +1,40 @@
+package org.apereo.cas.web.flow.executor;
+
+import module java.base;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * This is {@link InMemoryFlowExecutionStateStore} that keeps flow execution state
+ * in a bounded cache, evicting entries once the serialized states exceed the configured
+ * number of bytes, and by the time they were last accessed.
+ *
+ * @author Misagh Moayyed
+ * @since 8.1.0
+ */
+public class InMemoryFlowExecutionStateStore implements FlowExecutionStateStore {
+    private final Cache<String, byte[]> states;
+
+    public InMemoryFlowExecutionStateStore(final long maximumSizeInBytes, final Duration timeToLive) {
+        this.states = Caffeine.newBuilder()
+            .maximumWeight(maximumSizeInBytes)
+            .weigher((String _, byte[] state) -> state.length)
+            .expireAfterAccess(timeToLive)
+            .build();
+    }
+
+    @Override
+    public void put(final String handle, final byte[] state) {
+        states.put(handle, state);
+    }
+
+    @Override
+    public Optional<byte[]> get(final String handle) {
+        return Optional.ofNullable(states.getIfPresent(handle));
+    }
+
+    @Override
+    public void remove(final String handle) {
+        states.invalidate(handle);
+    }
+}
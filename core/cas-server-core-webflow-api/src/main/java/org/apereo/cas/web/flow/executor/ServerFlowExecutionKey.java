@@ -0,0 +1,54 @@
+package org.apereo.cas.web.flow.executor;
+
+import module java.base;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import org.springframework.webflow.execution.FlowExecutionKey;
+import org.springframework.webflow.execution.repository.BadlyFormattedFlowExecutionKeyException;
+
+/**
+ * Spring Webflow execution id that only carries a random handle to the flow execution state
+ * that is kept server-side by a {@link FlowExecutionStateStore}.
+ *
+ * @author Misagh Moayyed
+ * @since 8.1.0
+ */
+@EqualsAndHashCode(callSuper = false)
+@Getter
+public class ServerFlowExecutionKey extends FlowExecutionKey {
+
+    private static final String KEY_FORMAT = "<uuid>";
+
+    @Serial
+    private static final long serialVersionUID = -2863270932510847262L;
+
+    private final UUID handle;
+
+    public ServerFlowExecutionKey() {
+        this(UUID.randomUUID());
+    }
+
+    public ServerFlowExecutionKey(final UUID handle) {
+        this.handle = handle;
+    }
+
+    /**
+     * Parse.
+     *
+     * @param key the key
+     * @return the server flow execution key
+     * @throws BadlyFormattedFlowExecutionKeyException the badly formatted flow execution key exception
+     */
+    public static ServerFlowExecutionKey parse(final String key) throws BadlyFormattedFlowExecutionKeyException {
+        try {
+            return new ServerFlowExecutionKey(UUID.fromString(key));
+        } catch (final Exception e) {
+            throw new BadlyFormattedFlowExecutionKeyException(key, KEY_FORMAT);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return handle.toString();
+    }
+}
@@ -0,0 +1,103 @@
+package org.apereo.cas.web.flow.executor;
+
+import module java.base;
+import org.apereo.cas.configuration.model.core.web.flow.WebflowProperties;
+import org.apereo.cas.util.crypto.CipherExecutor;
+import org.apereo.cas.util.crypto.CipherExecutorResolver;
+import lombok.val;
+import org.springframework.webflow.definition.registry.FlowDefinitionLocator;
+import org.springframework.webflow.execution.FlowExecution;
+import org.springframework.webflow.execution.FlowExecutionFactory;
+import org.springframework.webflow.execution.FlowExecutionKey;
+import org.springframework.webflow.execution.repository.FlowExecutionRepositoryException;
+import org.springframework.webflow.execution.repository.NoSuchFlowExecutionException;
+
+/**
+ * Stores flow execution state server-side in a {@link FlowExecutionStateStore}, and only sends
+ * a {@link ServerFlowExecutionKey} with a random handle to the client. Each view rendered by the flow
+ * gets a new handle, so earlier states remain available until they are evicted by the store.
+ * Since state never leaves the server, it is serialized without compression or encryption.
+ *
+ * @author Misagh Moayyed
+ * @since 8.1.0
+ */
+public class ServerFlowExecutionRepository extends ClientFlowExecutionRepository {
+    private static final Transcoder TRANSCODER = new EncryptedTranscoder(CipherExecutor.noOp(), false);
+
+    private final FlowExecutionStateStore flowExecutionStateStore;
+
+    public ServerFlowExecutionRepository(final FlowExecutionFactory flowExecutionFactory,
+                                         final FlowDefinitionLocator flowDefinitionLocator,
+                                         final WebflowProperties webflowProperties,
+                                         final FlowExecutionStateStore flowExecutionStateStore) {
+        super(flowExecutionFactory, flowDefinitionLocator, CipherExecutorResolver.with(CipherExecutor.noOp()), webflowProperties);
+        this.flowExecutionStateStore = flowExecutionStateStore;
+    }
+
+    @Override
+    public FlowExecutionKey parseFlowExecutionKey(final String encodedKey) throws FlowExecutionRepositoryException {
+        return ServerFlowExecutionKey.parse(encodedKey);
+    }
+
+    @Override
+    public FlowExecution getFlowExecution(final FlowExecutionKey key) throws FlowExecutionRepositoryException {
+        if (key instanceof final ServerFlowExecutionKey serverFlowExecutionKey) {
+            val state = flowExecutionStateStore.get(serverFlowExecutionKey.toString())
+                .orElseThrow(() -> new NoSuchFlowExecutionException(key, null));
+            try {
+                return decodeFlowExecution(key, state);
+            } catch (final Exception e) {
+                throw new ClientFlowExecutionRepositoryException("Error decoding flow execution", e);
+            }
+        }
+        throw new IllegalArgumentException("Expected instance of ServerFlowExecutionKey but got " + key.getClass().getName());
+    }
+
+    @Override
+    public FlowExecutionKey getKey(final FlowExecution execution) {
+        return new ServerFlowExecutionKey();
+    }
+
+    @Override
+    public void putFlowExecution(final FlowExecution flowExecution) throws FlowExecutionRepositoryException {
+        storeFlowExecution(flowExecution);
+    }
+
+    @Override
+    public void updateFlowExecutionSnapshot(final FlowExecution execution) {
+        storeFlowExecution(execution);
+    }
+
+    @Override
+    public void removeFlowExecution(final FlowExecution flowExecution) throws FlowExecutionRepositoryException {
+        removeFlowExecutionSnapshot(flowExecution);
+    }
+
+    @Override
+    public void removeFlowExecutionSnapshot(final FlowExecution execution) {
+        if (execution.getKey() != null) {
+            flowExecutionStateStore.remove(execution.getKey().toString());
+        }
+    }
+
+    @Override
+    public void removeAllFlowExecutionSnapshots(final FlowExecution execution) {
+        removeFlowExecutionSnapshot(execution);
+    }
+
+    @Override
+    protected Transcoder determineTranscoder() {
+        return TRANSCODER;
+    }
+
+    private void storeFlowExecution(final FlowExecution execution) {
+        val key = execution.getKey();
+        if (key != null) {
+            try {
+                flowExecutionStateStore.put(key.toString(), encodeFlowExecution(execution));
+            } catch (final Exception e) {
+                throw new ClientFlowExecutionRepositoryException("Error encoding flow execution", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package org.apereo.cas.web.flow.executor;
+
+import module java.base;
+import org.apereo.cas.ticket.TicketFactory;
+import org.apereo.cas.ticket.TransientSessionTicket;
+import org.apereo.cas.ticket.TransientSessionTicketFactory;
+import org.apereo.cas.ticket.registry.TicketRegistry;
+import org.apereo.cas.util.function.FunctionUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * This is {@link TicketRegistryFlowExecutionStateStore} that keeps flow execution state
+ * in the ticket registry as transient session tickets, so that state is shared by all nodes
+ * that share the registry and expires with the expiration policy of transient session tickets.
+ *
+ * @author Misagh Moayyed
+ * @since 8.1.0
+ */
+@RequiredArgsConstructor
+public class TicketRegistryFlowExecutionStateStore implements FlowExecutionStateStore {
+    private static final String PROPERTY_FLOW_EXECUTION_STATE = "flowExecutionState";
+
+    private final ObjectProvider<TicketRegistry> ticketRegistry;
+
+    private final ObjectProvider<TicketFactory> ticketFactory;
+
+    @Override
+    public void put(final String handle, final byte[] state) {
+        val ticketId = TransientSessionTicketFactory.normalizeTicketId(handle);
+        FunctionUtils.doUnchecked(_ -> {
+            val registry = ticketRegistry.getObject();
+            if (registry.getTicket(ticketId) instanceof final TransientSessionTicket ticket) {
+                ticket.putProperty(PROPERTY_FLOW_EXECUTION_STATE, state);
+                registry.updateTicket(ticket);
+            } else {
+                val factory = (TransientSessionTicketFactory) ticketFactory.getObject().get(TransientSessionTicket.class);
+                registry.addTicket(factory.create(ticketId, Map.of(PROPERTY_FLOW_EXECUTION_STATE, state)));
+            }
+        });
+    }
+
+    @Override
+    public Optional<byte[]> get(final String handle) {
+        val ticketId = TransientSessionTicketFactory.normalizeTicketId(handle);
+        return Optional.ofNullable(ticketRegistry.getObject().getTicket(ticketId))
+            .filter(TransientSessionTicket.class::isInstance)
+            .map(TransientSessionTicket.class::cast)
+            .filter(ticket -> !ticket.isExpired())
+            .map(ticket -> ticket.getProperty(PROPERTY_FLOW_EXECUTION_STATE, byte[].class));
+    }
+
+    @Override
+    public void remove(final String handle) {
+        val ticketId = TransientSessionTicketFactory.normalizeTicketId(handle);
+        FunctionUtils.doUnchecked(_ -> ticketRegistry.getObject().deleteTicket(ticketId));
+    }
+}
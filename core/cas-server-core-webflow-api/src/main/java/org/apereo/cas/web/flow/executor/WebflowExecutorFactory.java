@@ -7,10 +7,12 @@ import org.apereo.cas.multitenancy.TenantExtractor;
 import org.apereo.cas.util.cipher.DefaultCipherExecutorResolver;
 import org.apereo.cas.util.cipher.WebflowConversationStateCipherExecutor;
 import org.apereo.cas.util.crypto.CipherExecutor;
+import org.apereo.cas.util.spring.beans.BeanSupplier;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.Delegate;
 import lombok.val;
+import org.jspecify.annotations.Nullable;
 import org.springframework.webflow.context.servlet.FlowUrlHandler;
 import org.springframework.webflow.conversation.impl.SessionBindingConversationManager;
 import org.springframework.webflow.definition.registry.FlowDefinitionRegistry;
@@ -44,15 +46,40 @@ public class WebflowExecutorFactory {
 
     private final TenantExtractor tenantExtractor;
 
+    @Nullable
+    private final FlowExecutionStateStore flowExecutionStateStore;
+
+    public WebflowExecutorFactory(final WebflowProperties webflowProperties,
+                                  final FlowDefinitionRegistry flowDefinitionRegistry,
+                                  final CipherExecutor webflowCipherExecutor,
+                                  final FlowExecutionListener[] executionListeners,
+                                  final FlowUrlHandler flowUrlHandler,
+                                  final TenantExtractor tenantExtractor) {
+        this(webflowProperties, flowDefinitionRegistry, webflowCipherExecutor,
+            executionListeners, flowUrlHandler, tenantExtractor, null);
+    }
+
     /**
      * Build flow executor.
      *
      * @return the flow executor
      */
     public FlowExecutor build() {
-        return webflowProperties.getSession().isStorage()
-            ? buildFlowExecutorViaServerSessionBindingExecution()
-            : buildFlowExecutorViaClientFlowExecution();
+        if (webflowProperties.getSession().isStorage()) {
+            return buildFlowExecutorViaServerSessionBindingExecution();
+        }
+        if (flowExecutionStateStore != null && BeanSupplier.isNotProxy(flowExecutionStateStore)) {
+            return buildFlowExecutorViaServerFlowExecutionStore(flowExecutionStateStore);
+        }
+        return buildFlowExecutorViaClientFlowExecution();
+    }
+
+    private FlowExecutor buildFlowExecutorViaServerFlowExecutionStore(final FlowExecutionStateStore stateStore) {
+        val executionFactory = new FlowExecutionImplFactory();
+        executionFactory.setExecutionListenerLoader(new StaticFlowExecutionListenerLoader(executionListeners));
+        val repository = new ServerFlowExecutionRepository(executionFactory, flowDefinitionRegistry, webflowProperties, stateStore);
+        executionFactory.setExecutionKeyFactory(repository);
+        return buildCasFlowExecutor(executionFactory, repository);
     }
 
     private FlowExecutor buildFlowExecutorViaServerSessionBindingExecution() {
@@ -5,10 +5,14 @@ import org.apereo.cas.authentication.principal.ServiceFactory;
 import org.apereo.cas.authentication.principal.WebApplicationService;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.configuration.features.CasFeatureModule;
+import org.apereo.cas.configuration.model.core.web.flow.WebflowExecutionStoreProperties;
+import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.multitenancy.TenantExtractor;
 import org.apereo.cas.multitenancy.TenantsManager;
 import org.apereo.cas.services.ServicesManager;
 import org.apereo.cas.throttle.AuthenticationThrottlingExecutionPlan;
+import org.apereo.cas.ticket.TicketFactory;
+import org.apereo.cas.ticket.registry.TicketRegistry;
 import org.apereo.cas.util.CollectionUtils;
 import org.apereo.cas.util.crypto.CipherExecutor;
 import org.apereo.cas.util.spring.beans.BeanSupplier;
@@ -29,6 +33,9 @@ import org.apereo.cas.web.flow.configurer.DefaultLogoutWebflowConfigurer;
 import org.apereo.cas.web.flow.configurer.DynamicFlowModelBuilder;
 import org.apereo.cas.web.flow.configurer.GroovyWebflowConfigurer;
 import org.apereo.cas.web.flow.configurer.plan.DefaultCasWebflowExecutionPlan;
+import org.apereo.cas.web.flow.executor.FlowExecutionStateStore;
+import org.apereo.cas.web.flow.executor.InMemoryFlowExecutionStateStore;
+import org.apereo.cas.web.flow.executor.TicketRegistryFlowExecutionStateStore;
 import org.apereo.cas.web.flow.executor.WebflowExecutorFactory;
 import org.apereo.cas.web.flow.resolver.CasMvcViewFactoryCreator;
 import org.apereo.cas.web.support.ArgumentExtractor;
@@ -188,6 +195,25 @@ class CasWebflowContextConfiguration {
     @EnableConfigurationProperties(CasConfigurationProperties.class)
     static class CasWebflowContextFlowExecutorConfiguration {
 
+        @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
+        @Bean
+        @ConditionalOnMissingBean(name = FlowExecutionStateStore.BEAN_NAME)
+        public FlowExecutionStateStore flowExecutionStateStore(
+            final CasConfigurationProperties casProperties,
+            @Qualifier(TicketRegistry.BEAN_NAME)
+            final ObjectProvider<TicketRegistry> ticketRegistry,
+            @Qualifier(TicketFactory.BEAN_NAME)
+            final ObjectProvider<TicketFactory> ticketFactory) {
+            val store = casProperties.getWebflow().getSession().getStore();
+            return BeanSupplier.of(FlowExecutionStateStore.class)
+                .when(store.getType() != WebflowExecutionStoreProperties.WebflowExecutionStoreTypes.NONE)
+                .supply(() -> store.getType() == WebflowExecutionStoreProperties.WebflowExecutionStoreTypes.TICKET_REGISTRY
+                    ? new TicketRegistryFlowExecutionStateStore(ticketRegistry, ticketFactory)
+                    : new InMemoryFlowExecutionStateStore(store.getMaximumSizeInBytes(), Beans.newDuration(store.getTimeToLive())))
+                .otherwiseProxy()
+                .get();
+        }
+
         @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
         @Bean
         @ConditionalOnMissingBean(name = "logoutFlowExecutor")
@@ -200,10 +226,12 @@ class CasWebflowContextConfiguration {
             @Qualifier(CasWebflowConstants.BEAN_NAME_FLOW_DEFINITION_REGISTRY)
             final FlowDefinitionRegistry flowDefinitionRegistry,
             @Qualifier(CipherExecutor.BEAN_NAME_WEBFLOW_CIPHER_EXECUTOR)
-            final CipherExecutor webflowCipherExecutor) {
+            final CipherExecutor webflowCipherExecutor,
+            @Qualifier(FlowExecutionStateStore.BEAN_NAME)
+            final FlowExecutionStateStore flowExecutionStateStore) {
             val factory = new WebflowExecutorFactory(casProperties.getWebflow(),
                 flowDefinitionRegistry, webflowCipherExecutor, FLOW_EXECUTION_LISTENERS,
-                logoutFlowUrlHandler, tenantExtractor);
+                logoutFlowUrlHandler, tenantExtractor, flowExecutionStateStore);
             return factory.build();
         }
 
@@ -219,10 +247,12 @@ class CasWebflowContextConfiguration {
             @Qualifier(CasWebflowConstants.BEAN_NAME_FLOW_DEFINITION_REGISTRY)
             final FlowDefinitionRegistry flowDefinitionRegistry,
             @Qualifier(CipherExecutor.BEAN_NAME_WEBFLOW_CIPHER_EXECUTOR)
-            final CipherExecutor webflowCipherExecutor) {
+            final CipherExecutor webflowCipherExecutor,
+            @Qualifier(FlowExecutionStateStore.BEAN_NAME)
+            final FlowExecutionStateStore flowExecutionStateStore) {
             val factory = new WebflowExecutorFactory(casProperties.getWebflow(),
                 flowDefinitionRegistry, webflowCipherExecutor,
-                FLOW_EXECUTION_LISTENERS, loginFlowUrlHandler, tenantExtractor);
+                FLOW_EXECUTION_LISTENERS, loginFlowUrlHandler, tenantExtractor, flowExecutionStateStore);
 
             return factory.build();
         }
@@ -0,0 +1,32 @@
+package org.apereo.cas.web.flow.executor;
+
+import module java.base;
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import static org.awaitility.Awaitility.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link InMemoryFlowExecutionStateStoreTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 8.1.0
+ */
+@Tag("Webflow")
+class InMemoryFlowExecutionStateStoreTests {
+
+    @Test
+    void verifyStatesAreWeighedByBytes() {
+        val store = new InMemoryFlowExecutionStateStore(1024, Duration.ofMinutes(1));
+        store.put("small", new byte[16]);
+        assertTrue(store.get("small").isPresent());
+        store.remove("small");
+        assertTrue(store.get("small").isEmpty());
+
+        IntStream.range(0, 8).forEach(i -> store.put("state-" + i, new byte[256]));
+        await().atMost(Duration.ofSeconds(5)).until(() -> IntStream.range(0, 8)
+            .filter(i -> store.get("state-" + i).isPresent())
+            .count() <= 4);
+    }
+}
@@ -0,0 +1,123 @@
+package org.apereo.cas.web.flow.executor;
+
+import module java.base;
+import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.multitenancy.TenantExtractor;
+import org.apereo.cas.test.CasTestExtension;
+import org.apereo.cas.util.crypto.CipherExecutor;
+import org.apereo.cas.util.spring.boot.SpringBootTestAutoConfigurations;
+import org.apereo.cas.web.flow.BaseWebflowConfigurerTests;
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.webflow.config.FlowBuilderServicesBuilder;
+import org.springframework.webflow.config.FlowDefinitionRegistryBuilder;
+import org.springframework.webflow.context.servlet.DefaultFlowUrlHandler;
+import org.springframework.webflow.core.collection.LocalAttributeMap;
+import org.springframework.webflow.definition.registry.FlowDefinitionRegistry;
+import org.springframework.webflow.execution.FlowExecutionListener;
+import org.springframework.webflow.execution.repository.BadlyFormattedFlowExecutionKeyException;
+import org.springframework.webflow.execution.repository.NoSuchFlowExecutionException;
+import org.springframework.webflow.executor.FlowExecutor;
+import org.springframework.webflow.expression.spel.WebFlowSpringELExpressionParser;
+import org.springframework.webflow.test.CasMockViewFactoryCreator;
+import org.springframework.webflow.test.MockExternalContext;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test cases for {@link ServerFlowExecutionRepository}.
+ *
+ * @author Misagh Moayyed
+ * @since 8.1.0
+ */
+@SpringBootTestAutoConfigurations
+@Tag("Webflow")
+@ExtendWith(CasTestExtension.class)
+@Import(ServerFlowExecutionRepositoryTests.WebflowTestConfiguration.class)
+class ServerFlowExecutionRepositoryTests extends BaseWebflowConfigurerTests {
+    @Autowired
+    @Qualifier("serverFlowExecutor")
+    private FlowExecutor flowExecutor;
+
+    @Autowired
+    @Qualifier("testFlowExecutionStateStore")
+    private FlowExecutionStateStore flowExecutionStateStore;
+
+    @Test
+    void verifyLaunchAndResumeFlow() {
+        val context = new MockExternalContext();
+        context.setNativeRequest(new MockHttpServletRequest());
+        context.setNativeResponse(new MockHttpServletResponse());
+
+        val launchResult = flowExecutor.launchExecution("test-flow", new LocalAttributeMap<>(), context);
+        val pausedKey = launchResult.getPausedKey();
+        assertEquals(ServerFlowExecutionKey.parse(pausedKey).toString(), pausedKey);
+        assertTrue(flowExecutionStateStore.get(pausedKey).isPresent());
+
+        context.setEventId("submit");
+        context.getRequestMap().put("vegan", "0");
+        val resumeResult = flowExecutor.resumeExecution(pausedKey, context);
+        assertNotNull(resumeResult.getOutcome());
+        assertEquals("lasagnaDinner", resumeResult.getOutcome().getId());
+    }
+
+    @Test
+    void verifyUnknownAndBadKeys() {
+        val context = new MockExternalContext();
+        context.setNativeRequest(new MockHttpServletRequest());
+        context.setNativeResponse(new MockHttpServletResponse());
+        context.setEventId("submit");
+        assertThrows(NoSuchFlowExecutionException.class,
+            () -> flowExecutor.resumeExecution(UUID.randomUUID().toString(), context));
+        assertThrows(BadlyFormattedFlowExecutionKeyException.class,
+            () -> flowExecutor.resumeExecution(UUID.randomUUID() + "_c29tZXRoaW5n", context));
+    }
+
+    @TestConfiguration(value = "ServerFlowExecutionRepositoryTestConfiguration", proxyBeanMethods = false)
+    static class WebflowTestConfiguration {
+        @Bean
+        public FlowExecutionStateStore testFlowExecutionStateStore() {
+            return new InMemoryFlowExecutionStateStore(1024 * 1024, Duration.ofMinutes(1));
+        }
+
+        @Bean
+        public FlowDefinitionRegistry serverFlowRegistry(final ConfigurableApplicationContext applicationContext) {
+            val flowServicesBuilder = new FlowBuilderServicesBuilder();
+            flowServicesBuilder.setViewFactoryCreator(new CasMockViewFactoryCreator());
+            flowServicesBuilder.setExpressionParser(new WebFlowSpringELExpressionParser(new SpelExpressionParser()));
+            val builder = new FlowDefinitionRegistryBuilder(applicationContext, flowServicesBuilder.build());
+            builder.setBasePath("classpath:");
+            builder.addFlowLocationPattern("/test/*-flow.xml");
+            return builder.build();
+        }
+
+        @Bean
+        public FlowExecutor serverFlowExecutor(
+            @Qualifier(TenantExtractor.BEAN_NAME)
+            final TenantExtractor tenantExtractor,
+            @Qualifier(CipherExecutor.BEAN_NAME_WEBFLOW_CIPHER_EXECUTOR)
+            final CipherExecutor webflowCipherExecutor,
+            final CasConfigurationProperties casProperties,
+            @Qualifier("serverFlowRegistry")
+            final FlowDefinitionRegistry serverFlowRegistry,
+            @Qualifier("testFlowExecutionStateStore")
+            final FlowExecutionStateStore testFlowExecutionStateStore) {
+            val factory = new WebflowExecutorFactory(casProperties.getWebflow(), serverFlowRegistry,
+                webflowCipherExecutor, new FlowExecutionListener[0],
+                new DefaultFlowUrlHandler(), tenantExtractor, testFlowExecutionStateStore);
+            val flowExecutor = (WebflowExecutorFactory.CasFlowExecutorImpl) factory.build();
+            assertInstanceOf(ServerFlowExecutionRepository.class, flowExecutor.getFlowExecutionRepository());
+            return flowExecutor;
+        }
+    }
+}
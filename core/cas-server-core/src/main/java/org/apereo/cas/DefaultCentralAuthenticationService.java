@@ -34,6 +34,7 @@ import org.apereo.cas.ticket.ServiceTicketFactory;
 import org.apereo.cas.ticket.Ticket;
 import org.apereo.cas.ticket.TicketGrantingTicket;
 import org.apereo.cas.ticket.TicketGrantingTicketFactory;
+import org.apereo.cas.ticket.UniqueTicketIdGenerator;
 import org.apereo.cas.ticket.UnrecognizableServiceForServiceTicketValidationException;
 import org.apereo.cas.ticket.proxy.ProxyGrantingTicket;
 import org.apereo.cas.ticket.proxy.ProxyGrantingTicketFactory;
@@ -157,13 +158,21 @@ public class DefaultCentralAuthenticationService extends AbstractCentralAuthenti
             LOGGER.info("Service ticket [{}] is not a valid ticket issued by CAS.", serviceTicketId);
             throw new InvalidTicketException(serviceTicketId);
         }
-        val serviceTicket = configurationContext.getTicketRegistry().getTicket(serviceTicketId, ServiceTicket.class);
+        val ticketRegistry = configurationContext.getTicketRegistry();
+        val consumed = ticketRegistry.isTicketConsumptionAtomic()
+            && serviceTicketId.startsWith(ServiceTicket.PREFIX + UniqueTicketIdGenerator.SEPARATOR);
+        val serviceTicket = consumed
+            ? consumeServiceTicket(serviceTicketId)
+            : ticketRegistry.getTicket(serviceTicketId, ServiceTicket.class);
         if (serviceTicket == null) {
             LOGGER.warn("Service ticket [{}] does not exist.", serviceTicketId);
             throw new InvalidTicketException(serviceTicketId);
         }
         if (!(serviceTicket.getTicketGrantingTicket() instanceof TicketGrantingTicket) && !serviceTicket.isStateless()) {
             LOGGER.warn("Service ticket [{}] is not assigned a valid ticket granting ticket", serviceTicketId);
+            if (consumed) {
+                ticketRegistry.addTicket(serviceTicket);
+            }
             throw new InvalidTicketException(serviceTicketId);
         }
 
@@ -173,38 +182,20 @@ public class DefaultCentralAuthenticationService extends AbstractCentralAuthenti
             LOGGER.debug("Resolved service [{}] from the authentication request with service [{}] linked to service ticket [{}]",
                 resolvedService, selectedService, serviceTicket.getId());
 
-            configurationContext.getLockRepository().execute(serviceTicket.getId(),
-                Unchecked.supplier(() -> {
-                    if (serviceTicket.isExpired()) {
-                        LOGGER.info("Service ticket [{}] has expired.", serviceTicketId);
-                        throw new InvalidTicketException(serviceTicketId);
-                    }
-                    if (!configurationContext.getServiceMatchingStrategy().matches(selectedService, resolvedService)) {
-                        LOGGER.error("Service ticket [{}] with service [{}] does not match supplied service [{}]",
-                            serviceTicketId, serviceTicket.getService().getId(), Objects.requireNonNull(resolvedService).getId());
-                        throw new UnrecognizableServiceForServiceTicketValidationException(selectedService);
-                    }
-                    if (StringUtils.isNotBlank(serviceTicket.getTenantId())) {
-                        if (!Strings.CI.equals(Objects.requireNonNull(resolvedService).getTenant(), serviceTicket.getTenantId())) {
-                            LOGGER.warn("Service ticket [{}] is not assigned to the same tenant [{}] as the service [{}]",
-                                serviceTicketId, serviceTicket.getTenantId(), resolvedService.getId());
-                            throw new UnknownTenantException("Unknown tenant %s for service ticket %s"
-                                .formatted(resolvedService.getTenant(), serviceTicketId));
-                        }
-                        if (configurationContext.getTenantExtractor().getTenantsManager().findTenant(serviceTicket.getTenantId()).isEmpty()) {
-                            LOGGER.warn("Service ticket [{}] is not assigned to a known valid tenant [{}] for service [{}]",
-                                serviceTicketId, serviceTicket.getTenantId(), resolvedService.getId());
-                            throw new UnknownTenantException("Unknown tenant %s for service ticket %s"
-                                .formatted(serviceTicket.getTenantId(), serviceTicketId));
+            if (consumed) {
+                verifyServiceTicketForValidation(serviceTicketId, serviceTicket, selectedService, resolvedService);
+                serviceTicket.update();
+            } else {
+                configurationContext.getLockRepository().execute(serviceTicket.getId(),
+                    Unchecked.supplier(() -> {
+                        verifyServiceTicketForValidation(serviceTicketId, serviceTicket, selectedService, resolvedService);
+                        serviceTicket.update();
+                        if (!serviceTicket.isStateless()) {
+                            ticketRegistry.updateTicket(serviceTicket);
                         }
-                    }
-
-                    serviceTicket.update();
-                    if (!serviceTicket.isStateless()) {
-                        configurationContext.getTicketRegistry().updateTicket(serviceTicket);
-                    }
-                    return serviceTicket;
-                }));
+                        return serviceTicket;
+                    }));
+            }
 
             val registeredService = configurationContext.getServicesManager().findServiceBy(selectedService);
             LOGGER.trace("Located registered service definition [{}] from [{}] to handle validation request", registeredService, selectedService);
@@ -284,16 +275,66 @@ public class DefaultCentralAuthenticationService extends AbstractCentralAuthenti
             doPublishEvent(new CasServiceTicketValidatedEvent(this, serviceTicket, assertion, clientInfo));
             return assertion;
         } finally {
-            if (!serviceTicket.isStateless()) {
+            if (consumed) {
+                if (!serviceTicket.isExpired()) {
+                    ticketRegistry.addTicket(serviceTicket);
+                }
+            } else if (!serviceTicket.isStateless()) {
                 if (serviceTicket.isExpired()) {
-                    configurationContext.getTicketRegistry().deleteTicket(serviceTicketId);
+                    ticketRegistry.deleteTicket(serviceTicketId);
                 } else {
-                    configurationContext.getTicketRegistry().updateTicket(serviceTicket);
+                    ticketRegistry.updateTicket(serviceTicket);
                 }
             }
         }
     }
 
+    /**
+     * Remove the service ticket from the registry in a single step, so that only one
+     * of several concurrent validation requests may ever receive the ticket.
+     * Tickets that are still usable after validation are put back into the registry.
+     *
+     * @param serviceTicketId the service ticket id
+     * @return the service ticket, or null if the ticket is not found or was consumed already
+     * @throws Exception the exception
+     */
+    private @Nullable ServiceTicket consumeServiceTicket(final String serviceTicketId) throws Exception {
+        val ticket = configurationContext.getTicketRegistry().consumeTicket(serviceTicketId);
+        if (ticket != null && !(ticket instanceof ServiceTicket)) {
+            configurationContext.getTicketRegistry().addTicket(ticket);
+            throw new ClassCastException("Ticket [" + ticket.getId() + " is of type "
+                + ticket.getClass() + " when we were expecting " + ServiceTicket.class);
+        }
+        return (ServiceTicket) ticket;
+    }
+
+    private void verifyServiceTicketForValidation(final String serviceTicketId, final ServiceTicket serviceTicket,
+                                                  final @Nullable Service selectedService, final @Nullable Service resolvedService) {
+        if (serviceTicket.isExpired()) {
+            LOGGER.info("Service ticket [{}] has expired.", serviceTicketId);
+            throw new InvalidTicketException(serviceTicketId);
+        }
+        if (!configurationContext.getServiceMatchingStrategy().matches(selectedService, resolvedService)) {
+            LOGGER.error("Service ticket [{}] with service [{}] does not match supplied service [{}]",
+                serviceTicketId, serviceTicket.getService().getId(), Objects.requireNonNull(resolvedService).getId());
+            throw new UnrecognizableServiceForServiceTicketValidationException(selectedService);
+        }
+        if (StringUtils.isNotBlank(serviceTicket.getTenantId())) {
+            if (!Strings.CI.equals(Objects.requireNonNull(resolvedService).getTenant(), serviceTicket.getTenantId())) {
+                LOGGER.warn("Service ticket [{}] is not assigned to the same tenant [{}] as the service [{}]",
+                    serviceTicketId, serviceTicket.getTenantId(), resolvedService.getId());
+                throw new UnknownTenantException("Unknown tenant %s for service ticket %s"
+                    .formatted(resolvedService.getTenant(), serviceTicketId));
+            }
+            if (configurationContext.getTenantExtractor().getTenantsManager().findTenant(serviceTicket.getTenantId()).isEmpty()) {
+                LOGGER.warn("Service ticket [{}] is not assigned to a known valid tenant [{}] for service [{}]",
+                    serviceTicketId, serviceTicket.getTenantId(), resolvedService.getId());
+                throw new UnknownTenantException("Unknown tenant %s for service ticket %s"
+                    .formatted(serviceTicket.getTenantId(), serviceTicketId));
+            }
+        }
+    }
+
 
     @Audit(
         action = AuditableActions.PROXY_GRANTING_TICKET,
@@ -97,7 +97,9 @@ public class VerifyRequiredServiceAction extends BaseCasWebflowAction {
         val ticket = StringUtils.isNotBlank(ticketGrantingTicketId)
             ? ticketRegistrySupport.getTicketGrantingTicket(ticketGrantingTicketId)
             : null;
-        return ticket != null ? new ArrayList<>(ticket.getServices().values()) : new ArrayList<>();
+        return ticket != null
+            ? new ArrayList<>(ticketRegistrySupport.getTicketRegistry().getTrackedServices(ticket).values())
+            : new ArrayList<>();
     }
 
 }
@@ -41,6 +41,7 @@ class VerifyRequiredServiceActionTests extends AbstractWebflowActionsTests {
     @BeforeEach
     void onSetUp() throws Throwable {
         ticketRegistrySupport = mock(TicketRegistrySupport.class);
+        when(ticketRegistrySupport.getTicketRegistry()).thenReturn(getTicketRegistry());
         verifyRequiredServiceAction = new VerifyRequiredServiceAction(getServicesManager(),
             getTicketGrantingTicketCookieGenerator(), casProperties, ticketRegistrySupport);
         this.requestContext = MockRequestContext.create(applicationContext);
@@ -28,6 +28,11 @@ public class DynamoDbAuditTrailManager extends AbstractAuditTrailManager {
         this.dynamoDbFacilitator.save(audit);
     }
 
+    @Override
+    protected void saveAuditRecords(final List<AuditActionContext> audits) {
+        this.dynamoDbFacilitator.save(audits);
+    }
+
     @Override
     public List<? extends AuditActionContext> getAuditRecords(final Map<WhereClauseFields, Object> whereClause) {
         return dynamoDbFacilitator.getAuditRecords(whereClause);
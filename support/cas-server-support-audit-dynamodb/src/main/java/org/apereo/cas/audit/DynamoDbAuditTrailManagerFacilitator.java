@@ -19,11 +19,14 @@ import org.apereo.inspektr.common.web.ClientInfo;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
 import software.amazon.awssdk.services.dynamodb.model.AttributeDefinition;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemRequest;
 import software.amazon.awssdk.services.dynamodb.model.ComparisonOperator;
 import software.amazon.awssdk.services.dynamodb.model.KeySchemaElement;
 import software.amazon.awssdk.services.dynamodb.model.KeyType;
 import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.PutRequest;
 import software.amazon.awssdk.services.dynamodb.model.ScalarAttributeType;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
 
 /**
  * This is {@link DynamoDbAuditTrailManagerFacilitator}.
@@ -35,6 +38,8 @@ import software.amazon.awssdk.services.dynamodb.model.ScalarAttributeType;
 @RequiredArgsConstructor
 public class DynamoDbAuditTrailManagerFacilitator {
 
+    private static final int MAX_BATCH_WRITE_ITEMS = 25;
+
     private final AuditDynamoDbProperties dynamoDbProperties;
     private final DynamoDbClient amazonDynamoDBClient;
 
@@ -95,6 +100,30 @@ public class DynamoDbAuditTrailManagerFacilitator {
         LOGGER.debug("Record added with result [{}]", putItemResult);
     }
 
+    /**
+     * Save the records in batches. Records are keyed by principal,
+     * so only the last record of each principal in a batch is written,
+     * which is what writing them one at a time would leave behind.
+     *
+     * @param records the records
+     */
+    public void save(final List<AuditActionContext> records) {
+        val requests = new LinkedHashMap<String, WriteRequest>();
+        records.forEach(record -> requests.put(record.getPrincipal(), WriteRequest.builder()
+            .putRequest(PutRequest.builder().item(buildTableAttributeValuesMap(record)).build())
+            .build()));
+        val writeRequests = new ArrayList<>(requests.values());
+        for (var i = 0; i < writeRequests.size(); i += MAX_BATCH_WRITE_ITEMS) {
+            var pending = Map.<String, List<WriteRequest>>of(dynamoDbProperties.getTableName(),
+                writeRequests.subList(i, Math.min(writeRequests.size(), i + MAX_BATCH_WRITE_ITEMS)));
+            while (!pending.isEmpty()) {
+                val request = BatchWriteItemRequest.builder().requestItems(pending).build();
+                LOGGER.debug("Submitting batch write request [{}]", request);
+                pending = amazonDynamoDBClient.batchWriteItem(request).unprocessedItems();
+            }
+        }
+    }
+
     /**
      * Remove all.
      */
@@ -19,6 +19,7 @@ import org.apereo.cas.util.spring.beans.BeanSupplier;
 import org.apereo.cas.util.spring.boot.ConditionalOnFeatureEnabled;
 import org.apereo.cas.util.spring.boot.ConditionalOnMatchingHostname;
 import org.apereo.cas.util.thread.Cleanable;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.val;
 import org.apache.commons.lang3.StringUtils;
@@ -28,6 +29,7 @@ import org.apereo.inspektr.audit.support.MaxAgeWhereClauseMatchCriteria;
 import org.apereo.inspektr.audit.support.WhereClauseMatchCriteria;
 import org.jooq.lambda.Unchecked;
 import org.springframework.beans.factory.FactoryBean;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
@@ -183,6 +185,7 @@ public class CasJdbcAuditAutoConfiguration {
             final TransactionOperations inspektrAuditTransactionTemplate,
             @Qualifier("inspektrAuditTrailDataSource")
             final DataSource inspektrAuditTrailDataSource,
+            final ObjectProvider<MeterRegistry> meterRegistry,
             final CasConfigurationProperties casProperties) {
             return BeanSupplier.of(AuditTrailManager.class)
                 .when(CONDITION.given(applicationContext.getEnvironment()))
@@ -192,6 +195,7 @@ public class CasJdbcAuditAutoConfiguration {
                     manager.setCleanupCriteria(auditCleanupCriteria);
                     val jdbc = casProperties.getAudit().getJdbc();
                     manager.setAsynchronous(jdbc.isAsynchronous());
+                    manager.configurePipeline(jdbc.getPipeline(), meterRegistry.getIfAvailable());
                     manager.setColumnLength(jdbc.getColumnLength());
                     manager.setTableName(getAuditTableNameFrom(jdbc));
                     FunctionUtils.doIfNotBlank(jdbc.getSelectSqlQueryTemplate(), manager::setSelectByDateSqlTemplate);
@@ -37,6 +37,11 @@ public class MongoDbAuditTrailManager extends AbstractAuditTrailManager {
         this.mongoTemplate.save(audit, this.collectionName);
     }
 
+    @Override
+    protected void saveAuditRecords(final List<AuditActionContext> audits) {
+        this.mongoTemplate.insert(audits, this.collectionName);
+    }
+
     @Override
     public List<? extends AuditActionContext> getAuditRecords(final Map<WhereClauseFields, Object> whereClause) {
         val localDate = (LocalDateTime) whereClause.get(WhereClauseFields.DATE);
@@ -12,6 +12,7 @@ import org.apereo.cas.util.DateTimeUtils;
 import org.apereo.cas.util.function.FunctionUtils;
 import org.apereo.cas.util.serialization.JacksonObjectMapperFactory;
 import org.apereo.cas.util.spring.boot.ConditionalOnFeatureEnabled;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.val;
 import org.apereo.inspektr.audit.AuditActionContext;
 import org.apereo.inspektr.audit.AuditTrailManager;
@@ -19,6 +20,7 @@ import org.bson.Document;
 import org.bson.json.JsonMode;
 import org.bson.json.JsonWriterSettings;
 import org.jspecify.annotations.NonNull;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
@@ -44,12 +46,15 @@ public class CasSupportMongoDbAuditAutoConfiguration {
     @ConditionalOnMissingBean(name = "mongoDbAuditTrailManager")
     public AuditTrailManager mongoDbAuditTrailManager(
         final CasConfigurationProperties casProperties,
+        final ObjectProvider<MeterRegistry> meterRegistry,
         @Qualifier(CasSSLContext.BEAN_NAME) final CasSSLContext casSslContext) {
         val mongo = casProperties.getAudit().getMongo();
         val factory = new MongoDbConnectionFactory(List.of(new AuditActionContextConverter()), casSslContext.getSslContext());
         val mongoTemplate = factory.buildMongoTemplate(mongo);
         MongoDbConnectionFactory.createCollection(mongoTemplate, mongo.getCollection(), mongo.isDropCollection());
-        return new MongoDbAuditTrailManager(mongoTemplate, mongo.getCollection(), mongo.isAsynchronous());
+        val manager = new MongoDbAuditTrailManager(mongoTemplate, mongo.getCollection(), mongo.isAsynchronous());
+        manager.configurePipeline(mongo.getPipeline(), meterRegistry.getIfAvailable());
+        return manager;
     }
 
     @Bean
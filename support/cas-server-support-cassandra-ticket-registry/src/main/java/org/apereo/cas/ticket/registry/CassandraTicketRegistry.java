@@ -197,6 +197,9 @@ public class CassandraTicketRegistry extends AbstractTicketRegistry implements D
 
     @Override
     public Stream<? extends Ticket> stream(final TicketRegistryStreamCriteria criteria) {
+        if (criteria.getAfter() != null) {
+            return criteria.apply(stream(), ticket -> digestIdentifier(ticket.getId()));
+        }
         return ticketCatalog
             .findAll()
             .stream()
@@ -1,17 +1,16 @@
 package org.apereo.cas.consent;
 
 import module java.base;
-import org.apereo.cas.util.ResourceUtils;
-import org.apereo.cas.util.function.FunctionUtils;
-import org.apereo.cas.util.io.FileWatcherService;
+import org.apereo.cas.authentication.Authentication;
+import org.apereo.cas.authentication.principal.Service;
+import org.apereo.cas.services.RegisteredService;
+import org.apereo.cas.util.io.IndexedJsonFileStore;
 import org.apereo.cas.util.io.WatcherService;
 import org.apereo.cas.util.serialization.JacksonObjectMapperFactory;
 import lombok.Getter;
 import lombok.val;
 import org.hjson.JsonValue;
-import org.jooq.lambda.Unchecked;
-import org.jooq.lambda.fi.util.function.CheckedConsumer;
-import org.jooq.lambda.fi.util.function.CheckedSupplier;
+import org.jspecify.annotations.Nullable;
 import org.springframework.beans.factory.DisposableBean;
 import org.springframework.core.io.Resource;
 import tools.jackson.core.type.TypeReference;
@@ -33,69 +32,88 @@ public class JsonConsentRepository extends BaseSimpleConsentRepository implement
 
     private final Resource jsonResource;
 
-    private WatcherService watcherService;
+    private final IndexedJsonFileStore<ConsentDecision> store;
 
     public JsonConsentRepository(final Resource resource) {
         this.jsonResource = resource;
-        setConsentDecisions(readDecisionsFromJsonResource());
-        if (ResourceUtils.isFile(this.jsonResource)) {
-            FunctionUtils.doUnchecked(_ -> {
-                this.watcherService = new FileWatcherService(resource.getFile(),
-                    _ -> setConsentDecisions(readDecisionsFromJsonResource()));
-                this.watcherService.start(getClass().getSimpleName());
-            });
-        }
+        this.store = new IndexedJsonFileStore<>(resource, new ConsentDecisionsCodec(),
+            decision -> String.valueOf(decision.getId()), ConsentDecision::getPrincipal)
+            .onReload(this::refreshConsentDecisions)
+            .initialize(true);
+        refreshConsentDecisions(store);
     }
 
     @Override
     public void destroy() {
-        FunctionUtils.doIfNotNull(watcherService, WatcherService::close);
+        store.close();
+    }
+
+    public @Nullable WatcherService getWatcherService() {
+        return store.getWatcherService();
+    }
+
+    @Override
+    public @Nullable ConsentDecision findConsentDecision(final Service service, final RegisteredService registeredService,
+                                                         final Authentication authentication) {
+        return store.findByUsername(authentication.getPrincipal().getId())
+            .stream()
+            .filter(decision -> decision.getPrincipal().equals(authentication.getPrincipal().getId())
+                && decision.getService().equals(service.getId()))
+            .findFirst()
+            .orElse(null);
+    }
+
+    @Override
+    public Collection<? extends ConsentDecision> findConsentDecisions(final String principal) {
+        return store.findByUsername(principal)
+            .stream()
+            .filter(decision -> decision.getPrincipal().equals(principal))
+            .collect(Collectors.toSet());
     }
 
     @Override
     public ConsentDecision storeConsentDecision(final ConsentDecision decision) throws Throwable {
         val result = super.storeConsentDecision(decision);
-        writeAccountToJsonResource();
-        return result;
+        return store.put(result);
     }
 
     @Override
     public boolean deleteConsentDecision(final long decisionId, final String principal) throws Throwable {
         val result = super.deleteConsentDecision(decisionId, principal);
-        writeAccountToJsonResource();
+        if (result) {
+            store.remove(String.valueOf(decisionId));
+        }
         return result;
     }
 
     @Override
     public boolean deleteConsentDecisions(final String principal) throws Throwable {
         val result = super.deleteConsentDecisions(principal);
-        writeAccountToJsonResource();
+        store.removeIf(decision -> decision.getPrincipal().equalsIgnoreCase(principal));
         return result;
     }
 
     @Override
     public void deleteAll() throws Throwable {
         super.deleteAll();
-        writeAccountToJsonResource();
+        store.removeAll();
     }
 
-    private Set<ConsentDecision> readDecisionsFromJsonResource() {
-        return FunctionUtils.doAndHandle((CheckedSupplier<Set<ConsentDecision>>) () -> {
-            if (ResourceUtils.doesResourceExist(jsonResource)) {
-                try (val reader = new InputStreamReader(jsonResource.getInputStream(), StandardCharsets.UTF_8)) {
-                    val personList = new TypeReference<Set<ConsentDecision>>() {
-                    };
-                    return MAPPER.readValue(JsonValue.readHjson(reader).toString(), personList);
-                }
-            }
-            return new LinkedHashSet<>();
-        }, throwable -> new LinkedHashSet<>()).get();
+    private void refreshConsentDecisions(final IndexedJsonFileStore<ConsentDecision> decisions) {
+        setConsentDecisions(Collections.synchronizedSet(new LinkedHashSet<>(decisions.values())));
     }
 
-    private void writeAccountToJsonResource() {
-        Unchecked.consumer((CheckedConsumer<Resource>) resource -> {
-            MAPPER.writerWithDefaultPrettyPrinter().writeValue(resource.getFile(), getConsentDecisions());
-            readDecisionsFromJsonResource();
-        }).accept(this.jsonResource);
+    private static final class ConsentDecisionsCodec implements IndexedJsonFileStore.Codec<ConsentDecision> {
+        @Override
+        public Collection<ConsentDecision> decode(final String contents) {
+            val decisions = new TypeReference<Set<ConsentDecision>>() {
+            };
+            return MAPPER.readValue(JsonValue.readHjson(contents).toString(), decisions);
+        }
+
+        @Override
+        public String encode(final Collection<ConsentDecision> entries) {
+            return MAPPER.writerWithDefaultPrettyPrinter().writeValueAsString(entries);
+        }
     }
 }
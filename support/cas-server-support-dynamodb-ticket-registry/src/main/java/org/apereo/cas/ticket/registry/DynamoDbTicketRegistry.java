@@ -129,6 +129,21 @@ public class DynamoDbTicketRegistry extends AbstractTicketRegistry {
         return null;
     }
 
+    @Override
+    public Ticket consumeTicket(final String ticketId) {
+        val encTicketId = digestIdentifier(ticketId);
+        if (StringUtils.isBlank(encTicketId)) {
+            return null;
+        }
+        val ticket = dbTableService.consume(ticketId, encTicketId);
+        return ticket != null ? decodeTicket(ticket) : null;
+    }
+
+    @Override
+    public boolean isTicketConsumptionAtomic() {
+        return true;
+    }
+
     @Override
     public long deleteAll() {
         return dbTableService.deleteAll();
@@ -141,6 +156,9 @@ public class DynamoDbTicketRegistry extends AbstractTicketRegistry {
 
     @Override
     public Stream<? extends Ticket> stream(final TicketRegistryStreamCriteria criteria) {
+        if (criteria.getAfter() != null) {
+            return criteria.apply(stream(), ticket -> digestIdentifier(ticket.getId()));
+        }
         return dbTableService
             .stream()
             .skip(criteria.getFrom())
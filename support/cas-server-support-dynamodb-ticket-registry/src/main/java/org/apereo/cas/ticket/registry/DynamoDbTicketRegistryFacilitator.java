@@ -41,6 +41,7 @@ import software.amazon.awssdk.services.dynamodb.model.PutRequest;
 import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
 import software.amazon.awssdk.services.dynamodb.model.QueryResponse;
 import software.amazon.awssdk.services.dynamodb.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.dynamodb.model.ReturnValue;
 import software.amazon.awssdk.services.dynamodb.model.ScalarAttributeType;
 import software.amazon.awssdk.services.dynamodb.model.ScanRequest;
 import software.amazon.awssdk.services.dynamodb.model.Select;
@@ -140,6 +141,29 @@ public class DynamoDbTicketRegistryFacilitator {
         return false;
     }
 
+    /**
+     * Delete the ticket and return the deleted item in one request.
+     *
+     * @param ticketId        the ticket id
+     * @param encodedTicketId the encoded ticket id
+     * @return the ticket that was deleted, or null if no ticket was found
+     */
+    public Ticket consume(final String ticketId, final String encodedTicketId) {
+        val metadata = this.ticketCatalog.find(ticketId);
+        if (metadata != null) {
+            val del = DeleteItemRequest.builder().tableName(metadata.getProperties().getStorageName())
+                .key(CollectionUtils.wrap(ColumnNames.ID.getColumnName(), AttributeValue.builder().s(encodedTicketId).build()))
+                .returnValues(ReturnValue.ALL_OLD)
+                .build();
+            LOGGER.debug("Submitting delete request [{}] to consume ticket [{}]", del, ticketId);
+            val deletedItem = amazonDynamoDBClient.deleteItem(del).attributes();
+            if (deletedItem != null && !deletedItem.isEmpty()) {
+                return deserializeTicket(deletedItem);
+            }
+        }
+        return null;
+    }
+
     /**
      * Delete all.
      *
@@ -0,0 +1,201 @@
+package org.apereo.cas.api;
+
+import module java.base;
+import org.apereo.cas.authentication.adaptive.geo.GeoLocationRequest;
+import org.apereo.cas.support.events.dao.CasEvent;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * This is {@link AuthenticationRiskProfile} that summarizes the recent authentication history
+ * of a principal. Authentication events are counted by client ip address, user agent, geolocation,
+ * device fingerprint and hour of day in hourly buckets; buckets are discarded once they fall outside
+ * the history window, and running totals are kept so that lookups do not depend on the size of the history.
+ *
+ * @author Misagh Moayyed
+ * @since 8.1.0
+ */
+@RequiredArgsConstructor
+@ToString(of = {"principal", "history"})
+public class AuthenticationRiskProfile {
+    private static final int HOURS_PER_DAY = 24;
+
+    @Getter
+    private final String principal;
+
+    @Getter
+    private final Duration history;
+
+    private final NavigableMap<Instant, AuthenticationActivity> activities = new TreeMap<>();
+
+    private final AuthenticationActivity totals = new AuthenticationActivity();
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /**
+     * Record the authentication event into this profile.
+     * Events that are older than the history window are ignored.
+     *
+     * @param event the event
+     * @return this profile
+     */
+    public AuthenticationRiskProfile record(final CasEvent event) {
+        val bucket = event.getCreationTime().truncatedTo(ChronoUnit.HOURS);
+        lock.lock();
+        try {
+            if (!bucket.isBefore(getCutoff())) {
+                activities.computeIfAbsent(bucket, _ -> new AuthenticationActivity()).add(event);
+                totals.add(event);
+            }
+        } finally {
+            lock.unlock();
+        }
+        return this;
+    }
+
+    /**
+     * Gets the number of recorded authentication events.
+     *
+     * @return the count
+     */
+    public long getAuthenticationCount() {
+        return withActivity(activity -> activity.count);
+    }
+
+    /**
+     * Gets the number of recorded authentication events from the client ip address.
+     *
+     * @param ipAddress the ip address
+     * @return the count
+     */
+    public long getClientIpAddressCount(@Nullable final String ipAddress) {
+        return withActivity(activity -> getCount(activity.clientIpAddresses, normalize(ipAddress)));
+    }
+
+    /**
+     * Gets the number of recorded authentication events from the user agent.
+     *
+     * @param userAgent the user agent
+     * @return the count
+     */
+    public long getUserAgentCount(@Nullable final String userAgent) {
+        return withActivity(activity -> getCount(activity.userAgents, normalize(userAgent)));
+    }
+
+    /**
+     * Gets the number of recorded authentication events from the device.
+     *
+     * @param deviceFingerprint the device fingerprint
+     * @return the count
+     */
+    public long getDeviceFingerprintCount(@Nullable final String deviceFingerprint) {
+        return withActivity(activity -> getCount(activity.deviceFingerprints, normalize(deviceFingerprint)));
+    }
+
+    /**
+     * Gets the number of recorded authentication events from the geolocation.
+     *
+     * @param location the location
+     * @return the count
+     */
+    public long getGeoLocationCount(final GeoLocationRequest location) {
+        return withActivity(activity -> getCount(activity.geoLocations, getGeoLocationKey(location)));
+    }
+
+    /**
+     * Gets the number of recorded authentication events whose hour of day, in UTC,
+     * falls between the given hours inclusively. The range wraps around midnight
+     * if the starting hour is after the ending hour.
+     *
+     * @param fromHour the starting hour
+     * @param toHour   the ending hour
+     * @return the count
+     */
+    public long getHourOfDayCount(final int fromHour, final int toHour) {
+        return withActivity(activity -> IntStream.range(0, HOURS_PER_DAY)
+            .filter(hour -> fromHour <= toHour
+                ? hour >= fromHour && hour <= toHour
+                : hour >= fromHour || hour <= toHour)
+            .mapToLong(hour -> activity.hours[hour])
+            .sum());
+    }
+
+    private <T> T withActivity(final Function<AuthenticationActivity, T> function) {
+        lock.lock();
+        try {
+            val expired = activities.headMap(getCutoff(), false);
+            expired.values().forEach(totals::subtract);
+            expired.clear();
+            return function.apply(totals);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Instant getCutoff() {
+        return Instant.now(Clock.systemUTC()).minus(history).truncatedTo(ChronoUnit.HOURS);
+    }
+
+    private static long getCount(final Map<String, Long> counts, @Nullable final String key) {
+        return key == null ? 0 : counts.getOrDefault(key, 0L);
+    }
+
+    private static @Nullable String normalize(@Nullable final String value) {
+        return value == null || value.isBlank() ? null : value.toLowerCase(Locale.ENGLISH);
+    }
+
+    private static @Nullable String getGeoLocationKey(final GeoLocationRequest location) {
+        if (StringUtils.isBlank(location.getLatitude()) || StringUtils.isBlank(location.getLongitude())) {
+            return null;
+        }
+        return location.getLatitude() + ':' + location.getLongitude();
+    }
+
+    private static final class AuthenticationActivity {
+        private final long[] hours = new long[HOURS_PER_DAY];
+
+        private final Map<String, Long> clientIpAddresses = new HashMap<>();
+
+        private final Map<String, Long> userAgents = new HashMap<>();
+
+        private final Map<String, Long> deviceFingerprints = new HashMap<>();
+
+        private final Map<String, Long> geoLocations = new HashMap<>();
+
+        private long count;
+
+        void add(final CasEvent event) {
+            count++;
+            hours[ZonedDateTime.ofInstant(event.getCreationTime(), ZoneOffset.UTC).getHour()]++;
+            increment(clientIpAddresses, normalize(event.getClientIpAddress()));
+            increment(userAgents, normalize(event.getAgent()));
+            increment(deviceFingerprints, normalize(event.getDeviceFingerprint()));
+            increment(geoLocations, getGeoLocationKey(event.getGeoLocation()));
+        }
+
+        void subtract(final AuthenticationActivity activity) {
+            count -= activity.count;
+            for (var hour = 0; hour < HOURS_PER_DAY; hour++) {
+                hours[hour] -= activity.hours[hour];
+            }
+            subtract(clientIpAddresses, activity.clientIpAddresses);
+            subtract(userAgents, activity.userAgents);
+            subtract(deviceFingerprints, activity.deviceFingerprints);
+            subtract(geoLocations, activity.geoLocations);
+        }
+
+        private static void increment(final Map<String, Long> counts, @Nullable final String key) {
+            if (key != null) {
+                counts.merge(key, 1L, Long::sum);
+            }
+        }
+
+        private static void subtract(final Map<String, Long> counts, final Map<String, Long> expired) {
+            expired.forEach((key, value) -> counts.computeIfPresent(key, (_, current) -> current > value ? current - value : null));
+        }
+    }
+}
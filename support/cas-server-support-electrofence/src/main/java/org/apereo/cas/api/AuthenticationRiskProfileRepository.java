@@ -0,0 +1,45 @@
+package org.apereo.cas.api;
+
+import module java.base;
+import org.apereo.cas.support.events.dao.CasEvent;
+import org.apereo.cas.util.spring.CasEventListener;
+import org.springframework.boot.actuate.audit.listener.AuditApplicationEvent;
+import org.springframework.context.event.EventListener;
+
+/**
+ * This is {@link AuthenticationRiskProfileRepository} that provides risk calculators
+ * with the {@link AuthenticationRiskProfile} of a principal.
+ *
+ * @author Misagh Moayyed
+ * @since 8.1.0
+ */
+public interface AuthenticationRiskProfileRepository extends CasEventListener {
+    /**
+     * Default bean name.
+     */
+    String BEAN_NAME = "authenticationRiskProfileRepository";
+
+    /**
+     * Fetch the risk profile of the principal.
+     *
+     * @param principal the principal
+     * @return the risk profile
+     */
+    AuthenticationRiskProfile fetch(String principal);
+
+    /**
+     * Record the authentication event into the risk profile of its principal.
+     *
+     * @param event the event
+     */
+    void record(CasEvent event);
+
+    /**
+     * Handle the audit event that is published once an authentication event is recorded
+     * by the event repository.
+     *
+     * @param event the event
+     */
+    @EventListener
+    void handleCasEventRecordedEvent(AuditApplicationEvent event);
+}
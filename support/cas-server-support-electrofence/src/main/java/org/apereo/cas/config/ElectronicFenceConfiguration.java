@@ -6,6 +6,7 @@ import org.apereo.cas.api.AuthenticationRiskContingencyPlan;
 import org.apereo.cas.api.AuthenticationRiskEvaluator;
 import org.apereo.cas.api.AuthenticationRiskMitigator;
 import org.apereo.cas.api.AuthenticationRiskNotifier;
+import org.apereo.cas.api.AuthenticationRiskProfileRepository;
 import org.apereo.cas.audit.AuditActionResolvers;
 import org.apereo.cas.audit.AuditResourceResolvers;
 import org.apereo.cas.audit.AuditTrailRecordResolutionPlanConfigurer;
@@ -27,6 +28,7 @@ import org.apereo.cas.impl.notify.AuthenticationRiskSmsNotifier;
 import org.apereo.cas.impl.plans.BaseAuthenticationRiskContingencyPlan;
 import org.apereo.cas.impl.plans.BlockAuthenticationContingencyPlan;
 import org.apereo.cas.impl.plans.MultifactorAuthenticationContingencyPlan;
+import org.apereo.cas.impl.profile.DefaultAuthenticationRiskProfileRepository;
 import org.apereo.cas.multitenancy.TenantExtractor;
 import org.apereo.cas.notifications.CommunicationsManager;
 import org.apereo.cas.services.ServicesManager;
@@ -46,6 +48,7 @@ import org.springframework.cloud.context.config.annotation.RefreshScope;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.context.annotation.ScopedProxyMode;
 import org.springframework.scheduling.annotation.EnableScheduling;
 
@@ -201,6 +204,21 @@ class ElectronicFenceConfiguration {
         }
     }
 
+    @Configuration(value = "ElectronicFenceProfileConfiguration", proxyBeanMethods = false)
+    @EnableConfigurationProperties(CasConfigurationProperties.class)
+    static class ElectronicFenceProfileConfiguration {
+        @ConditionalOnMissingBean(name = AuthenticationRiskProfileRepository.BEAN_NAME)
+        @Bean
+        @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
+        @Lazy(false)
+        public AuthenticationRiskProfileRepository authenticationRiskProfileRepository(
+            final CasConfigurationProperties casProperties,
+            @Qualifier(CasEventRepository.BEAN_NAME)
+            final CasEventRepository casEventRepository) {
+            return new DefaultAuthenticationRiskProfileRepository(casEventRepository, casProperties);
+        }
+    }
+
     @Configuration(value = "ElectronicFenceCalculatorConfiguration", proxyBeanMethods = false)
     @EnableConfigurationProperties(CasConfigurationProperties.class)
     static class ElectronicFenceCalculatorConfiguration {
@@ -211,11 +229,11 @@ class ElectronicFenceConfiguration {
         public AuthenticationRequestRiskCalculator ipAddressAuthenticationRequestRiskCalculator(
             final ConfigurableApplicationContext applicationContext,
             final CasConfigurationProperties casProperties,
-            @Qualifier(CasEventRepository.BEAN_NAME)
-            final CasEventRepository casEventRepository) {
+            @Qualifier(AuthenticationRiskProfileRepository.BEAN_NAME)
+            final AuthenticationRiskProfileRepository authenticationRiskProfileRepository) {
             return BeanSupplier.of(AuthenticationRequestRiskCalculator.class)
                 .when(BeanCondition.on("cas.authn.adaptive.risk.ip.enabled").isTrue().given(applicationContext.getEnvironment()))
-                .supply(() -> new IpAddressAuthenticationRequestRiskCalculator(casEventRepository, casProperties))
+                .supply(() -> new IpAddressAuthenticationRequestRiskCalculator(authenticationRiskProfileRepository, casProperties))
                 .otherwiseProxy()
                 .get();
         }
@@ -226,11 +244,11 @@ class ElectronicFenceConfiguration {
         public AuthenticationRequestRiskCalculator userAgentAuthenticationRequestRiskCalculator(
             final ConfigurableApplicationContext applicationContext,
             final CasConfigurationProperties casProperties,
-            @Qualifier(CasEventRepository.BEAN_NAME)
-            final CasEventRepository casEventRepository) {
+            @Qualifier(AuthenticationRiskProfileRepository.BEAN_NAME)
+            final AuthenticationRiskProfileRepository authenticationRiskProfileRepository) {
             return BeanSupplier.of(AuthenticationRequestRiskCalculator.class)
                 .when(BeanCondition.on("cas.authn.adaptive.risk.agent.enabled").isTrue().given(applicationContext.getEnvironment()))
-                .supply(() -> new UserAgentAuthenticationRequestRiskCalculator(casEventRepository, casProperties))
+                .supply(() -> new UserAgentAuthenticationRequestRiskCalculator(authenticationRiskProfileRepository, casProperties))
                 .otherwiseProxy()
                 .get();
         }
@@ -241,11 +259,11 @@ class ElectronicFenceConfiguration {
         public AuthenticationRequestRiskCalculator dateTimeAuthenticationRequestRiskCalculator(
             final ConfigurableApplicationContext applicationContext,
             final CasConfigurationProperties casProperties,
-            @Qualifier(CasEventRepository.BEAN_NAME)
-            final CasEventRepository casEventRepository) {
+            @Qualifier(AuthenticationRiskProfileRepository.BEAN_NAME)
+            final AuthenticationRiskProfileRepository authenticationRiskProfileRepository) {
             return BeanSupplier.of(AuthenticationRequestRiskCalculator.class)
                 .when(BeanCondition.on("cas.authn.adaptive.risk.date-time.enabled").isTrue().given(applicationContext.getEnvironment()))
-                .supply(() -> new DateTimeAuthenticationRequestRiskCalculator(casEventRepository, casProperties))
+                .supply(() -> new DateTimeAuthenticationRequestRiskCalculator(authenticationRiskProfileRepository, casProperties))
                 .otherwiseProxy()
                 .get();
         }
@@ -256,11 +274,11 @@ class ElectronicFenceConfiguration {
         public AuthenticationRequestRiskCalculator deviceFingerprintAuthenticationRequestRiskCalculator(
             final ConfigurableApplicationContext applicationContext,
             final CasConfigurationProperties casProperties,
-            @Qualifier(CasEventRepository.BEAN_NAME)
-            final CasEventRepository casEventRepository) {
+            @Qualifier(AuthenticationRiskProfileRepository.BEAN_NAME)
+            final AuthenticationRiskProfileRepository authenticationRiskProfileRepository) {
             return BeanSupplier.of(AuthenticationRequestRiskCalculator.class)
                 .when(BeanCondition.on("cas.authn.adaptive.risk.device-fingerprint.enabled").isTrue().given(applicationContext.getEnvironment()))
-                .supply(() -> new DeviceFingerprintAuthenticationRequestRiskCalculator(casEventRepository, casProperties))
+                .supply(() -> new DeviceFingerprintAuthenticationRequestRiskCalculator(authenticationRiskProfileRepository, casProperties))
                 .otherwiseProxy()
                 .get();
         }
@@ -278,11 +296,11 @@ class ElectronicFenceConfiguration {
             final CasConfigurationProperties casProperties,
             @Qualifier(GeoLocationService.BEAN_NAME)
             final GeoLocationService geoLocationService,
-            @Qualifier(CasEventRepository.BEAN_NAME)
-            final CasEventRepository casEventRepository) {
+            @Qualifier(AuthenticationRiskProfileRepository.BEAN_NAME)
+            final AuthenticationRiskProfileRepository authenticationRiskProfileRepository) {
             return BeanSupplier.of(AuthenticationRequestRiskCalculator.class)
                 .when(BeanCondition.on("cas.authn.adaptive.risk.geo-location.enabled").isTrue().given(applicationContext.getEnvironment()))
-                .supply(() -> new GeoLocationAuthenticationRequestRiskCalculator(casEventRepository, casProperties, geoLocationService))
+                .supply(() -> new GeoLocationAuthenticationRequestRiskCalculator(authenticationRiskProfileRepository, casProperties, geoLocationService))
                 .otherwiseProxy()
                 .get();
         }
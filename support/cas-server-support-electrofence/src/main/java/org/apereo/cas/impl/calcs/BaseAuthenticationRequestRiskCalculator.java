@@ -2,13 +2,12 @@ package org.apereo.cas.impl.calcs;
 
 import module java.base;
 import org.apereo.cas.api.AuthenticationRequestRiskCalculator;
+import org.apereo.cas.api.AuthenticationRiskProfile;
+import org.apereo.cas.api.AuthenticationRiskProfileRepository;
 import org.apereo.cas.api.AuthenticationRiskScore;
 import org.apereo.cas.authentication.Authentication;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.services.RegisteredService;
-import org.apereo.cas.support.events.CasEventRepository;
-import org.apereo.cas.support.events.dao.CasEvent;
-import org.apereo.cas.support.events.ticket.CasTicketGrantingTicketCreatedEvent;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -26,7 +25,7 @@ import org.apereo.inspektr.common.web.ClientInfoHolder;
 @RequiredArgsConstructor(access = AccessLevel.PROTECTED)
 public abstract class BaseAuthenticationRequestRiskCalculator implements AuthenticationRequestRiskCalculator {
 
-    protected final CasEventRepository casEventRepository;
+    protected final AuthenticationRiskProfileRepository riskProfileRepository;
 
     protected final CasConfigurationProperties casProperties;
 
@@ -35,11 +34,11 @@ public abstract class BaseAuthenticationRequestRiskCalculator implements Authent
                                                    final RegisteredService service,
                                                    final ClientInfo clientInfo) {
         val principal = authentication.getPrincipal();
-        val events = getCasTicketGrantingTicketCreatedEventsFor(principal.getId()).collect(Collectors.toList());
-        if (events.isEmpty()) {
+        val profile = riskProfileRepository.fetch(principal.getId());
+        if (profile.getAuthenticationCount() == 0) {
             return AuthenticationRiskScore.highestRiskScore();
         }
-        val score = calculateScore(clientInfo, authentication, service, events);
+        val score = calculateScore(clientInfo, authentication, service, profile);
         val authenticationRiskScore = new AuthenticationRiskScore(score).withClientInfo(ClientInfoHolder.getClientInfo());
         LOGGER.debug("Calculated authentication risk score by [{}] is [{}]", getClass().getSimpleName(), authenticationRiskScore);
         return authenticationRiskScore;
@@ -48,23 +47,14 @@ public abstract class BaseAuthenticationRequestRiskCalculator implements Authent
     protected BigDecimal calculateScore(final ClientInfo clientInfo,
                                         final Authentication authentication,
                                         final RegisteredService service,
-                                        final List<? extends CasEvent> events) {
+                                        final AuthenticationRiskProfile profile) {
         return AuthenticationRiskScore.highestRiskScore().getScore();
     }
 
-    protected Stream<? extends CasEvent> getCasTicketGrantingTicketCreatedEventsFor(final String principal) {
-        val type = CasTicketGrantingTicketCreatedEvent.class.getName();
-        LOGGER.debug("Retrieving events of type [{}] for [{}]", type, principal);
-
-        val date = ZonedDateTime.now(ZoneOffset.UTC)
-            .minusDays(casProperties.getAuthn().getAdaptive().getRisk().getCore().getDaysInRecentHistory());
-        return casEventRepository.getEventsOfTypeForPrincipal(type, principal, date);
-    }
-
     protected BigDecimal calculateScoreBasedOnEventsCount(final Authentication authentication,
-                                                          final List<? extends CasEvent> events,
+                                                          final AuthenticationRiskProfile profile,
                                                           final long count) {
-        val eventCount = events.size();
+        val eventCount = profile.getAuthenticationCount();
         if (count == eventCount) {
             LOGGER.debug("Principal [{}] is assigned to the lowest risk score with attempted count of [{}]",
                 authentication.getPrincipal(), count);
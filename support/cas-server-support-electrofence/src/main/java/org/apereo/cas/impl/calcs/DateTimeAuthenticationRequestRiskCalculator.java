@@ -1,11 +1,11 @@
 package org.apereo.cas.impl.calcs;
 
 import module java.base;
+import org.apereo.cas.api.AuthenticationRiskProfile;
+import org.apereo.cas.api.AuthenticationRiskProfileRepository;
 import org.apereo.cas.authentication.Authentication;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.services.RegisteredService;
-import org.apereo.cas.support.events.CasEventRepository;
-import org.apereo.cas.support.events.dao.CasEvent;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apereo.inspektr.common.web.ClientInfo;
@@ -19,14 +19,14 @@ import org.apereo.inspektr.common.web.ClientInfo;
 @Slf4j
 public class DateTimeAuthenticationRequestRiskCalculator extends BaseAuthenticationRequestRiskCalculator {
 
-    public DateTimeAuthenticationRequestRiskCalculator(final CasEventRepository casEventRepository,
+    public DateTimeAuthenticationRequestRiskCalculator(final AuthenticationRiskProfileRepository riskProfileRepository,
                                                        final CasConfigurationProperties casProperties) {
-        super(casEventRepository, casProperties);
+        super(riskProfileRepository, casProperties);
     }
 
     @Override
     protected BigDecimal calculateScore(final ClientInfo clientInfo, final Authentication authentication,
-                                        final RegisteredService service, final List<? extends CasEvent> events) {
+                                        final RegisteredService service, final AuthenticationRiskProfile profile) {
         val windowInHours = casProperties.getAuthn().getAdaptive().getRisk().getDateTime().getWindowInHours();
         val timestamp = ZonedDateTime.now(ZoneOffset.UTC);
         LOGGER.debug("Filtering authentication events for timestamp [{}]", timestamp);
@@ -34,20 +34,9 @@ public class DateTimeAuthenticationRequestRiskCalculator extends BaseAuthenticat
         val hoursFromNow = timestamp.plusHours(windowInHours).getHour();
         val hoursBeforeNow = timestamp.minusHours(windowInHours).getHour();
 
-        val count = events
-            .stream()
-            .map(time -> {
-                val instant = time.getCreationTime();
-                val zdt = ZonedDateTime.ofInstant(instant, ZoneOffset.UTC);
-                return zdt.getHour();
-            })
-            .filter(hour -> hoursBeforeNow <= hoursFromNow
-                ? (hour >= hoursBeforeNow && hour <= hoursFromNow)
-                : (hour >= hoursBeforeNow || hour <= hoursFromNow)
-            )
-            .count();
+        val count = profile.getHourOfDayCount(hoursBeforeNow, hoursFromNow);
 
         LOGGER.debug("Total authentication events found for [{}] in a [{}]h window: [{}]", timestamp, windowInHours, count);
-        return calculateScoreBasedOnEventsCount(authentication, events, count);
+        return calculateScoreBasedOnEventsCount(authentication, profile, count);
     }
 }
@@ -1,11 +1,11 @@
 package org.apereo.cas.impl.calcs;
 
 import module java.base;
+import org.apereo.cas.api.AuthenticationRiskProfile;
+import org.apereo.cas.api.AuthenticationRiskProfileRepository;
 import org.apereo.cas.authentication.Authentication;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.services.RegisteredService;
-import org.apereo.cas.support.events.CasEventRepository;
-import org.apereo.cas.support.events.dao.CasEvent;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apereo.inspektr.common.web.ClientInfo;
@@ -19,20 +19,20 @@ import org.apereo.inspektr.common.web.ClientInfo;
 @Slf4j
 public class IpAddressAuthenticationRequestRiskCalculator extends BaseAuthenticationRequestRiskCalculator {
 
-    public IpAddressAuthenticationRequestRiskCalculator(final CasEventRepository casEventRepository,
+    public IpAddressAuthenticationRequestRiskCalculator(final AuthenticationRiskProfileRepository riskProfileRepository,
                                                         final CasConfigurationProperties casProperties) {
-        super(casEventRepository, casProperties);
+        super(riskProfileRepository, casProperties);
     }
 
     @Override
     protected BigDecimal calculateScore(final ClientInfo clientInfo,
                                         final Authentication authentication,
                                         final RegisteredService service,
-                                        final List<? extends CasEvent> events) {
+                                        final AuthenticationRiskProfile profile) {
         val remoteAddr = clientInfo.getClientIpAddress();
         LOGGER.debug("Filtering authentication events for ip address [{}]", remoteAddr);
-        val count = events.stream().filter(e -> e.getClientIpAddress().equalsIgnoreCase(remoteAddr)).count();
+        val count = profile.getClientIpAddressCount(remoteAddr);
         LOGGER.debug("Total authentication events found for [{}]: [{}]", remoteAddr, count);
-        return calculateScoreBasedOnEventsCount(authentication, events, count);
+        return calculateScoreBasedOnEventsCount(authentication, profile, count);
     }
 }
@@ -1,14 +1,13 @@
 package org.apereo.cas.impl.calcs;
 
 import module java.base;
+import org.apereo.cas.api.AuthenticationRiskProfile;
+import org.apereo.cas.api.AuthenticationRiskProfileRepository;
 import org.apereo.cas.authentication.Authentication;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.services.RegisteredService;
-import org.apereo.cas.support.events.CasEventRepository;
-import org.apereo.cas.support.events.dao.CasEvent;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
-import org.apache.commons.lang3.StringUtils;
 import org.apereo.inspektr.common.web.ClientInfo;
 
 /**
@@ -20,23 +19,20 @@ import org.apereo.inspektr.common.web.ClientInfo;
 @Slf4j
 public class UserAgentAuthenticationRequestRiskCalculator extends BaseAuthenticationRequestRiskCalculator {
 
-    public UserAgentAuthenticationRequestRiskCalculator(final CasEventRepository casEventRepository,
+    public UserAgentAuthenticationRequestRiskCalculator(final AuthenticationRiskProfileRepository riskProfileRepository,
                                                         final CasConfigurationProperties casProperties) {
-        super(casEventRepository, casProperties);
+        super(riskProfileRepository, casProperties);
     }
 
     @Override
     protected BigDecimal calculateScore(final ClientInfo clientInfo,
                                         final Authentication authentication,
                                         final RegisteredService service,
-                                        final List<? extends CasEvent> events) {
+                                        final AuthenticationRiskProfile profile) {
         val agent = clientInfo.getUserAgent();
         LOGGER.debug("Filtering authentication events for user agent [{}]", agent);
-        val count = events.stream()
-            .filter(e -> StringUtils.isNotBlank(e.getAgent()))
-            .filter(e -> e.getAgent().equalsIgnoreCase(agent))
-            .count();
+        val count = profile.getUserAgentCount(agent);
         LOGGER.debug("Total authentication events found for [{}]: [{}]", agent, count);
-        return calculateScoreBasedOnEventsCount(authentication, events, count);
+        return calculateScoreBasedOnEventsCount(authentication, profile, count);
     }
 }
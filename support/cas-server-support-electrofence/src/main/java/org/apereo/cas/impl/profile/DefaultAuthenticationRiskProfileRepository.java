@@ -0,0 +1,85 @@
+package org.apereo.cas.impl.profile;
+
+import module java.base;
+import org.apereo.cas.api.AuthenticationRiskProfile;
+import org.apereo.cas.api.AuthenticationRiskProfileRepository;
+import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.configuration.support.Beans;
+import org.apereo.cas.support.events.CasEventRepository;
+import org.apereo.cas.support.events.dao.CasEvent;
+import org.apereo.cas.support.events.ticket.CasTicketGrantingTicketCreatedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.jspecify.annotations.Nullable;
+import org.springframework.boot.actuate.audit.listener.AuditApplicationEvent;
+
+/**
+ * This is {@link DefaultAuthenticationRiskProfileRepository} that builds risk profiles
+ * from the authentication history of the principal found in the {@link CasEventRepository}.
+ * If enabled, risk profiles are kept in memory and updated as authentication events are recorded,
+ * until they expire and are built again.
+ *
+ * @author Misagh Moayyed
+ * @since 8.1.0
+ */
+@Slf4j
+public class DefaultAuthenticationRiskProfileRepository implements AuthenticationRiskProfileRepository {
+    private static final String EVENT_TYPE = CasTicketGrantingTicketCreatedEvent.class.getName();
+
+    private final CasEventRepository casEventRepository;
+
+    private final CasConfigurationProperties casProperties;
+
+    private final @Nullable Cache<String, AuthenticationRiskProfile> profiles;
+
+    public DefaultAuthenticationRiskProfileRepository(final CasEventRepository casEventRepository,
+                                                      final CasConfigurationProperties casProperties) {
+        this.casEventRepository = casEventRepository;
+        this.casProperties = casProperties;
+        val properties = casProperties.getAuthn().getAdaptive().getRisk().getCore().getProfile();
+        this.profiles = properties.isEnabled()
+            ? Caffeine.newBuilder()
+                .maximumSize(properties.getCapacity())
+                .expireAfterWrite(Beans.newDuration(properties.getExpiration()))
+                .build()
+            : null;
+    }
+
+    @Override
+    public AuthenticationRiskProfile fetch(final String principal) {
+        return profiles == null ? buildProfile(principal) : profiles.get(principal, this::buildProfile);
+    }
+
+    @Override
+    public void record(final CasEvent event) {
+        if (profiles != null && EVENT_TYPE.equals(event.getType())) {
+            Optional.ofNullable(profiles.getIfPresent(event.getPrincipalId())).ifPresent(profile -> profile.record(event));
+        }
+    }
+
+    @Override
+    public void handleCasEventRecordedEvent(final AuditApplicationEvent event) {
+        val auditEvent = event.getAuditEvent();
+        val data = auditEvent.getData();
+        if ("CAS".equals(data.get(CasEventRepository.PARAM_SOURCE))) {
+            val properties = data.entrySet()
+                .stream()
+                .filter(entry -> entry.getValue() != null)
+                .collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().toString()));
+            record(new CasEvent(0L, auditEvent.getType(), auditEvent.getPrincipal(), auditEvent.getTimestamp(), properties));
+        }
+    }
+
+    protected AuthenticationRiskProfile buildProfile(final String principal) {
+        val history = Duration.ofDays(casProperties.getAuthn().getAdaptive().getRisk().getCore().getDaysInRecentHistory());
+        val profile = new AuthenticationRiskProfile(principal, history);
+        LOGGER.debug("Building risk profile for [{}] from events of type [{}] in the last [{}]", principal, EVENT_TYPE, history);
+        try (val events = casEventRepository.getEventsOfTypeForPrincipal(EVENT_TYPE, principal,
+            ZonedDateTime.now(ZoneOffset.UTC).minus(history))) {
+            events.forEach(profile::record);
+        }
+        return profile;
+    }
+}
@@ -0,0 +1,61 @@
+package org.apereo.cas.impl.profile;
+
+import module java.base;
+import org.apereo.cas.api.AuthenticationRiskProfile;
+import org.apereo.cas.api.AuthenticationRiskProfileRepository;
+import org.apereo.cas.impl.calcs.BaseAuthenticationRequestRiskCalculatorTests;
+import org.apereo.cas.impl.mock.MockTicketGrantingTicketCreatedEventProducer;
+import org.apereo.cas.support.events.dao.CasEvent;
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link DefaultAuthenticationRiskProfileRepositoryTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 8.1.0
+ */
+@Tag("Authentication")
+class DefaultAuthenticationRiskProfileRepositoryTests extends BaseAuthenticationRequestRiskCalculatorTests {
+    @Autowired
+    @Qualifier(AuthenticationRiskProfileRepository.BEAN_NAME)
+    private AuthenticationRiskProfileRepository authenticationRiskProfileRepository;
+
+    @Test
+    void verifyProfileUpdatedAsEventsAreRecorded() throws Throwable {
+        val principal = UUID.randomUUID().toString();
+        val profile = authenticationRiskProfileRepository.fetch(principal);
+        assertEquals(0, profile.getAuthenticationCount());
+
+        val event1 = MockTicketGrantingTicketCreatedEventProducer.createEvent(principal, casEventRepository);
+        val event2 = MockTicketGrantingTicketCreatedEventProducer.createEvent(principal, casEventRepository);
+        assertSame(profile, authenticationRiskProfileRepository.fetch(principal));
+        assertEquals(2, profile.getAuthenticationCount());
+        assertTrue(profile.getClientIpAddressCount(event1.getClientIpAddress()) >= 1);
+        assertTrue(profile.getUserAgentCount(Objects.requireNonNull(event2.getAgent()).toUpperCase(Locale.ENGLISH)) >= 1);
+        assertEquals(1, profile.getDeviceFingerprintCount(event1.getDeviceFingerprint()));
+        assertTrue(profile.getGeoLocationCount(event2.getGeoLocation()) >= 1);
+        val hour = ZonedDateTime.ofInstant(event1.getCreationTime(), ZoneOffset.UTC).getHour();
+        assertEquals(2, profile.getHourOfDayCount(hour, hour));
+        assertEquals(0, profile.getClientIpAddressCount("1.1.1.1"));
+    }
+
+    @Test
+    void verifyEventsOutsideHistoryIgnored() {
+        val profile = new AuthenticationRiskProfile("casuser", Duration.ofDays(1));
+        val event = new CasEvent();
+        event.setPrincipalId("casuser");
+        event.putClientIpAddress("1.2.3.4");
+        event.setCreationTime(Instant.now(Clock.systemUTC()).minus(3, ChronoUnit.DAYS));
+        profile.record(event);
+        assertEquals(0, profile.getAuthenticationCount());
+        event.setCreationTime(Instant.now(Clock.systemUTC()));
+        profile.record(event);
+        assertEquals(1, profile.getAuthenticationCount());
+        assertEquals(1, profile.getClientIpAddressCount("1.2.3.4"));
+    }
+}
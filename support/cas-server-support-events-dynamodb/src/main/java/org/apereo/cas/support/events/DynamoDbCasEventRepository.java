@@ -36,34 +36,7 @@ public class DynamoDbCasEventRepository extends AbstractCasEventRepository {
     }
 
     @Override
-    public Stream<? extends CasEvent> getEventsOfTypeForPrincipal(final String type,
-                                                                  final String principal) {
-        return dbCasEventsFacilitator.getEventsOfTypeForPrincipal(type, principal);
-    }
-
-    @Override
-    public Stream<? extends CasEvent> getEventsOfTypeForPrincipal(final String type, final String principal,
-                                                                  final ZonedDateTime dateTime) {
-        return dbCasEventsFacilitator.getEventsOfTypeForPrincipal(type, principal, dateTime);
-    }
-
-    @Override
-    public Stream<? extends CasEvent> getEventsOfType(final String type) {
-        return dbCasEventsFacilitator.getEventsOfType(type);
-    }
-
-    @Override
-    public Stream<? extends CasEvent> getEventsOfType(final String type, final ZonedDateTime dateTime) {
-        return dbCasEventsFacilitator.getEventsOfType(type, dateTime);
-    }
-
-    @Override
-    public Stream<? extends CasEvent> getEventsForPrincipal(final String id) {
-        return dbCasEventsFacilitator.getEventsForPrincipal(id);
-    }
-
-    @Override
-    public Stream<? extends CasEvent> getEventsForPrincipal(final String id, final ZonedDateTime dateTime) {
-        return dbCasEventsFacilitator.getEventsForPrincipal(id, dateTime);
+    public Stream<? extends CasEvent> query(final CasEventQuery query) {
+        return dbCasEventsFacilitator.query(query);
     }
 }
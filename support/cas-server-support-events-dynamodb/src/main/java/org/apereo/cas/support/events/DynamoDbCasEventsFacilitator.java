@@ -61,6 +61,10 @@ public class DynamoDbCasEventsFacilitator {
         return new CasEvent(id, type, principal, Instant.ofEpochMilli(creationTime), properties);
     }
 
+    private static AttributeValue toAttributeValue(final ZonedDateTime dateTime) {
+        return AttributeValue.builder().n(String.valueOf(dateTime.toInstant().toEpochMilli())).build();
+    }
+
     /**
      * Create tables.
      *
@@ -103,130 +107,48 @@ public class DynamoDbCasEventsFacilitator {
     }
 
     /**
-     * Gets events for principal.
+     * Fetch events that match the query, most recent first.
+     * Criteria are evaluated by the database as scan filters, and since the range filter
+     * on the creation time is inclusive, the end of the time window is checked again once fetched.
      *
-     * @param id the id
-     * @return the events for principal
+     * @param query the query
+     * @return the events
      */
-    public Stream<? extends CasEvent> getEventsForPrincipal(final String id) {
-        val query = DynamoDbQueryBuilder.builder()
+    public Stream<? extends CasEvent> query(final CasEventQuery query) {
+        val queries = new ArrayList<DynamoDbQueryBuilder>();
+        Optional.ofNullable(query.getPrincipalId()).ifPresent(principal -> queries.add(DynamoDbQueryBuilder.builder()
             .key(ColumnNames.PRINCIPAL.getColumnName())
-            .attributeValue(List.of(AttributeValue.builder().s(id).build()))
+            .attributeValue(List.of(AttributeValue.builder().s(principal).build()))
             .operator(ComparisonOperator.EQ)
-            .build();
-        return getRecordsByKeys(List.of(query));
-    }
-
-    /**
-     * Gets events for principal.
-     *
-     * @param id       the id
-     * @param dateTime the date time
-     * @return the events for principal
-     */
-    public Stream<? extends CasEvent> getEventsForPrincipal(final String id, final ZonedDateTime dateTime) {
-        val query =
-            List.of(
-                DynamoDbQueryBuilder.builder()
-                    .key(ColumnNames.PRINCIPAL.getColumnName())
-                    .attributeValue(List.of(AttributeValue.builder().s(id).build()))
-                    .operator(ComparisonOperator.EQ)
-                    .build(),
-                DynamoDbQueryBuilder.builder()
-                    .key(ColumnNames.CREATION_TIME.getColumnName())
-                    .attributeValue(List.of(AttributeValue.builder().n(String.valueOf(dateTime.toInstant().toEpochMilli())).build()))
-                    .operator(ComparisonOperator.GE)
-                    .build());
-        return getRecordsByKeys(query);
-    }
-
-    /**
-     * Gets events of type.
-     *
-     * @param type     the type
-     * @param dateTime the date time
-     * @return the events of type
-     */
-    public Stream<? extends CasEvent> getEventsOfType(final String type, final ZonedDateTime dateTime) {
-        val query = List.of(
-            DynamoDbQueryBuilder.builder()
-                .key(ColumnNames.TYPE.getColumnName())
-                .attributeValue(List.of(AttributeValue.builder().s(type).build()))
-                .operator(ComparisonOperator.EQ)
-                .build(),
-            DynamoDbQueryBuilder.builder()
-                .key(ColumnNames.CREATION_TIME.getColumnName())
-                .attributeValue(List.of(AttributeValue.builder().n(String.valueOf(dateTime.toInstant().toEpochMilli())).build()))
-                .operator(ComparisonOperator.GE)
-                .build());
-        return getRecordsByKeys(query);
-    }
-
-    /**
-     * Gets events of type.
-     *
-     * @param type the type
-     * @return the events of type
-     */
-    public Stream<? extends CasEvent> getEventsOfType(final String type) {
-        val query = DynamoDbQueryBuilder.builder()
+            .build()));
+        Optional.ofNullable(query.getType()).ifPresent(type -> queries.add(DynamoDbQueryBuilder.builder()
             .key(ColumnNames.TYPE.getColumnName())
             .attributeValue(List.of(AttributeValue.builder().s(type).build()))
             .operator(ComparisonOperator.EQ)
-            .build();
-        return getRecordsByKeys(List.of(query));
-    }
-
-    /**
-     * Gets events of type for principal.
-     *
-     * @param type      the type
-     * @param principal the principal
-     * @param dateTime  the date time
-     * @return the events of type for principal
-     */
-    public Stream<? extends CasEvent> getEventsOfTypeForPrincipal(final String type, final String principal,
-                                                                  final ZonedDateTime dateTime) {
-        val query = List.of(
-            DynamoDbQueryBuilder.builder()
-                .key(ColumnNames.TYPE.getColumnName())
-                .attributeValue(List.of(AttributeValue.builder().s(type).build()))
-                .operator(ComparisonOperator.EQ)
-                .build(),
-            DynamoDbQueryBuilder.builder()
-                .key(ColumnNames.PRINCIPAL.getColumnName())
-                .attributeValue(List.of(AttributeValue.builder().s(principal).build()))
-                .operator(ComparisonOperator.EQ)
-                .build(),
-            DynamoDbQueryBuilder.builder()
+            .build()));
+        val from = query.getFrom();
+        val to = query.getTo();
+        if (from != null && to != null) {
+            queries.add(DynamoDbQueryBuilder.builder()
                 .key(ColumnNames.CREATION_TIME.getColumnName())
-                .attributeValue(List.of(AttributeValue.builder().n(String.valueOf(dateTime.toInstant().toEpochMilli())).build()))
+                .attributeValue(List.of(toAttributeValue(from), toAttributeValue(to)))
+                .operator(ComparisonOperator.BETWEEN)
+                .build());
+        } else if (from != null) {
+            queries.add(DynamoDbQueryBuilder.builder()
+                .key(ColumnNames.CREATION_TIME.getColumnName())
+                .attributeValue(List.of(toAttributeValue(from)))
                 .operator(ComparisonOperator.GE)
                 .build());
-        return getRecordsByKeys(query);
-    }
-
-    /**
-     * Gets events of type for principal.
-     *
-     * @param type      the type
-     * @param principal the principal
-     * @return the events of type for principal
-     */
-    public Stream<? extends CasEvent> getEventsOfTypeForPrincipal(final String type, final String principal) {
-        val query =
-            List.of(
-                DynamoDbQueryBuilder.builder()
-                    .key(ColumnNames.PRINCIPAL.getColumnName())
-                    .attributeValue(List.of(AttributeValue.builder().s(principal).build()))
-                    .operator(ComparisonOperator.EQ)
-                    .build(),
-                DynamoDbQueryBuilder.builder()
-                    .key(ColumnNames.TYPE.getColumnName())
-                    .attributeValue(List.of(AttributeValue.builder().s(type).build()))
-                    .operator(ComparisonOperator.EQ)
-                    .build());
-        return getRecordsByKeys(query);
+        } else if (to != null) {
+            queries.add(DynamoDbQueryBuilder.builder()
+                .key(ColumnNames.CREATION_TIME.getColumnName())
+                .attributeValue(List.of(toAttributeValue(to)))
+                .operator(ComparisonOperator.LT)
+                .build());
+        }
+        val results = getRecordsByKeys(queries).filter(query::matches).sorted(CasEventQuery.MOST_RECENT_FIRST);
+        return query.isLimited() ? results.limit(query.getLimit()) : results;
     }
 
     /**
@@ -10,6 +10,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 
 /**
@@ -21,7 +22,11 @@ import jakarta.persistence.Table;
 @Getter
 @Entity
 @Setter
-@Table(name = "CasEvent")
+@Table(name = "CasEvent", indexes = {
+    @Index(name = "idx_event_creation_time", columnList = "creationTime"),
+    @Index(name = "idx_event_principal_time", columnList = "principalId,creationTime"),
+    @Index(name = "idx_event_type_time", columnList = "type,creationTime")
+})
 @Accessors(chain = true)
 @ToString(callSuper = true)
 public class JpaCasEvent extends CasEvent {
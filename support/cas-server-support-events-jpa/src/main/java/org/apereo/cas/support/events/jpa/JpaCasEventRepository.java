@@ -3,12 +3,14 @@ package org.apereo.cas.support.events.jpa;
 import module java.base;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.jpa.JpaBeanFactory;
+import org.apereo.cas.support.events.CasEventQuery;
 import org.apereo.cas.support.events.CasEventRepository;
 import org.apereo.cas.support.events.CasEventRepositoryFilter;
 import org.apereo.cas.support.events.dao.AbstractCasEventRepository;
 import org.apereo.cas.support.events.dao.CasEvent;
 import lombok.ToString;
 import lombok.val;
+import org.apache.commons.lang3.StringUtils;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
 import org.springframework.transaction.annotation.Transactional;
@@ -31,6 +33,8 @@ public class JpaCasEventRepository extends AbstractCasEventRepository {
 
     private static final String SELECT_QUERY = "SELECT r from JpaCasEvent r ";
 
+    private static final String END_TIME_PARAM = "endTime";
+
     private final PlatformTransactionManager transactionManager;
 
     private final CasConfigurationProperties casProperties;
@@ -65,81 +69,32 @@ public class JpaCasEventRepository extends AbstractCasEventRepository {
     }
 
     @Override
-    public Stream<? extends CasEvent> load(final ZonedDateTime dateTime) {
-        val sql = SELECT_QUERY.concat("where r.creationTime >= :creationTime");
-        val query = entityManager.createQuery(sql, JpaCasEvent.class)
-            .setParameter(CREATION_TIME_PARAM, dateTime.toInstant());
-        query.setLockMode(LockModeType.NONE);
-        return jpaBeanFactory
-            .streamQuery(query)
-            .map(JpaCasEvent.class::cast)
-            .map(CasEvent::from);
-    }
-
-    @Override
-    public Stream<? extends CasEvent> getEventsOfTypeForPrincipal(final String type, final String principal) {
-        val sql = SELECT_QUERY.concat("where r.type = :type and r.principalId = :principalId");
-        val query = entityManager.createQuery(sql, JpaCasEvent.class).setParameter(TYPE_PARAM, type)
-            .setParameter(PRINCIPAL_ID_PARAM, principal);
-        return jpaBeanFactory
-            .streamQuery(query)
-            .map(JpaCasEvent.class::cast)
-            .map(CasEvent::from);
-    }
-
-    @Override
-    public Stream<? extends CasEvent> getEventsOfTypeForPrincipal(final String type, final String principal, final ZonedDateTime dateTime) {
-        val sql = SELECT_QUERY.concat("where r.type = :type and r.creationTime >= :creationTime and r.principalId = :principalId");
-        val query = entityManager.createQuery(sql, JpaCasEvent.class).setParameter(TYPE_PARAM, type)
-            .setParameter(PRINCIPAL_ID_PARAM, principal)
-            .setParameter(CREATION_TIME_PARAM, dateTime.toInstant());
-        return jpaBeanFactory
-            .streamQuery(query)
-            .map(JpaCasEvent.class::cast)
-            .map(CasEvent::from);
-    }
-
-    @Override
-    public Stream<? extends CasEvent> getEventsOfType(final String type) {
-        val query = entityManager.createQuery(SELECT_QUERY.concat("where r.type = :type"), JpaCasEvent.class)
-            .setParameter(TYPE_PARAM, type);
+    public Stream<? extends CasEvent> query(final CasEventQuery query) {
+        val criteria = new ArrayList<String>();
+        if (query.getPrincipalId() != null) {
+            criteria.add("r.principalId = :principalId");
+        }
+        if (query.getType() != null) {
+            criteria.add("r.type = :type");
+        }
+        if (query.getFrom() != null) {
+            criteria.add("r.creationTime >= :creationTime");
+        }
+        if (query.getTo() != null) {
+            criteria.add("r.creationTime < :endTime");
+        }
+        val where = criteria.isEmpty() ? StringUtils.EMPTY : "where " + String.join(" and ", criteria) + ' ';
+        val jpaQuery = entityManager.createQuery(SELECT_QUERY + where + "order by r.creationTime desc", JpaCasEvent.class);
+        Optional.ofNullable(query.getPrincipalId()).ifPresent(principal -> jpaQuery.setParameter(PRINCIPAL_ID_PARAM, principal));
+        Optional.ofNullable(query.getType()).ifPresent(type -> jpaQuery.setParameter(TYPE_PARAM, type));
+        Optional.ofNullable(query.getFrom()).ifPresent(from -> jpaQuery.setParameter(CREATION_TIME_PARAM, from.toInstant()));
+        Optional.ofNullable(query.getTo()).ifPresent(to -> jpaQuery.setParameter(END_TIME_PARAM, to.toInstant()));
+        if (query.isLimited()) {
+            jpaQuery.setMaxResults((int) Math.min(query.getLimit(), Integer.MAX_VALUE));
+        }
+        jpaQuery.setLockMode(LockModeType.NONE);
         return jpaBeanFactory
-            .streamQuery(query)
-            .map(JpaCasEvent.class::cast)
-            .map(CasEvent::from);
-    }
-
-    @Override
-    public Stream<? extends CasEvent> getEventsOfType(final String type, final ZonedDateTime dateTime) {
-        val sql = SELECT_QUERY.concat("where r.type = :type and r.creationTime >= :creationTime");
-        val query = entityManager.createQuery(sql, JpaCasEvent.class)
-            .setParameter(TYPE_PARAM, type)
-            .setParameter(CREATION_TIME_PARAM, dateTime.toInstant());
-        return jpaBeanFactory
-            .streamQuery(query)
-            .map(JpaCasEvent.class::cast)
-            .map(CasEvent::from);
-    }
-
-    @Override
-    public Stream<? extends CasEvent> getEventsForPrincipal(final String id) {
-        val sql = SELECT_QUERY.concat("where r.principalId = :principalId");
-        val query = entityManager.createQuery(sql, JpaCasEvent.class)
-            .setParameter(PRINCIPAL_ID_PARAM, id);
-        return jpaBeanFactory
-            .streamQuery(query)
-            .map(JpaCasEvent.class::cast)
-            .map(CasEvent::from);
-    }
-
-    @Override
-    public Stream<? extends CasEvent> getEventsForPrincipal(final String id, final ZonedDateTime dateTime) {
-        val sql = SELECT_QUERY.concat("where r.principalId = :principalId and r.creationTime >= :creationTime");
-        var query = entityManager.createQuery(sql, JpaCasEvent.class)
-            .setParameter(PRINCIPAL_ID_PARAM, id)
-            .setParameter(CREATION_TIME_PARAM, dateTime.toInstant());
-        return jpaBeanFactory
-            .streamQuery(query)
+            .streamQuery(jpaQuery)
             .map(JpaCasEvent.class::cast)
             .map(CasEvent::from);
     }
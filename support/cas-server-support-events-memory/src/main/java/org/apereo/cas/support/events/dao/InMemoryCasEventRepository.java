@@ -1,18 +1,36 @@
 package org.apereo.cas.support.events.dao;
 
 import module java.base;
+import org.apereo.cas.support.events.CasEventQuery;
 import org.apereo.cas.support.events.CasEventRepositoryFilter;
 import com.github.benmanes.caffeine.cache.LoadingCache;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+import org.jspecify.annotations.Nullable;
 
 /**
  * This is {@link InMemoryCasEventRepository}.
+ * Events are kept in the cache, and are tracked by secondary indexes
+ * ordered by creation time for each principal and event type so that queries
+ * only walk through the events that fall into the requested time window.
+ * Index entries whose events are evicted from the cache are removed as they are found.
  *
  * @author Misagh Moayyed
  * @since 5.1.0
  */
 public class InMemoryCasEventRepository extends AbstractCasEventRepository {
+    private static final int SWEEP_THRESHOLD = 1024;
+
     private final LoadingCache<String, CasEvent> cache;
 
+    private final NavigableSet<IndexedEvent> timeIndex = new ConcurrentSkipListSet<>();
+
+    private final Map<String, NavigableSet<IndexedEvent>> principalIndex = new ConcurrentHashMap<>();
+
+    private final Map<String, NavigableSet<IndexedEvent>> typeIndex = new ConcurrentHashMap<>();
+
+    private final AtomicLong indexedEvents = new AtomicLong();
+
     public InMemoryCasEventRepository(final CasEventRepositoryFilter eventRepositoryFilter,
                                       final LoadingCache<String, CasEvent> cache) {
         super(eventRepositoryFilter);
@@ -25,18 +43,34 @@ public class InMemoryCasEventRepository extends AbstractCasEventRepository {
     }
 
     @Override
-    public Stream<? extends CasEvent> getEventsForPrincipal(final String id) {
-        return cache
-            .asMap()
-            .values()
+    public Stream<? extends CasEvent> query(final CasEventQuery query) {
+        val lowerBound = Optional.ofNullable(query.getFrom()).map(ZonedDateTime::toInstant).orElse(Instant.MIN);
+        val upperBound = Optional.ofNullable(query.getTo()).map(ZonedDateTime::toInstant).orElse(Instant.MAX);
+        val index = selectIndex(query);
+        if (index == null || !lowerBound.isBefore(upperBound)) {
+            return Stream.empty();
+        }
+        val results = index
+            .subSet(IndexedEvent.boundary(lowerBound), true, IndexedEvent.boundary(upperBound), false)
+            .descendingSet()
             .stream()
-            .filter(e -> e.getPrincipalId().equalsIgnoreCase(id));
+            .flatMap(entry -> Stream.ofNullable(getIndexedEvent(entry)))
+            .filter(query::matches);
+        return query.isLimited() ? results.limit(query.getLimit()) : results;
     }
 
     @Override
     public CasEvent saveInternal(final CasEvent event) {
         event.assignIdIfNecessary();
-        cache.put(UUID.randomUUID().toString(), event);
+        val entry = new IndexedEvent(event.getCreationTime(), UUID.randomUUID().toString(),
+            getPrincipalIndexKey(event.getPrincipalId()), StringUtils.defaultString(event.getType()));
+        cache.put(entry.key(), event);
+        timeIndex.add(entry);
+        addToIndex(principalIndex, entry.principal(), entry);
+        addToIndex(typeIndex, entry.type(), entry);
+        if (indexedEvents.incrementAndGet() > cache.estimatedSize() + SWEEP_THRESHOLD) {
+            timeIndex.forEach(this::getIndexedEvent);
+        }
         return event;
     }
 
@@ -44,5 +78,64 @@ public class InMemoryCasEventRepository extends AbstractCasEventRepository {
     public void removeAll() {
         cache.invalidateAll();
         cache.cleanUp();
+        timeIndex.clear();
+        principalIndex.clear();
+        typeIndex.clear();
+        indexedEvents.set(0);
+    }
+
+    private @Nullable NavigableSet<IndexedEvent> selectIndex(final CasEventQuery query) {
+        if (query.getPrincipalId() != null) {
+            return principalIndex.get(getPrincipalIndexKey(query.getPrincipalId()));
+        }
+        if (query.getType() != null) {
+            return typeIndex.get(query.getType());
+        }
+        return timeIndex;
+    }
+
+    private @Nullable CasEvent getIndexedEvent(final IndexedEvent entry) {
+        val event = cache.getIfPresent(entry.key());
+        if (event == null && timeIndex.remove(entry)) {
+            indexedEvents.decrementAndGet();
+            removeFromIndex(principalIndex, entry.principal(), entry);
+            removeFromIndex(typeIndex, entry.type(), entry);
+        }
+        return event;
+    }
+
+    private static String getPrincipalIndexKey(@Nullable final String principal) {
+        return StringUtils.defaultString(principal).toLowerCase(Locale.ENGLISH);
+    }
+
+    private static void addToIndex(final Map<String, NavigableSet<IndexedEvent>> index,
+                                   final String indexKey, final IndexedEvent entry) {
+        index.compute(indexKey, (_, entries) -> {
+            val results = Objects.requireNonNullElseGet(entries, ConcurrentSkipListSet<IndexedEvent>::new);
+            results.add(entry);
+            return results;
+        });
+    }
+
+    private static void removeFromIndex(final Map<String, NavigableSet<IndexedEvent>> index,
+                                        final String indexKey, final IndexedEvent entry) {
+        index.computeIfPresent(indexKey, (_, entries) -> {
+            entries.remove(entry);
+            return entries.isEmpty() ? null : entries;
+        });
+    }
+
+    private record IndexedEvent(Instant creationTime, String key, String principal, String type) implements Comparable<IndexedEvent> {
+        private static final Comparator<IndexedEvent> ORDER = Comparator.comparing(IndexedEvent::creationTime)
+            .thenComparing(IndexedEvent::key);
+
+        static IndexedEvent boundary(final Instant creationTime) {
+            return new IndexedEvent(creationTime, StringUtils.EMPTY, StringUtils.EMPTY, StringUtils.EMPTY);
+        }
+
+        @Override
+        public int compareTo(final IndexedEvent other) {
+            return ORDER.compare(this, other);
+        }
     }
 }
@@ -18,8 +18,10 @@ import org.springframework.cloud.context.config.annotation.RefreshScope;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ScopedProxyMode;
 import org.springframework.dao.annotation.PersistenceExceptionTranslationPostProcessor;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.core.MongoOperations;
 import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
 
 /**
  * This is {@link CasMongoDbEventsAutoConfiguration}, defines certain beans via configuration
@@ -49,6 +51,13 @@ public class CasMongoDbEventsAutoConfiguration {
         val factory = new MongoDbConnectionFactory(casSslContext.getSslContext());
         val mongoTemplate = factory.buildMongoTemplate(mongo);
         MongoDbConnectionFactory.createCollection(mongoTemplate, mongo.getCollection(), mongo.isDropCollection());
+        val collection = mongoTemplate.getCollection(mongo.getCollection());
+        val creationTimeIndex = new Index().named("IDX_EVENT_CREATION_TIME").on("creationTime", Sort.Direction.DESC);
+        val principalIndex = new Index().named("IDX_EVENT_PRINCIPAL_TIME")
+            .on("principalId", Sort.Direction.ASC).on("creationTime", Sort.Direction.DESC);
+        val typeIndex = new Index().named("IDX_EVENT_TYPE_TIME")
+            .on("type", Sort.Direction.ASC).on("creationTime", Sort.Direction.DESC);
+        MongoDbConnectionFactory.createOrUpdateIndexes(mongoTemplate, collection, List.of(creationTimeIndex, principalIndex, typeIndex));
         return mongoTemplate.asMongoTemplate();
     }
 
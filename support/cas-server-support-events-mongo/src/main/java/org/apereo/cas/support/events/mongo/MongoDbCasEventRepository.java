@@ -1,11 +1,13 @@
 package org.apereo.cas.support.events.mongo;
 
 import module java.base;
+import org.apereo.cas.support.events.CasEventQuery;
 import org.apereo.cas.support.events.CasEventRepositoryFilter;
 import org.apereo.cas.support.events.dao.AbstractCasEventRepository;
 import org.apereo.cas.support.events.dao.CasEvent;
 import lombok.ToString;
 import lombok.val;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.core.MongoOperations;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
@@ -42,56 +44,22 @@ public class MongoDbCasEventRepository extends AbstractCasEventRepository {
     }
 
     @Override
-    public Stream<? extends CasEvent> load(final ZonedDateTime dateTime) {
-        val query = new Query();
-        query.addCriteria(Criteria.where(CREATION_TIME_PARAM).gte(dateTime.toInstant()));
-        return this.mongoTemplate.stream(query, CasEvent.class, this.collectionName);
-    }
-
-    @Override
-    public Stream<? extends CasEvent> getEventsOfTypeForPrincipal(final String type, final String principal) {
-        val query = new Query();
-        query.addCriteria(Criteria.where(TYPE_PARAM).is(type).and(PRINCIPAL_ID_PARAM).is(principal));
-        return this.mongoTemplate.stream(query, CasEvent.class, this.collectionName);
-    }
-
-    @Override
-    public Stream<? extends CasEvent> getEventsOfTypeForPrincipal(final String type,
-                                                                  final String principal,
-                                                                  final ZonedDateTime dateTime) {
-        val query = new Query();
-        query.addCriteria(Criteria.where(TYPE_PARAM).is(type)
-            .and(PRINCIPAL_ID_PARAM).is(principal)
-            .and(CREATION_TIME_PARAM).gte(dateTime.toInstant()));
-        return this.mongoTemplate.stream(query, CasEvent.class, this.collectionName);
-    }
-
-    @Override
-    public Stream<? extends CasEvent> getEventsOfType(final String type) {
-        val query = new Query();
-        query.addCriteria(Criteria.where(TYPE_PARAM).is(type));
-        return this.mongoTemplate.stream(query, CasEvent.class, this.collectionName);
-    }
-
-    @Override
-    public Stream<? extends CasEvent> getEventsOfType(final String type, final ZonedDateTime dateTime) {
-        val query = new Query();
-        query.addCriteria(Criteria.where(TYPE_PARAM).is(type).and(CREATION_TIME_PARAM).gte(dateTime.toInstant()));
-        return this.mongoTemplate.stream(query, CasEvent.class, this.collectionName);
-    }
-
-    @Override
-    public Stream<? extends CasEvent> getEventsForPrincipal(final String id) {
-        val query = new Query();
-        query.addCriteria(Criteria.where(PRINCIPAL_ID_PARAM).is(id));
-        return this.mongoTemplate.stream(query, CasEvent.class, this.collectionName);
-    }
-
-    @Override
-    public Stream<? extends CasEvent> getEventsForPrincipal(final String principal, final ZonedDateTime dateTime) {
-        val query = new Query();
-        query.addCriteria(Criteria.where(PRINCIPAL_ID_PARAM).is(principal).and(CREATION_TIME_PARAM).gte(dateTime.toInstant()));
-        return this.mongoTemplate.stream(query, CasEvent.class, this.collectionName);
+    public Stream<? extends CasEvent> query(final CasEventQuery query) {
+        val criteria = new ArrayList<Criteria>();
+        Optional.ofNullable(query.getPrincipalId()).ifPresent(principal -> criteria.add(Criteria.where(PRINCIPAL_ID_PARAM).is(principal)));
+        Optional.ofNullable(query.getType()).ifPresent(type -> criteria.add(Criteria.where(TYPE_PARAM).is(type)));
+        if (query.getFrom() != null || query.getTo() != null) {
+            val creationTime = Criteria.where(CREATION_TIME_PARAM);
+            Optional.ofNullable(query.getFrom()).ifPresent(from -> creationTime.gte(from.toInstant()));
+            Optional.ofNullable(query.getTo()).ifPresent(to -> creationTime.lt(to.toInstant()));
+            criteria.add(creationTime);
+        }
+        val mongoQuery = criteria.isEmpty() ? new Query() : new Query(new Criteria().andOperator(criteria));
+        mongoQuery.with(Sort.by(Sort.Direction.DESC, CREATION_TIME_PARAM));
+        if (query.isLimited()) {
+            mongoQuery.limit((int) Math.min(query.getLimit(), Integer.MAX_VALUE));
+        }
+        return this.mongoTemplate.stream(mongoQuery, CasEvent.class, this.collectionName);
     }
 
     @Override
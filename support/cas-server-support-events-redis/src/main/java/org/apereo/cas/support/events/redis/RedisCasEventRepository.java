@@ -2,6 +2,7 @@ package org.apereo.cas.support.events.redis;
 
 import module java.base;
 import org.apereo.cas.redis.core.CasRedisTemplate;
+import org.apereo.cas.support.events.CasEventQuery;
 import org.apereo.cas.support.events.CasEventRepositoryFilter;
 import org.apereo.cas.support.events.dao.AbstractCasEventRepository;
 import org.apereo.cas.support.events.dao.CasEvent;
@@ -9,6 +10,7 @@ import lombok.Getter;
 import lombok.ToString;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
+import org.apache.commons.lang3.StringUtils;
 
 /**
  * This is {@link RedisCasEventRepository} that stores event data into a redis database.
@@ -24,6 +26,8 @@ public class RedisCasEventRepository extends AbstractCasEventRepository {
 
     private static final String CAS_PREFIX = RedisCasEventRepository.class.getSimpleName();
 
+    private static final int FETCH_BATCH_SIZE = 500;
+
     private final CasRedisTemplate<String, CasEvent> template;
 
     public RedisCasEventRepository(final CasEventRepositoryFilter eventRepositoryFilter,
@@ -45,96 +49,17 @@ public class RedisCasEventRepository extends AbstractCasEventRepository {
 
     @Override
     public Stream<? extends CasEvent> load() {
-        try (val keys = getKeys("*", "*", "*")) {
-            return keys
-                .map(key -> this.template.boundValueOps(key).get())
-                .filter(Objects::nonNull)
-                .toList()
-                .stream();
-        }
-    }
-
-    @Override
-    public Stream<? extends CasEvent> load(final ZonedDateTime dateTime) {
-        try (val keys = getKeys("*", "*", "*")) {
-            return keys
-                .map(key -> this.template.boundValueOps(key).get())
-                .filter(Objects::nonNull)
-                .filter(event -> event.getTimestamp() >= dateTime.toInstant().toEpochMilli())
-                .toList()
-                .stream();
-        }
-    }
-
-    @Override
-    public Stream<? extends CasEvent> getEventsOfTypeForPrincipal(final String type, final String principal) {
-        try (val keys = getKeys(type, principal, "*")) {
-            return keys
-                .map(key -> this.template.boundValueOps(key).get())
-                .filter(Objects::nonNull)
-                .toList()
-                .stream();
-        }
+        return getEvents("*", "*").stream();
     }
 
     @Override
-    public Stream<? extends CasEvent> getEventsOfTypeForPrincipal(final String type,
-                                                                  final String principal,
-                                                                  final ZonedDateTime dateTime) {
-        try (val keys = getKeys(type, principal, "*")) {
-            return keys
-                .map(key -> this.template.boundValueOps(key).get())
-                .filter(Objects::nonNull)
-                .filter(event -> event.getTimestamp() >= dateTime.toInstant().toEpochMilli())
-                .toList()
-                .stream();
-        }
-    }
-
-    @Override
-    public Stream<? extends CasEvent> getEventsOfType(final String type) {
-        try (val keys = getKeys(type, "*", "*")) {
-            return keys
-                .map(key -> this.template.boundValueOps(key).get())
-                .filter(Objects::nonNull)
-                .toList()
-                .stream();
-        }
-    }
-
-    @Override
-    public Stream<? extends CasEvent> getEventsOfType(final String type, final ZonedDateTime dateTime) {
-        try (val keys = getKeys(type, "*", "*")) {
-            return keys
-                .map(key -> this.template.boundValueOps(key).get())
-                .filter(Objects::nonNull)
-                .filter(event -> event.getTimestamp() >= dateTime.toInstant().toEpochMilli())
-                .toList()
-                .stream();
-        }
-    }
-
-    @Override
-    public Stream<? extends CasEvent> getEventsForPrincipal(final String id) {
-        try (val keys = getKeys("*", id, "*")) {
-            return keys
-                .map(key -> this.template.boundValueOps(key).get())
-                .filter(Objects::nonNull)
-                .toList()
-                .stream();
-        }
-    }
-
-    @Override
-    public Stream<? extends CasEvent> getEventsForPrincipal(final String principal, final ZonedDateTime dateTime) {
-        try (val keys = getKeys("*", principal, "*")) {
-            return keys
-                .map(key -> this.template.boundValueOps(key).get())
-                .filter(Objects::nonNull)
-                .filter(event -> event.getTimestamp() >= dateTime.toInstant().toEpochMilli())
-                .toList()
-                .stream();
-        }
+    public Stream<? extends CasEvent> query(final CasEventQuery query) {
+        val results = getEvents(StringUtils.defaultIfBlank(query.getType(), "*"),
+            StringUtils.defaultIfBlank(query.getPrincipalId(), "*"))
+            .stream()
+            .filter(query::matches)
+            .sorted(CasEventQuery.MOST_RECENT_FIRST);
+        return query.isLimited() ? results.limit(query.getLimit()) : results;
     }
 
     @Override
@@ -147,6 +72,19 @@ public class RedisCasEventRepository extends AbstractCasEventRepository {
         return event;
     }
 
+    private List<CasEvent> getEvents(final String type, final String principal) {
+        try (val keys = getKeys(type, principal, "*")) {
+            val keyList = keys.toList();
+            val events = new ArrayList<CasEvent>(keyList.size());
+            for (var i = 0; i < keyList.size(); i += FETCH_BATCH_SIZE) {
+                val batch = keyList.subList(i, Math.min(keyList.size(), i + FETCH_BATCH_SIZE));
+                Optional.ofNullable(template.opsForValue().multiGet(batch))
+                    .ifPresent(results -> results.stream().filter(Objects::nonNull).forEach(events::add));
+            }
+            return events;
+        }
+    }
+
     private Stream<String> getKeys(final String type, final String principal, final String timestamp) {
         val key = getKey(type, principal, timestamp);
         LOGGER.trace("Fetching records based on key [{}]", key);
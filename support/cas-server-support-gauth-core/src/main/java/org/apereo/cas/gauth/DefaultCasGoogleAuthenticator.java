@@ -61,8 +61,9 @@ public class DefaultCasGoogleAuthenticator implements CasGoogleAuthenticator {
     protected IGoogleAuthenticator toAuthenticatorInstance() {
         val clientInfo = ClientInfoHolder.getClientInfo();
         if (clientInfo != null && StringUtils.isNotBlank(clientInfo.getTenant())) {
-            val tenantDefinition = tenantExtractor.getTenantsManager().findTenant(clientInfo.getTenant()).orElseThrow();
-            val bindingContext = tenantDefinition.bindProperties();
+            val tenantsManager = tenantExtractor.getTenantsManager();
+            val tenantDefinition = tenantsManager.findTenant(clientInfo.getTenant()).orElseThrow();
+            val bindingContext = tenantsManager.bindProperties(tenantDefinition);
             if (bindingContext.isBound() && bindingContext.containsBindingFor(CoreGoogleAuthenticatorMultifactorProperties.class)) {
                 val properties = bindingContext.value();
                 val gauth = properties.getAuthn().getMfa().getGauth().getCore();
@@ -6,11 +6,13 @@ import org.apereo.cas.gauth.CasGoogleAuthenticator;
 import org.apereo.cas.util.LoggingUtils;
 import org.apereo.cas.util.concurrent.CasReentrantLock;
 import org.apereo.cas.util.crypto.CipherExecutor;
-import org.apereo.cas.util.function.FunctionUtils;
+import org.apereo.cas.util.io.IndexedJsonFileStore;
 import org.apereo.cas.util.serialization.StringSerializer;
 import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.core.io.Resource;
 
 /**
@@ -21,13 +23,15 @@ import org.springframework.core.io.Resource;
  */
 @Getter
 @Slf4j
-public class JsonGoogleAuthenticatorTokenCredentialRepository extends BaseGoogleAuthenticatorTokenCredentialRepository {
+public class JsonGoogleAuthenticatorTokenCredentialRepository extends BaseGoogleAuthenticatorTokenCredentialRepository implements DisposableBean {
     private final CasReentrantLock lock = new CasReentrantLock();
 
     private final Resource location;
 
     private final StringSerializer<Map<String, List<OneTimeTokenAccount>>> serializer;
 
+    private final IndexedJsonFileStore<OneTimeTokenAccount> store;
+
     public JsonGoogleAuthenticatorTokenCredentialRepository(
         final Resource location,
         final CasGoogleAuthenticator googleAuthenticator,
@@ -37,76 +41,40 @@ public class JsonGoogleAuthenticatorTokenCredentialRepository extends BaseGoogle
         super(tokenCredentialCipher, scratchCodesCipher, googleAuthenticator);
         this.location = location;
         this.serializer = serializer;
+        this.store = new IndexedJsonFileStore<>(location, new AccountsCodec(serializer),
+            account -> String.valueOf(account.getId()), OneTimeTokenAccount::getUsername).initialize(true);
+    }
+
+    @Override
+    public void destroy() {
+        store.close();
     }
 
     @Override
     public OneTimeTokenAccount get(final long id) {
-        return lock.tryLock(() -> {
-            val accounts = readAccountsFromJsonRepository();
-            return accounts.values()
-                .stream()
-                .flatMap(List::stream)
-                .filter(ac -> ac.getId() == id)
-                .findFirst()
-                .map(this::decode)
-                .orElse(null);
-        });
+        return store.findById(String.valueOf(id))
+            .map(this::decode)
+            .orElse(null);
     }
 
     @Override
     public OneTimeTokenAccount get(final String username, final long id) {
-        return lock.tryLock(() -> get(username)
+        return store.findByUsername(username)
             .stream()
             .filter(ac -> ac.getId() == id)
             .findFirst()
             .map(this::decode)
-            .orElse(null));
+            .orElse(null);
     }
 
     @Override
     public Collection<? extends OneTimeTokenAccount> get(final String username) {
-        return lock.tryLock(() -> {
-            try {
-                if (!location.getFile().exists()) {
-                    LOGGER.warn("JSON account repository file [{}] is not found.", location.getFile());
-                    return new ArrayList<>();
-                }
-
-                if (location.getFile().length() <= 0) {
-                    LOGGER.debug("JSON account repository file location [{}] is empty.", location.getFile());
-                    return new ArrayList<>();
-                }
-                val map = serializer.from(location.getFile());
-                if (map == null) {
-                    LOGGER.debug("JSON account repository file [{}] is empty.", location.getFile());
-                    return new ArrayList<>();
-                }
-
-                val account = map.get(username.trim().toLowerCase(Locale.ENGLISH));
-                if (account != null) {
-                    return decode(account);
-                }
-            } catch (final Exception e) {
-                LoggingUtils.error(LOGGER, e);
-            }
-            return new ArrayList<>();
-        });
+        return decode(store.findByUsername(username));
     }
 
     @Override
     public Collection<? extends OneTimeTokenAccount> load() {
-        return lock.tryLock(() -> {
-            try {
-                return readAccountsFromJsonRepository()
-                    .values()
-                    .stream()
-                    .flatMap(List::stream)
-                    .collect(Collectors.toList());
-            } catch (final Exception e) {
-                LoggingUtils.error(LOGGER, e);
-            }
-            return new ArrayList<>();
-        });
+        return store.values();
     }
 
     @Override
@@ -115,14 +83,10 @@ public class JsonGoogleAuthenticatorTokenCredentialRepository extends BaseGoogle
             try {
                 account.assignIdIfNecessary();
                 LOGGER.debug("Storing google authenticator account for [{}]", account.getUsername());
-                val accounts = readAccountsFromJsonRepository();
-                LOGGER.debug("Found [{}] account(s) and added google authenticator account for [{}]",
-                    accounts.size(), account.getUsername());
                 val encoded = encode(account);
-                val records = accounts.getOrDefault(account.getUsername().trim().toLowerCase(Locale.ENGLISH), new ArrayList<>());
-                records.add(encoded);
-                accounts.put(account.getUsername().trim().toLowerCase(Locale.ENGLISH), records);
-                writeAccountsToJsonRepository(accounts);
+                store.put(encoded.clone());
+                LOGGER.debug("Found [{}] account(s) and added google authenticator account for [{}]",
+                    store.countUsernames(), account.getUsername());
                 return encoded;
             } catch (final Exception e) {
                 LoggingUtils.error(LOGGER, e);
@@ -135,23 +99,19 @@ public class JsonGoogleAuthenticatorTokenCredentialRepository extends BaseGoogle
     public OneTimeTokenAccount update(final OneTimeTokenAccount account) {
         return lock.tryLock(() -> {
             try {
-                val accounts = readAccountsFromJsonRepository();
-                if (accounts.containsKey(account.getUsername().trim().toLowerCase(Locale.ENGLISH))) {
-                    val records = accounts.get(account.getUsername().trim().toLowerCase(Locale.ENGLISH));
-                    return records.stream()
-                        .filter(rec -> rec.getId() == account.getId())
-                        .findFirst()
-                        .map(act -> {
-                            val encoded = encode(account);
-                            act.setSecretKey(encoded.getSecretKey());
-                            act.setScratchCodes(encoded.getScratchCodes());
-                            act.setValidationCode(encoded.getValidationCode());
-                            act.setProperties(encoded.getProperties());
-                            writeAccountsToJsonRepository(accounts);
-                            return encoded;
-                        })
-                        .orElse(null);
-                }
+                return store.findById(String.valueOf(account.getId()))
+                    .filter(rec -> rec.getUsername().equalsIgnoreCase(account.getUsername().trim()))
+                    .map(act -> {
+                        val encoded = encode(account);
+                        val updated = act.clone();
+                        updated.setSecretKey(encoded.getSecretKey());
+                        updated.setScratchCodes(encoded.getScratchCodes());
+                        updated.setValidationCode(encoded.getValidationCode());
+                        updated.setProperties(encoded.getProperties());
+                        store.put(updated);
+                        return encoded;
+                    })
+                    .orElse(null);
             } catch (final Exception e) {
                 LoggingUtils.error(LOGGER, e);
             }
@@ -161,67 +121,52 @@ public class JsonGoogleAuthenticatorTokenCredentialRepository extends BaseGoogle
 
     @Override
     public void deleteAll() {
-        lock.tryLock(_ -> writeAccountsToJsonRepository(new HashMap<>()));
+        store.removeAll();
     }
 
     @Override
     public void delete(final String username) {
-        lock.tryLock(_ -> {
-            val accounts = readAccountsFromJsonRepository();
-            accounts.remove(username.trim().toLowerCase(Locale.ENGLISH));
-            writeAccountsToJsonRepository(accounts);
-        });
+        store.findByUsername(username).forEach(account -> store.remove(String.valueOf(account.getId())));
     }
 
     @Override
     public void delete(final long id) {
-        lock.tryLock(_ -> {
-            val accounts = readAccountsFromJsonRepository();
-            accounts.forEach((key, value) -> value.removeIf(d -> d.getId() == id));
-            writeAccountsToJsonRepository(accounts);
-        });
+        store.remove(String.valueOf(id));
     }
 
     @Override
     public long count() {
-        return lock.tryLock(() -> {
-            val accounts = readAccountsFromJsonRepository();
-            return accounts.size();
-        });
+        return store.countUsernames();
     }
 
     @Override
     public long count(final String username) {
-        return lock.tryLock(() -> {
-            val accounts = readAccountsFromJsonRepository();
-            return accounts.containsKey(username.trim().toLowerCase(Locale.ENGLISH)) ? accounts.get(username.trim().toLowerCase(Locale.ENGLISH)).size() : 0;
-        });
+        return store.findByUsername(username).size();
     }
 
-    private void writeAccountsToJsonRepository(final Map<String, List<OneTimeTokenAccount>> accounts) {
-        FunctionUtils.doUnchecked(_ -> {
-            if (location.getFile() != null) {
-                LOGGER.debug("Saving [{}] google authenticator accounts to JSON file at [{}]", accounts.size(), location.getFile());
-                serializer.to(location.getFile(), accounts);
-            }
-        });
-    }
+    @RequiredArgsConstructor
+    private static final class AccountsCodec implements IndexedJsonFileStore.Codec<OneTimeTokenAccount> {
+        private final StringSerializer<Map<String, List<OneTimeTokenAccount>>> serializer;
 
-    private Map<String, List<OneTimeTokenAccount>> readAccountsFromJsonRepository() {
-        return FunctionUtils.doUnchecked(() -> {
-            val file = location.getFile();
-            LOGGER.debug("Ensuring JSON repository file exists at [{}]", file);
-            val result = file != null && file.createNewFile();
-            if (result) {
-                LOGGER.debug("Created JSON repository file at [{}]", file);
+        @Override
+        public Collection<OneTimeTokenAccount> decode(final String contents) {
+            val accounts = serializer.from(contents);
+            if (accounts == null) {
+                return new ArrayList<>();
             }
-            if (file != null && file.length() > 0) {
-                LOGGER.debug("Reading JSON repository file at [{}]", file);
-                val accounts = this.serializer.from(file);
-                LOGGER.debug("Read [{}] accounts from JSON repository file at [{}]", accounts.size(), file);
-                return accounts;
-            }
-            return new HashMap<>();
-        });
+            return accounts.values()
+                .stream()
+                .flatMap(List::stream)
+                .collect(Collectors.toList());
+        }
+
+        @Override
+        public String encode(final Collection<OneTimeTokenAccount> entries) {
+            val accounts = entries
+                .stream()
+                .collect(Collectors.groupingBy(account -> account.getUsername().trim().toLowerCase(Locale.ENGLISH),
+                    LinkedHashMap::new, Collectors.toList()));
+            return serializer.toString(accounts);
+        }
     }
 }
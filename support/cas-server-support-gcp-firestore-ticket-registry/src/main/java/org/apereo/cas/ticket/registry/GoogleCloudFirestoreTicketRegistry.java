@@ -114,6 +114,9 @@ public class GoogleCloudFirestoreTicketRegistry extends AbstractTicketRegistry {
 
     @Override
     public Stream<? extends Ticket> stream(final TicketRegistryStreamCriteria criteria) {
+        if (criteria.getAfter() != null) {
+            return criteria.apply(stream(), ticket -> digestIdentifier(ticket.getId()));
+        }
         return ticketCatalog
             .findAll()
             .stream()
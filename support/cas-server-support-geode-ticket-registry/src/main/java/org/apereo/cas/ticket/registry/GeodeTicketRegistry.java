@@ -154,6 +154,9 @@ public class GeodeTicketRegistry extends AbstractTicketRegistry implements Dispo
 
     @Override
     public Stream<? extends Ticket> stream(final TicketRegistryStreamCriteria criteria) {
+        if (criteria.getAfter() != null) {
+            return criteria.apply(stream(), ticket -> digestIdentifier(ticket.getId()));
+        }
         return ticketCatalog.findAll()
             .stream()
             .map(this::getCacheFromMetadata)
@@ -16,6 +16,7 @@ import org.apereo.cas.ticket.registry.MapAttributeValueExtractor;
 import org.apereo.cas.ticket.registry.NoOpTicketRegistryCleaner;
 import org.apereo.cas.ticket.registry.TicketRegistry;
 import org.apereo.cas.ticket.registry.TicketRegistryCleaner;
+import org.apereo.cas.ticket.serialization.TicketCodec;
 import org.apereo.cas.ticket.serialization.TicketSerializationManager;
 import org.apereo.cas.util.CoreTicketUtils;
 import org.apereo.cas.util.spring.boot.ConditionalOnFeatureEnabled;
@@ -79,12 +80,15 @@ public class CasHazelcastTicketRegistryAutoConfiguration {
         @Qualifier(TicketSerializationManager.BEAN_NAME) final TicketSerializationManager ticketSerializationManager,
         @Qualifier("casTicketRegistryHazelcastInstance") final HazelcastInstance casTicketRegistryHazelcastInstance,
         @Qualifier(TicketCatalog.BEAN_NAME) final TicketCatalog ticketCatalog,
+        @Qualifier(TicketCodec.BEAN_NAME) final TicketCodec ticketCodec,
         final CasConfigurationProperties casProperties,
         final ConfigurableApplicationContext applicationContext) {
         val hz = casProperties.getTicket().getRegistry().getHazelcast();
         val cipher = CoreTicketUtils.newTicketRegistryCipherExecutor(hz.getCrypto(), "hazelcast");
-        return new HazelcastTicketRegistry(cipher, ticketSerializationManager, ticketCatalog, applicationContext,
+        val registry = new HazelcastTicketRegistry(cipher, ticketSerializationManager, ticketCatalog, applicationContext,
             casTicketRegistryHazelcastInstance, hz);
+        registry.setTicketCodec(ticketCodec);
+        return registry;
     }
 
     @Bean(destroyMethod = "shutdown")
@@ -13,9 +13,15 @@ import org.apereo.cas.ticket.TicketGrantingTicket;
 import org.apereo.cas.ticket.serialization.TicketSerializationManager;
 import org.apereo.cas.util.crypto.CipherExecutor;
 import org.apereo.cas.util.function.FunctionUtils;
+import com.hazelcast.core.EntryEvent;
 import com.hazelcast.core.HazelcastInstance;
 import com.hazelcast.map.IMap;
+import com.hazelcast.map.listener.EntryEvictedListener;
+import com.hazelcast.map.listener.EntryExpiredListener;
+import com.hazelcast.map.listener.EntryRemovedListener;
+import com.hazelcast.multimap.MultiMap;
 import com.hazelcast.query.Predicates;
+import com.hazelcast.query.QueryConstants;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apache.commons.lang3.StringUtils;
@@ -30,6 +36,9 @@ import org.springframework.context.ConfigurableApplicationContext;
  * which is an extension of the standard Java's {@code ConcurrentMap}.</p>
  * <p>The heavy lifting of distributed data partitioning, network cluster discovery and
  * join, data replication, etc. is done by Hazelcast's Map implementation.</p>
+ * <p>Services tracked by ticket-granting tickets may be kept in a separate {@link MultiMap}
+ * keyed by ticket-granting ticket; entries are dropped once the ticket-granting ticket
+ * is removed, expires or is evicted.</p>
  *
  * @author Dmitriy Kopylenko
  * @author Jonathan Johnson
@@ -38,6 +47,13 @@ import org.springframework.context.ConfigurableApplicationContext;
 @Slf4j
 @Monitorable
 public class HazelcastTicketRegistry extends AbstractTicketRegistry implements AutoCloseable, DisposableBean {
+    /**
+     * Name of the multimap that holds services tracked by ticket-granting tickets.
+     */
+    public static final String TRACKED_SERVICES_MAP_NAME = "trackedServicesCache";
+
+    private static final char TRACKED_SERVICE_SEPARATOR = ':';
+
     private final HazelcastInstance hazelcastInstance;
 
     private final HazelcastTicketRegistryProperties properties;
@@ -51,6 +67,9 @@ public class HazelcastTicketRegistry extends AbstractTicketRegistry implements A
         super(cipherExecutor, ticketSerializationManager, ticketCatalog, applicationContext);
         this.hazelcastInstance = hazelcastInstance;
         this.properties = properties;
+        if (isServiceTrackingExternalized()) {
+            registerTrackedServicesCleaner();
+        }
     }
 
     @Override
@@ -123,16 +142,120 @@ public class HazelcastTicketRegistry extends AbstractTicketRegistry implements A
         return null;
     }
 
+    @Override
+    public Ticket consumeTicket(final String ticketId) {
+        val encTicketId = digestIdentifier(ticketId);
+        val metadata = StringUtils.isNotBlank(encTicketId) ? ticketCatalog.find(ticketId) : null;
+        val map = metadata != null ? getTicketMapInstanceByMetadata(metadata) : null;
+        if (map != null) {
+            val document = map.remove(encTicketId);
+            if (document != null && document.getTicket() != null) {
+                return decodeTicket(document.getTicket());
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public boolean isTicketConsumptionAtomic() {
+        return true;
+    }
+
+    @Override
+    public boolean isServiceTrackingExternalized() {
+        return properties.isTrackServicesExternally();
+    }
+
+    @Override
+    public void trackService(final TicketGrantingTicket ticketGrantingTicket,
+                             final String serviceTicketId, final Service service) throws Exception {
+        if (isServiceTrackingExternalized()) {
+            val value = digestIdentifier(serviceTicketId) + TRACKED_SERVICE_SEPARATOR + serializeTrackedService(serviceTicketId, service);
+            getTrackedServicesMap().put(digestIdentifier(ticketGrantingTicket.getId()), value);
+        } else {
+            super.trackService(ticketGrantingTicket, serviceTicketId, service);
+        }
+    }
+
+    @Override
+    public void untrackServices(final TicketGrantingTicket ticketGrantingTicket,
+                                final Collection<String> serviceTicketIds) throws Exception {
+        super.untrackServices(ticketGrantingTicket, serviceTicketIds);
+        if (isServiceTrackingExternalized() && !serviceTicketIds.isEmpty()) {
+            val trackedServices = getTrackedServicesMap();
+            val key = digestIdentifier(ticketGrantingTicket.getId());
+            val ids = serviceTicketIds.stream().map(this::digestIdentifier).collect(Collectors.toSet());
+            trackedServices.get(key)
+                .stream()
+                .filter(value -> ids.contains(StringUtils.substringBefore(value, TRACKED_SERVICE_SEPARATOR)))
+                .forEach(value -> trackedServices.remove(key, value));
+        }
+    }
+
+    @Override
+    public Map<String, Service> getTrackedServices(final TicketGrantingTicket ticketGrantingTicket) {
+        if (!isServiceTrackingExternalized()) {
+            return super.getTrackedServices(ticketGrantingTicket);
+        }
+        val services = new LinkedHashMap<>(ticketGrantingTicket.getServices());
+        getTrackedServicesMap().get(digestIdentifier(ticketGrantingTicket.getId()))
+            .stream()
+            .map(value -> StringUtils.substringAfter(value, TRACKED_SERVICE_SEPARATOR))
+            .map(this::deserializeTrackedService)
+            .filter(Objects::nonNull)
+            .forEach(services::putAll);
+        return services;
+    }
+
     @Override
     public long deleteSingleTicket(final Ticket ticketToDelete) {
         val encTicketId = digestIdentifier(ticketToDelete.getId());
         val metadata = ticketCatalog.find(ticketToDelete);
         val map = getTicketMapInstanceByMetadata(metadata);
+        if (ticketToDelete instanceof TicketGrantingTicket && isServiceTrackingExternalized()) {
+            getTrackedServicesMap().delete(encTicketId);
+        }
         return map != null && map.remove(encTicketId) != null ? 1 : 0;
     }
 
+    @Override
+    protected long deleteSingleTickets(final List<? extends Ticket> tickets) {
+        if (isServiceTrackingExternalized()) {
+            val trackedServices = getTrackedServicesMap();
+            tickets.stream()
+                .filter(TicketGrantingTicket.class::isInstance)
+                .forEach(ticket -> trackedServices.delete(digestIdentifier(ticket.getId())));
+        }
+        return tickets
+            .stream()
+            .collect(Collectors.groupingBy(ticket -> Objects.requireNonNull(ticketCatalog.find(ticket)),
+                Collectors.mapping(ticket -> digestIdentifier(ticket.getId()), Collectors.toList())))
+            .entrySet()
+            .stream()
+            .mapToLong(entry -> {
+                val map = getTicketMapInstanceByMetadata(entry.getKey());
+                if (map == null) {
+                    return 0;
+                }
+                val predicate = Predicates.<String, HazelcastTicketDocument>in(
+                    QueryConstants.KEY_ATTRIBUTE_NAME.value(), entry.getValue().toArray(String[]::new));
+                val count = map.keySet(predicate).size();
+                map.removeAll(predicate);
+                return count;
+            })
+            .sum();
+    }
+
+    @Override
+    public boolean isBatchDeletionSupported() {
+        return true;
+    }
+
     @Override
     public long deleteAll() {
+        if (isServiceTrackingExternalized()) {
+            getTrackedServicesMap().clear();
+        }
         return ticketCatalog.findAll()
             .stream()
             .map(this::getTicketMapInstanceByMetadata)
@@ -291,6 +414,9 @@ public class HazelcastTicketRegistry extends AbstractTicketRegistry implements A
 
     @Override
     public Stream<? extends Ticket> stream(final TicketRegistryStreamCriteria criteria) {
+        if (criteria.getAfter() != null) {
+            return streamTicketsAfter(criteria);
+        }
         return ticketCatalog
             .findAll()
             .stream()
@@ -339,6 +465,42 @@ public class HazelcastTicketRegistry extends AbstractTicketRegistry implements A
         shutdown();
     }
 
+    private Stream<? extends Ticket> streamTicketsAfter(final TicketRegistryStreamCriteria criteria) {
+        val predicate = Predicates.<String, HazelcastTicketDocument>greaterThan(
+            QueryConstants.KEY_ATTRIBUTE_NAME.value(), Objects.requireNonNull(criteria.getAfter()));
+        val entries = ticketCatalog
+            .findAll()
+            .stream()
+            .map(this::getTicketMapInstanceByMetadata)
+            .filter(Objects::nonNull)
+            .flatMap(ticketMap -> ticketMap.keySet(predicate).stream().map(key -> Map.entry(key, ticketMap)))
+            .sorted(Map.Entry.comparingByKey());
+        val tickets = entries
+            .skip(Math.max(criteria.getFrom(), 0))
+            .map(entry -> entry.getValue().get(entry.getKey()))
+            .filter(Objects::nonNull)
+            .map(HazelcastTicketDocument::getTicket)
+            .filter(Objects::nonNull)
+            .map(this::decodeTicket);
+        return criteria.isInfiniteCount() ? tickets : tickets.limit(criteria.getCount());
+    }
+
+    private MultiMap<String, String> getTrackedServicesMap() {
+        return hazelcastInstance.getMultiMap(TRACKED_SERVICES_MAP_NAME);
+    }
+
+    /**
+     * Tracked services are dropped once their ticket-granting ticket leaves the map for any reason,
+     * including expiration and eviction by Hazelcast. Listeners are local, so that each event
+     * is handled once by the member that owns the entry.
+     */
+    private void registerTrackedServicesCleaner() {
+        val cleaner = new TrackedServicesCleaner(getTrackedServicesMap());
+        ticketCatalog.findTicketDefinition(TicketGrantingTicket.class)
+            .map(this::getTicketMapInstanceByMetadata)
+            .ifPresent(ticketMap -> FunctionUtils.doAndHandle(_ -> ticketMap.addLocalEntryListener(cleaner)));
+    }
+
     private @Nullable IMap<String, HazelcastTicketDocument> getTicketMapInstanceByMetadata(final TicketDefinition metadata) {
         val mapName = metadata.getProperties().getStorageName();
         LOGGER.debug("Locating map name [{}] for ticket definition [{}]", mapName, metadata);
@@ -352,4 +514,24 @@ public class HazelcastTicketRegistry extends AbstractTicketRegistry implements A
             return inst;
         });
     }
+
+    private record TrackedServicesCleaner(MultiMap<String, String> trackedServices)
+        implements EntryRemovedListener<String, HazelcastTicketDocument>, EntryExpiredListener<String, HazelcastTicketDocument>,
+        EntryEvictedListener<String, HazelcastTicketDocument> {
+
+        @Override
+        public void entryRemoved(final EntryEvent<String, HazelcastTicketDocument> event) {
+            trackedServices.delete(event.getKey());
+        }
+
+        @Override
+        public void entryExpired(final EntryEvent<String, HazelcastTicketDocument> event) {
+            trackedServices.delete(event.getKey());
+        }
+
+        @Override
+        public void entryEvicted(final EntryEvent<String, HazelcastTicketDocument> event) {
+            trackedServices.delete(event.getKey());
+        }
+    }
 }
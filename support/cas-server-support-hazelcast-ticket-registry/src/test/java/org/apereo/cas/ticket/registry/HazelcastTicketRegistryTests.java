@@ -5,6 +5,7 @@ import org.apereo.cas.authentication.CoreAuthenticationTestUtils;
 import org.apereo.cas.config.CasHazelcastTicketRegistryAutoConfiguration;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.mock.MockTicketGrantingTicket;
+import org.apereo.cas.services.RegisteredServiceTestUtils;
 import org.apereo.cas.test.CasTestExtension;
 import org.apereo.cas.ticket.DefaultTicketDefinition;
 import org.apereo.cas.ticket.Ticket;
@@ -115,6 +116,53 @@ class HazelcastTicketRegistryTests {
         }
     }
 
+    @Nested
+    @Getter
+    @ImportAutoConfiguration(CasHazelcastTicketRegistryAutoConfiguration.class)
+    @Import(BaseTicketRegistryTests.SharedTestConfiguration.class)
+    @TestPropertySource(
+        properties = {
+            "cas.ticket.registry.hazelcast.track-services-externally=true",
+            "cas.ticket.registry.hazelcast.cluster.network.port-auto-increment=false",
+            "cas.ticket.registry.hazelcast.cluster.network.port=5709",
+            "cas.ticket.registry.hazelcast.cluster.core.instance-name=testtrackedservicesinstance"
+        })
+    class ExternalServiceTrackingTests extends BaseTicketRegistryTests {
+        @Autowired
+        @Qualifier(TicketRegistry.BEAN_NAME)
+        private TicketRegistry newTicketRegistry;
+
+        @RepeatedTest(1)
+        void verifyServicesTrackedOutsideTicket() throws Throwable {
+            val ticketGrantingTicket = new TicketGrantingTicketImpl(TestTicketIdentifiers.generate().ticketGrantingTicketId(),
+                CoreAuthenticationTestUtils.getAuthentication(), NeverExpiresExpirationPolicy.INSTANCE);
+            newTicketRegistry.addTicket(ticketGrantingTicket);
+            val serviceTicketIds = new ArrayList<String>();
+            for (var i = 0; i < 5; i++) {
+                val st = ticketGrantingTicket.grantServiceTicket(TestTicketIdentifiers.generate().serviceTicketId(),
+                    RegisteredServiceTestUtils.getService("https://app%s.example.org".formatted(i)),
+                    NeverExpiresExpirationPolicy.INSTANCE, false, serviceTicketSessionTrackingPolicy);
+                newTicketRegistry.addTicket(st);
+                serviceTicketIds.add(st.getId());
+            }
+            assertTrue(ticketGrantingTicket.getServices().isEmpty());
+            newTicketRegistry.updateTicket(ticketGrantingTicket);
+
+            val ticket = newTicketRegistry.getTicket(ticketGrantingTicket.getId(), TicketGrantingTicket.class);
+            assertTrue(ticket.getServices().isEmpty());
+            val trackedServices = newTicketRegistry.getTrackedServices(ticket);
+            assertEquals(Set.copyOf(serviceTicketIds), trackedServices.keySet());
+            assertEquals("https://app1.example.org", trackedServices.get(serviceTicketIds.get(1)).getId());
+
+            newTicketRegistry.untrackServices(ticket, List.of(serviceTicketIds.getFirst()));
+            assertEquals(4, newTicketRegistry.getTrackedServices(ticket).size());
+
+            newTicketRegistry.deleteTicket(ticket);
+            serviceTicketIds.subList(1, serviceTicketIds.size()).forEach(id -> assertNull(newTicketRegistry.getTicket(id)));
+            assertTrue(newTicketRegistry.getTrackedServices(ticket).isEmpty());
+        }
+    }
+
     @Nested
     @SpringBootTest(classes = {
         CasHazelcastTicketRegistryAutoConfiguration.class,
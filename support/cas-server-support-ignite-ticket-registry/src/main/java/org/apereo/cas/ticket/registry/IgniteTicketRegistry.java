@@ -150,6 +150,9 @@ public class IgniteTicketRegistry extends AbstractTicketRegistry implements Disp
 
     @Override
     public Stream<? extends Ticket> stream(final TicketRegistryStreamCriteria criteria) {
+        if (criteria.getAfter() != null) {
+            return criteria.apply(stream(), ticket -> digestIdentifier(ticket.getId()));
+        }
         return ticketCatalog
             .findAll()
             .stream()
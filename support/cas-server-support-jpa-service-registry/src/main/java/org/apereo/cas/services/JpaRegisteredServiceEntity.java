@@ -14,6 +14,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 
@@ -23,7 +24,7 @@ import jakarta.persistence.Table;
  * @author Misagh Moayyed
  * @since 6.4.0
  */
-@Table(name = "RegisteredServices")
+@Table(name = "RegisteredServices", indexes = @Index(name = "idx_registered_service_last_modified", columnList = "lastModified"))
 @Entity(name = JpaRegisteredServiceEntity.ENTITY_NAME)
 @Getter
 @Setter
@@ -62,4 +63,7 @@ public class JpaRegisteredServiceEntity implements Serializable {
     @Column(nullable = false, length = 8_000)
     private String body;
 
+    @Column
+    private Instant lastModified;
+
 }
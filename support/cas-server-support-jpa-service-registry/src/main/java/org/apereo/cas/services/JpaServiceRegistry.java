@@ -89,6 +89,33 @@ public class JpaServiceRegistry extends AbstractServiceRegistry implements JpaPe
         });
     }
 
+    /**
+     * Changes are determined using the modification timestamp of each service definition.
+     * Definitions that are stored without a modification timestamp, i.e. those that are not saved by CAS,
+     * are only picked up when all services are loaded.
+     */
+    @Override
+    public Optional<ServiceRegistryChanges> loadChanges(final Instant since) {
+        return transactionTemplate.execute(_ -> {
+            val watermark = Instant.now(Clock.systemUTC());
+            val query = String.format("SELECT r FROM %s r WHERE r.lastModified >= :since", JpaRegisteredServiceEntity.ENTITY_NAME);
+            val clientInfo = ClientInfoHolder.getClientInfo();
+            val modifiedServices = entityManager.createQuery(query, JpaRegisteredServiceEntity.class)
+                .setParameter("since", since)
+                .getResultList()
+                .stream()
+                .map(this::toRegisteredService)
+                .sorted()
+                .map(this::invokeServiceRegistryListenerPostLoad)
+                .filter(Objects::nonNull)
+                .peek(service -> publishEvent(new CasRegisteredServiceLoadedEvent(this, service, clientInfo)))
+                .collect(Collectors.toList());
+            val idQuery = String.format("SELECT r.id FROM %s r", JpaRegisteredServiceEntity.ENTITY_NAME);
+            val serviceIds = new HashSet<>(entityManager.createQuery(idQuery, Long.class).getResultList());
+            return Optional.of(new ServiceRegistryChanges(modifiedServices, serviceIds, watermark));
+        });
+    }
+
     @Override
     public Long save(final Supplier<RegisteredService> supplier,
                      final Consumer<RegisteredService> andThenConsume,
@@ -204,6 +231,7 @@ public class JpaServiceRegistry extends AbstractServiceRegistry implements JpaPe
             .serviceId(service.getServiceId())
             .evaluationOrder(service.getEvaluationOrder())
             .body(jsonBody)
+            .lastModified(Instant.now(Clock.systemUTC()))
             .build();
     }
 
@@ -10,8 +10,12 @@ import org.apereo.cas.jpa.JpaConfigurationContext;
 import org.apereo.cas.ticket.TicketCatalog;
 import org.apereo.cas.ticket.catalog.CasTicketCatalogConfigurationValuesProvider;
 import org.apereo.cas.ticket.registry.JpaTicketEntityFactory;
+import org.apereo.cas.ticket.registry.DefaultTicketRegistryCleaner;
 import org.apereo.cas.ticket.registry.JpaTicketRegistry;
+import org.apereo.cas.ticket.registry.JpaTicketRegistryCleaner;
 import org.apereo.cas.ticket.registry.TicketRegistry;
+import org.apereo.cas.ticket.registry.TicketRegistryCleaner;
+import org.apereo.cas.ticket.registry.tracking.JpaTrackedServiceEntity;
 import org.apereo.cas.ticket.serialization.TicketSerializationManager;
 import org.apereo.cas.util.CollectionUtils;
 import org.apereo.cas.util.CoreTicketUtils;
@@ -22,10 +26,12 @@ import org.apereo.cas.util.spring.beans.BeanCondition;
 import org.apereo.cas.util.spring.beans.BeanContainer;
 import org.apereo.cas.util.spring.beans.BeanSupplier;
 import org.apereo.cas.util.spring.boot.ConditionalOnFeatureEnabled;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.val;
 import org.jooq.lambda.Unchecked;
 import org.springframework.beans.factory.FactoryBean;
 import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
@@ -36,6 +42,7 @@ import org.springframework.cloud.context.config.annotation.RefreshScope;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.context.annotation.Primary;
 import org.springframework.context.annotation.ScopedProxyMode;
 import org.springframework.integration.jdbc.lock.JdbcLockRegistry;
@@ -90,7 +97,8 @@ public class CasJpaTicketRegistryAutoConfiguration {
                 .supply(() -> {
                     val jpa = casProperties.getTicket().getRegistry().getJpa();
                     val type = new JpaTicketEntityFactory(jpa.getDialect()).getType();
-                    return BeanContainer.of(CollectionUtils.wrapSet(type.getPackage().getName()));
+                    return BeanContainer.of(CollectionUtils.wrapSet(type.getPackage().getName(),
+                        JpaTrackedServiceEntity.class.getPackage().getName()));
                 })
                 .otherwiseProxy()
                 .get();
@@ -208,6 +216,25 @@ public class CasJpaTicketRegistryAutoConfiguration {
                 .otherwiseProxy()
                 .get();
         }
+
+        @Bean
+        @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
+        @Lazy(false)
+        public TicketRegistryCleaner ticketRegistryCleaner(
+            final CasConfigurationProperties casProperties,
+            @Qualifier(LockRepository.BEAN_NAME)
+            final LockRepository lockRepository,
+            final ConfigurableApplicationContext applicationContext,
+            final ObjectProvider<MeterRegistry> meterRegistry,
+            @Qualifier(TicketRegistry.BEAN_NAME)
+            final TicketRegistry ticketRegistry) {
+            val properties = casProperties.getTicket().getRegistry().getCleaner();
+            val cleaner = ticketRegistry instanceof final JpaTicketRegistry jpaTicketRegistry
+                ? new JpaTicketRegistryCleaner(lockRepository, applicationContext, jpaTicketRegistry, properties)
+                : new DefaultTicketRegistryCleaner(lockRepository, applicationContext, ticketRegistry, properties);
+            meterRegistry.ifAvailable(cleaner::bindTo);
+            return cleaner;
+        }
     }
 
     @Configuration(value = "JpaTicketRegistryLockingConfiguration", proxyBeanMethods = false)
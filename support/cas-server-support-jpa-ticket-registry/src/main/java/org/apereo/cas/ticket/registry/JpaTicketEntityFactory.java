@@ -6,6 +6,7 @@ import org.apereo.cas.authentication.principal.Principal;
 import org.apereo.cas.configuration.support.RelaxedPropertyNames;
 import org.apereo.cas.jpa.AbstractJpaEntityFactory;
 import org.apereo.cas.ticket.AuthenticationAwareTicket;
+import org.apereo.cas.ticket.IdleExpirationPolicy;
 import org.apereo.cas.ticket.ServiceAwareTicket;
 import org.apereo.cas.ticket.Ticket;
 import org.apereo.cas.ticket.TicketGrantingTicketAwareTicket;
@@ -71,7 +72,7 @@ public class JpaTicketEntityFactory extends AbstractJpaEntityFactory<BaseTicketE
             ? tgtAware.getTicketGrantingTicket()
             : null;
 
-        val expirationTime = realTicket.getExpirationPolicy().toMaximumExpirationTime(realTicket);
+        val expirationTime = getExpirationTime(realTicket);
         val entity = FunctionUtils.doUnchecked(() -> getEntityClass().getDeclaredConstructor().newInstance());
         return entity
             .setId(encodedTicket.getId())
@@ -115,6 +116,30 @@ public class JpaTicketEntityFactory extends AbstractJpaEntityFactory<BaseTicketE
         return RelaxedPropertyNames.NameManipulations.CASE_INSENSITIVE_CAMELCASE_TO_UNDERSCORE.apply(tableName);
     }
 
+    /**
+     * Calculate the time at which the ticket is expected to expire, given its current state.
+     * Tickets that are already expired are marked as expiring now, and tickets that
+     * may expire due to inactivity are marked with the earlier of their idle and maximum expiration times.
+     * The ticket is written again when it is used, which pushes its idle expiration time forward.
+     *
+     * @param ticket the ticket
+     * @return the expiration time
+     */
+    private static ZonedDateTime getExpirationTime(final Ticket ticket) {
+        if (ticket.isExpired()) {
+            return ZonedDateTime.now(Clock.systemUTC());
+        }
+        val expirationPolicy = ticket.getExpirationPolicy();
+        val maximumExpirationTime = expirationPolicy.toMaximumExpirationTime(ticket);
+        if (expirationPolicy instanceof final IdleExpirationPolicy idlePolicy) {
+            val idleExpirationTime = idlePolicy.getIdleExpirationTime(ticket);
+            if (idleExpirationTime != null && (maximumExpirationTime == null || idleExpirationTime.isBefore(maximumExpirationTime))) {
+                return idleExpirationTime;
+            }
+        }
+        return maximumExpirationTime;
+    }
+
     private Class<? extends BaseTicketEntity> getEntityClass() {
         if (isOracle()) {
             return OracleJpaTicketEntity.class;
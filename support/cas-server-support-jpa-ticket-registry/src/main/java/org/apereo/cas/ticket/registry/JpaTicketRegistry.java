@@ -8,9 +8,11 @@ import org.apereo.cas.monitor.Monitorable;
 import org.apereo.cas.ticket.ServiceTicket;
 import org.apereo.cas.ticket.Ticket;
 import org.apereo.cas.ticket.TicketCatalog;
+import org.apereo.cas.ticket.TicketDefinition;
 import org.apereo.cas.ticket.TicketGrantingTicket;
 import org.apereo.cas.ticket.TicketGrantingTicketAwareTicket;
 import org.apereo.cas.ticket.registry.generic.BaseTicketEntity;
+import org.apereo.cas.ticket.registry.tracking.JpaTrackedServiceEntity;
 import org.apereo.cas.ticket.serialization.TicketSerializationManager;
 import org.apereo.cas.util.crypto.CipherExecutor;
 import org.apereo.cas.util.function.FunctionUtils;
@@ -30,6 +32,8 @@ import jakarta.persistence.PersistenceContext;
 /**
  * JPA implementation of a CAS {@link TicketRegistry}. This implementation of
  * ticket registry is suitable for HA environments.
+ * Services tracked by ticket-granting tickets may be kept in a separate table,
+ * one row per service ticket, which is removed along with the ticket-granting ticket.
  *
  * @author Scott Battaglia
  * @author Marvin S. Addison
@@ -40,6 +44,8 @@ import jakarta.persistence.PersistenceContext;
 @Monitorable
 public class JpaTicketRegistry extends AbstractTicketRegistry {
 
+    private static final String TRACKED_SERVICE_ENTITY_NAME = JpaTrackedServiceEntity.class.getSimpleName();
+
     private final JpaBeanFactory jpaBeanFactory;
 
     private final TransactionOperations transactionTemplate;
@@ -106,6 +112,93 @@ public class JpaTicketRegistry extends AbstractTicketRegistry {
         });
     }
 
+    @Override
+    public @Nullable Ticket consumeTicket(final String ticketId) {
+        return transactionTemplate.execute(_ -> {
+            val encTicketId = digestIdentifier(ticketId);
+            if (StringUtils.isBlank(encTicketId)) {
+                return null;
+            }
+            val sql = String.format("SELECT t FROM %s t WHERE t.id = :id", ticketEntityFactory.getEntityName());
+            val found = entityManager.createQuery(sql, ticketEntityFactory.getType())
+                .setParameter("id", encTicketId)
+                .getResultList();
+            if (found.isEmpty()) {
+                LOGGER.debug("No record could be found for ticket [{}]", ticketId);
+                return null;
+            }
+            val deleteSql = String.format("DELETE FROM %s t WHERE t.id = :id", ticketEntityFactory.getEntityName());
+            val deleted = entityManager.createQuery(deleteSql).setParameter("id", encTicketId).executeUpdate();
+            if (deleted == 0) {
+                LOGGER.debug("Ticket [{}] has already been consumed", ticketId);
+                return null;
+            }
+            return decodeTicket(ticketEntityFactory.toTicket(found.getFirst()));
+        });
+    }
+
+    @Override
+    public boolean isTicketConsumptionAtomic() {
+        return true;
+    }
+
+    @Override
+    public boolean isServiceTrackingExternalized() {
+        return casProperties.getTicket().getRegistry().getJpa().isTrackServicesExternally();
+    }
+
+    @Override
+    public void trackService(final TicketGrantingTicket ticketGrantingTicket,
+                             final String serviceTicketId, final Service service) throws Exception {
+        if (!isServiceTrackingExternalized()) {
+            super.trackService(ticketGrantingTicket, serviceTicketId, service);
+        } else if (!casProperties.getSlo().isDisabled()) {
+            val entity = new JpaTrackedServiceEntity()
+                .setId(digestIdentifier(serviceTicketId))
+                .setTicketGrantingTicketId(digestIdentifier(ticketGrantingTicket.getId()))
+                .setService(serializeTrackedService(serviceTicketId, service));
+            transactionTemplate.executeWithoutResult(_ -> entityManager.persist(entity));
+        }
+    }
+
+    @Override
+    public void untrackServices(final TicketGrantingTicket ticketGrantingTicket,
+                                final Collection<String> serviceTicketIds) throws Exception {
+        super.untrackServices(ticketGrantingTicket, serviceTicketIds);
+        if (isServiceTrackingExternalized() && !serviceTicketIds.isEmpty()) {
+            val ids = serviceTicketIds.stream().map(this::digestIdentifier).toList();
+            transactionTemplate.executeWithoutResult(_ -> {
+                val sql = String.format("DELETE FROM %s s WHERE s.ticketGrantingTicketId = :id AND s.id IN :ids", TRACKED_SERVICE_ENTITY_NAME);
+                entityManager.createQuery(sql)
+                    .setParameter("id", digestIdentifier(ticketGrantingTicket.getId()))
+                    .setParameter("ids", ids)
+                    .executeUpdate();
+            });
+        }
+    }
+
+    @Override
+    public Map<String, Service> getTrackedServices(final TicketGrantingTicket ticketGrantingTicket) {
+        if (!isServiceTrackingExternalized()) {
+            return super.getTrackedServices(ticketGrantingTicket);
+        }
+        val services = new LinkedHashMap<>(ticketGrantingTicket.getServices());
+        val trackedServices = transactionTemplate.execute(_ -> {
+            val sql = String.format("SELECT s.service FROM %s s WHERE s.ticketGrantingTicketId = :id", TRACKED_SERVICE_ENTITY_NAME);
+            return entityManager.createQuery(sql, String.class)
+                .setParameter("id", digestIdentifier(ticketGrantingTicket.getId()))
+                .setLockMode(LockModeType.NONE)
+                .getResultList();
+        });
+        Optional.ofNullable(trackedServices)
+            .stream()
+            .flatMap(Collection::stream)
+            .map(this::deserializeTrackedService)
+            .filter(Objects::nonNull)
+            .forEach(services::putAll);
+        return services;
+    }
+
     @Override
     public int deleteTicket(final String ticketId) {
         return transactionTemplate.execute(_ -> FunctionUtils.doUnchecked(() -> super.deleteTicket(ticketId)));
@@ -114,6 +207,9 @@ public class JpaTicketRegistry extends AbstractTicketRegistry {
     @Override
     public long deleteAll() {
         return transactionTemplate.execute(_ -> {
+            if (isServiceTrackingExternalized()) {
+                entityManager.createQuery(String.format("DELETE FROM %s", TRACKED_SERVICE_ENTITY_NAME)).executeUpdate();
+            }
             val query = entityManager.createQuery(String.format("DELETE FROM %s", ticketEntityFactory.getEntityName()));
             return Long.valueOf(query.executeUpdate());
         });
@@ -122,6 +218,11 @@ public class JpaTicketRegistry extends AbstractTicketRegistry {
     @Override
     public long deleteTicketsFor(final String principalId) {
         return transactionTemplate.execute(_ -> {
+            if (isServiceTrackingExternalized()) {
+                val trackedSql = String.format("DELETE FROM %s s WHERE s.ticketGrantingTicketId IN (SELECT t.id FROM %s t WHERE t.principalId=:principalId)",
+                    TRACKED_SERVICE_ENTITY_NAME, ticketEntityFactory.getEntityName());
+                entityManager.createQuery(trackedSql).setParameter("principalId", digestIdentifier(principalId)).executeUpdate();
+            }
             val sql = String.format("DELETE FROM %s t WHERE t.principalId=:principalId", ticketEntityFactory.getEntityName());
             val query = entityManager.createQuery(sql)
                 .setParameter("principalId", digestIdentifier(principalId));
@@ -164,8 +265,13 @@ public class JpaTicketRegistry extends AbstractTicketRegistry {
      */
     @Override
     public Stream<? extends Ticket> stream(final TicketRegistryStreamCriteria criteria) {
-        val sql = String.format("SELECT t FROM %s t", ticketEntityFactory.getEntityName());
+        val sql = criteria.getAfter() == null
+            ? String.format("SELECT t FROM %s t", ticketEntityFactory.getEntityName())
+            : String.format("SELECT t FROM %s t WHERE t.id > :after ORDER BY t.id", ticketEntityFactory.getEntityName());
         val query = entityManager.createQuery(sql, ticketEntityFactory.getType());
+        if (criteria.getAfter() != null) {
+            query.setParameter("after", criteria.getAfter());
+        }
         query.setLockMode(LockModeType.NONE);
         return jpaBeanFactory
             .streamQuery(query)
@@ -348,6 +454,27 @@ public class JpaTicketRegistry extends AbstractTicketRegistry {
         return result != null ? result : 0L;
     }
 
+    @Override
+    protected long deleteSingleTickets(final List<? extends Ticket> tickets) {
+        val partitions = tickets.stream().collect(Collectors.partitioningBy(
+            ticket -> Objects.requireNonNull(ticketCatalog.find(ticket)).getProperties().isCascadeRemovals()));
+        val count = partitions.get(Boolean.TRUE).stream().mapToLong(this::deleteSingleTicket).sum();
+        val ticketIds = partitions.get(Boolean.FALSE).stream().map(ticket -> digestIdentifier(ticket.getId())).toList();
+        if (ticketIds.isEmpty()) {
+            return count;
+        }
+        val result = transactionTemplate.execute(_ -> {
+            val sql = String.format("DELETE FROM %s o WHERE o.id IN :ids", ticketEntityFactory.getEntityName());
+            return entityManager.createQuery(sql).setParameter("ids", ticketIds).executeUpdate();
+        });
+        return count + (result != null ? result : 0);
+    }
+
+    @Override
+    public boolean isBatchDeletionSupported() {
+        return true;
+    }
+
     protected BaseTicketEntity getTicketEntityFrom(final Ticket ticket) {
         return FunctionUtils.doUnchecked(() -> {
             val encodeTicket = encodeTicket(ticket);
@@ -360,6 +487,7 @@ public class JpaTicketRegistry extends AbstractTicketRegistry {
 
     protected int deleteTicketGrantingTickets(final String ticketId) {
         return transactionTemplate.execute(_ -> {
+            deleteTrackedServices(List.of(ticketId));
             var sql = String.format("DELETE FROM %s t WHERE t.parentId = :id OR t.id = :id", ticketEntityFactory.getEntityName());
             LOGGER.trace("Creating delete query [{}] for ticket id [{}]", sql, ticketId);
             var query = entityManager.createQuery(sql);
@@ -368,8 +496,102 @@ public class JpaTicketRegistry extends AbstractTicketRegistry {
         });
     }
 
+    /**
+     * Stream tickets whose expiration time has passed, using the index on the expiration time column
+     * so that only expired rows are loaded and deserialized.
+     *
+     * @param expirationTime the expiration time
+     * @param types          the ticket types to include; all types are included if empty
+     * @return the expired tickets
+     */
+    public Stream<? extends Ticket> getExpiredTickets(final ZonedDateTime expirationTime, final Collection<String> types) {
+        var sql = String.format("SELECT t FROM %s t WHERE t.expirationTime <= :expirationTime", ticketEntityFactory.getEntityName());
+        if (!types.isEmpty()) {
+            sql = sql.concat(" AND t.type IN :types");
+        }
+        val query = entityManager.createQuery(sql, ticketEntityFactory.getType())
+            .setParameter("expirationTime", expirationTime);
+        if (!types.isEmpty()) {
+            query.setParameter("types", types);
+        }
+        query.setLockMode(LockModeType.NONE);
+        return jpaBeanFactory
+            .streamQuery(query)
+            .map(BaseTicketEntity.class::cast)
+            .map(ticketEntityFactory::toTicket)
+            .map(this::decodeTicket)
+            .filter(Objects::nonNull);
+    }
+
+    /**
+     * Delete tickets whose expiration time has passed along with their children, without loading them.
+     * Expired rows are removed in chunks, each in its own transaction, by first looking up the identifiers
+     * of a chunk of expired tickets using the index on the expiration time column and then removing those
+     * tickets and any ticket that points to them as its parent.
+     *
+     * @param expirationTime the expiration time
+     * @param excludedTypes  the ticket types to leave behind
+     * @param chunkSize      the number of expired tickets to remove in each chunk
+     * @return the number of tickets removed
+     */
+    public long deleteExpiredTickets(final ZonedDateTime expirationTime, final Collection<String> excludedTypes, final int chunkSize) {
+        var total = 0L;
+        while (true) {
+            val chunk = Objects.requireNonNull(transactionTemplate.execute(
+                _ -> deleteExpiredTicketChunk(expirationTime, excludedTypes, chunkSize)));
+            total += chunk.deleted();
+            LOGGER.trace("Removed [{}] tickets for a chunk of [{}] expired tickets", chunk.deleted(), chunk.selected());
+            if (chunk.selected() < chunkSize) {
+                return total;
+            }
+        }
+    }
+
+    protected Set<String> getTicketGrantingTicketTypeNames() {
+        return ticketCatalog.findAll()
+            .stream()
+            .map(TicketDefinition::getApiClass)
+            .filter(TicketGrantingTicket.class::isAssignableFrom)
+            .map(this::getTicketTypeName)
+            .collect(Collectors.toSet());
+    }
+
+    private ExpiredTicketChunk deleteExpiredTicketChunk(final ZonedDateTime expirationTime,
+                                                        final Collection<String> excludedTypes,
+                                                        final int chunkSize) {
+        var sql = String.format("SELECT t.id FROM %s t WHERE t.expirationTime <= :expirationTime", ticketEntityFactory.getEntityName());
+        if (!excludedTypes.isEmpty()) {
+            sql = sql.concat(" AND t.type NOT IN :types");
+        }
+        val query = entityManager.createQuery(sql, String.class)
+            .setParameter("expirationTime", expirationTime)
+            .setMaxResults(chunkSize);
+        if (!excludedTypes.isEmpty()) {
+            query.setParameter("types", excludedTypes);
+        }
+        query.setLockMode(LockModeType.NONE);
+        val ticketIds = query.getResultList();
+        if (ticketIds.isEmpty()) {
+            return new ExpiredTicketChunk(0, 0);
+        }
+        deleteTrackedServices(ticketIds);
+        val deleteSql = String.format("DELETE FROM %s t WHERE t.id IN :ids OR t.parentId IN :ids", ticketEntityFactory.getEntityName());
+        val count = entityManager.createQuery(deleteSql).setParameter("ids", ticketIds).executeUpdate();
+        return new ExpiredTicketChunk(ticketIds.size(), count);
+    }
+
+    private void deleteTrackedServices(final Collection<String> ticketGrantingTicketIds) {
+        if (isServiceTrackingExternalized()) {
+            val sql = String.format("DELETE FROM %s s WHERE s.ticketGrantingTicketId IN :ids", TRACKED_SERVICE_ENTITY_NAME);
+            entityManager.createQuery(sql).setParameter("ids", ticketGrantingTicketIds).executeUpdate();
+        }
+    }
+
     protected LockModeType getConfiguredLockModeType() {
         val lockTypeName = casProperties.getTicket().getRegistry().getJpa().getTicketLockType();
         return LockModeType.valueOf(lockTypeName);
     }
+
+    private record ExpiredTicketChunk(int selected, int deleted) {
+    }
 }
@@ -0,0 +1,104 @@
+package org.apereo.cas.ticket.registry;
+
+import module java.base;
+import org.apereo.cas.configuration.model.core.ticket.registry.TicketRegistryCleanerProperties;
+import org.apereo.cas.support.events.logout.CasRequestSingleLogoutEvent;
+import org.apereo.cas.support.events.ticket.CasTicketGrantingTicketDestroyedEvent;
+import org.apereo.cas.ticket.Ticket;
+import org.apereo.cas.util.lock.LockRepository;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.event.GenericApplicationListener;
+import org.springframework.context.event.GenericApplicationListenerAdapter;
+import org.springframework.context.support.AbstractApplicationContext;
+import org.springframework.core.ResolvableType;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * This is {@link JpaTicketRegistryCleaner} that removes expired tickets from the database
+ * using the index on the expiration time column, instead of loading every ticket in the registry.
+ * Expired tickets are removed in chunks along with their children without being loaded, unless
+ * their removal must be announced: if there are listeners for logout and ticket-granting ticket
+ * destruction events, expired ticket-granting tickets are loaded and cleaned individually so
+ * that those events can be published.
+ *
+ * @author Misagh Moayyed
+ * @since 8.1.0
+ */
+@Slf4j
+@Transactional(transactionManager = TicketRegistry.TICKET_TRANSACTION_MANAGER, propagation = Propagation.NOT_SUPPORTED)
+public class JpaTicketRegistryCleaner extends DefaultTicketRegistryCleaner {
+    private static final List<Class<?>> TICKET_GRANTING_TICKET_EVENTS =
+        List.of(CasRequestSingleLogoutEvent.class, CasTicketGrantingTicketDestroyedEvent.class);
+
+    private final ConfigurableApplicationContext applicationContext;
+
+    private final JpaTicketRegistry ticketRegistry;
+
+    private final TicketRegistryCleanerProperties properties;
+
+    public JpaTicketRegistryCleaner(final LockRepository lockRepository,
+                                    final ConfigurableApplicationContext applicationContext,
+                                    final JpaTicketRegistry ticketRegistry,
+                                    final TicketRegistryCleanerProperties properties) {
+        super(lockRepository, applicationContext, ticketRegistry, properties);
+        this.applicationContext = applicationContext;
+        this.ticketRegistry = ticketRegistry;
+        this.properties = properties;
+    }
+
+    @Override
+    protected int cleanInternal() {
+        val excludedTypes = isTicketGrantingTicketEventListenerAvailable()
+            ? ticketRegistry.getTicketGrantingTicketTypeNames()
+            : Set.<String>of();
+        val deleted = ticketRegistry.deleteExpiredTickets(ZonedDateTime.now(Clock.systemUTC()),
+            excludedTypes, Math.max(1, properties.getBatchSize()));
+        if (deleted > 0) {
+            LOGGER.info("[{}] expired tickets removed from the database.", deleted);
+        }
+        if (excludedTypes.isEmpty()) {
+            return Math.toIntExact(deleted);
+        }
+        return Math.toIntExact(deleted + super.cleanInternal());
+    }
+
+    @Override
+    protected Stream<? extends Ticket> streamTickets() {
+        return ticketRegistry.getExpiredTickets(ZonedDateTime.now(Clock.systemUTC()),
+            ticketRegistry.getTicketGrantingTicketTypeNames());
+    }
+
+    /**
+     * Only expired rows are loaded by this cleaner, so there is
+     * no need to walk through the registry incrementally.
+     *
+     * @return the time budget
+     */
+    @Override
+    protected Duration getTimeBudget() {
+        return Duration.ZERO;
+    }
+
+    protected boolean isTicketGrantingTicketEventListenerAvailable() {
+        val listeners = new ArrayList<ApplicationListener<?>>(
+            applicationContext.getBeansOfType(ApplicationListener.class, false, false).values());
+        if (applicationContext instanceof final AbstractApplicationContext context) {
+            listeners.addAll(context.getApplicationListeners());
+        }
+        return TICKET_GRANTING_TICKET_EVENTS
+            .stream()
+            .map(ResolvableType::forClass)
+            .anyMatch(eventType -> listeners.stream().anyMatch(listener -> supportsEventType(listener, eventType)));
+    }
+
+    private static boolean supportsEventType(final ApplicationListener<?> listener, final ResolvableType eventType) {
+        val genericListener = listener instanceof final GenericApplicationListener generic
+            ? generic
+            : new GenericApplicationListenerAdapter(listener);
+        return genericListener.supportsEventType(eventType);
+    }
+}
@@ -29,7 +29,8 @@ import jakarta.persistence.Table;
     @Index(name = "idx_ticket_principal", columnList = "principalId"),
     @Index(name = "idx_ticket_parent", columnList = "parentId"),
     @Index(name = "idx_ticket_service", columnList = "service"),
-    @Index(name = "idx_type_principal", columnList = "type,principalId")
+    @Index(name = "idx_type_principal", columnList = "type,principalId"),
+    @Index(name = "idx_ticket_expiration", columnList = "expirationTime")
 })
 @Setter
 @Getter
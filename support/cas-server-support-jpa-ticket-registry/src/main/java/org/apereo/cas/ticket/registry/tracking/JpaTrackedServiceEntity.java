@@ -0,0 +1,43 @@
+package org.apereo.cas.ticket.registry.tracking;
+
+import module java.base;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import lombok.experimental.Accessors;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+/**
+ * This is {@link JpaTrackedServiceEntity} that records a service ticket
+ * and its service on behalf of the ticket-granting ticket that issued it,
+ * when tracked services are kept outside the ticket-granting ticket.
+ *
+ * @author Misagh Moayyed
+ * @since 8.1.0
+ */
+@NoArgsConstructor
+@Entity(name = "JpaTrackedServiceEntity")
+@Table(name = "CasTrackedServices", indexes = @Index(name = "idx_tracked_ticket_granting_ticket", columnList = "ticketGrantingTicketId"))
+@ToString
+@Setter
+@Getter
+@Accessors(chain = true)
+public class JpaTrackedServiceEntity implements Serializable {
+    @Serial
+    private static final long serialVersionUID = -3207411534920683522L;
+
+    @Column(nullable = false, length = 768)
+    @Id
+    private String id;
+
+    @Column(nullable = false, length = 768)
+    private String ticketGrantingTicketId;
+
+    @Column(nullable = false, length = 32_000)
+    private String service;
+}
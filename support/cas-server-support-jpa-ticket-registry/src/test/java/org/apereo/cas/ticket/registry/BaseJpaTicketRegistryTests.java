@@ -67,6 +67,9 @@ public abstract class BaseJpaTicketRegistryTests extends BaseTicketRegistryTests
     @Qualifier("dataSourceTicket")
     protected CloseableDataSource dataSourceTicket;
 
+    @Autowired
+    protected CasConfigurationProperties casProperties;
+
     @AfterEach
     public void cleanup() {
         assertNotNull(dataSourceTicket);
@@ -133,6 +136,41 @@ public abstract class BaseJpaTicketRegistryTests extends BaseTicketRegistryTests
         assertNull(newTicketRegistry.getTicket(oAuthCode.getId()));
     }
 
+    @RepeatedTest(2)
+    void verifyServicesTrackedOutsideTicket() throws Throwable {
+        casProperties.getTicket().getRegistry().getJpa().setTrackServicesExternally(true);
+        try {
+            val ticketGrantingTicket = new TicketGrantingTicketImpl(TestTicketIdentifiers.generate().ticketGrantingTicketId(),
+                CoreAuthenticationTestUtils.getAuthentication(), NeverExpiresExpirationPolicy.INSTANCE);
+            newTicketRegistry.addTicket(ticketGrantingTicket);
+            val serviceTicketIds = new ArrayList<String>();
+            for (var i = 0; i < 5; i++) {
+                val st = ticketGrantingTicket.grantServiceTicket(TestTicketIdentifiers.generate().serviceTicketId(),
+                    RegisteredServiceTestUtils.getService("https://app%s.example.org".formatted(i)),
+                    NeverExpiresExpirationPolicy.INSTANCE, false, serviceTicketSessionTrackingPolicy);
+                newTicketRegistry.addTicket(st);
+                serviceTicketIds.add(st.getId());
+            }
+            assertTrue(ticketGrantingTicket.getServices().isEmpty());
+            newTicketRegistry.updateTicket(ticketGrantingTicket);
+
+            val ticket = newTicketRegistry.getTicket(ticketGrantingTicket.getId(), TicketGrantingTicket.class);
+            assertTrue(ticket.getServices().isEmpty());
+            val trackedServices = newTicketRegistry.getTrackedServices(ticket);
+            assertEquals(Set.copyOf(serviceTicketIds), trackedServices.keySet());
+            assertEquals("https://app1.example.org", trackedServices.get(serviceTicketIds.get(1)).getId());
+
+            newTicketRegistry.untrackServices(ticket, List.of(serviceTicketIds.getFirst()));
+            assertEquals(4, newTicketRegistry.getTrackedServices(ticket).size());
+
+            newTicketRegistry.deleteTicket(ticket);
+            serviceTicketIds.subList(1, serviceTicketIds.size()).forEach(id -> assertNull(newTicketRegistry.getTicket(id)));
+            assertTrue(newTicketRegistry.getTrackedServices(ticket).isEmpty());
+        } finally {
+            casProperties.getTicket().getRegistry().getJpa().setTrackServicesExternally(false);
+        }
+    }
+
     @RepeatedTest(2)
     @Transactional(transactionManager = TicketRegistry.TICKET_TRANSACTION_MANAGER, readOnly = false)
     void verifyRegistryQuery() throws Throwable {
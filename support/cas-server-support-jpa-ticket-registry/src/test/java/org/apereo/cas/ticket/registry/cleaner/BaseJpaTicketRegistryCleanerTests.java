@@ -59,6 +59,7 @@ import static org.mockito.Mockito.*;
 @SpringBootTest(classes = BaseJpaTicketRegistryTests.SharedTestConfiguration.class,
     properties = {
         "spring.integration.jdbc.initialize-schema=ALWAYS",
+        "cas.ticket.registry.cleaner.batch-size=10",
         "cas.ticket.registry.jpa.ddl-auto=create-drop"
     })
 @EnableConfigurationProperties({IntegrationProperties.class, CasConfigurationProperties.class})
@@ -122,6 +123,29 @@ public abstract class BaseJpaTicketRegistryCleanerTests {
         assertEquals(0, ticketRegistry.serviceTicketCount());
     }
 
+    @Test
+    void verifyExpiredTicketsRemovedInChunks() throws Throwable {
+        val tgtFactory = (TicketGrantingTicketFactory) ticketFactory.get(TicketGrantingTicket.class);
+        val tgt = tgtFactory.create(RegisteredServiceTestUtils.getAuthentication(),
+            RegisteredServiceTestUtils.getService());
+        ticketRegistry.addTicket(tgt);
+
+        val stFactory = (ServiceTicketFactory) ticketFactory.get(ServiceTicket.class);
+        for (var i = 0; i < 25; i++) {
+            val st = stFactory.create(tgt, RegisteredServiceTestUtils.getService(), true, ServiceTicket.class);
+            ticketRegistry.addTicket(st);
+            st.markTicketExpired();
+            ticketRegistry.updateTicket(st);
+        }
+        ticketRegistry.updateTicket(tgt);
+        assertEquals(25, ticketRegistry.serviceTicketCount());
+
+        assertEquals(25, ticketRegistryCleaner.clean());
+        assertEquals(1, ticketRegistry.sessionCount());
+        assertEquals(0, ticketRegistry.serviceTicketCount());
+        assertEquals(0, ticketRegistryCleaner.clean());
+    }
+
     @Test
     void verifyTransientTicketCleaning() throws Throwable {
         val tgtFactory = (TicketGrantingTicketFactory) ticketFactory.get(TicketGrantingTicket.class);
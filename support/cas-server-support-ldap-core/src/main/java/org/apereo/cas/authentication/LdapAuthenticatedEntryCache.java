@@ -0,0 +1,90 @@
+package org.apereo.cas.authentication;
+
+import module java.base;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.experimental.UtilityClass;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+import org.ldaptive.LdapEntry;
+
+/**
+ * This is {@link LdapAuthenticatedEntryCache} that keeps the LDAP entries
+ * retrieved by LDAP authentication handlers for the duration of the current
+ * authentication transaction, so that attribute repositories pointing at the same
+ * LDAP source may reuse the entry instead of searching for it again.
+ * Entries are scoped to the authentication attempt that is tracked by {@link AuthenticationHolder}
+ * and are discarded once the attempt is completed.
+ *
+ * @author Misagh Moayyed
+ * @since 8.1.0
+ */
+@UtilityClass
+@Slf4j
+public class LdapAuthenticatedEntryCache {
+    private static final Duration MAXIMUM_ENTRY_LIFETIME = Duration.ofMinutes(1);
+
+    private static final Cache<Authentication, Map<String, AuthenticatedEntry>> ENTRIES = Caffeine.newBuilder()
+        .weakKeys()
+        .expireAfterWrite(MAXIMUM_ENTRY_LIFETIME)
+        .build();
+
+    /**
+     * Record the entry retrieved for the current authentication transaction.
+     *
+     * @param ldapUrl    the ldap url
+     * @param baseDn     the base dn
+     * @param filter     the formatted search filter that locates the entry
+     * @param entry      the entry
+     * @param attributes the attributes that were requested when the entry was retrieved
+     */
+    public static void put(final String ldapUrl, final String baseDn, final String filter,
+                           final LdapEntry entry, final Collection<String> attributes) {
+        val authentication = AuthenticationHolder.getCurrentAuthentication();
+        if (authentication != null) {
+            val requested = attributes.stream()
+                .filter(StringUtils::isNotBlank)
+                .map(attribute -> attribute.toLowerCase(Locale.ENGLISH))
+                .collect(Collectors.toUnmodifiableSet());
+            val key = getEntryKey(ldapUrl, baseDn, filter);
+            LOGGER.trace("Recording authenticated LDAP entry [{}] for [{}]", entry.getDn(), key);
+            Objects.requireNonNull(ENTRIES.get(authentication, _ -> new ConcurrentHashMap<>()))
+                .put(key, new AuthenticatedEntry(entry, requested));
+        }
+    }
+
+    /**
+     * Find the entry retrieved for the current authentication transaction,
+     * provided the entry was retrieved with all requested attributes explicitly named.
+     *
+     * @param ldapUrl    the ldap url
+     * @param baseDn     the base dn
+     * @param filter     the formatted search filter that locates the entry
+     * @param attributes the requested attributes
+     * @return the entry
+     */
+    public static Optional<LdapEntry> get(final String ldapUrl, final String baseDn,
+                                          final String filter, final Collection<String> attributes) {
+        val authentication = AuthenticationHolder.getCurrentAuthentication();
+        if (authentication == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(ENTRIES.getIfPresent(authentication))
+            .map(entries -> entries.get(getEntryKey(ldapUrl, baseDn, filter)))
+            .filter(entry -> entry.covers(attributes))
+            .map(AuthenticatedEntry::entry);
+    }
+
+    private static String getEntryKey(final String ldapUrl, final String baseDn, final String filter) {
+        return String.join("|", ldapUrl, baseDn.toLowerCase(Locale.ENGLISH), filter);
+    }
+
+    private record AuthenticatedEntry(LdapEntry entry, Set<String> attributes) {
+        boolean covers(final Collection<String> requested) {
+            return !requested.isEmpty() && requested
+                .stream()
+                .allMatch(attribute -> attributes.contains(attribute.toLowerCase(Locale.ENGLISH)));
+        }
+    }
+}
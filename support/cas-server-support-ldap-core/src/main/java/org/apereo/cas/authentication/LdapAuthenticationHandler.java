@@ -16,6 +16,7 @@ import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.Strings;
 import org.jspecify.annotations.Nullable;
 import org.ldaptive.Credential;
+import org.ldaptive.FilterTemplate;
 import org.ldaptive.LdapEntry;
 import org.ldaptive.LdapException;
 import org.ldaptive.ReturnAttributes;
@@ -79,6 +80,24 @@ public class LdapAuthenticationHandler extends AbstractUsernamePasswordAuthentic
      */
     private String principalDnAttributeName = "principalLdapDn";
 
+    /**
+     * LDAP URL of the directory that holds the authenticated entry.
+     * Along with the base DN and search filter, determines whether the authenticated entry
+     * can be shared with attribute repositories that point at the same LDAP source.
+     */
+    private String ldapUrl;
+
+    /**
+     * Base DN under which the authenticated entry is located.
+     */
+    private String baseDn;
+
+    /**
+     * Search filter that locates the authenticated entry.
+     * When undefined, the authenticated entry is not shared with attribute repositories.
+     */
+    private String searchFilter;
+
     public LdapAuthenticationHandler(final String name,
                                      final PrincipalFactory principalFactory,
                                      final Integer order,
@@ -128,6 +147,7 @@ public class LdapAuthenticationHandler extends AbstractUsernamePasswordAuthentic
         val messageList = passwordPolicyHandlingStrategy.handle(response, getPasswordPolicyConfiguration());
         if (response.isSuccess()) {
             LOGGER.debug("LDAP response returned a result [{}], creating the final LDAP principal", response.getLdapEntry());
+            shareAuthenticatedEntry(upc.getUsername(), response.getLdapEntry());
             val principal = createPrincipal(upc.getUsername(), response.getLdapEntry());
             return createHandlerResult(upc, principal, messageList);
         }
@@ -221,6 +241,28 @@ public class LdapAuthenticationHandler extends AbstractUsernamePasswordAuthentic
         return username;
     }
 
+    /**
+     * Share the authenticated entry with attribute repositories that point at the same LDAP source
+     * for the duration of the current authentication transaction, so the entry is not searched for again.
+     *
+     * @param username  the username
+     * @param ldapEntry the ldap entry
+     */
+    protected void shareAuthenticatedEntry(final String username, final LdapEntry ldapEntry) {
+        if (StringUtils.isNoneBlank(ldapUrl, baseDn, searchFilter)) {
+            val filter = new FilterTemplate(searchFilter);
+            if (searchFilter.contains("{0}")) {
+                filter.setParameter(0, username);
+            }
+            if (searchFilter.contains("{user}")) {
+                filter.setParameter("user", username);
+            }
+            val attributes = new HashSet<>(Arrays.asList(authenticatedEntryAttributes));
+            Optional.ofNullable(authenticator.getReturnAttributes()).ifPresent(returnAttributes -> attributes.addAll(Arrays.asList(returnAttributes)));
+            LdapAuthenticatedEntryCache.put(ldapUrl, baseDn, filter.format(), ldapEntry, attributes);
+        }
+    }
+
     private AuthenticationResponse getLdapAuthenticationResponse(final UsernamePasswordCredential upc) throws PreventedException {
         try {
             LOGGER.debug("Attempting LDAP authentication for [{}]. Authenticator pre-configured attributes are [{}], "
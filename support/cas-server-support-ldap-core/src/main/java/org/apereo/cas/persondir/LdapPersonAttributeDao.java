@@ -2,9 +2,11 @@ package org.apereo.cas.persondir;
 
 import module java.base;
 import module java.naming;
+import org.apereo.cas.authentication.LdapAuthenticatedEntryCache;
 import org.apereo.cas.authentication.attribute.AbstractQueryPersonAttributeDao;
 import org.apereo.cas.authentication.attribute.SimplePersonAttributes;
 import org.apereo.cas.authentication.principal.attribute.PersonAttributes;
+import com.github.benmanes.caffeine.cache.Cache;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
@@ -18,6 +20,7 @@ import org.ldaptive.LdapException;
 import org.ldaptive.ReturnAttributes;
 import org.ldaptive.SearchOperation;
 import org.ldaptive.SearchRequest;
+import org.ldaptive.SearchResponse;
 import org.ldaptive.SearchScope;
 import org.ldaptive.handler.LdapEntryHandler;
 import org.ldaptive.handler.SearchResultHandler;
@@ -51,42 +54,86 @@ public class LdapPersonAttributeDao extends AbstractQueryPersonAttributeDao<Filt
 
     private SearchResultHandler[] searchResultHandlers;
 
+    /**
+     * Whether the entry retrieved by an LDAP authentication handler that points at the same
+     * LDAP source may be reused for the current authentication transaction instead of searching for it again.
+     */
+    private boolean reuseAuthenticatedEntry;
+
+    /**
+     * Cache of search responses keyed by the search filter, kept across requests
+     * for attributes that are not expected to change often.
+     */
+    @Nullable
+    private Cache<String, SearchResponse> entryCache;
+
     @Override
     protected List<PersonAttributes> getPeopleForQuery(@Nullable final FilterTemplate filter, final String userName) {
+        Objects.requireNonNull(this.searchFilter, "Search filter cannot be null");
+        val request = createRequest(Objects.requireNonNull(filter));
+        val formattedFilter = filter.format();
+        val authenticatedEntry = findAuthenticatedEntry(formattedFilter, request);
+        if (authenticatedEntry.isPresent()) {
+            val entry = authenticatedEntry.get();
+            LOGGER.debug("Reusing authenticated LDAP entry [{}] for LDAP query [{}]", entry.getDn(), formattedFilter);
+            val requestedAttributes = Arrays.stream(request.getReturnAttributes())
+                .map(attribute -> attribute.toLowerCase(Locale.ENGLISH))
+                .collect(Collectors.toSet());
+            val attributes = convertLdapEntryToMap(entry);
+            if (!requestedAttributes.contains(ReturnAttributes.ALL_USER.value()[0])) {
+                attributes.keySet().removeIf(name -> !requestedAttributes.contains(name.toLowerCase(Locale.ENGLISH)));
+            }
+            return List.of(createPersonAttributes(userName, attributes));
+        }
+
+        val response = entryCache != null
+            ? Objects.requireNonNull(entryCache.get(formattedFilter, _ -> executeSearchRequest(request)))
+            : executeSearchRequest(request);
+        val peopleAttributes = new ArrayList<PersonAttributes>(response.entrySize());
+        for (val entry : response.getEntries()) {
+            val attributes = convertLdapEntryToMap(entry);
+            if (response.getDiagnosticMessage() != null && !response.getDiagnosticMessage().isEmpty()) {
+                val values = new ArrayList<>();
+                values.add(response.getDiagnosticMessage());
+                attributes.put("diagnosticMessage", values);
+            }
+            if (response.getMatchedDN() != null && !response.getMatchedDN().isEmpty()) {
+                val values = new ArrayList<>();
+                values.add(response.getMatchedDN());
+                attributes.put("matchedDN", values);
+            }
+            peopleAttributes.add(createPersonAttributes(userName, attributes));
+        }
+        return peopleAttributes;
+    }
+
+    protected SearchResponse executeSearchRequest(final SearchRequest request) {
         try {
-            Objects.requireNonNull(this.searchFilter, "Search filter cannot be null");
             val search = new SearchOperation(this.connectionFactory);
             search.setEntryHandlers(entryHandlers);
             search.setSearchResultHandlers(searchResultHandlers);
-            val request = createRequest(Objects.requireNonNull(filter));
-            val response = search.execute(request);
-
-            val peopleAttributes = new ArrayList<PersonAttributes>(response.entrySize());
-            for (val entry : response.getEntries()) {
-                val attributes = convertLdapEntryToMap(entry);
-                if (response.getDiagnosticMessage() != null && !response.getDiagnosticMessage().isEmpty()) {
-                    val values = new ArrayList<>();
-                    values.add(response.getDiagnosticMessage());
-                    attributes.put("diagnosticMessage", values);
-                }
-                if (response.getMatchedDN() != null && !response.getMatchedDN().isEmpty()) {
-                    val values = new ArrayList<>();
-                    values.add(response.getMatchedDN());
-                    attributes.put("matchedDN", values);
-                }
-
-                val userNameAttribute = this.getConfiguredUserNameAttribute();
-                val person = attributes.containsKey(userNameAttribute)
-                    ? SimplePersonAttributes.fromAttribute(userNameAttribute, attributes)
-                    : new SimplePersonAttributes(userName, attributes);
-                peopleAttributes.add(person);
-            }
-            return peopleAttributes;
+            return search.execute(request);
         } catch (final LdapException e) {
-            throw new RuntimeException("Failed executing LDAP query " + filter, e);
+            throw new RuntimeException("Failed executing LDAP query " + request.getFilter(), e);
         }
     }
 
+    protected Optional<LdapEntry> findAuthenticatedEntry(final String formattedFilter, final SearchRequest request) {
+        if (!reuseAuthenticatedEntry || connectionFactory == null || ArrayUtils.isNotEmpty(entryHandlers)
+            || ArrayUtils.isNotEmpty(searchResultHandlers) || ArrayUtils.isNotEmpty(binaryAttributes)) {
+            return Optional.empty();
+        }
+        return LdapAuthenticatedEntryCache.get(connectionFactory.getConnectionConfig().getLdapUrl(),
+            this.baseDN, formattedFilter, Arrays.asList(request.getReturnAttributes()));
+    }
+
+    private PersonAttributes createPersonAttributes(final String userName, final Map<String, List<Object>> attributes) {
+        val userNameAttribute = this.getConfiguredUserNameAttribute();
+        return attributes.containsKey(userNameAttribute)
+            ? SimplePersonAttributes.fromAttribute(userNameAttribute, attributes)
+            : new SimplePersonAttributes(userName, attributes);
+    }
+
     @Override
     protected FilterTemplate appendAttributeToQuery(@Nullable final FilterTemplate filter,
                                                     @Nullable final String attribute,
@@ -1044,6 +1044,13 @@ public class LdapUtils {
         val handler = new LdapAuthenticationHandler(props.getName(),
             principalFactory, props.getOrder(), authenticator, strategy);
         handler.setCollectDnAttribute(props.isCollectDnAttribute());
+        handler.setLdapUrl(props.getLdapUrl());
+        handler.setBaseDn(props.getBaseDn());
+        if (props.getSearchEntryHandlers().isEmpty() && (props.isEnhanceWithEntryResolver()
+            || props.getType() == AbstractLdapAuthenticationProperties.AuthenticationTypes.AUTHENTICATED
+            || props.getType() == AbstractLdapAuthenticationProperties.AuthenticationTypes.ANONYMOUS)) {
+            handler.setSearchFilter(props.getSearchFilter());
+        }
 
         if (!props.getAdditionalAttributes().isEmpty()) {
             val additional = CoreAuthenticationUtils.transformPrincipalAttributesListIntoMultiMap(props.getAdditionalAttributes());
@@ -1179,6 +1186,11 @@ public class LdapUtils {
                 dao.setSearchControls(constraints);
                 dao.setUseAllQueryAttributes(ldap.isUseAllQueryAttributes());
                 dao.setOrder(ldap.getOrder());
+                dao.setReuseAuthenticatedEntry(ldap.isReuseAuthenticatedEntry());
+                if (ldap.getEntryCache().getCacheSize() > 0) {
+                    LOGGER.debug("Caching LDAP entries fetched from [{}] for [{}]", ldap.getLdapUrl(), ldap.getEntryCache().getDuration());
+                    dao.setEntryCache(Beans.newCacheBuilder(ldap.getEntryCache()).build());
+                }
                 return dao;
             })
             .toList();
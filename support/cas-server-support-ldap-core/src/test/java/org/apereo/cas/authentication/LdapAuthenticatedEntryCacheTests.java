@@ -0,0 +1,81 @@
+package org.apereo.cas.authentication;
+
+import module java.base;
+import module java.naming;
+import org.apereo.cas.persondir.LdapPersonAttributeDao;
+import lombok.val;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.ldaptive.ConnectionConfig;
+import org.ldaptive.ConnectionFactory;
+import org.ldaptive.LdapAttribute;
+import org.ldaptive.LdapEntry;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * This is {@link LdapAuthenticatedEntryCacheTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 8.1.0
+ */
+@Tag("LdapAttributes")
+class LdapAuthenticatedEntryCacheTests {
+    private static final String LDAP_URL = "ldap://localhost:10389";
+
+    private static final String BASE_DN = "ou=people,dc=example,dc=org";
+
+    @AfterEach
+    void afterEach() {
+        AuthenticationHolder.clear();
+    }
+
+    @Test
+    void verifyAuthenticatedEntryReusedByAttributeRepository() throws Throwable {
+        AuthenticationHolder.setCurrentAuthentication(mock(Authentication.class));
+        LdapAuthenticatedEntryCache.put(LDAP_URL, BASE_DN, "(uid=casuser)", newLdapEntry(), List.of("CN", "mail", "memberOf"));
+
+        val connectionFactory = mock(ConnectionFactory.class);
+        when(connectionFactory.getConnectionConfig()).thenReturn(new ConnectionConfig(LDAP_URL));
+        val dao = new LdapPersonAttributeDao();
+        dao.setConnectionFactory(connectionFactory);
+        dao.setBaseDN(BASE_DN);
+        dao.setSearchFilter("(uid={user})");
+        dao.setSearchControls(new SearchControls());
+        dao.setResultAttributeMapping(Map.of("cn", "commonName", "mail", "mail"));
+        dao.setReuseAuthenticatedEntry(true);
+
+        val person = dao.getPerson("casuser");
+        assertNotNull(person);
+        assertEquals(List.of("CAS"), person.getAttributes().get("commonName"));
+        assertEquals(List.of("cas@example.org"), person.getAttributes().get("mail"));
+        assertFalse(person.getAttributes().containsKey("memberOf"));
+        verify(connectionFactory, never()).getConnection();
+    }
+
+    @Test
+    void verifyEntryScopedToAuthenticationTransaction() {
+        AuthenticationHolder.setCurrentAuthentication(mock(Authentication.class));
+        LdapAuthenticatedEntryCache.put(LDAP_URL, BASE_DN, "(uid=casuser)", newLdapEntry(), List.of("cn", "mail"));
+        assertTrue(LdapAuthenticatedEntryCache.get(LDAP_URL, BASE_DN, "(uid=casuser)", List.of("cn")).isPresent());
+        assertTrue(LdapAuthenticatedEntryCache.get(LDAP_URL, BASE_DN, "(uid=casuser)", List.of("cn", "givenName")).isEmpty());
+        assertTrue(LdapAuthenticatedEntryCache.get(LDAP_URL, BASE_DN, "(mail=casuser)", List.of("cn")).isEmpty());
+        assertTrue(LdapAuthenticatedEntryCache.get("ldap://localhost:11389", BASE_DN, "(uid=casuser)", List.of("cn")).isEmpty());
+
+        AuthenticationHolder.setCurrentAuthentication(mock(Authentication.class));
+        assertTrue(LdapAuthenticatedEntryCache.get(LDAP_URL, BASE_DN, "(uid=casuser)", List.of("cn")).isEmpty());
+        AuthenticationHolder.clear();
+        assertTrue(LdapAuthenticatedEntryCache.get(LDAP_URL, BASE_DN, "(uid=casuser)", List.of("cn")).isEmpty());
+    }
+
+    private static LdapEntry newLdapEntry() {
+        return LdapEntry.builder()
+            .dn("uid=casuser," + BASE_DN)
+            .attributes(
+                LdapAttribute.builder().name("cn").values("CAS").build(),
+                LdapAttribute.builder().name("mail").values("cas@example.org").build(),
+                LdapAttribute.builder().name("memberOf").values("admins").build())
+            .build();
+    }
+}
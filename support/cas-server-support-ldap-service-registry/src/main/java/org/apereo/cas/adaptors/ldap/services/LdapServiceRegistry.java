@@ -5,6 +5,7 @@ import org.apereo.cas.configuration.model.support.ldap.serviceregistry.LdapServi
 import org.apereo.cas.services.AbstractServiceRegistry;
 import org.apereo.cas.services.RegisteredService;
 import org.apereo.cas.services.RegisteredServiceDefinition;
+import org.apereo.cas.services.ServiceRegistryChanges;
 import org.apereo.cas.services.ServiceRegistryListener;
 import org.apereo.cas.services.util.RegisteredServiceJsonSerializer;
 import org.apereo.cas.support.events.service.CasRegisteredServiceLoadedEvent;
@@ -16,6 +17,7 @@ import lombok.ToString;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.math.NumberUtils;
 import org.apereo.inspektr.common.web.ClientInfoHolder;
 import org.jspecify.annotations.Nullable;
 import org.ldaptive.ConnectionFactory;
@@ -33,6 +35,8 @@ import org.springframework.context.ConfigurableApplicationContext;
 @Slf4j
 @ToString
 public class LdapServiceRegistry extends AbstractServiceRegistry implements DisposableBean {
+    private static final DateTimeFormatter GENERALIZED_TIME_FORMATTER =
+        DateTimeFormatter.ofPattern("yyyyMMddHHmmss'Z'").withZone(ZoneOffset.UTC);
 
     private final LdapConnectionFactory connectionFactory;
 
@@ -101,6 +105,46 @@ public class LdapServiceRegistry extends AbstractServiceRegistry implements Disp
         return list;
     }
 
+    /**
+     * Changes are determined using the {@code modifyTimestamp} operational attribute
+     * that is maintained by the directory server for each entry.
+     */
+    @Override
+    public Optional<ServiceRegistryChanges> loadChanges(final Instant since) {
+        val watermark = Instant.now(Clock.systemUTC());
+        val clientInfo = ClientInfoHolder.getClientInfo();
+        val modifiedServices = new ArrayList<RegisteredService>();
+        val response = FunctionUtils.doUnchecked(() -> {
+            val filter = LdapUtils.newLdaptiveSearchFilter("(&%s(modifyTimestamp>=%s))"
+                .formatted(ldapProperties.getLoadFilter(), GENERALIZED_TIME_FORMATTER.format(since)));
+            return connectionFactory.executeSearchOperation(ldapProperties.getBaseDn(), filter, ldapProperties.getPageSize());
+        });
+        if (LdapUtils.containsResultEntry(response)) {
+            response.getEntries()
+                .stream()
+                .map(this.ldapServiceMapper::mapToRegisteredService)
+                .filter(Objects::nonNull)
+                .map(this::invokeServiceRegistryListenerPostLoad)
+                .filter(Objects::nonNull)
+                .forEach(registeredService -> {
+                    publishEvent(new CasRegisteredServiceLoadedEvent(this, registeredService, clientInfo));
+                    modifiedServices.add(registeredService);
+                });
+        }
+
+        val idAttribute = ldapServiceMapper.getIdAttribute();
+        val identifiers = FunctionUtils.doUnchecked(() -> {
+            val filter = LdapUtils.newLdaptiveSearchFilter(ldapProperties.getLoadFilter());
+            return connectionFactory.executeSearchOperation(ldapProperties.getBaseDn(), filter, ldapProperties.getPageSize(), idAttribute);
+        });
+        val serviceIds = identifiers.getEntries()
+            .stream()
+            .map(entry -> NumberUtils.toLong(LdapUtils.getString(entry, idAttribute), RegisteredServiceDefinition.INITIAL_IDENTIFIER_VALUE))
+            .filter(id -> id != RegisteredServiceDefinition.INITIAL_IDENTIFIER_VALUE)
+            .collect(Collectors.toSet());
+        return Optional.of(new ServiceRegistryChanges(modifiedServices, serviceIds, watermark));
+    }
+
     @Override
     public @Nullable RegisteredService findServiceById(final long id) {
         val response = searchForServiceById(id);
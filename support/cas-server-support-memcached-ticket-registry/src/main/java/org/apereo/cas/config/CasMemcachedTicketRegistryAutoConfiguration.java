@@ -10,6 +10,7 @@ import org.apereo.cas.ticket.registry.MemcachedTicketRegistry;
 import org.apereo.cas.ticket.registry.NoOpTicketRegistryCleaner;
 import org.apereo.cas.ticket.registry.TicketRegistry;
 import org.apereo.cas.ticket.registry.TicketRegistryCleaner;
+import org.apereo.cas.ticket.serialization.TicketCodec;
 import org.apereo.cas.ticket.serialization.TicketSerializationManager;
 import org.apereo.cas.util.CoreTicketUtils;
 import org.apereo.cas.util.serialization.ComponentSerializationPlan;
@@ -74,13 +75,17 @@ public class CasMemcachedTicketRegistryAutoConfiguration {
                                          final TicketSerializationManager ticketSerializationManager,
                                          final ConfigurableApplicationContext applicationContext,
                                          @Qualifier("memcachedTicketRegistryTranscoder")
-                                         final Transcoder memcachedTicketRegistryTranscoder) {
+                                         final Transcoder memcachedTicketRegistryTranscoder,
+                                         @Qualifier(TicketCodec.BEAN_NAME)
+                                         final TicketCodec ticketCodec) {
         val memcached = casProperties.getTicket()
             .getRegistry()
             .getMemcached();
         val factory = new MemcachedPooledClientConnectionFactory(memcached, memcachedTicketRegistryTranscoder);
         val cipherExecutor = CoreTicketUtils.newTicketRegistryCipherExecutor(memcached.getCrypto(), "memcached");
-        return new MemcachedTicketRegistry(cipherExecutor, ticketSerializationManager, ticketCatalog, applicationContext, factory.getObjectPool());
+        val registry = new MemcachedTicketRegistry(cipherExecutor, ticketSerializationManager, ticketCatalog, applicationContext, factory.getObjectPool());
+        registry.setTicketCodec(ticketCodec);
+        return registry;
     }
 
     @Bean
@@ -50,7 +50,10 @@ public class CasMongoDbServiceRegistryAutoConfiguration {
         val collection = mongoTemplate.getCollection(mongo.getCollection());
         val serviceIdIndex = new Index().named("IDX_SERVICE_ID").on("serviceId", Sort.Direction.ASC);
         val serviceNameIndex = new Index().named("IDX_SERVICE_NAME").on("name", Sort.Direction.ASC);
-        MongoDbConnectionFactory.createOrUpdateIndexes(mongoTemplate, collection, List.of(serviceIdIndex, serviceNameIndex));
+        val lastModifiedIndex = new Index().named("IDX_SERVICE_LAST_MODIFIED")
+            .on(MongoDbServiceRegistry.FIELD_NAME_LAST_MODIFIED, Sort.Direction.ASC);
+        MongoDbConnectionFactory.createOrUpdateIndexes(mongoTemplate, collection,
+            List.of(serviceIdIndex, serviceNameIndex, lastModifiedIndex));
         return mongoTemplate.asMongoTemplate();
     }
 
@@ -6,10 +6,12 @@ import lombok.ToString;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apereo.inspektr.common.web.ClientInfoHolder;
+import org.bson.Document;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.data.mongodb.core.MongoOperations;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 
 /**
  * <p>Implementation of {@code ServiceRegistry} that uses a MongoDb repository as the backend
@@ -24,6 +26,10 @@ import org.springframework.data.mongodb.core.query.Query;
 @Slf4j
 @ToString
 public class MongoDbServiceRegistry extends AbstractServiceRegistry {
+    /**
+     * Field that tracks when the service definition document was last saved.
+     */
+    public static final String FIELD_NAME_LAST_MODIFIED = "lastModified";
 
     private final MongoOperations mongoTemplate;
     private final String collectionName;
@@ -79,12 +85,41 @@ public class MongoDbServiceRegistry extends AbstractServiceRegistry {
             .collect(Collectors.toList());
     }
 
+    /**
+     * Changes are determined using the modification timestamp that is recorded for each document.
+     * Documents that are stored without a modification timestamp, i.e. those that are not saved by CAS,
+     * are only picked up when all services are loaded.
+     */
+    @Override
+    public Optional<ServiceRegistryChanges> loadChanges(final Instant since) {
+        val watermark = Instant.now(Clock.systemUTC());
+        val query = new Query(Criteria.where(FIELD_NAME_LAST_MODIFIED).gte(Date.from(since)));
+        val clientInfo = ClientInfoHolder.getClientInfo();
+        val modifiedServices = mongoTemplate.find(query, RegisteredService.class, this.collectionName)
+            .stream()
+            .map(this::invokeServiceRegistryListenerPostLoad)
+            .filter(Objects::nonNull)
+            .peek(service -> publishEvent(new CasRegisteredServiceLoadedEvent(this, service, clientInfo)))
+            .collect(Collectors.toList());
+        val idQuery = new Query();
+        idQuery.fields().include("_id");
+        val serviceIds = mongoTemplate.find(idQuery, Document.class, this.collectionName)
+            .stream()
+            .map(document -> ((Number) document.get("_id")).longValue())
+            .collect(Collectors.toSet());
+        return Optional.of(new ServiceRegistryChanges(modifiedServices, serviceIds, watermark));
+    }
+
     @Override
     public RegisteredService save(final RegisteredService svc) {
         svc.assignIdIfNecessary();
         invokeServiceRegistryListenerPreSave(svc);
         LOGGER.debug("Saving registered service: [{}]", svc);
-        return mongoTemplate.save(svc, this.collectionName);
+        val savedService = mongoTemplate.save(svc, this.collectionName);
+        mongoTemplate.updateFirst(new Query(Criteria.where("id").is(savedService.getId())),
+            Update.update(FIELD_NAME_LAST_MODIFIED, Date.from(Instant.now(Clock.systemUTC()))),
+            RegisteredService.class, this.collectionName);
+        return savedService;
     }
 
     @Override
@@ -14,6 +14,7 @@ import org.apereo.cas.util.DateTimeUtils;
 import org.apereo.cas.util.LoggingUtils;
 import org.apereo.cas.util.crypto.CipherExecutor;
 import org.apereo.cas.util.function.FunctionUtils;
+import com.google.common.collect.Iterators;
 import com.mongodb.client.MongoCollection;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
@@ -21,6 +22,7 @@ import org.apache.commons.lang3.StringUtils;
 import org.hjson.JsonValue;
 import org.hjson.Stringify;
 import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.core.MongoOperations;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
@@ -62,6 +64,22 @@ public class MongoDbTicketRegistry extends AbstractTicketRegistry {
         return DateTimeUtils.dateOf(Instant.ofEpochMilli(exp));
     }
 
+    private Stream<MongoDbTicketDocument> streamTicketDocumentsAfter(final String ticketId) {
+        val query = new Query(Criteria.where(MongoDbTicketDocument.FIELD_NAME_ID).gt(ticketId))
+            .with(Sort.by(Sort.Direction.ASC, MongoDbTicketDocument.FIELD_NAME_ID));
+        val streams = ticketCatalog
+            .findAll()
+            .stream()
+            .map(this::getTicketCollectionInstanceByMetadata)
+            .filter(StringUtils::isNotBlank)
+            .map(collection -> mongoTemplate.stream(query, MongoDbTicketDocument.class, collection))
+            .toList();
+        val iterators = streams.stream().map(Stream::iterator).toList();
+        val merged = Iterators.mergeSorted(iterators, Comparator.comparing(MongoDbTicketDocument::getTicketId));
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(merged, Spliterator.ORDERED | Spliterator.NONNULL), false)
+            .onClose(() -> streams.forEach(Stream::close));
+    }
+
     @Override
     public Ticket addSingleTicket(final Ticket ticket) {
         try {
@@ -117,6 +135,25 @@ public class MongoDbTicketRegistry extends AbstractTicketRegistry {
         return null;
     }
 
+    @Override
+    public Ticket consumeTicket(final String ticketId) {
+        val encTicketId = digestIdentifier(ticketId);
+        val metadata = ticketCatalog.find(ticketId);
+        if (StringUtils.isBlank(encTicketId) || metadata == null) {
+            LOGGER.debug("Ticket [{}] could not be found", ticketId);
+            return null;
+        }
+        val collectionName = getTicketCollectionInstanceByMetadata(metadata);
+        val query = new Query(Criteria.where(MongoDbTicketDocument.FIELD_NAME_ID).is(encTicketId));
+        val found = mongoTemplate.findAndRemove(query, MongoDbTicketDocument.class, collectionName);
+        return found != null ? decodeTicket(deserializeTicket(found.getJson(), found.getType())) : null;
+    }
+
+    @Override
+    public boolean isTicketConsumptionAtomic() {
+        return true;
+    }
+
     @Override
     public long deleteAll() {
         val query = new Query(Criteria.where(MongoDbTicketDocument.FIELD_NAME_ID).exists(true));
@@ -180,11 +217,13 @@ public class MongoDbTicketRegistry extends AbstractTicketRegistry {
 
     @Override
     public Stream<? extends Ticket> stream(final TicketRegistryStreamCriteria criteria) {
-        Stream<MongoDbTicketDocument> ticketStream = ticketCatalog
-            .findAll()
-            .stream()
-            .map(this::getTicketCollectionInstanceByMetadata)
-            .flatMap(map -> mongoTemplate.stream(new Query(), MongoDbTicketDocument.class, map));
+        var ticketStream = criteria.getAfter() == null
+            ? ticketCatalog
+                .findAll()
+                .stream()
+                .map(this::getTicketCollectionInstanceByMetadata)
+                .flatMap(map -> mongoTemplate.stream(new Query(), MongoDbTicketDocument.class, map))
+            : streamTicketDocumentsAfter(criteria.getAfter());
         if (criteria.getFrom() > 0) {
             ticketStream = ticketStream.skip(criteria.getFrom());
         }
@@ -302,6 +341,28 @@ public class MongoDbTicketRegistry extends AbstractTicketRegistry {
         return res.getDeletedCount();
     }
 
+    @Override
+    protected long deleteSingleTickets(final List<? extends Ticket> tickets) {
+        return tickets
+            .stream()
+            .collect(Collectors.groupingBy(ticket -> getTicketCollectionInstanceByMetadata(Objects.requireNonNull(ticketCatalog.find(ticket))),
+                Collectors.mapping(ticket -> digestIdentifier(ticket.getId()), Collectors.toList())))
+            .entrySet()
+            .stream()
+            .mapToLong(entry -> {
+                val query = new Query(Criteria.where(MongoDbTicketDocument.FIELD_NAME_ID).in(entry.getValue()));
+                val result = mongoTemplate.remove(query, entry.getKey());
+                LOGGER.debug("Deleted [{}] tickets from [{}]", result.getDeletedCount(), entry.getKey());
+                return result.getDeletedCount();
+            })
+            .sum();
+    }
+
+    @Override
+    public boolean isBatchDeletionSupported() {
+        return true;
+    }
+
     @Override
     public List<? extends Serializable> query(final TicketRegistryQueryCriteria criteria) {
         val ticketDefinitions = StringUtils.isNotBlank(criteria.getType())
@@ -4,6 +4,7 @@ import module java.base;
 import org.apereo.cas.support.oauth.OAuth20Constants;
 import org.apereo.cas.support.oauth.web.response.accesstoken.response.OAuth20JwtAccessTokenEncoder;
 import org.apereo.cas.ticket.accesstoken.OAuth20AccessToken;
+import org.apereo.cas.ticket.accesstoken.OAuth20AccessTokenVerificationCache;
 import org.apereo.cas.ticket.registry.TicketRegistry;
 import org.apereo.cas.token.JwtBuilder;
 import org.apereo.cas.util.function.FunctionUtils;
@@ -12,6 +13,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
+import org.apache.commons.lang3.StringUtils;
 import org.pac4j.core.context.CallContext;
 import org.pac4j.core.credentials.Credentials;
 import org.pac4j.core.credentials.TokenCredentials;
@@ -35,6 +37,8 @@ public class OAuth20AccessTokenAuthenticator implements Authenticator {
 
     private Set<String> requiredScopes = new LinkedHashSet<>();
 
+    private OAuth20AccessTokenVerificationCache verificationCache = OAuth20AccessTokenVerificationCache.noOp();
+
     protected String extractAccessTokenFrom(final TokenCredentials tokenCredentials) {
         return OAuth20JwtAccessTokenEncoder.toDecodableCipher(accessTokenJwtBuilder).decode(tokenCredentials.getToken());
     }
@@ -45,9 +49,12 @@ public class OAuth20AccessTokenAuthenticator implements Authenticator {
         val token = extractAccessTokenFrom(tokenCredentials);
         LOGGER.trace("Received access token [{}] for authentication", token);
 
-        val accessToken = FunctionUtils.doAndHandle(() -> ticketRegistry.getTicket(token, OAuth20AccessToken.class));
-        if (accessToken == null || accessToken.isExpired()) {
-            LOGGER.error("Provided access token [{}] is either not found in the ticket registry or has expired", token);
+        val accessToken = StringUtils.isBlank(token)
+            ? null
+            : verificationCache.getToken(tokenCredentials.getToken(), token, OAuth20AccessToken.class,
+                tokenId -> FunctionUtils.doAndHandle(() -> ticketRegistry.getTicket(tokenId, OAuth20AccessToken.class)));
+        if (accessToken == null) {
+            LOGGER.error("Provided access token [{}] is either not found in the ticket registry, has expired or is revoked", token);
             return Optional.empty();
         }
 
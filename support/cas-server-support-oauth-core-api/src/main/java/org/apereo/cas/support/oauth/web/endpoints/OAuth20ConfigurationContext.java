@@ -32,6 +32,7 @@ import org.apereo.cas.ticket.ExpirationPolicyBuilder;
 import org.apereo.cas.ticket.OAuth20TokenSigningAndEncryptionService;
 import org.apereo.cas.ticket.TicketFactory;
 import org.apereo.cas.ticket.TicketGrantingTicket;
+import org.apereo.cas.ticket.accesstoken.OAuth20AccessTokenVerificationCache;
 import org.apereo.cas.ticket.device.OAuth20DeviceToken;
 import org.apereo.cas.ticket.registry.TicketRegistry;
 import org.apereo.cas.token.JwtBuilder;
@@ -44,6 +45,7 @@ import org.apereo.cas.web.UrlValidator;
 import org.apereo.cas.web.cookie.CasCookieBuilder;
 import org.apereo.cas.web.support.ArgumentExtractor;
 import org.apereo.cas.web.support.CookieUtils;
+import lombok.Builder;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
@@ -168,6 +170,9 @@ public class OAuth20ConfigurationContext {
     private final MessageSource messageSource;
 
     private final UrlValidator urlValidator;
+
+    @Builder.Default
+    private final OAuth20AccessTokenVerificationCache accessTokenVerificationCache = OAuth20AccessTokenVerificationCache.noOp();
     
     /**
      * Gets ticket granting ticket.
@@ -142,7 +142,11 @@ public class OAuth20IntrospectionEndpointController<T extends OAuth20Configurati
     private OAuth20Token fetchTokenFromRegistry(final String accessTokenId) {
         try {
             val token = extractAccessTokenFrom(accessTokenId);
-            return getConfigurationContext().getTicketRegistry().getTicket(token, OAuth20Token.class);
+            if (StringUtils.isBlank(token)) {
+                return null;
+            }
+            return getConfigurationContext().getAccessTokenVerificationCache().getToken(accessTokenId, token, OAuth20Token.class,
+                tokenId -> getConfigurationContext().getTicketRegistry().getTicket(tokenId, OAuth20Token.class));
         } catch (final InvalidTicketException e) {
             LOGGER.trace(e.getMessage(), e);
             LOGGER.info("Unable to fetch access token [{}]: [{}]", accessTokenId, e.getMessage());
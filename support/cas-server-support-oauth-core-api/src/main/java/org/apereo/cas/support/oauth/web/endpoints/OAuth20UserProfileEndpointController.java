@@ -85,10 +85,9 @@ public class OAuth20UserProfileEndpointController<T extends OAuth20Configuration
             return buildUnauthorizedResponseEntity(OAuth20Constants.MISSING_ACCESS_TOKEN);
         }
 
-        val accessTokenTicket = FunctionUtils.doAndHandle(() -> {
-            val decodedToken = getConfigurationContext().getTicketRegistry().getTicket(decodedAccessTokenId, OAuth20AccessToken.class);
-            return decodedToken == null || decodedToken.isExpired() ? null : decodedToken;
-        });
+        val accessTokenTicket = getConfigurationContext().getAccessTokenVerificationCache().getToken(
+            accessTokenResult.getKey(), decodedAccessTokenId, OAuth20AccessToken.class,
+            tokenId -> FunctionUtils.doAndHandle(() -> getConfigurationContext().getTicketRegistry().getTicket(tokenId, OAuth20AccessToken.class)));
         if (accessTokenTicket == null || accessTokenTicket.isExpired()) {
             LOGGER.error("Access token [{}] cannot be found in the ticket registry or has expired.", decodedAccessTokenId);
             return buildUnauthorizedResponseEntity(OAuth20Constants.EXPIRED_ACCESS_TOKEN);
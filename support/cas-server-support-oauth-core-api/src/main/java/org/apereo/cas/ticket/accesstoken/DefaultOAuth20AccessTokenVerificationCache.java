@@ -0,0 +1,179 @@
+package org.apereo.cas.ticket.accesstoken;
+
+import module java.base;
+import org.apereo.cas.configuration.model.support.oauth.OAuthAccessTokenProperties;
+import org.apereo.cas.configuration.support.Beans;
+import org.apereo.cas.ticket.OAuth20Token;
+import org.apereo.cas.ticket.TransientSessionTicket;
+import org.apereo.cas.ticket.TransientSessionTicketImpl;
+import org.apereo.cas.ticket.expiration.HardTimeoutExpirationPolicy;
+import org.apereo.cas.ticket.registry.TicketRegistry;
+import org.apereo.cas.util.function.FunctionUtils;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.nimbusds.jwt.JWTParser;
+import com.nimbusds.jwt.SignedJWT;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.SerializationUtils;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * This is {@link DefaultOAuth20AccessTokenVerificationCache} that keeps verified tokens
+ * in a bounded cache with a short lifetime and remembers revoked token identifiers
+ * for the maximum lifetime of an access token. When stateless validation is turned on,
+ * signed JWT access tokens whose expiration date has passed are rejected before
+ * the cache or the ticket registry is consulted.
+ * <p>
+ * Cached tokens are kept in serialized form and every lookup is handed its own copy,
+ * so callers that update the token do not change the cached state. Revocations are shared
+ * with other nodes through a revocation marker in the ticket registry whose version changes
+ * with every revocation; nodes check the marker periodically and clear their cache
+ * when the version changes, so that revoked tokens are looked up again.
+ *
+ * @author Misagh Moayyed
+ * @since 8.1.0
+ */
+@Slf4j
+public class DefaultOAuth20AccessTokenVerificationCache implements OAuth20AccessTokenVerificationCache {
+    /**
+     * Identifier of the ticket that carries the revocation version.
+     */
+    static final String REVOCATION_MARKER_ID = TransientSessionTicket.PREFIX + "-oauth-access-token-revocations";
+
+    private static final String REVOCATION_VERSION = "version";
+
+    @Nullable
+    private final Cache<String, byte[]> verifiedTokens;
+
+    private final Cache<String, Boolean> revokedTokens;
+
+    private final boolean statelessJwtValidation;
+
+    private final TicketRegistry ticketRegistry;
+
+    private final long maxTimeToLiveInSeconds;
+
+    private final long revocationCheckIntervalNanos;
+
+    private final AtomicLong lastRevocationCheck = new AtomicLong(System.nanoTime());
+
+    @Nullable
+    private volatile String revocationVersion;
+
+    public DefaultOAuth20AccessTokenVerificationCache(final OAuthAccessTokenProperties properties,
+                                                      final TicketRegistry ticketRegistry) {
+        val verification = properties.getVerification();
+        this.ticketRegistry = ticketRegistry;
+        this.statelessJwtValidation = verification.isStatelessJwtValidation();
+        this.verifiedTokens = verification.getCache().getCacheSize() > 0
+            ? Beans.newCacheBuilder(verification.getCache()).build()
+            : null;
+        this.maxTimeToLiveInSeconds = Beans.newDuration(properties.getMaxTimeToLiveInSeconds()).toSeconds();
+        this.revokedTokens = Caffeine.newBuilder()
+            .maximumSize(verification.getRevocationFilterSize())
+            .expireAfterWrite(Duration.ofSeconds(maxTimeToLiveInSeconds))
+            .build();
+        this.revocationCheckIntervalNanos = Beans.newDuration(verification.getRevocationCheckInterval()).toNanos();
+    }
+
+    @Override
+    public <T extends OAuth20Token> @Nullable T getToken(final String token, final String tokenId, final Class<T> clazz,
+                                                         final Function<String, @Nullable T> loader) {
+        if (isRevoked(tokenId)) {
+            LOGGER.debug("Token [{}] is revoked", tokenId);
+            return null;
+        }
+        if (statelessJwtValidation && !token.equals(tokenId) && isExpiredJwt(token)) {
+            LOGGER.debug("JWT carrying token [{}] has expired", tokenId);
+            return null;
+        }
+        if (verifiedTokens != null) {
+            checkRevocations(verifiedTokens);
+            val cached = getCachedToken(verifiedTokens, tokenId);
+            if (cached != null && clazz.isInstance(cached) && !cached.isExpired()) {
+                return clazz.cast(cached);
+            }
+            verifiedTokens.invalidate(tokenId);
+        }
+        val loaded = loader.apply(tokenId);
+        if (loaded == null || loaded.isExpired()) {
+            return null;
+        }
+        if (verifiedTokens != null) {
+            val serialized = FunctionUtils.doAndHandle(() -> SerializationUtils.serialize(loaded));
+            if (serialized != null) {
+                verifiedTokens.put(tokenId, serialized);
+            }
+        }
+        return loaded;
+    }
+
+    @Override
+    public void revoke(final String tokenId) {
+        LOGGER.trace("Recording token [{}] as revoked", tokenId);
+        revokedTokens.put(tokenId, Boolean.TRUE);
+        if (verifiedTokens != null) {
+            verifiedTokens.invalidate(tokenId);
+            publishRevocation();
+        }
+    }
+
+    @Override
+    public boolean isRevoked(final String tokenId) {
+        return revokedTokens.getIfPresent(tokenId) != null;
+    }
+
+    private static @Nullable OAuth20Token getCachedToken(final Cache<String, byte[]> cache, final String tokenId) {
+        val serialized = cache.getIfPresent(tokenId);
+        return serialized != null ? SerializationUtils.deserialize(serialized) : null;
+    }
+
+    private void checkRevocations(final Cache<String, byte[]> cache) {
+        val lastCheck = lastRevocationCheck.get();
+        val now = System.nanoTime();
+        if (now - lastCheck >= revocationCheckIntervalNanos && lastRevocationCheck.compareAndSet(lastCheck, now)) {
+            val marker = FunctionUtils.doAndHandle(() -> ticketRegistry.getTicket(REVOCATION_MARKER_ID));
+            val version = marker instanceof final TransientSessionTicket tst ? tst.getPropertyAsString(REVOCATION_VERSION) : null;
+            if (!Objects.equals(version, revocationVersion)) {
+                LOGGER.debug("Tokens are revoked on other nodes; Clearing cache of verified tokens");
+                revocationVersion = version;
+                cache.invalidateAll();
+            }
+        }
+    }
+
+    private void publishRevocation() {
+        val version = UUID.randomUUID().toString();
+        revocationVersion = version;
+        FunctionUtils.doAndHandle(_ -> {
+            val marker = new TransientSessionTicketImpl(REVOCATION_MARKER_ID,
+                new HardTimeoutExpirationPolicy(maxTimeToLiveInSeconds), null, Map.of(REVOCATION_VERSION, version));
+            if (ticketRegistry.getTicket(REVOCATION_MARKER_ID) == null) {
+                ticketRegistry.addTicket(marker);
+            } else {
+                ticketRegistry.updateTicket(marker);
+            }
+        });
+    }
+
+    /**
+     * Signed tokens are verified by the time they are decoded into the token identifier,
+     * so the expiration claim can be trusted here. Encrypted tokens do not expose their claims
+     * and are checked for expiration once the token is loaded.
+     *
+     * @param token the token
+     * @return true if the token is a signed JWT that has expired.
+     */
+    private static boolean isExpiredJwt(final String token) {
+        try {
+            if (JWTParser.parse(token) instanceof final SignedJWT signedJwt) {
+                val expiration = signedJwt.getJWTClaimsSet().getExpirationTime();
+                return expiration != null && expiration.toInstant().isBefore(Instant.now());
+            }
+        } catch (final ParseException e) {
+            LOGGER.trace("Token is not a valid JWT: [{}]", e.getMessage());
+        }
+        return false;
+    }
+}
@@ -0,0 +1,89 @@
+package org.apereo.cas.ticket.accesstoken;
+
+import module java.base;
+import org.apereo.cas.support.events.ticket.CasTicketDeletedEvent;
+import org.apereo.cas.ticket.OAuth20Token;
+import lombok.val;
+import org.jspecify.annotations.Nullable;
+import org.springframework.context.event.EventListener;
+
+/**
+ * This is {@link OAuth20AccessTokenVerificationCache} that sits in front of the ticket registry
+ * when tokens presented to CAS are looked up, and keeps track of verified and revoked tokens.
+ * Tokens that are removed from the ticket registry for any reason are treated as revoked.
+ *
+ * @author Misagh Moayyed
+ * @since 8.1.0
+ */
+public interface OAuth20AccessTokenVerificationCache {
+    /**
+     * Default bean name.
+     */
+    String BEAN_NAME = "oauthAccessTokenVerificationCache";
+
+    /**
+     * Gets a verified token, or loads it when the token is not already verified.
+     * Tokens that are expired or revoked are never returned.
+     *
+     * @param <T>     the type parameter
+     * @param token   the token as presented, which may be a JWT
+     * @param tokenId the token identifier
+     * @param clazz   the token type
+     * @param loader  the loader that looks up the token by its identifier
+     * @return the token
+     */
+    <T extends OAuth20Token> @Nullable T getToken(String token, String tokenId, Class<T> clazz,
+                                                  Function<String, @Nullable T> loader);
+
+    /**
+     * Record the token as revoked and remove it from the cache.
+     *
+     * @param tokenId the token id
+     */
+    void revoke(String tokenId);
+
+    /**
+     * Revoke tokens as they are removed from the ticket registry.
+     *
+     * @param event the event
+     */
+    @EventListener
+    default void handleTicketDeletedEvent(final CasTicketDeletedEvent event) {
+        if (event.getTicket() instanceof final OAuth20Token token) {
+            revoke(token.getId());
+        }
+    }
+
+    /**
+     * Whether the token is known to be revoked.
+     *
+     * @param tokenId the token id
+     * @return true/false
+     */
+    boolean isRevoked(String tokenId);
+
+    /**
+     * A verification cache that always loads tokens and does not remember revocations.
+     *
+     * @return the verification cache
+     */
+    static OAuth20AccessTokenVerificationCache noOp() {
+        return new OAuth20AccessTokenVerificationCache() {
+            @Override
+            public <T extends OAuth20Token> @Nullable T getToken(final String token, final String tokenId, final Class<T> clazz,
+                                                                 final Function<String, @Nullable T> loader) {
+                val result = loader.apply(tokenId);
+                return result == null || result.isExpired() ? null : result;
+            }
+
+            @Override
+            public void revoke(final String tokenId) {
+            }
+
+            @Override
+            public boolean isRevoked(final String tokenId) {
+                return false;
+            }
+        };
+    }
+}
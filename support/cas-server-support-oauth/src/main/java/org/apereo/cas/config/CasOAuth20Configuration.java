@@ -117,10 +117,12 @@ import org.apereo.cas.ticket.TicketCatalogConfigurer;
 import org.apereo.cas.ticket.TicketFactory;
 import org.apereo.cas.ticket.TicketFactoryExecutionPlanConfigurer;
 import org.apereo.cas.ticket.UniqueTicketIdGenerator;
+import org.apereo.cas.ticket.accesstoken.DefaultOAuth20AccessTokenVerificationCache;
 import org.apereo.cas.ticket.accesstoken.OAuth20AccessToken;
 import org.apereo.cas.ticket.accesstoken.OAuth20AccessTokenCompactor;
 import org.apereo.cas.ticket.accesstoken.OAuth20AccessTokenExpirationPolicyBuilder;
 import org.apereo.cas.ticket.accesstoken.OAuth20AccessTokenFactory;
+import org.apereo.cas.ticket.accesstoken.OAuth20AccessTokenVerificationCache;
 import org.apereo.cas.ticket.accesstoken.OAuth20DefaultAccessTokenFactory;
 import org.apereo.cas.ticket.accesstoken.OAuth20JwtBuilder;
 import org.apereo.cas.ticket.code.OAuth20Code;
@@ -290,6 +292,8 @@ class CasOAuth20Configuration {
             final OAuth20RequestParameterResolver oauthRequestParameterResolver,
             @Qualifier(TicketRegistry.BEAN_NAME)
             final TicketRegistry ticketRegistry,
+            @Qualifier(OAuth20AccessTokenVerificationCache.BEAN_NAME)
+            final OAuth20AccessTokenVerificationCache oauthAccessTokenVerificationCache,
             @Qualifier(JwtBuilder.ACCESS_TOKEN_JWT_BUILDER_BEAN_NAME)
             final JwtBuilder accessTokenJwtBuilder,
             @Qualifier(AuditableExecution.AUDITABLE_EXECUTION_REGISTERED_SERVICE_ACCESS)
@@ -369,6 +373,7 @@ class CasOAuth20Configuration {
                 .sessionStore(oauthDistributedSessionStore)
                 .servicesManager(servicesManager)
                 .ticketRegistry(ticketRegistry)
+                .accessTokenVerificationCache(oauthAccessTokenVerificationCache)
                 .ticketFactory(ticketFactory)
                 .principalFactory(oauthPrincipalFactory)
                 .webApplicationServiceServiceFactory(webApplicationServiceFactory)
@@ -1306,6 +1311,16 @@ class CasOAuth20Configuration {
         @EnableConfigurationProperties(CasConfigurationProperties.class)
         static class CasOAuth20TicketsConfiguration {
 
+            @Bean
+            @ConditionalOnMissingBean(name = OAuth20AccessTokenVerificationCache.BEAN_NAME)
+            @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
+            public OAuth20AccessTokenVerificationCache oauthAccessTokenVerificationCache(
+                final CasConfigurationProperties casProperties,
+                @Qualifier(TicketRegistry.BEAN_NAME)
+                final TicketRegistry ticketRegistry) {
+                return new DefaultOAuth20AccessTokenVerificationCache(casProperties.getAuthn().getOauth().getAccessToken(), ticketRegistry);
+            }
+
             @Bean
             @ConditionalOnMissingBean(name = "accessTokenExpirationPolicy")
             @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
@@ -1692,11 +1707,15 @@ class CasOAuth20Configuration {
             @Bean
             @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
             public Authenticator oauthAccessTokenAuthenticator(
+                @Qualifier(OAuth20AccessTokenVerificationCache.BEAN_NAME)
+                final OAuth20AccessTokenVerificationCache oauthAccessTokenVerificationCache,
                 @Qualifier(JwtBuilder.ACCESS_TOKEN_JWT_BUILDER_BEAN_NAME)
                 final JwtBuilder accessTokenJwtBuilder,
                 @Qualifier(TicketRegistry.BEAN_NAME)
                 final TicketRegistry ticketRegistry) {
-                return new OAuth20AccessTokenAuthenticator(ticketRegistry, accessTokenJwtBuilder);
+                val authenticator = new OAuth20AccessTokenAuthenticator(ticketRegistry, accessTokenJwtBuilder);
+                authenticator.setVerificationCache(oauthAccessTokenVerificationCache);
+                return authenticator;
             }
 
 
@@ -0,0 +1,129 @@
+package org.apereo.cas.ticket.accesstoken;
+
+import module java.base;
+import org.apereo.cas.authentication.CoreAuthenticationTestUtils;
+import org.apereo.cas.configuration.model.support.oauth.OAuthAccessTokenProperties;
+import org.apereo.cas.mock.MockTicketGrantingTicket;
+import org.apereo.cas.services.RegisteredServiceTestUtils;
+import org.apereo.cas.support.events.ticket.CasTicketDeletedEvent;
+import org.apereo.cas.support.oauth.OAuth20GrantTypes;
+import org.apereo.cas.support.oauth.OAuth20ResponseTypes;
+import org.apereo.cas.ticket.DefaultTicketCatalog;
+import org.apereo.cas.ticket.expiration.NeverExpiresExpirationPolicy;
+import org.apereo.cas.ticket.registry.DefaultTicketRegistry;
+import org.apereo.cas.ticket.registry.TicketRegistry;
+import org.apereo.cas.ticket.serialization.TicketSerializationManager;
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ConfigurableApplicationContext;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * This is {@link DefaultOAuth20AccessTokenVerificationCacheTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 8.1.0
+ */
+@Tag("OAuthToken")
+class DefaultOAuth20AccessTokenVerificationCacheTests {
+
+    private static TicketRegistry newTicketRegistry() {
+        return new DefaultTicketRegistry(mock(TicketSerializationManager.class), new DefaultTicketCatalog(),
+            mock(ConfigurableApplicationContext.class));
+    }
+
+    private static DefaultOAuth20AccessTokenVerificationCache newVerificationCache(final TicketRegistry ticketRegistry) {
+        val properties = new OAuthAccessTokenProperties();
+        properties.getVerification().getCache().setCacheSize(100);
+        properties.getVerification().setRevocationCheckInterval("PT0S");
+        return new DefaultOAuth20AccessTokenVerificationCache(properties, ticketRegistry);
+    }
+
+    private static DefaultOAuth20AccessTokenVerificationCache newVerificationCache() {
+        return newVerificationCache(newTicketRegistry());
+    }
+
+    private static OAuth20AccessToken newAccessToken(final String id) {
+        return new OAuth20DefaultAccessToken(id, RegisteredServiceTestUtils.getService(),
+            CoreAuthenticationTestUtils.getAuthentication(), NeverExpiresExpirationPolicy.INSTANCE,
+            new MockTicketGrantingTicket("casuser"), id, new ArrayList<>(), "clientid", new HashMap<>(),
+            OAuth20ResponseTypes.CODE, OAuth20GrantTypes.AUTHORIZATION_CODE, new ArrayList<>());
+    }
+
+    @Test
+    void verifyCachedTokenSkipsLoader() {
+        val cache = newVerificationCache();
+        val token = newAccessToken("AT-1");
+        val loads = new AtomicInteger();
+        val loader = (Function<String, OAuth20AccessToken>) id -> {
+            loads.incrementAndGet();
+            return token;
+        };
+        assertSame(token, cache.getToken("AT-1", "AT-1", OAuth20AccessToken.class, loader));
+        assertEquals(token.getId(), cache.getToken("AT-1", "AT-1", OAuth20AccessToken.class, loader).getId());
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void verifyCachedTokenIsNotShared() {
+        val cache = newVerificationCache();
+        val token = newAccessToken("AT-1");
+        assertNotNull(cache.getToken("AT-1", "AT-1", OAuth20AccessToken.class, id -> token));
+        val first = cache.getToken("AT-1", "AT-1", OAuth20AccessToken.class, id -> token);
+        first.update();
+        val second = cache.getToken("AT-1", "AT-1", OAuth20AccessToken.class, id -> token);
+        assertNotSame(first, second);
+        assertEquals(1, first.getCountOfUses());
+        assertEquals(0, second.getCountOfUses());
+    }
+
+    @Test
+    void verifyRevokedTokenIsRejected() {
+        val cache = newVerificationCache();
+        val token = newAccessToken("AT-1");
+        assertNotNull(cache.getToken("AT-1", "AT-1", OAuth20AccessToken.class, id -> token));
+        cache.revoke("AT-1");
+        assertTrue(cache.isRevoked("AT-1"));
+        assertNull(cache.getToken("AT-1", "AT-1", OAuth20AccessToken.class, id -> token));
+    }
+
+    @Test
+    void verifyDeletedTokenIsRevoked() {
+        val cache = newVerificationCache();
+        val token = newAccessToken("AT-1");
+        assertNotNull(cache.getToken("AT-1", "AT-1", OAuth20AccessToken.class, id -> token));
+        cache.handleTicketDeletedEvent(new CasTicketDeletedEvent(this, token, null));
+        assertTrue(cache.isRevoked("AT-1"));
+        cache.handleTicketDeletedEvent(new CasTicketDeletedEvent(this, new MockTicketGrantingTicket("casuser"), null));
+        assertNull(cache.getToken("AT-1", "AT-1", OAuth20AccessToken.class, id -> token));
+    }
+
+    @Test
+    void verifyRevocationOnOtherNode() {
+        val ticketRegistry = newTicketRegistry();
+        val firstNode = newVerificationCache(ticketRegistry);
+        val secondNode = newVerificationCache(ticketRegistry);
+        val token = newAccessToken("AT-1");
+        val loads = new AtomicInteger();
+        val loader = (Function<String, OAuth20AccessToken>) id -> loads.incrementAndGet() == 1 ? token : null;
+        assertNotNull(secondNode.getToken("AT-1", "AT-1", OAuth20AccessToken.class, loader));
+        assertNotNull(secondNode.getToken("AT-1", "AT-1", OAuth20AccessToken.class, loader));
+        assertEquals(1, loads.get());
+        firstNode.revoke("AT-1");
+        assertNull(secondNode.getToken("AT-1", "AT-1", OAuth20AccessToken.class, loader));
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void verifyExpiredTokenIsRejected() {
+        val cache = newVerificationCache();
+        val token = mock(OAuth20AccessToken.class);
+        assertNotNull(cache.getToken("AT-1", "AT-1", OAuth20AccessToken.class, id -> token));
+        when(token.isExpired()).thenReturn(true);
+        assertNull(cache.getToken("AT-1", "AT-1", OAuth20AccessToken.class, id -> token));
+        assertNull(cache.getToken("AT-2", "AT-2", OAuth20AccessToken.class, id -> token));
+        assertNull(cache.getToken("AT-3", "AT-3", OAuth20AccessToken.class, id -> null));
+    }
+}
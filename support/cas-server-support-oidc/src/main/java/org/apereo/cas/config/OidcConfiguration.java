@@ -116,6 +116,7 @@ import org.apereo.cas.ticket.TicketCatalogConfigurer;
 import org.apereo.cas.ticket.TicketFactory;
 import org.apereo.cas.ticket.TicketFactoryExecutionPlanConfigurer;
 import org.apereo.cas.ticket.UniqueTicketIdGenerator;
+import org.apereo.cas.ticket.accesstoken.OAuth20AccessTokenVerificationCache;
 import org.apereo.cas.ticket.accesstoken.OAuth20JwtBuilder;
 import org.apereo.cas.ticket.idtoken.IdTokenGeneratorService;
 import org.apereo.cas.ticket.registry.TicketRegistry;
@@ -671,6 +672,8 @@ class OidcConfiguration {
         @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
         @ConditionalOnMissingBean(name = "oidcAccessTokenAuthenticator")
         public Authenticator oauthAccessTokenAuthenticator(
+            @Qualifier(OAuth20AccessTokenVerificationCache.BEAN_NAME)
+            final OAuth20AccessTokenVerificationCache oauthAccessTokenVerificationCache,
             @Qualifier("oidcTokenSigningAndEncryptionService")
             final OAuth20TokenSigningAndEncryptionService oidcTokenSigningAndEncryptionService,
             @Qualifier(JwtBuilder.ACCESS_TOKEN_JWT_BUILDER_BEAN_NAME)
@@ -679,8 +682,10 @@ class OidcConfiguration {
             final TicketRegistry ticketRegistry,
             @Qualifier(ServicesManager.BEAN_NAME)
             final ServicesManager servicesManager) {
-            return new OidcAccessTokenAuthenticator(ticketRegistry,
+            val authenticator = new OidcAccessTokenAuthenticator(ticketRegistry,
                 oidcTokenSigningAndEncryptionService, servicesManager, accessTokenJwtBuilder);
+            authenticator.setVerificationCache(oauthAccessTokenVerificationCache);
+            return authenticator;
         }
 
         @ConditionalOnMissingBean(name = "oidcDynamicRegistrationAuthenticator")
@@ -807,6 +812,8 @@ class OidcConfiguration {
             final OAuth20AccessTokenResponseGenerator oidcAccessTokenResponseGenerator,
             @Qualifier(TicketRegistry.BEAN_NAME)
             final TicketRegistry ticketRegistry,
+            @Qualifier(OAuth20AccessTokenVerificationCache.BEAN_NAME)
+            final OAuth20AccessTokenVerificationCache oauthAccessTokenVerificationCache,
             @Qualifier(ServicesManager.BEAN_NAME)
             final ServicesManager servicesManager,
             @Qualifier(TicketFactory.BEAN_NAME)
@@ -869,6 +876,7 @@ class OidcConfiguration {
                 .sessionStore(oauthDistributedSessionStore)
                 .servicesManager(servicesManager)
                 .ticketRegistry(ticketRegistry)
+                .accessTokenVerificationCache(oauthAccessTokenVerificationCache)
                 .httpClient(httpClient)
                 .clientRegistrationRequestSerializer(clientRegistrationRequestSerializer)
                 .clientIdGenerator(new DefaultRandomStringGenerator())
@@ -71,8 +71,9 @@ public abstract class BaseOneTimeTokenCredentialRepository implements OneTimeTok
 
     private CipherExecutor toTokenCredentialCipherExecutor(final OneTimeTokenAccount account) {
         if (StringUtils.isNotBlank(account.getTenant())) {
-            val tenantDefinition = tenantExtractor.getTenantsManager().findTenant(account.getTenant()).orElseThrow();
-            val bindingContext = tenantDefinition.bindProperties();
+            val tenantsManager = tenantExtractor.getTenantsManager();
+            val tenantDefinition = tenantsManager.findTenant(account.getTenant()).orElseThrow();
+            val bindingContext = tenantsManager.bindProperties(tenantDefinition);
             if (bindingContext.containsBindingFor(GoogleAuthenticatorMultifactorProperties.class)) {
                 val properties = bindingContext.value();
                 val crypto = properties.getAuthn().getMfa().getGauth().getCrypto();
@@ -86,8 +87,9 @@ public abstract class BaseOneTimeTokenCredentialRepository implements OneTimeTok
 
     private CipherExecutor<Number, Number> toScratchCodesCipherExecutor(final OneTimeTokenAccount account) {
         if (StringUtils.isNotBlank(account.getTenant())) {
-            val tenantDefinition = tenantExtractor.getTenantsManager().findTenant(account.getTenant()).orElseThrow();
-            val bindingContext = tenantDefinition.bindProperties();
+            val tenantsManager = tenantExtractor.getTenantsManager();
+            val tenantDefinition = tenantsManager.findTenant(account.getTenant()).orElseThrow();
+            val bindingContext = tenantsManager.bindProperties(tenantDefinition);
             if (bindingContext.isBound() && bindingContext.containsBindingFor(GoogleAuthenticatorMultifactorScratchCodeProperties.class)) {
                 val properties = bindingContext.value();
                 val scratchCodesKey = properties.getAuthn().getMfa().getGauth().getCore().getScratchCodes().getEncryption().getKey();
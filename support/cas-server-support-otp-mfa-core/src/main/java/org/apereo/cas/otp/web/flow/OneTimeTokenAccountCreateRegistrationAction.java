@@ -66,7 +66,7 @@ public class OneTimeTokenAccountCreateRegistrationAction extends AbstractMultifa
         if (tenantDefinitionResult.isPresent()) {
             val tenantDefinition = tenantDefinitionResult.get();
             keyAccount.setTenant(tenantDefinition.getId());
-            val bindingContext = tenantDefinition.bindProperties();
+            val bindingContext = tenantExtractor.getTenantsManager().bindProperties(tenantDefinition);
             if (bindingContext.isBound() && bindingContext.containsBindingFor(CoreGoogleAuthenticatorMultifactorProperties.class)) {
                 val properties = bindingContext.value();
                 return buildRegistrationUri(principal, keyAccount, properties);
@@ -64,6 +64,15 @@ public interface DelegatedIdentityProviderFactory extends DisposableBean {
      */
     List<BaseClient> rebuild();
 
+    /**
+     * Gets the time spent initializing each client, keyed by client name.
+     *
+     * @return the initialization times
+     */
+    default Map<String, Duration> getInitializationTimes() {
+        return Map.of();
+    }
+
     /**
      * Build from properties.
      *
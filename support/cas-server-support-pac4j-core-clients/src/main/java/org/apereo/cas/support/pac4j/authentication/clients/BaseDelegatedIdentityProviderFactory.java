@@ -4,7 +4,9 @@ import module java.base;
 import org.apereo.cas.authentication.CasSSLContext;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.configuration.model.support.pac4j.Pac4jBaseClientProperties;
+import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.pac4j.client.DelegatedIdentityProviderFactory;
+import org.apereo.cas.util.LoggingUtils;
 import org.apereo.cas.util.concurrent.CasReentrantLock;
 import com.github.benmanes.caffeine.cache.Cache;
 import lombok.RequiredArgsConstructor;
@@ -12,12 +14,20 @@ import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apache.commons.lang3.ObjectUtils;
 import org.jooq.lambda.Unchecked;
+import org.jspecify.annotations.Nullable;
 import org.pac4j.core.client.BaseClient;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.core.annotation.AnnotationAwareOrderComparator;
 
 /**
  * This is {@link BaseDelegatedIdentityProviderFactory}.
+ * Loaded clients are kept in an immutable snapshot that is served without locking;
+ * only the very first load or a rebuild goes through the lock. Every client carries its own
+ * refresh time, picked at random between one half and three quarters of the configured
+ * cache duration so that refreshes are staggered. Once a client is due, client definitions
+ * are loaded again in the background and the client is initialized on its own and swapped
+ * into the snapshot as soon as it is ready, while clients that are not due are left alone.
+ * A client that fails to initialize keeps its previous instance and is retried later.
  *
  * @author Misagh Moayyed
  * @since 6.2.0
@@ -38,10 +48,23 @@ public abstract class BaseDelegatedIdentityProviderFactory implements DelegatedI
 
     private final CasReentrantLock lock = new CasReentrantLock();
 
+    private final AtomicReference<@Nullable DelegatedClientsSnapshot> snapshot = new AtomicReference<>();
+
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+
+    private final AtomicLong generations = new AtomicLong();
+
+    private final ThreadLocal<Boolean> deferredInitialization = ThreadLocal.withInitial(() -> Boolean.FALSE);
+
+    private final Map<String, Duration> initializationTimes = new ConcurrentHashMap<>();
+
+    private final ExecutorService executorService = Executors.newVirtualThreadPerTaskExecutor();
+
     protected abstract List<BaseClient> load() throws Exception;
 
     @Override
     public void destroy() throws Exception {
+        executorService.shutdownNow();
         val clients = retrieve(casProperties.getServer().getName());
         Optional.ofNullable(clients)
             .stream()
@@ -52,16 +75,29 @@ public abstract class BaseDelegatedIdentityProviderFactory implements DelegatedI
 
     @Override
     public final List<BaseClient> build() {
+        val currentSnapshot = snapshot.get();
+        if (currentSnapshot != null) {
+            refreshIfNecessary(currentSnapshot);
+            return currentSnapshot.clients();
+        }
         return lock.tryLock(() -> {
-            val core = casProperties.getAuthn().getPac4j().getCore();
-            val currentClients = !core.isLazyInit() || retrieve(casProperties.getServer().getName()).isEmpty()
-                ? load()
-                : retrieve(casProperties.getServer().getName());
-            store(casProperties.getServer().getName(), currentClients);
-            return currentClients;
+            val loadedSnapshot = snapshot.get();
+            if (loadedSnapshot != null) {
+                return loadedSnapshot.clients();
+            }
+            val entries = load()
+                .stream()
+                .map(client -> new DelegatedClientEntry(client, nextRefreshTime()))
+                .toList();
+            return publish(newSnapshot(generations.incrementAndGet(), entries));
         });
     }
 
+    @Override
+    public Map<String, Duration> getInitializationTimes() {
+        return Map.copyOf(initializationTimes);
+    }
+
     @Override
     public void store(final String key, final List<BaseClient> currentClients) {
         clientsCache.put(key, currentClients);
@@ -76,6 +112,7 @@ public abstract class BaseDelegatedIdentityProviderFactory implements DelegatedI
     @Override
     public List<BaseClient> rebuild() {
         clientsCache.invalidateAll();
+        snapshot.set(null);
         return build();
     }
 
@@ -91,14 +128,25 @@ public abstract class BaseDelegatedIdentityProviderFactory implements DelegatedI
 
         invokeClientCustomizers(client);
 
-        if (!givenProperties.getAuthn().getPac4j().getCore().isLazyInit()) {
-            client.init();
+        if (!givenProperties.getAuthn().getPac4j().getCore().isLazyInit() && !deferredInitialization.get()) {
+            initializeClient(client);
         }
         LOGGER.debug("Configured external identity provider [{}]", client.getName());
         return client;
     }
 
 
+    protected void initializeClient(final BaseClient client) {
+        val startTime = System.nanoTime();
+        try {
+            client.init();
+        } finally {
+            val initializationTime = Duration.ofNanos(System.nanoTime() - startTime);
+            initializationTimes.put(client.getName(), initializationTime);
+            LOGGER.debug("Initialized external identity provider [{}] in [{}] ms", client.getName(), initializationTime.toMillis());
+        }
+    }
+
     protected void invokeClientCustomizers(final BaseClient client) {
         customizers.forEach(customizer -> customizer.customize(client));
     }
@@ -124,9 +172,115 @@ public abstract class BaseDelegatedIdentityProviderFactory implements DelegatedI
         return List.copyOf(newClients);
     }
 
+    private List<BaseClient> publish(final DelegatedClientsSnapshot newSnapshot) {
+        snapshot.set(newSnapshot);
+        store(casProperties.getServer().getName(), newSnapshot.clients());
+        return newSnapshot.clients();
+    }
+
+    private DelegatedClientsSnapshot newSnapshot(final long generation, final List<DelegatedClientEntry> entries) {
+        val refreshAt = entries
+            .stream()
+            .map(DelegatedClientEntry::refreshAt)
+            .min(Comparator.naturalOrder())
+            .orElseGet(this::nextRefreshTime);
+        val clients = entries.stream().map(DelegatedClientEntry::client).toList();
+        return new DelegatedClientsSnapshot(generation, List.copyOf(entries), clients, refreshAt);
+    }
+
+    private Instant nextRefreshTime() {
+        val cacheDuration = Beans.newDuration(casProperties.getAuthn().getPac4j().getCore().getCacheDuration()).toMillis();
+        val refreshAfter = cacheDuration / 2 + ThreadLocalRandom.current().nextLong(cacheDuration / 4 + 1);
+        return Instant.now().plusMillis(refreshAfter);
+    }
+
+    private void refreshIfNecessary(final DelegatedClientsSnapshot currentSnapshot) {
+        if (Instant.now().isAfter(currentSnapshot.refreshAt()) && refreshing.compareAndSet(false, true)) {
+            executorService.execute(() -> {
+                try {
+                    refresh(currentSnapshot);
+                } catch (final Throwable e) {
+                    LoggingUtils.warn(LOGGER, e);
+                } finally {
+                    refreshing.set(false);
+                }
+            });
+        }
+    }
+
+    private void refresh(final DelegatedClientsSnapshot currentSnapshot) throws Exception {
+        val now = Instant.now();
+        val previousEntries = currentSnapshot.entries()
+            .stream()
+            .collect(Collectors.toMap(entry -> entry.client().getName(), Function.identity(), (first, _) -> first));
+        val loadedClients = loadWithDeferredInitialization();
+        val refreshedEntries = new ArrayList<DelegatedClientEntry>(loadedClients.size());
+        try (val executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            val tasks = new ArrayList<Future<DelegatedClientEntry>>(loadedClients.size());
+            for (val client : loadedClients) {
+                val previousEntry = previousEntries.get(client.getName());
+                if (previousEntry != null && now.isBefore(previousEntry.refreshAt())) {
+                    tasks.add(CompletableFuture.completedFuture(previousEntry));
+                } else {
+                    tasks.add(executor.submit(() -> refreshClient(currentSnapshot.generation(), client, previousEntry)));
+                }
+            }
+            for (val task : tasks) {
+                refreshedEntries.add(task.get());
+            }
+        }
+        lock.tryLock(_ -> {
+            val latestSnapshot = snapshot.get();
+            if (latestSnapshot != null && latestSnapshot.generation() == currentSnapshot.generation()) {
+                publish(newSnapshot(currentSnapshot.generation(), refreshedEntries));
+            }
+        });
+    }
+
+    private DelegatedClientEntry refreshClient(final long generation, final BaseClient client,
+                                               final @Nullable DelegatedClientEntry previousEntry) {
+        LOGGER.debug("Refreshing external identity provider [{}]", client.getName());
+        try {
+            initializeClient(client);
+        } catch (final Exception e) {
+            LOGGER.warn("Unable to initialize external identity provider [{}]: [{}]", client.getName(), e.getMessage());
+            return new DelegatedClientEntry(previousEntry != null ? previousEntry.client() : client, nextRefreshTime());
+        }
+        val refreshedEntry = new DelegatedClientEntry(client, nextRefreshTime());
+        if (previousEntry != null) {
+            lock.tryLock(_ -> {
+                val latestSnapshot = snapshot.get();
+                if (latestSnapshot != null && latestSnapshot.generation() == generation) {
+                    val entries = latestSnapshot.entries()
+                        .stream()
+                        .map(entry -> entry == previousEntry ? refreshedEntry : entry)
+                        .toList();
+                    publish(newSnapshot(generation, entries));
+                }
+            });
+        }
+        return refreshedEntry;
+    }
+
+    private List<BaseClient> loadWithDeferredInitialization() throws Exception {
+        deferredInitialization.set(Boolean.TRUE);
+        try {
+            return load();
+        } finally {
+            deferredInitialization.remove();
+        }
+    }
+
     private List<ConfigurableDelegatedClientBuilder> getDelegatedClientBuilders() {
         val builders = new ArrayList<>(applicationContext.getBeansOfType(ConfigurableDelegatedClientBuilder.class).values());
         AnnotationAwareOrderComparator.sort(builders);
         return builders;
     }
+
+    private record DelegatedClientEntry(BaseClient client, Instant refreshAt) {
+    }
+
+    private record DelegatedClientsSnapshot(long generation, List<DelegatedClientEntry> entries,
+                                            List<BaseClient> clients, Instant refreshAt) {
+    }
 }
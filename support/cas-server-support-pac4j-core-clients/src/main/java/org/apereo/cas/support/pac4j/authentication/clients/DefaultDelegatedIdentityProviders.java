@@ -34,7 +34,7 @@ public class DefaultDelegatedIdentityProviders implements DelegatedIdentityProvi
             val tenantKey = tenantExtractor.getTenantKey(definition);
             var providers = delegatedIdentityProviderFactory.retrieve(tenantKey);
             if (providers.isEmpty()) {
-                providers = Optional.of(definition.bindProperties())
+                providers = Optional.of(tenantExtractor.getTenantsManager().bindProperties(definition))
                     .filter(bindingContext -> bindingContext.containsBindingFor(Pac4jDelegatedAuthenticationProperties.class))
                     .map(ConfigurationPropertiesBindingContext::value)
                     .map(Unchecked.function(delegatedIdentityProviderFactory::buildFrom))
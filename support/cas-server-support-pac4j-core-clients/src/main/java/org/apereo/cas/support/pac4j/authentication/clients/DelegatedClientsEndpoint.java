@@ -59,12 +59,18 @@ public class DelegatedClientsEndpoint extends BaseCasActuatorEndpoint {
     }
 
     private Map<String, Map<String, Object>> buildClientMap(final Collection<BaseClient> currentClients) {
+        val initializationTimes = clientFactory.getObject().getInitializationTimes();
         val clientsMap = new TreeMap<String, Map<String, Object>>();
         currentClients.forEach(client -> delegatedClientsEndpointContributors.ifAvailable(contributors ->
             contributors
                 .stream()
                 .filter(contributor -> contributor.supports(client))
-                .forEach(contributor -> clientsMap.put(client.getName(), contributor.contribute(client)))));
+                .forEach(contributor -> {
+                    val clientDetails = new LinkedHashMap<>(contributor.contribute(client));
+                    Optional.ofNullable(initializationTimes.get(client.getName()))
+                        .ifPresent(time -> clientDetails.put("initializationTime", time.toMillis()));
+                    clientsMap.put(client.getName(), clientDetails);
+                })));
         return clientsMap;
     }
 }
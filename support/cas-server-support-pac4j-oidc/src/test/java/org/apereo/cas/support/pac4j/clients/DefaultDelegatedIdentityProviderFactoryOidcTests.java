@@ -7,6 +7,7 @@ import lombok.val;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
+import org.pac4j.core.client.BaseClient;
 import org.pac4j.core.context.CallContext;
 import org.pac4j.core.profile.CommonProfile;
 import org.pac4j.oauth.client.GitHubClient;
@@ -15,6 +16,7 @@ import org.pac4j.oidc.config.method.PrivateKeyJwtClientAuthnMethodConfig;
 import org.pac4j.test.context.MockWebContext;
 import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
 import org.springframework.test.context.TestPropertySource;
+import static org.awaitility.Awaitility.*;
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -49,6 +51,28 @@ class DefaultDelegatedIdentityProviderFactoryOidcTests {
         }
     }
 
+    @Nested
+    @TestPropertySource(properties = {
+        "cas.authn.pac4j.github.id=12345",
+        "cas.authn.pac4j.github.secret=s3cr3t",
+        "cas.authn.pac4j.core.cache-duration=PT0S",
+        "cas.authn.pac4j.core.lazy-init=true"
+    })
+    class RefreshedClients extends BaseTests {
+        @Test
+        void verifyClientsRefreshedInBackground() {
+            val clients = delegatedIdentityProviderFactory.build();
+            assertEquals(1, clients.size());
+            assertSame(clients, delegatedIdentityProviderFactory.build());
+            await().untilAsserted(() -> {
+                val refreshedClients = delegatedIdentityProviderFactory.build();
+                assertNotSame(clients, refreshedClients);
+                assertEquals(1, refreshedClients.size());
+                assertTrue(delegatedIdentityProviderFactory.getInitializationTimes().containsKey(refreshedClients.getFirst().getName()));
+            });
+        }
+    }
+
     @Nested
     @TestPropertySource(properties = {
             "cas.authn.pac4j.github.scope=user",
@@ -248,14 +272,39 @@ class DefaultDelegatedIdentityProviderFactoryOidcTests {
     class EagerInitialization extends BaseTests {
         @Test
         void verifyEagerInit() {
-            val clients1 = List.copyOf(delegatedIdentityProviderFactory.build());
+            val clients1 = delegatedIdentityProviderFactory.build();
             assertEquals(2, clients1.size());
-            val clients2 = List.copyOf(delegatedIdentityProviderFactory.build());
+            assertTrue(clients1.stream().allMatch(BaseClient::isInitialized));
+            assertSame(clients1, delegatedIdentityProviderFactory.build());
+            val clients2 = List.copyOf(delegatedIdentityProviderFactory.rebuild());
             assertFalse(clients2.stream()
                 .allMatch(c2 -> clients1.stream().anyMatch(client -> client.hashCode() == c2.hashCode())));
         }
     }
 
+    @Nested
+    @TestPropertySource(properties = {
+        "cas.authn.pac4j.core.lazy-init=false",
+        "cas.authn.pac4j.core.cache-duration=PT0S",
+        "cas.authn.pac4j.bitbucket.id=123456",
+        "cas.authn.pac4j.bitbucket.secret=secret",
+        "cas.authn.pac4j.dropbox.id=123456",
+        "cas.authn.pac4j.dropbox.secret=secret"
+    })
+    class EagerRefreshedClients extends BaseTests {
+        @Test
+        void verifyClientsRefreshedIndividually() {
+            val clients = List.copyOf(delegatedIdentityProviderFactory.build());
+            assertEquals(2, clients.size());
+            await().untilAsserted(() -> {
+                val refreshedClients = delegatedIdentityProviderFactory.build();
+                assertEquals(2, refreshedClients.size());
+                assertTrue(refreshedClients.stream().allMatch(BaseClient::isInitialized));
+                assertTrue(refreshedClients.stream().noneMatch(clients::contains));
+            });
+        }
+    }
+
     @Nested
     @TestPropertySource(properties = {
         "cas.authn.pac4j.facebook.id=123456",
@@ -3,13 +3,10 @@ package org.apereo.cas.impl.account;
 import module java.base;
 import org.apereo.cas.api.PasswordlessUserAccount;
 import org.apereo.cas.api.PasswordlessUserAccountCustomizer;
-import org.apereo.cas.util.ResourceUtils;
-import org.apereo.cas.util.function.FunctionUtils;
-import org.apereo.cas.util.io.FileWatcherService;
-import org.apereo.cas.util.io.WatcherService;
+import org.apereo.cas.util.io.IndexedJsonFileStore;
 import org.apereo.cas.util.serialization.JacksonObjectMapperFactory;
 import lombok.val;
-import org.jooq.lambda.Unchecked;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.core.io.Resource;
 import tools.jackson.core.type.TypeReference;
@@ -21,39 +18,53 @@ import tools.jackson.databind.ObjectMapper;
  * @author Misagh Moayyed
  * @since 5.3.0
  */
-public class JsonPasswordlessUserAccountStore extends SimplePasswordlessUserAccountStore {
+public class JsonPasswordlessUserAccountStore extends SimplePasswordlessUserAccountStore implements DisposableBean {
     private static final ObjectMapper MAPPER = JacksonObjectMapperFactory.builder()
         .defaultTypingEnabled(true).singleValueAsArray(true).build().toObjectMapper();
 
-    private WatcherService watcherService;
-
-    private final Resource resource;
+    private final IndexedJsonFileStore<Map.Entry<String, PasswordlessUserAccount>> store;
 
     public JsonPasswordlessUserAccountStore(final Resource resource,
                                             final ConfigurableApplicationContext applicationContext,
                                             final List<PasswordlessUserAccountCustomizer> customizerList) {
-        super(readFromResource(resource), applicationContext, customizerList);
-        this.resource = resource;
-        Unchecked.consumer(res -> {
-            if (ResourceUtils.isFile(resource)) {
-                watcherService = new FileWatcherService(resource.getFile(), file -> reload());
-                watcherService.start(getClass().getSimpleName());
-            }
-        }).accept(resource);
+        super(new LinkedHashMap<>(), applicationContext, customizerList);
+        this.store = new IndexedJsonFileStore<>(resource, new PasswordlessUserAccountsCodec(),
+            Map.Entry::getKey, entry -> entry.getValue().getUsername())
+            .onReload(this::refreshAccounts)
+            .initialize(true);
+        refreshAccounts(store);
+    }
+
+    @Override
+    public void destroy() {
+        store.close();
     }
 
     @Override
     public void reload() {
+        store.reload();
+    }
+
+    private void refreshAccounts(final IndexedJsonFileStore<Map.Entry<String, PasswordlessUserAccount>> userAccounts) {
+        val results = new LinkedHashMap<String, PasswordlessUserAccount>();
+        userAccounts.values().forEach(entry -> results.put(entry.getKey(), entry.getValue()));
         accounts.clear();
-        accounts.putAll(readFromResource(this.resource));
+        accounts.putAll(results);
     }
 
-    private static Map<String, PasswordlessUserAccount> readFromResource(final Resource resource) {
-        return FunctionUtils.doUnchecked(() -> {
-            try (val in = resource.getInputStream()) {
-                return MAPPER.readValue(in, new TypeReference<>() {
-                });
-            }
-        });
+    private static final class PasswordlessUserAccountsCodec implements IndexedJsonFileStore.Codec<Map.Entry<String, PasswordlessUserAccount>> {
+        @Override
+        public Collection<Map.Entry<String, PasswordlessUserAccount>> decode(final String contents) {
+            val userAccounts = MAPPER.readValue(contents, new TypeReference<Map<String, PasswordlessUserAccount>>() {
+            });
+            return new ArrayList<>(userAccounts.entrySet());
+        }
+
+        @Override
+        public String encode(final Collection<Map.Entry<String, PasswordlessUserAccount>> entries) {
+            val userAccounts = new LinkedHashMap<String, PasswordlessUserAccount>();
+            entries.forEach(entry -> userAccounts.put(entry.getKey(), entry.getValue()));
+            return MAPPER.writerWithDefaultPrettyPrinter().writeValueAsString(userAccounts);
+        }
     }
 }
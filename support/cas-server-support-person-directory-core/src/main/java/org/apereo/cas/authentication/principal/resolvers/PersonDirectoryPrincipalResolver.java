@@ -218,13 +218,14 @@ public class PersonDirectoryPrincipalResolver implements PrincipalResolver {
 
     private PersonAttributeDao determineAttributeRepository(final AttributeRepositoryQuery query) {
         if (StringUtils.isNotBlank(query.getTenant())) {
-            val tenantDefinition = context.getTenantExtractor().getTenantsManager().findTenant(query.getTenant()).orElseThrow();
+            val tenantsManager = context.getTenantExtractor().getTenantsManager();
+            val tenantDefinition = tenantsManager.findTenant(query.getTenant()).orElseThrow();
             if (!tenantDefinition.getProperties().isEmpty()) {
                 val builders = context.getApplicationContext().getBeansOfType(TenantPersonAttributeDaoBuilder.class).values();
                 val tenantAttributeRepositories = builders
                     .stream()
-                    .map(builder -> builder.build(tenantDefinition))
-                    .filter(BeanSupplier::isNotProxy)
+                    .map(builder -> tenantsManager.getComponentRegistry().<PersonAttributeDao>getOrBuild(tenantDefinition,
+                        builder.getClass().getName(), definition -> retainAttributeRepositories(builder.build(definition))))
                     .flatMap(List::stream)
                     .toList();
 
@@ -240,6 +241,22 @@ public class PersonDirectoryPrincipalResolver implements PrincipalResolver {
         return context.getAttributeRepository();
     }
 
+    /**
+     * Tenant attribute repositories are kept by the tenant component registry
+     * and are closed once the tenant definition changes, so they must not be
+     * disposed of once attributes are fetched.
+     */
+    private static List<? extends PersonAttributeDao> retainAttributeRepositories(final List<? extends PersonAttributeDao> repositories) {
+        if (BeanSupplier.isProxy(repositories)) {
+            return List.of();
+        }
+        repositories
+            .stream()
+            .filter(PersonAttributeDao::isDisposable)
+            .forEach(repository -> repository.putTag(DisposableBean.class.getName(), Boolean.FALSE));
+        return repositories;
+    }
+
     /**
      * Extracts the id of the user from the provided credential. This method should be overridden by subclasses to
      * achieve more sophisticated strategies for producing a principal ID from a credential.
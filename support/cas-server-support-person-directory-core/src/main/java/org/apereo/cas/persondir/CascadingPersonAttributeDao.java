@@ -49,6 +49,17 @@ public class CascadingPersonAttributeDao extends AbstractAggregatingDefaultQuery
         setAttributeMerger(new ReplacingAttributeAdder());
     }
 
+    /**
+     * Each child DAO is queried using the results of the previous ones,
+     * so child DAOs must always be queried in order.
+     *
+     * @return false
+     */
+    @Override
+    protected boolean isConcurrentQuerySupported() {
+        return false;
+    }
+
     /**
      * If this is the first call, or there are no results in the resultPeople Set and stopIfFirstDaoReturnsNull=false,
      * the seed map is used. If not the attributes of the first user in the resultPeople Set are used for each child
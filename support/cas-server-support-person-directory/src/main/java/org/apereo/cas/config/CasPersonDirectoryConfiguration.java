@@ -17,6 +17,7 @@ import org.apereo.cas.authentication.principal.resolvers.TenantPrincipalResolver
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.configuration.features.CasFeatureModule;
 import org.apereo.cas.configuration.model.core.authentication.PrincipalAttributesCoreProperties;
+import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.multitenancy.TenantExtractor;
 import org.apereo.cas.persondir.CascadingPersonAttributeDao;
 import org.apereo.cas.persondir.DefaultAttributeRepositoryResolver;
@@ -235,6 +236,18 @@ class CasPersonDirectoryConfiguration {
             aggregate.setRecoverExceptions(recoverExceptions);
             LOGGER.trace("Configured attribute repository to recover from exceptions: [{}]", recoverExceptions);
 
+            val core = properties.getCore();
+            aggregate.setQueryConcurrently(core.isQueryConcurrently());
+            aggregate.setQueryTimeout(Beans.newDuration(core.getQueryTimeout()));
+            list.forEach(dao -> Arrays.stream(dao.getId()).forEach(id -> {
+                if (core.getQueryTimeouts().containsKey(id)) {
+                    dao.putTag(AbstractAggregatingDefaultQueryPersonAttributeDao.TAG_QUERY_TIMEOUT, Beans.newDuration(core.getQueryTimeouts().get(id)));
+                }
+                if (core.getUnrecoverableRepositories().contains(id)) {
+                    dao.putTag(AbstractAggregatingDefaultQueryPersonAttributeDao.TAG_RECOVER_EXCEPTIONS, Boolean.FALSE);
+                }
+            }));
+
             return aggregate;
         }
 
@@ -24,6 +24,7 @@ import org.apereo.cas.ticket.registry.key.RedisKeyGeneratorFactory;
 import org.apereo.cas.ticket.registry.pub.DefaultRedisTicketRegistryMessagePublisher;
 import org.apereo.cas.ticket.registry.pub.RedisTicketRegistryMessagePublisher;
 import org.apereo.cas.ticket.registry.sub.DefaultRedisTicketRegistryMessageListener;
+import org.apereo.cas.ticket.serialization.TicketCodec;
 import org.apereo.cas.ticket.serialization.TicketSerializationManager;
 import org.apereo.cas.util.CoreTicketUtils;
 import org.apereo.cas.util.PublisherIdentifier;
@@ -279,6 +280,8 @@ public class CasRedisTicketRegistryAutoConfiguration {
             final ObjectProvider<RedisTicketRegistryMessagePublisher> redisTicketRegistryMessagePublisher,
             @Qualifier(RedisModulesOperations.BEAN_NAME)
             final ObjectProvider<RedisModulesOperations> redisModulesOperations,
+            @Qualifier(TicketCodec.BEAN_NAME)
+            final TicketCodec ticketCodec,
             final ConfigurableApplicationContext applicationContext,
             final CasConfigurationProperties casProperties) {
             return BeanSupplier.of(TicketRegistry.class)
@@ -296,9 +299,11 @@ public class CasRedisTicketRegistryAutoConfiguration {
                     val adapter = new RedisKeyValueAdapter(casRedisTemplates.getTicketsRedisTemplate(), redisMappingContext);
 
                     val operations = redisModulesOperations.stream().filter(BeanSupplier::isNotProxy).findFirst();
-                    return new RedisTicketRegistry(cipher, ticketSerializationManager, ticketCatalog, applicationContext,
+                    val registry = new RedisTicketRegistry(cipher, ticketSerializationManager, ticketCatalog, applicationContext,
                         casRedisTemplates, redisTicketRegistryCache, redisTicketRegistryMessagePublisher,
                         operations, redisKeyGeneratorFactory, adapter, casProperties);
+                    registry.setTicketCodec(ticketCodec);
+                    return registry;
                 }))
                 .otherwise(() -> new DefaultTicketRegistry(ticketSerializationManager, ticketCatalog, applicationContext))
                 .get();
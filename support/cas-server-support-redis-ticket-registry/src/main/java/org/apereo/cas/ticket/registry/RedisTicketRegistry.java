@@ -24,12 +24,14 @@ import org.apereo.cas.util.CompressionUtils;
 import org.apereo.cas.util.EncodingUtils;
 import org.apereo.cas.util.crypto.CipherExecutor;
 import org.apereo.cas.util.function.FunctionUtils;
+import org.apereo.cas.util.serialization.JacksonObjectMapperFactory;
 import org.apereo.cas.util.thread.Cleanable;
 import com.github.benmanes.caffeine.cache.Cache;
 import lombok.Data;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
+import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.BooleanUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.Strings;
@@ -47,6 +49,8 @@ import org.springframework.data.redis.core.convert.RedisData;
 import org.springframework.data.redis.core.types.Expiration;
 import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
+import tools.jackson.core.type.TypeReference;
+import tools.jackson.databind.ObjectMapper;
 
 /**
  * Key-value ticket registry implementation that stores tickets in redis.
@@ -62,6 +66,9 @@ public class RedisTicketRegistry extends AbstractTicketRegistry implements Clean
 
     private static final String SEARCH_INDEX_NAME = RedisTicketDocument.class.getSimpleName() + "Index";
 
+    private static final ObjectMapper TRACKED_SERVICES_MAPPER = JacksonObjectMapperFactory.builder()
+        .defaultTypingEnabled(true).minimal(true).build().toObjectMapper();
+
     private final CasRedisTemplates casRedisTemplates;
 
     private final ObjectProvider<Cache<String, Ticket>> ticketCache;
@@ -120,6 +127,12 @@ public class RedisTicketRegistry extends AbstractTicketRegistry implements Clean
 
         val count = supplier.apply(redisKeyGeneratorFactory.getRedisKeyGenerator(Ticket.class.getName()).orElseThrow())
             + supplier.apply(redisKeyGeneratorFactory.getRedisKeyGenerator(Principal.class.getName()).orElseThrow());
+        if (isServiceTrackingExternalized()) {
+            val options = ScanOptions.scanOptions().match(RedisKeyGenerator.REDIS_NAMESPACE_TRACKED_SERVICES + ":*").build();
+            try (val result = casRedisTemplates.getSessionsRedisTemplate().scan(options)) {
+                result.forEachRemaining(key -> casRedisTemplates.getSessionsRedisTemplate().delete(key));
+            }
+        }
         clean();
         return count;
     }
@@ -132,7 +145,10 @@ public class RedisTicketRegistry extends AbstractTicketRegistry implements Clean
             .mapToInt(id -> BooleanUtils.toBoolean(casRedisTemplates.getTicketsRedisTemplate().delete(id)) ? 1 : 0)
             .sum();
 
-        if (ticket instanceof TicketGrantingTicket) {
+        if (ticket instanceof final TicketGrantingTicket tgt) {
+            if (isServiceTrackingExternalized()) {
+                casRedisTemplates.getSessionsRedisTemplate().delete(getTrackedServicesKey(tgt));
+            }
             redisKeyGeneratorFactory.getRedisKeyGenerator(Principal.class.getName())
                 .ifPresent(principalGenerator -> {
                     val userId = digestIdentifier(getPrincipalIdFrom(ticket));
@@ -150,6 +166,35 @@ public class RedisTicketRegistry extends AbstractTicketRegistry implements Clean
         return count;
     }
 
+    @Override
+    protected long deleteSingleTickets(final List<? extends Ticket> tickets) {
+        val toDelete = tickets
+            .stream()
+            .map(ticket -> {
+                val redisKeyGenerator = redisKeyGeneratorFactory.getRedisKeyGenerator(ticket.getPrefix()).orElseThrow();
+                val redisKey = redisKeyGenerator.forPrefixAndId(ticket.getPrefix(), digestIdentifier(ticket.getId()));
+                return new RedisTicketToDelete(redisKey, redisKeyGenerator.rawKey(redisKey));
+            })
+            .toList();
+        val keys = toDelete
+            .stream()
+            .map(ticket -> ticket.redisKey().getBytes(StandardCharsets.UTF_8))
+            .toArray(byte[][]::new);
+        val result = casRedisTemplates.getTicketsRedisTemplate()
+            .executePipelined((RedisCallback<Object>) conn -> {
+                conn.keyCommands().unlink(keys);
+                return null;
+            });
+        toDelete.forEach(ticketToDelete -> ticketCache.ifAvailable(cache -> cache.invalidate(ticketToDelete.cacheKey())));
+        tickets.forEach(ticket -> messagePublisher.ifAvailable(publisher -> publisher.delete(ticket)));
+        return !result.isEmpty() && result.getFirst() instanceof final Long count ? count : 0;
+    }
+
+    @Override
+    public boolean isBatchDeletionSupported() {
+        return true;
+    }
+
     @Override
     public List<? extends Ticket> addTicket(final Stream<? extends Ticket> toSave) {
         return (List) casRedisTemplates.getTicketsRedisTemplate().executePipelined((RedisCallback) connection -> {
@@ -186,6 +231,75 @@ public class RedisTicketRegistry extends AbstractTicketRegistry implements Clean
         });
     }
 
+    @Override
+    public @Nullable Ticket consumeTicket(final String ticketId) {
+        return FunctionUtils.doAndHandle(() -> {
+            val ticketPrefix = StringUtils.substring(ticketId, 0, ticketId.indexOf(UniqueTicketIdGenerator.SEPARATOR));
+            val redisKeyGenerator = redisKeyGeneratorFactory.getRedisKeyGenerator(ticketPrefix).orElseThrow();
+            val redisTicketsKey = redisKeyGenerator.forPrefixAndId(ticketPrefix, digestIdentifier(ticketId));
+            val rawTicketId = redisKeyGenerator.rawKey(redisTicketsKey);
+            ticketCache.ifAvailable(cache -> cache.invalidate(rawTicketId));
+            val document = redisKeyValueAdapter.get(rawTicketId, redisKeyGenerator.getKeyspace(), RedisTicketDocument.class);
+            if (document == null || !BooleanUtils.toBoolean(casRedisTemplates.getTicketsRedisTemplate().delete(redisTicketsKey))) {
+                LOGGER.debug("Ticket [{}] could not be found or has already been consumed", ticketId);
+                return null;
+            }
+            val ticket = decodeTicket(deserializeTicket(document));
+            if (ticket != null) {
+                messagePublisher.ifAvailable(publisher -> publisher.delete(ticket));
+            }
+            return ticket;
+        });
+    }
+
+    @Override
+    public boolean isTicketConsumptionAtomic() {
+        return true;
+    }
+
+    @Override
+    public boolean isServiceTrackingExternalized() {
+        return casProperties.getTicket().getRegistry().getRedis().isTrackServicesExternally();
+    }
+
+    @Override
+    public void trackService(final TicketGrantingTicket ticketGrantingTicket,
+                             final String serviceTicketId, final Service service) throws Exception {
+        if (!isServiceTrackingExternalized()) {
+            super.trackService(ticketGrantingTicket, serviceTicketId, service);
+        } else if (!casProperties.getSlo().isDisabled()) {
+            val ops = casRedisTemplates.getSessionsRedisTemplate().<String, String>boundHashOps(getTrackedServicesKey(ticketGrantingTicket));
+            ops.put(digestIdentifier(serviceTicketId), encodeTrackedService(serviceTicketId, service));
+            ops.expire(Duration.ofSeconds(RedisKeyGenerator.getTicketExpirationInSeconds(ticketGrantingTicket)));
+        }
+    }
+
+    @Override
+    public void untrackServices(final TicketGrantingTicket ticketGrantingTicket,
+                                final Collection<String> serviceTicketIds) throws Exception {
+        super.untrackServices(ticketGrantingTicket, serviceTicketIds);
+        if (isServiceTrackingExternalized() && !serviceTicketIds.isEmpty()) {
+            val fields = serviceTicketIds.stream().map(this::digestIdentifier).toArray();
+            casRedisTemplates.getSessionsRedisTemplate().opsForHash().delete(getTrackedServicesKey(ticketGrantingTicket), fields);
+        }
+    }
+
+    @Override
+    public Map<String, Service> getTrackedServices(final TicketGrantingTicket ticketGrantingTicket) {
+        if (!isServiceTrackingExternalized()) {
+            return super.getTrackedServices(ticketGrantingTicket);
+        }
+        val services = new LinkedHashMap<>(ticketGrantingTicket.getServices());
+        val ops = casRedisTemplates.getSessionsRedisTemplate().<String, String>boundHashOps(getTrackedServicesKey(ticketGrantingTicket));
+        Optional.ofNullable(ops.values())
+            .stream()
+            .flatMap(Collection::stream)
+            .map(this::decodeTrackedService)
+            .filter(Objects::nonNull)
+            .forEach(services::putAll);
+        return services;
+    }
+
     @Override
     public Collection<? extends Ticket> getTickets() {
         try (val ticketsStream = stream()) {
@@ -195,7 +309,14 @@ public class RedisTicketRegistry extends AbstractTicketRegistry implements Clean
 
     @Override
     public Stream<? extends Ticket> stream(final TicketRegistryStreamCriteria criteria) {
-        return fetchKeysForTickets()
+        var redisKeys = fetchKeysForTickets();
+        if (criteria.getAfter() != null) {
+            final Function<String, String> storedIdentifier = redisKey -> RedisKeyGenerator.parse(redisKey).getId();
+            redisKeys = redisKeys
+                .filter(redisKey -> storedIdentifier.apply(redisKey).compareTo(criteria.getAfter()) > 0)
+                .sorted(Comparator.comparing(storedIdentifier));
+        }
+        return redisKeys
             .skip(criteria.getFrom())
             .limit(criteria.getCount())
             .map(redisKey -> {
@@ -645,6 +766,29 @@ public class RedisTicketRegistry extends AbstractTicketRegistry implements Clean
             .ifPresent(generator -> trackAuthenticationPrincipal(ticket));
     }
 
+    private String getTrackedServicesKey(final TicketGrantingTicket ticketGrantingTicket) {
+        return RedisKeyGenerator.REDIS_NAMESPACE_TRACKED_SERVICES + ':' + digestIdentifier(ticketGrantingTicket.getId());
+    }
+
+    private String encodeTrackedService(final String serviceTicketId, final Service service) {
+        val trackedEntry = new LinkedHashMap<String, Service>();
+        trackedEntry.put(serviceTicketId, service);
+        val json = TRACKED_SERVICES_MAPPER.writeValueAsString(trackedEntry);
+        return isCipherExecutorEnabled()
+            ? EncodingUtils.encodeBase64((byte[]) cipherExecutor.encode(json.getBytes(StandardCharsets.UTF_8), ArrayUtils.EMPTY_OBJECT_ARRAY))
+            : json;
+    }
+
+    private @Nullable Map<String, Service> decodeTrackedService(final String value) {
+        return FunctionUtils.doAndHandle(() -> {
+            val json = isCipherExecutorEnabled()
+                ? new String((byte[]) cipherExecutor.decode(EncodingUtils.decodeBase64(value), ArrayUtils.EMPTY_OBJECT_ARRAY), StandardCharsets.UTF_8)
+                : value;
+            return TRACKED_SERVICES_MAPPER.readValue(json, new TypeReference<Map<String, Service>>() {
+            });
+        });
+    }
+
     protected void trackAuthenticationPrincipal(final Ticket ticket) {
         val userId = digestIdentifier(getPrincipalIdFrom(ticket));
         if (StringUtils.isNotBlank(userId) && ticket instanceof TicketGrantingTicket) {
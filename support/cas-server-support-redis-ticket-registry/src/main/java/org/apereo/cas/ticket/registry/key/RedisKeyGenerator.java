@@ -25,6 +25,10 @@ public interface RedisKeyGenerator {
      * The namespace for all CAS principals.
      */
     String REDIS_NAMESPACE_PRINCIPALS = "CAS_PRINCIPAL";
+    /**
+     * The namespace for services tracked by ticket-granting tickets.
+     */
+    String REDIS_NAMESPACE_TRACKED_SERVICES = "CAS_TRACKED_SERVICES";
 
     /**
      * Redis message topic key used to sync memory cache across nodes.
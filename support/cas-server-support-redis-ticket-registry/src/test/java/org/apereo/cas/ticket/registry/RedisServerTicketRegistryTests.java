@@ -623,4 +623,61 @@ class RedisServerTicketRegistryTests {
         }
 
     }
+
+    @Nested
+    @SpringBootTest(
+        classes = {
+            CasRedisCoreAutoConfiguration.class,
+            CasRedisTicketRegistryAutoConfiguration.class,
+            BaseTicketRegistryTests.SharedTestConfiguration.class
+        },
+        properties = {
+            "cas.ticket.registry.redis.host=localhost",
+            "cas.ticket.registry.redis.port=6379",
+            "cas.ticket.registry.redis.track-services-externally=true",
+            "cas.ticket.registry.redis.crypto.enabled=true"
+        })
+    @ExtendWith(CasTestExtension.class)
+    class ExternalServiceTrackingTests {
+        @Autowired
+        @Qualifier(TicketRegistry.BEAN_NAME)
+        private TicketRegistry ticketRegistry;
+
+        @Autowired
+        @Qualifier(TicketTrackingPolicy.BEAN_NAME_SERVICE_TICKET_TRACKING)
+        private TicketTrackingPolicy serviceTicketSessionTrackingPolicy;
+
+        @Test
+        void verifyServicesTrackedOutsideTicket() throws Exception {
+            val ticketGrantingTicket = new TicketGrantingTicketImpl(
+                BaseTicketRegistryTests.TestTicketIdentifiers.generate().ticketGrantingTicketId(),
+                CoreAuthenticationTestUtils.getAuthentication(), NeverExpiresExpirationPolicy.INSTANCE);
+            ticketRegistry.addTicket(ticketGrantingTicket);
+            val serviceTicketIds = new ArrayList<String>();
+            for (var i = 0; i < 5; i++) {
+                val st = ticketGrantingTicket.grantServiceTicket(
+                    BaseTicketRegistryTests.TestTicketIdentifiers.generate().serviceTicketId(),
+                    RegisteredServiceTestUtils.getService("https://app%s.example.org".formatted(i)),
+                    NeverExpiresExpirationPolicy.INSTANCE, false,
+                    serviceTicketSessionTrackingPolicy);
+                ticketRegistry.addTicket(st);
+                serviceTicketIds.add(st.getId());
+            }
+            assertTrue(ticketGrantingTicket.getServices().isEmpty());
+            ticketRegistry.updateTicket(ticketGrantingTicket);
+
+            val ticket = ticketRegistry.getTicket(ticketGrantingTicket.getId(), TicketGrantingTicket.class);
+            assertTrue(ticket.getServices().isEmpty());
+            val trackedServices = ticketRegistry.getTrackedServices(ticket);
+            assertEquals(Set.copyOf(serviceTicketIds), trackedServices.keySet());
+            assertEquals("https://app1.example.org", trackedServices.get(serviceTicketIds.get(1)).getId());
+
+            ticketRegistry.untrackServices(ticket, List.of(serviceTicketIds.getFirst()));
+            assertEquals(4, ticketRegistry.getTrackedServices(ticket).size());
+
+            ticketRegistry.deleteTicket(ticket);
+            serviceTicketIds.subList(1, serviceTicketIds.size()).forEach(id -> assertNull(ticketRegistry.getTicket(id)));
+            assertTrue(ticketRegistry.getTrackedServices(ticket).isEmpty());
+        }
+    }
 }
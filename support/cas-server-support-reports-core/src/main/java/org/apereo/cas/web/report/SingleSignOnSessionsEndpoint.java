@@ -349,7 +349,7 @@ public class SingleSignOnSessionsEndpoint extends BaseCasRestActuatorEndpoint {
             .map(tgt -> buildSingleSignOnSessionFromTicketGrantingTicket(option, tgt));
     }
 
-    private static Map<String, Object> buildSingleSignOnSessionFromTicketGrantingTicket(
+    private Map<String, Object> buildSingleSignOnSessionFromTicketGrantingTicket(
         final SsoSessionReportOptions option,
         final TicketGrantingTicket tgt) {
         val authentication = tgt.getAuthentication();
@@ -398,7 +398,7 @@ public class SingleSignOnSessionsEndpoint extends BaseCasRestActuatorEndpoint {
             }
         }
 
-        val services = tgt.getServices();
+        val services = ticketRegistryProvider.getObject().getTrackedServices(tgt);
         sso.put(SsoSessionAttributeKeys.AUTHENTICATED_SERVICES.getAttributeKey(), services);
         return sso;
     }
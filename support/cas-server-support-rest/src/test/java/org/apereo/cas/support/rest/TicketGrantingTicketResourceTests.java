@@ -130,7 +130,7 @@ class TicketGrantingTicketResourceTests {
             AuthenticationPolicy.alwaysSatisfied(),
             applicationContext);
 
-        val logoutManager = new DefaultLogoutManager(false, new DefaultLogoutExecutionPlan());
+        val logoutManager = new DefaultLogoutManager(false, new DefaultLogoutExecutionPlan(), ticketRegistry);
 
         val singleLogoutRequestExecutor = new DefaultSingleLogoutRequestExecutor(ticketRegistry, logoutManager, applicationContext);
         ticketGrantingTicketResourceUnderTest = new TicketGrantingTicketResource(api,
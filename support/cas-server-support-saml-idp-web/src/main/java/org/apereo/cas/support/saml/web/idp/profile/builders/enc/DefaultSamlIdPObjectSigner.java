@@ -15,8 +15,9 @@ import org.apereo.cas.util.DigestUtils;
 import org.apereo.cas.util.LoggingUtils;
 import org.apereo.cas.util.RegexUtils;
 import org.apereo.cas.util.crypto.CertUtils;
-import org.apereo.cas.util.crypto.PrivateKeyFactoryBean;
 import org.apereo.cas.util.function.FunctionUtils;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.google.common.collect.Sets;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
@@ -25,6 +26,7 @@ import lombok.val;
 import net.shibboleth.shared.resolver.CriteriaSet;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.Pair;
+import org.jooq.lambda.Unchecked;
 import org.jspecify.annotations.Nullable;
 import org.opensaml.core.criterion.EntityIdCriterion;
 import org.opensaml.messaging.context.MessageContext;
@@ -59,6 +61,10 @@ import jakarta.servlet.http.HttpServletResponse;
 
 /**
  * This is {@link DefaultSamlIdPObjectSigner}.
+ * Signature signing configurations and the parameters resolved from them are cached
+ * for each service, keyed by the signing settings of the service and the fingerprint
+ * of the signing key produced by the {@link SamlIdPMetadataLocator}, so that rotated keys
+ * or changed settings are picked up without parsing keys and building resolvers for every response.
  *
  * @author Misagh Moayyed
  * @since 5.0.0
@@ -73,6 +79,17 @@ public class DefaultSamlIdPObjectSigner implements SamlIdPObjectSigner {
 
     private final SamlIdPMetadataLocator samlIdPMetadataLocator;
 
+    private final SamlIdPPrivateKeyCache privateKeyCache = new SamlIdPPrivateKeyCache();
+
+    private final Cache<String, SignatureSigningConfiguration> signingConfigurations = Caffeine.newBuilder()
+        .maximumSize(1_000)
+        .expireAfterAccess(Duration.ofHours(1))
+        .build();
+
+    private final Cache<RoleDescriptor, Map<String, SignatureSigningParameters>> signingParameters = Caffeine.newBuilder()
+        .weakKeys()
+        .build();
+
     private static boolean doesCredentialFingerprintMatch(final AbstractCredential credential,
                                                           final SamlRegisteredService samlRegisteredService) {
         val fingerprint = samlRegisteredService.getSigningCredentialFingerprint();
@@ -198,11 +215,40 @@ public class DefaultSamlIdPObjectSigner implements SamlIdPObjectSigner {
      * @param service    the service
      * @return the signature signing parameters
      */
-    protected SignatureSigningParameters buildSignatureSigningParameters(final RoleDescriptor descriptor,
-                                                                         final SamlRegisteredService service) {
+    protected @Nullable SignatureSigningParameters buildSignatureSigningParameters(final RoleDescriptor descriptor,
+                                                                                   final SamlRegisteredService service) {
+        return FunctionUtils.doUnchecked(() -> {
+            val signingKey = samlIdPMetadataLocator.resolveSigningKey(Optional.of(service));
+            val cacheKey = buildSigningConfigurationKey(service, SamlIdPPrivateKeyCache.fingerprint(signingKey));
+            val signatureSigningConfiguration = Objects.requireNonNull(signingConfigurations.get(cacheKey,
+                Unchecked.function(_ -> getSignatureSigningConfiguration(service))));
+            val parameters = Objects.requireNonNull(signingParameters.get(descriptor, _ -> new ConcurrentHashMap<>()));
+            return parameters.computeIfAbsent(cacheKey, _ -> resolveSignatureSigningParameters(descriptor, signatureSigningConfiguration));
+        });
+    }
+
+    /**
+     * Build the key that identifies the signature signing configuration of the service.
+     *
+     * @param service        the service
+     * @param keyFingerprint the signing key fingerprint
+     * @return the key
+     */
+    protected String buildSigningConfigurationKey(final SamlRegisteredService service, final String keyFingerprint) {
+        val key = Stream.of(service.getId(), service.getName(), service.getIdpMetadataLocation(),
+                service.getSigningCredentialType(), service.getSigningCredentialFingerprint(), service.getSigningKeyAlgorithm(),
+                service.getSigningSignatureAlgorithms(), service.getSigningSignatureReferenceDigestMethods(),
+                service.getSigningSignatureBlackListedAlgorithms(), service.getSigningSignatureWhiteListedAlgorithms(),
+                service.getSigningSignatureCanonicalizationAlgorithm(), service.getWhiteListBlackListPrecedence(), keyFingerprint)
+            .map(String::valueOf)
+            .collect(Collectors.joining("|"));
+        return DigestUtils.sha256(key);
+    }
+
+    private @Nullable SignatureSigningParameters resolveSignatureSigningParameters(final RoleDescriptor descriptor,
+                                                                                   final SignatureSigningConfiguration signatureSigningConfiguration) {
         return FunctionUtils.doUnchecked(() -> {
             val criteria = new CriteriaSet();
-            val signatureSigningConfiguration = getSignatureSigningConfiguration(service);
             criteria.add(new SignatureSigningConfigurationCriterion(signatureSigningConfiguration));
             criteria.add(new RoleDescriptorCriterion(descriptor));
 
@@ -297,20 +343,12 @@ public class DefaultSamlIdPObjectSigner implements SamlIdPObjectSigner {
      * @return the signing private key
      * @throws Throwable the throwable
      */
-    protected PrivateKey getSigningPrivateKey(final SamlRegisteredService registeredService) throws Throwable {
+    protected @Nullable PrivateKey getSigningPrivateKey(final SamlRegisteredService registeredService) throws Throwable {
         val samlIdp = casProperties.getAuthn().getSamlIdp();
         val signingKey = samlIdPMetadataLocator.resolveSigningKey(Optional.of(registeredService));
-        val privateKeyFactoryBean = new PrivateKeyFactoryBean();
-        privateKeyFactoryBean.setLocation(signingKey);
-        if (StringUtils.isBlank(registeredService.getSigningKeyAlgorithm())) {
-            privateKeyFactoryBean.setAlgorithm(samlIdp.getAlgs().getPrivateKeyAlgName());
-        } else {
-            privateKeyFactoryBean.setAlgorithm(registeredService.getSigningKeyAlgorithm());
-        }
-        privateKeyFactoryBean.setSingleton(false);
-        LOGGER.debug("Locating signature signing key for [{}] using algorithm [{}]",
-            registeredService.getMetadataLocation(), privateKeyFactoryBean.getAlgorithm());
-        return privateKeyFactoryBean.getObject();
+        val algorithm = StringUtils.defaultIfBlank(registeredService.getSigningKeyAlgorithm(), samlIdp.getAlgs().getPrivateKeyAlgName());
+        LOGGER.debug("Locating signature signing key for [{}] using algorithm [{}]", registeredService.getMetadataLocation(), algorithm);
+        return privateKeyCache.fetch(signingKey, algorithm);
     }
 
     protected BasicSignatureSigningConfiguration configureSignatureSigningSecurityConfiguration(final SamlRegisteredService service) {
@@ -371,7 +409,7 @@ public class DefaultSamlIdPObjectSigner implements SamlIdPObjectSigner {
     }
 
     protected @Nullable AbstractCredential getResolvedSigningCredential(final Credential credential,
-                                                                        final PrivateKey privateKey,
+                                                                        @Nullable final PrivateKey privateKey,
                                                                         final SamlRegisteredService service) {
         try {
             val samlIdp = casProperties.getAuthn().getSamlIdp();
@@ -12,14 +12,17 @@ import org.apereo.cas.support.saml.services.idp.metadata.SamlRegisteredServiceMe
 import org.apereo.cas.util.CollectionUtils;
 import org.apereo.cas.util.EncodingUtils;
 import org.apereo.cas.util.crypto.DecryptionException;
-import org.apereo.cas.util.crypto.PrivateKeyFactoryBean;
 import org.apereo.cas.util.function.FunctionUtils;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import net.shibboleth.shared.resolver.CriteriaSet;
 import net.shibboleth.shared.resolver.ResolverException;
 import org.apache.commons.lang3.StringUtils;
+import org.jooq.lambda.Unchecked;
+import org.jspecify.annotations.Nullable;
 import org.opensaml.core.criterion.EntityIdCriterion;
 import org.opensaml.saml.criterion.EntityRoleCriterion;
 import org.opensaml.saml.saml2.core.Assertion;
@@ -31,6 +34,7 @@ import org.opensaml.saml.saml2.core.NameID;
 import org.opensaml.saml.saml2.encryption.Decrypter;
 import org.opensaml.saml.saml2.encryption.EncryptedElementTypeEncryptedKeyResolver;
 import org.opensaml.saml.saml2.encryption.Encrypter;
+import org.opensaml.saml.saml2.metadata.EntityDescriptor;
 import org.opensaml.saml.saml2.metadata.SPSSODescriptor;
 import org.opensaml.security.credential.BasicCredential;
 import org.opensaml.security.credential.Credential;
@@ -64,6 +68,9 @@ import org.opensaml.xmlsec.keyinfo.impl.provider.RSAKeyValueProvider;
 
 /**
  * This is {@link SamlIdPObjectEncrypter}.
+ * Encryption credentials resolved from service provider metadata are cached for as long
+ * as the metadata entity descriptor remains in use, and decryption keys are cached
+ * by the fingerprint of the key content produced by the {@link SamlIdPMetadataLocator}.
  *
  * @author Misagh Moayyed
  * @since 5.0.0
@@ -75,6 +82,12 @@ public class SamlIdPObjectEncrypter {
 
     private final SamlIdPMetadataLocator samlIdPMetadataLocator;
 
+    private final SamlIdPPrivateKeyCache privateKeyCache = new SamlIdPPrivateKeyCache();
+
+    private final Cache<EntityDescriptor, Map<String, Credential>> encryptionCredentials = Caffeine.newBuilder()
+        .weakKeys()
+        .build();
+
     private static void handleEncryptionFailure(final SamlRegisteredService service,
                                                 final SamlRegisteredServiceMetadataAdaptor adaptor) {
         val entityId = adaptor.getEntityId();
@@ -295,7 +308,38 @@ public class SamlIdPObjectEncrypter {
                                                           final SamlRegisteredServiceMetadataAdaptor adaptor,
                                                           final SamlRegisteredService service,
                                                           final BasicEncryptionConfiguration encryptionConfiguration) throws Exception {
+        val credentials = Objects.requireNonNull(encryptionCredentials.get(adaptor.getEntityDescriptor(), _ -> new ConcurrentHashMap<>()));
+        val credential = credentials.computeIfAbsent(peerEntityId + '|' + service.getId(),
+            Unchecked.function(_ -> resolveKeyEncryptionCredential(peerEntityId, adaptor, service, encryptionConfiguration)));
+
+        if (credential == null || credential.getPublicKey() == null) {
+            if (service.isEncryptionOptional()) {
+                LOGGER.warn("Unable to resolve the encryption [public] key for entity id [{}]", peerEntityId);
+                return null;
+            }
+            throw new SamlException("Unable to resolve the encryption [public] key for entity id " + peerEntityId);
+        }
 
+        val encodedKey = EncodingUtils.encodeBase64(credential.getPublicKey().getEncoded());
+        LOGGER.debug("Found encryption public key: [{}]", encodedKey);
+        encryptionConfiguration.setKeyTransportEncryptionCredentials(CollectionUtils.wrapList(credential));
+        return credential;
+    }
+
+    /**
+     * Resolve key encryption credential from the service provider metadata.
+     *
+     * @param peerEntityId            the peer entity id
+     * @param adaptor                 the adaptor
+     * @param service                 the service
+     * @param encryptionConfiguration the encryption configuration
+     * @return the key encryption credential
+     * @throws Exception the exception
+     */
+    protected @Nullable Credential resolveKeyEncryptionCredential(final String peerEntityId,
+                                                                  final SamlRegisteredServiceMetadataAdaptor adaptor,
+                                                                  final SamlRegisteredService service,
+                                                                  final BasicEncryptionConfiguration encryptionConfiguration) throws Exception {
         val mdCredentialResolver = new SamlIdPMetadataCredentialResolver();
         val providers = new ArrayList<KeyInfoProvider>(5);
         providers.add(new RSAKeyValueProvider());
@@ -321,20 +365,7 @@ public class SamlIdPObjectEncrypter {
         criteriaSet.add(new SamlIdPSamlRegisteredServiceCriterion(service));
 
         LOGGER.debug("Attempting to resolve the encryption key for entity id [{}]", peerEntityId);
-        val credential = mdCredentialResolver.resolveSingle(criteriaSet);
-
-        if (credential == null || credential.getPublicKey() == null) {
-            if (service.isEncryptionOptional()) {
-                LOGGER.warn("Unable to resolve the encryption [public] key for entity id [{}]", peerEntityId);
-                return null;
-            }
-            throw new SamlException("Unable to resolve the encryption [public] key for entity id " + peerEntityId);
-        }
-
-        val encodedKey = EncodingUtils.encodeBase64(credential.getPublicKey().getEncoded());
-        LOGGER.debug("Found encryption public key: [{}]", encodedKey);
-        encryptionConfiguration.setKeyTransportEncryptionCredentials(CollectionUtils.wrapList(credential));
-        return credential;
+        return mdCredentialResolver.resolveSingle(criteriaSet);
     }
 
     /**
@@ -473,10 +504,7 @@ public class SamlIdPObjectEncrypter {
         val credential = Objects.requireNonNull(mdCredentialResolver.resolveSingle(criteriaSet));
 
         val encryptionKey = samlIdPMetadataLocator.resolveEncryptionKey(Optional.ofNullable(service));
-        val bean = new PrivateKeyFactoryBean();
-        bean.setSingleton(false);
-        bean.setLocation(encryptionKey);
-        val privateKey = Objects.requireNonNull(bean.getObject());
+        val privateKey = Objects.requireNonNull(privateKeyCache.fetch(encryptionKey, null));
 
         val basicCredential = new BasicCredential(Objects.requireNonNull(credential.getPublicKey()), privateKey);
         decryptionConfiguration.setKEKKeyInfoCredentialResolver(new StaticKeyInfoCredentialResolver(basicCredential));
@@ -0,0 +1,88 @@
+package org.apereo.cas.support.saml.web.idp.profile.builders.enc;
+
+import module java.base;
+import org.apereo.cas.support.saml.idp.metadata.locator.SamlIdPMetadataLocator;
+import org.apereo.cas.util.DigestUtils;
+import org.apereo.cas.util.crypto.PrivateKeyFactoryBean;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.ArrayUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.jspecify.annotations.Nullable;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
+
+/**
+ * This is {@link SamlIdPPrivateKeyCache} that keeps private keys parsed from the artifacts
+ * produced by the {@link SamlIdPMetadataLocator}. Keys are cached by the fingerprint of the key content
+ * and the key algorithm, so a rotated key is parsed and used as soon as the locator produces it.
+ *
+ * @author Misagh Moayyed
+ * @since 8.1.0
+ */
+@Slf4j
+public class SamlIdPPrivateKeyCache {
+    private static final long MAXIMUM_SIZE = 1_000;
+
+    private static final Duration EXPIRATION = Duration.ofHours(1);
+
+    private final Cache<String, PrivateKey> privateKeys = Caffeine.newBuilder()
+        .maximumSize(MAXIMUM_SIZE)
+        .expireAfterAccess(EXPIRATION)
+        .build();
+
+    /**
+     * Calculate the fingerprint of the key content.
+     *
+     * @param resource the resource
+     * @return the fingerprint
+     * @throws IOException the exception
+     */
+    public static String fingerprint(final Resource resource) throws IOException {
+        return DigestUtils.sha256(readContent(resource));
+    }
+
+    /**
+     * Fetch the private key parsed from the resource.
+     *
+     * @param resource  the resource
+     * @param algorithm the algorithm
+     * @return the private key, or null if the key cannot be parsed
+     * @throws IOException the exception
+     */
+    public @Nullable PrivateKey fetch(final Resource resource, @Nullable final String algorithm) throws IOException {
+        val content = readContent(resource);
+        val key = StringUtils.defaultString(algorithm) + ':' + DigestUtils.sha256(content);
+        return privateKeys.get(key, _ -> {
+            LOGGER.debug("Parsing private key [{}] using algorithm [{}]", resource, algorithm);
+            val privateKeyFactoryBean = new PrivateKeyFactoryBean();
+            privateKeyFactoryBean.setLocation(new ByteArrayResource(content));
+            privateKeyFactoryBean.setAlgorithm(algorithm);
+            privateKeyFactoryBean.setSingleton(false);
+            try {
+                return privateKeyFactoryBean.getObject();
+            } catch (final Exception e) {
+                LOGGER.debug("Unable to parse private key [{}]", resource, e);
+                return null;
+            }
+        });
+    }
+
+    /**
+     * Remove all cached keys.
+     */
+    public void clear() {
+        privateKeys.invalidateAll();
+    }
+
+    private static byte[] readContent(final Resource resource) throws IOException {
+        if (!resource.exists()) {
+            return ArrayUtils.EMPTY_BYTE_ARRAY;
+        }
+        try (val in = resource.getInputStream()) {
+            return in.readAllBytes();
+        }
+    }
+}
@@ -42,4 +42,21 @@ class DefaultSamlIdPObjectSignerTests extends BaseSamlIdPConfigurationTests {
         assertNotNull(encodedRequest);
 
     }
+
+    @Test
+    void cachesSigningParameters() {
+        val samlRegisteredService = getSamlRegisteredServiceFor(true, true, false, "https://cassp.example.org");
+        samlRegisteredService.setId(2000);
+        samlRegisteredService.setName("CachedObjectSignerTest");
+        val adaptor = SamlRegisteredServiceMetadataAdaptor.get(samlRegisteredServiceCachingMetadataResolver, samlRegisteredService,
+            samlRegisteredService.getServiceId()).orElseThrow();
+
+        val signer = new DefaultSamlIdPObjectSigner(casSamlIdPMetadataResolver, casProperties, samlIdPMetadataLocator);
+        val parameters = signer.buildSignatureSigningParameters(adaptor.getSsoDescriptor(), samlRegisteredService);
+        assertNotNull(parameters);
+        assertSame(parameters, signer.buildSignatureSigningParameters(adaptor.getSsoDescriptor(), samlRegisteredService));
+
+        samlRegisteredService.setSigningSignatureAlgorithms(List.of("http://www.w3.org/2001/04/xmldsig-more#rsa-sha512"));
+        assertNotSame(parameters, signer.buildSignatureSigningParameters(adaptor.getSsoDescriptor(), samlRegisteredService));
+    }
 }
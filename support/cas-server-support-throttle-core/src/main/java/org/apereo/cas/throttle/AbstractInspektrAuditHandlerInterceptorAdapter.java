@@ -1,17 +1,58 @@
 package org.apereo.cas.throttle;
 
 import module java.base;
+import org.apereo.cas.configuration.support.Beans;
+import org.apereo.cas.web.support.ThrottledSubmission;
+import lombok.Getter;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+import org.apereo.inspektr.common.web.ClientInfoHolder;
 import jakarta.servlet.http.HttpServletRequest;
 
 /**
  * This is {@link AbstractInspektrAuditHandlerInterceptorAdapter}.
+ * Failures are tracked in a {@link ThrottledFailureWindowStore} and are
+ * periodically reconciled with the failures found in the audit log.
  *
  * @author Misagh Moayyed
  * @since 5.3.0
  */
+@Getter
 public abstract class AbstractInspektrAuditHandlerInterceptorAdapter extends AbstractThrottledSubmissionHandlerInterceptorAdapter {
+    private static final String ATTRIBUTE_FAILURE_RECORDED = AbstractInspektrAuditHandlerInterceptorAdapter.class.getName() + ".failureRecorded";
+
+    private final ThrottledFailureWindowStore failureWindowStore;
+
     protected AbstractInspektrAuditHandlerInterceptorAdapter(final ThrottledSubmissionHandlerConfigurationContext configurationContext) {
         super(configurationContext);
+        val failure = configurationContext.getCasProperties().getAuthn().getThrottle().getFailure();
+        this.failureWindowStore = new ThrottledFailureWindowStore(Beans.newDuration(failure.getReconcileInterval()),
+            Beans.newDuration(failure.getAuditLag()));
+    }
+
+    @Override
+    public boolean exceedsThreshold(final HttpServletRequest request) {
+        val cutoff = getFailureInRangeCutOffDate().toInstant(ZoneOffset.UTC);
+        val failures = failureWindowStore.getFailures(getFailureWindowKey(request), cutoff, () -> fetchSubmissionFailures(request));
+        return calculateFailureThresholdRateAndCompare(failures);
+    }
+
+    @Override
+    public void recordSubmissionFailure(final HttpServletRequest request) {
+        if (request.getAttribute(ATTRIBUTE_FAILURE_RECORDED) == null) {
+            request.setAttribute(ATTRIBUTE_FAILURE_RECORDED, Boolean.TRUE);
+            failureWindowStore.record(getFailureWindowKey(request));
+        }
+    }
+
+    @Override
+    public void release() {
+        failureWindowStore.release(getFailureInRangeCutOffDate().toInstant(ZoneOffset.UTC));
+    }
+
+    @Override
+    public void clear() {
+        failureWindowStore.clear();
     }
 
     @Override
@@ -19,4 +60,18 @@ public abstract class AbstractInspektrAuditHandlerInterceptorAdapter extends Abs
         super.recordThrottle(request);
         recordAuditAction(request, ACTION_THROTTLED_LOGIN_ATTEMPT);
     }
+
+    /**
+     * Fetch the most recent submission failures for the request from the audit log,
+     * most recent first.
+     *
+     * @param request the request
+     * @return the failures
+     */
+    protected abstract List<? extends ThrottledSubmission> fetchSubmissionFailures(HttpServletRequest request);
+
+    private String getFailureWindowKey(final HttpServletRequest request) {
+        val remoteAddress = ClientInfoHolder.getClientInfo().getClientIpAddress();
+        return StringUtils.defaultString(remoteAddress) + ':' + StringUtils.defaultString(getUsernameParameterFromRequest(request));
+    }
 }
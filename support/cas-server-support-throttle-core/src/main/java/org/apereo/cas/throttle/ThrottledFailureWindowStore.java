@@ -0,0 +1,169 @@
+package org.apereo.cas.throttle;
+
+import module java.base;
+import org.apereo.cas.web.support.ThrottledSubmission;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+
+/**
+ * This is {@link ThrottledFailureWindowStore} that tracks the most recent authentication failures
+ * for each throttling key in memory, so that failure rates can be calculated without examining the audit log
+ * for every authentication attempt. Failures recorded by this node are tracked immediately, while failures
+ * found in the shared audit log are fetched and merged into the window at most once per reconciliation interval,
+ * which bounds how long failures recorded by other nodes may remain unnoticed.
+ * <p>
+ * Windows are immutable and are swapped atomically in a concurrent map so that lookups never block,
+ * and only one thread at a time reconciles a given key with the audit log.
+ * Failures recorded locally shortly before a reconciliation may not have reached the audit log yet,
+ * so those recorded within the audit lag are kept unless a matching failure is found in the audit log.
+ * Older local failures are expected to be found in the audit log.
+ *
+ * @author Misagh Moayyed
+ * @since 8.1.0
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class ThrottledFailureWindowStore {
+    private static final int MAX_FAILURES = 2;
+
+    private static final Duration AUDIT_TIME_TOLERANCE = Duration.ofSeconds(1);
+
+    private final Map<String, FailureWindow> windows = new ConcurrentHashMap<>();
+
+    private final Duration reconcileInterval;
+
+    private final Duration auditLag;
+
+    /**
+     * Is tracking failures in memory enabled?
+     *
+     * @return true/false
+     */
+    public boolean isEnabled() {
+        return reconcileInterval.isPositive();
+    }
+
+    /**
+     * Record an authentication failure for the key.
+     *
+     * @param key the key
+     */
+    public void record(final String key) {
+        if (isEnabled()) {
+            val now = Instant.now(Clock.systemUTC());
+            windows.compute(key, (_, window) -> Objects.requireNonNullElse(window, FailureWindow.EMPTY).record(now));
+        }
+    }
+
+    /**
+     * Gets the most recent failures for the key, most recent first.
+     * The audit log is consulted if the window for the key is missing
+     * or was last reconciled before the reconciliation interval.
+     *
+     * @param key      the key
+     * @param cutoff   failures before this instant are ignored
+     * @param auditLog the failures found in the audit log
+     * @return the failures
+     */
+    public List<? extends ThrottledSubmission> getFailures(final String key, final Instant cutoff,
+                                                           final Supplier<List<? extends ThrottledSubmission>> auditLog) {
+        if (!isEnabled()) {
+            return auditLog.get();
+        }
+        val now = Instant.now(Clock.systemUTC());
+        val current = windows.get(key);
+        if (current == null || current.isStale(now, reconcileInterval)) {
+            val claimed = current == null
+                ? windows.putIfAbsent(key, FailureWindow.EMPTY.reconciledAt(now)) == null
+                : windows.replace(key, current, current.reconciledAt(now));
+            if (claimed) {
+                reconcile(key, now, auditLog);
+            }
+        }
+        return windows.getOrDefault(key, FailureWindow.EMPTY)
+            .failures()
+            .stream()
+            .filter(failure -> !failure.isBefore(cutoff))
+            .map(failure -> ThrottledSubmission.builder().key(key).value(failure.atZone(ZoneOffset.UTC)).build())
+            .toList();
+    }
+
+    /**
+     * Remove windows that have no failures at or after the cutoff.
+     *
+     * @param cutoff the cutoff
+     */
+    public void release(final Instant cutoff) {
+        windows.values().removeIf(window -> window.failures().stream().allMatch(failure -> failure.isBefore(cutoff)));
+    }
+
+    /**
+     * Remove all windows.
+     */
+    public void clear() {
+        windows.clear();
+    }
+
+    /**
+     * Number of tracked windows.
+     *
+     * @return the size
+     */
+    public int size() {
+        return windows.size();
+    }
+
+    private void reconcile(final String key, final Instant reconciled,
+                           final Supplier<List<? extends ThrottledSubmission>> auditLog) {
+        try {
+            val audited = auditLog.get().stream().map(submission -> submission.getValue().toInstant()).toList();
+            val pending = reconciled.minus(auditLag);
+            LOGGER.trace("Reconciling failures for [{}] with [{}] failure(s) found in the audit log", key, audited.size());
+            windows.compute(key, (_, window) -> {
+                val unmatched = new ArrayList<>(audited);
+                val recorded = Objects.requireNonNullElse(window, FailureWindow.EMPTY)
+                    .failures()
+                    .stream()
+                    .filter(failure -> !failure.isBefore(pending))
+                    .filter(failure -> !matchAuditedFailure(unmatched, failure));
+                return new FailureWindow(mostRecent(Stream.concat(audited.stream(), recorded)), reconciled);
+            });
+        } catch (final RuntimeException e) {
+            windows.computeIfPresent(key, (_, window) -> window.reconciledAt(Instant.MIN));
+            throw e;
+        }
+    }
+
+    private static boolean matchAuditedFailure(final List<Instant> audited, final Instant failure) {
+        val match = audited
+            .stream()
+            .filter(instant -> Duration.between(instant, failure).abs().compareTo(AUDIT_TIME_TOLERANCE) <= 0)
+            .findFirst();
+        match.ifPresent(audited::remove);
+        return match.isPresent();
+    }
+
+    private static List<Instant> mostRecent(final Stream<Instant> failures) {
+        return failures
+            .sorted(Comparator.reverseOrder())
+            .limit(MAX_FAILURES)
+            .toList();
+    }
+
+    private record FailureWindow(List<Instant> failures, Instant reconciled) {
+        private static final FailureWindow EMPTY = new FailureWindow(List.of(), Instant.MIN);
+
+        FailureWindow record(final Instant failure) {
+            return new FailureWindow(mostRecent(Stream.concat(Stream.of(failure), failures.stream())), reconciled);
+        }
+
+        FailureWindow reconciledAt(final Instant instant) {
+            return new FailureWindow(failures, instant);
+        }
+
+        boolean isStale(final Instant now, final Duration interval) {
+            return !reconciled.plus(interval).isAfter(now);
+        }
+    }
+}
@@ -35,7 +35,7 @@ public class JdbcThrottledSubmissionHandlerInterceptorAdapter extends AbstractIn
     }
 
     @Override
-    public boolean exceedsThreshold(final HttpServletRequest request) {
+    protected List<? extends ThrottledSubmission> fetchSubmissionFailures(final HttpServletRequest request) {
         val throttle = getConfigurationContext().getCasProperties().getAuthn().getThrottle();
         val clientInfo = ClientInfoHolder.getClientInfo();
         val remoteAddress = clientInfo.getClientIpAddress();
@@ -53,11 +53,7 @@ public class JdbcThrottledSubmissionHandlerInterceptorAdapter extends AbstractIn
             },
             buildThrottledSubmissionRowMapper());
         LOGGER.debug("Found [{}] failure(s) in audit log", failuresInAudits.size());
-        val result = calculateFailureThresholdRateAndCompare(failuresInAudits);
-        if (result) {
-            LOGGER.debug("Request from [{}] by user [{}] exceeds threshold", remoteAddress, username);
-        }
-        return result;
+        return failuresInAudits;
     }
 
     @Override
@@ -35,7 +35,7 @@ public class MongoDbThrottledSubmissionHandlerInterceptorAdapter extends Abstrac
     }
 
     @Override
-    public boolean exceedsThreshold(final HttpServletRequest request) {
+    protected List<? extends ThrottledSubmission> fetchSubmissionFailures(final HttpServletRequest request) {
         val clientInfo = ClientInfoHolder.getClientInfo();
         val remoteAddress = clientInfo.getClientIpAddress();
 
@@ -51,11 +51,10 @@ public class MongoDbThrottledSubmissionHandlerInterceptorAdapter extends Abstrac
         query.fields().include("whenActionWasPerformed");
 
         LOGGER.debug("Executing MongoDb throttling query [{}]", query);
-        val failures = this.mongoTemplate.find(query, AuditActionContext.class, this.collectionName)
+        return this.mongoTemplate.find(query, AuditActionContext.class, this.collectionName)
             .stream()
             .map(this::toThrottledSubmission)
             .collect(Collectors.toList());
-        return calculateFailureThresholdRateAndCompare(failures);
     }
 
     @Override
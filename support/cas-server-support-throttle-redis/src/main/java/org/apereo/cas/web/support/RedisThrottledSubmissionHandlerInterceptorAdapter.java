@@ -29,13 +29,13 @@ public class RedisThrottledSubmissionHandlerInterceptorAdapter extends AbstractI
     }
 
     @Override
-    public boolean exceedsThreshold(final HttpServletRequest request) {
+    protected List<? extends ThrottledSubmission> fetchSubmissionFailures(final HttpServletRequest request) {
         val clientInfo = ClientInfoHolder.getClientInfo();
         val remoteAddress = clientInfo.getClientIpAddress();
         val throttle = getConfigurationContext().getCasProperties().getAuthn().getThrottle();
         try (val keys = redisTemplate.scan(RedisAuditTrailManager.CAS_AUDIT_CONTEXT_PREFIX + '*')) {
             val username = getUsernameParameterFromRequest(request);
-            val failures = keys
+            return keys
                 .map((Function<String, BoundValueOperations>) redisTemplate::boundValueOps)
                 .map(BoundValueOperations::get)
                 .map(AuditActionContext.class::cast)
@@ -49,7 +49,6 @@ public class RedisThrottledSubmissionHandlerInterceptorAdapter extends AbstractI
                 .limit(2)
                 .map(this::toThrottledSubmission)
                 .collect(Collectors.toList());
-            return calculateFailureThresholdRateAndCompare(failures);
         }
     }
 
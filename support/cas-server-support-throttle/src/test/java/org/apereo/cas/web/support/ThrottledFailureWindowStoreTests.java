@@ -0,0 +1,107 @@
+package org.apereo.cas.web.support;
+
+import module java.base;
+import org.apereo.cas.throttle.ThrottledFailureWindowStore;
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link ThrottledFailureWindowStoreTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 8.1.0
+ */
+@Tag("AuthenticationThrottling")
+class ThrottledFailureWindowStoreTests {
+    private static final Instant CUTOFF = Instant.now(Clock.systemUTC()).minusSeconds(60);
+
+    @Test
+    void verifyAuditLogReconciledOncePerInterval() {
+        val store = new ThrottledFailureWindowStore(Duration.ofMinutes(1), Duration.ofSeconds(10));
+        val queries = new AtomicInteger();
+        val audited = ThrottledSubmission.builder().value(ZonedDateTime.now(Clock.systemUTC()).minusSeconds(10)).build();
+        Supplier<List<? extends ThrottledSubmission>> auditLog = () -> {
+            queries.incrementAndGet();
+            return List.of(audited);
+        };
+        assertEquals(1, store.getFailures("key", CUTOFF, auditLog).size());
+        store.record("key");
+        store.record("key");
+        val failures = store.getFailures("key", CUTOFF, auditLog);
+        assertEquals(2, failures.size());
+        assertFalse(failures.getFirst().getValue().isBefore(failures.get(1).getValue()));
+        assertEquals(1, queries.get());
+    }
+
+    @Test
+    void verifyUnauditedLocalFailuresKept() {
+        val store = new ThrottledFailureWindowStore(Duration.ofMinutes(1), Duration.ofSeconds(10));
+        store.record("key");
+        store.record("key");
+        assertEquals(2, store.getFailures("key", CUTOFF, List::of).size());
+    }
+
+    @Test
+    void verifyAuditedLocalFailuresNotCountedTwice() {
+        val store = new ThrottledFailureWindowStore(Duration.ofMinutes(1), Duration.ofSeconds(10));
+        store.record("key");
+        val audited = ThrottledSubmission.builder().value(ZonedDateTime.now(Clock.systemUTC())).build();
+        assertEquals(1, store.getFailures("key", CUTOFF, () -> List.of(audited)).size());
+    }
+
+    @Test
+    void verifyAuditLogQueriedWhenDisabled() {
+        val store = new ThrottledFailureWindowStore(Duration.ZERO, Duration.ofSeconds(10));
+        val queries = new AtomicInteger();
+        Supplier<List<? extends ThrottledSubmission>> auditLog = () -> {
+            queries.incrementAndGet();
+            return List.of();
+        };
+        store.record("key");
+        IntStream.range(0, 5).forEach(_ -> assertTrue(store.getFailures("key", CUTOFF, auditLog).isEmpty()));
+        assertEquals(5, queries.get());
+        assertEquals(0, store.size());
+    }
+
+    @Test
+    void verifyReleaseAndFailedReconciliation() {
+        val store = new ThrottledFailureWindowStore(Duration.ofMinutes(1), Duration.ofSeconds(10));
+        assertThrows(IllegalStateException.class, () -> store.getFailures("key", CUTOFF, () -> {
+            throw new IllegalStateException();
+        }));
+        assertTrue(store.getFailures("key", CUTOFF, List::of).isEmpty());
+        store.record("key");
+        store.release(CUTOFF);
+        assertEquals(1, store.size());
+        store.release(Instant.now(Clock.systemUTC()).plusSeconds(1));
+        assertEquals(0, store.size());
+    }
+
+    @Test
+    void verifySimulatedAttack() throws Exception {
+        val store = new ThrottledFailureWindowStore(Duration.ofSeconds(30), Duration.ofSeconds(10));
+        val queries = new AtomicInteger();
+        Supplier<List<? extends ThrottledSubmission>> auditLog = () -> {
+            queries.incrementAndGet();
+            return List.of();
+        };
+        val attempts = 10_000;
+        val keys = 10;
+        try (val executor = Executors.newFixedThreadPool(8)) {
+            val tasks = IntStream.range(0, attempts)
+                .mapToObj(i -> (Callable<Integer>) () -> {
+                    val key = "192.0.0." + (i % keys) + ":casuser";
+                    store.record(key);
+                    return store.getFailures(key, CUTOFF, auditLog).size();
+                })
+                .toList();
+            for (val result : executor.invokeAll(tasks)) {
+                assertTrue(result.get() <= 2);
+            }
+        }
+        assertEquals(keys, store.size());
+        assertTrue(queries.get() <= keys);
+    }
+}
@@ -59,6 +59,20 @@ public interface MultifactorAuthenticationTrustStorage {
      */
     Set<? extends MultifactorAuthenticationTrustRecord> get(String principal);
 
+    /**
+     * Get the record that trusts the given device fingerprint for the principal.
+     *
+     * @param principal         the principal id
+     * @param deviceFingerprint the device fingerprint
+     * @return the record
+     */
+    default Optional<? extends MultifactorAuthenticationTrustRecord> get(final String principal, final String deviceFingerprint) {
+        return get(principal)
+            .stream()
+            .filter(entry -> deviceFingerprint.equals(entry.getDeviceFingerprint()))
+            .findAny();
+    }
+
     /**
      * Get record.
      *
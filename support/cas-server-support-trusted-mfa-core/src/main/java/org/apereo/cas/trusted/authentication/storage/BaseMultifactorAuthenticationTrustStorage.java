@@ -5,13 +5,15 @@ import org.apereo.cas.audit.AuditActionResolvers;
 import org.apereo.cas.audit.AuditResourceResolvers;
 import org.apereo.cas.audit.AuditableActions;
 import org.apereo.cas.configuration.model.support.mfa.trusteddevice.TrustedDevicesMultifactorProperties;
+import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.trusted.authentication.api.MultifactorAuthenticationTrustRecord;
 import org.apereo.cas.trusted.authentication.api.MultifactorAuthenticationTrustRecordKeyGenerator;
 import org.apereo.cas.trusted.authentication.api.MultifactorAuthenticationTrustStorage;
 import org.apereo.cas.util.crypto.CipherExecutor;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.AccessLevel;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
@@ -30,15 +32,33 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional(transactionManager = "transactionManagerMfaAuthnTrust")
 @Slf4j
 @ToString
-@RequiredArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
 public abstract class BaseMultifactorAuthenticationTrustStorage implements MultifactorAuthenticationTrustStorage {
+    private static final long MAXIMUM_UNTRUSTED_DEVICES = 100_000;
+
     private final TrustedDevicesMultifactorProperties trustedDevicesMultifactorProperties;
 
     private final CipherExecutor<Serializable, String> cipherExecutor;
 
     private final MultifactorAuthenticationTrustRecordKeyGenerator keyGenerationStrategy;
 
+    @Getter(AccessLevel.NONE)
+    @ToString.Exclude
+    private final Cache<String, Boolean> untrustedDevices;
+
+    protected BaseMultifactorAuthenticationTrustStorage(final TrustedDevicesMultifactorProperties trustedDevicesMultifactorProperties,
+                                                        final CipherExecutor<Serializable, String> cipherExecutor,
+                                                        final MultifactorAuthenticationTrustRecordKeyGenerator keyGenerationStrategy) {
+        this.trustedDevicesMultifactorProperties = trustedDevicesMultifactorProperties;
+        this.cipherExecutor = cipherExecutor;
+        this.keyGenerationStrategy = keyGenerationStrategy;
+        val expiration = Beans.newDuration(trustedDevicesMultifactorProperties.getCore().getUntrustedDeviceCacheExpiration());
+        this.untrustedDevices = Caffeine.newBuilder()
+            .maximumSize(expiration.isPositive() ? MAXIMUM_UNTRUSTED_DEVICES : 0)
+            .expireAfterWrite(expiration.isPositive() ? expiration : Duration.ZERO)
+            .build();
+    }
+
     @Audit(action = AuditableActions.TRUSTED_AUTHENTICATION,
         actionResolverName = AuditActionResolvers.TRUSTED_AUTHENTICATION_ACTION_RESOLVER,
         resourceResolverName = AuditResourceResolvers.TRUSTED_AUTHENTICATION_RESOURCE_RESOLVER)
@@ -49,7 +69,25 @@ public abstract class BaseMultifactorAuthenticationTrustStorage implements Multi
             record.setRecordKey(generateKey(record));
         }
         LOGGER.debug("Storing authentication trust record for [{}]", record);
-        return saveInternal(record);
+        val result = saveInternal(record);
+        if (StringUtils.isNoneBlank(record.getPrincipal(), record.getDeviceFingerprint())) {
+            untrustedDevices.invalidate(getUntrustedDeviceKey(record.getPrincipal(), record.getDeviceFingerprint()));
+        }
+        return result;
+    }
+
+    @Override
+    public Optional<? extends MultifactorAuthenticationTrustRecord> get(final String principal, final String deviceFingerprint) {
+        val untrustedDeviceKey = getUntrustedDeviceKey(principal, deviceFingerprint);
+        if (untrustedDevices.getIfPresent(untrustedDeviceKey) != null) {
+            LOGGER.trace("Device fingerprint [{}] is known to be untrusted for [{}]", deviceFingerprint, principal);
+            return Optional.empty();
+        }
+        val result = getInternal(principal, deviceFingerprint);
+        if (result.isEmpty()) {
+            untrustedDevices.put(untrustedDeviceKey, Boolean.TRUE);
+        }
+        return result;
     }
 
     @Override
@@ -71,5 +109,22 @@ public abstract class BaseMultifactorAuthenticationTrustStorage implements Multi
         return cipherExecutor.encode(key);
     }
 
+    /**
+     * Find the record that trusts the given device fingerprint for the principal.
+     * Storage services that are able to look up records by principal and device fingerprint
+     * should override this operation instead of fetching all records for the principal.
+     *
+     * @param principal         the principal
+     * @param deviceFingerprint the device fingerprint
+     * @return the record
+     */
+    protected Optional<? extends MultifactorAuthenticationTrustRecord> getInternal(final String principal, final String deviceFingerprint) {
+        return MultifactorAuthenticationTrustStorage.super.get(principal, deviceFingerprint);
+    }
+
     protected abstract MultifactorAuthenticationTrustRecord saveInternal(MultifactorAuthenticationTrustRecord record);
+
+    private static String getUntrustedDeviceKey(final String principal, final String deviceFingerprint) {
+        return principal + '|' + deviceFingerprint;
+    }
 }
@@ -5,17 +5,13 @@ import org.apereo.cas.configuration.model.support.mfa.trusteddevice.TrustedDevic
 import org.apereo.cas.trusted.authentication.api.MultifactorAuthenticationTrustRecord;
 import org.apereo.cas.trusted.authentication.api.MultifactorAuthenticationTrustRecordKeyGenerator;
 import org.apereo.cas.util.DateTimeUtils;
-import org.apereo.cas.util.ResourceUtils;
 import org.apereo.cas.util.crypto.CipherExecutor;
-import org.apereo.cas.util.function.FunctionUtils;
-import org.apereo.cas.util.io.FileWatcherService;
-import org.apereo.cas.util.io.WatcherService;
+import org.apereo.cas.util.io.IndexedJsonFileStore;
 import org.apereo.cas.util.serialization.JacksonObjectMapperFactory;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apache.commons.lang3.StringUtils;
 import org.hjson.JsonValue;
-import org.jooq.lambda.Unchecked;
 import org.springframework.beans.factory.DisposableBean;
 import org.springframework.core.io.Resource;
 import tools.jackson.core.type.TypeReference;
@@ -32,11 +28,7 @@ public class JsonMultifactorAuthenticationTrustStorage extends BaseMultifactorAu
     private static final ObjectMapper MAPPER = JacksonObjectMapperFactory.builder()
         .defaultTypingEnabled(true).build().toObjectMapper();
 
-    private final Resource location;
-
-    private Map<String, MultifactorAuthenticationTrustRecord> storage;
-
-    private WatcherService watcherService;
+    private final IndexedJsonFileStore<MultifactorAuthenticationTrustRecord> storage;
 
     public JsonMultifactorAuthenticationTrustStorage(
         final TrustedDevicesMultifactorProperties properties,
@@ -44,44 +36,29 @@ public class JsonMultifactorAuthenticationTrustStorage extends BaseMultifactorAu
         final Resource location,
         final MultifactorAuthenticationTrustRecordKeyGenerator keyGenerationStrategy) {
         super(properties, cipherExecutor, keyGenerationStrategy);
-        this.location = location;
-        readTrustedRecordsFromResource();
-        if (ResourceUtils.isFile(location)) {
-            this.watcherService = new FileWatcherService(Unchecked.supplier(location::getFile).get(),
-                _ -> readTrustedRecordsFromResource());
-            this.watcherService.start(getClass().getSimpleName());
-        }
+        this.storage = new IndexedJsonFileStore<>(location, new TrustedRecordsCodec(),
+            MultifactorAuthenticationTrustRecord::getRecordKey,
+            MultifactorAuthenticationTrustRecord::getPrincipal).initialize(true);
     }
 
     @Override
     public void destroy() {
-        FunctionUtils.doIfNotNull(watcherService, WatcherService::close);
+        storage.close();
     }
 
     @Override
     public void remove(final String key) {
-        storage.keySet().removeIf(k -> k.equalsIgnoreCase(key));
-        writeTrustedRecordsToResource();
+        storage.removeIf(entry -> entry.getRecordKey().equalsIgnoreCase(key));
     }
 
     @Override
     public void remove(final ZonedDateTime expirationDate) {
-        val results = storage
-            .values()
-            .stream()
-            .filter(entry -> entry.getExpirationDate() != null)
-            .filter(entry -> {
-                val expDate = DateTimeUtils.dateOf(expirationDate);
-                return expDate.compareTo(entry.getExpirationDate()) >= 0;
-            })
-            .sorted()
-            .collect(Collectors.toCollection(LinkedHashSet::new));
-
+        val expDate = DateTimeUtils.dateOf(expirationDate);
+        val results = storage.removeIf(entry -> entry.getExpirationDate() != null
+            && expDate.compareTo(entry.getExpirationDate()) >= 0);
         LOGGER.info("Found [{}] expired trusted-device records", results.size());
         if (!results.isEmpty()) {
-            results.forEach(entry -> storage.remove(entry.getRecordKey()));
             LOGGER.info("Invalidated and removed [{}] expired records", results.size());
-            writeTrustedRecordsToResource();
         }
     }
 
@@ -120,7 +97,7 @@ public class JsonMultifactorAuthenticationTrustStorage extends BaseMultifactorAu
     public Set<? extends MultifactorAuthenticationTrustRecord> get(final String principal) {
         remove();
         return storage
-            .values()
+            .findByUsername(principal)
             .stream()
             .filter(entry -> entry.getPrincipal().equalsIgnoreCase(principal))
             .filter(entry -> StringUtils.isNotBlank(entry.getRecordKey()))
@@ -131,33 +108,24 @@ public class JsonMultifactorAuthenticationTrustStorage extends BaseMultifactorAu
 
     @Override
     public MultifactorAuthenticationTrustRecord saveInternal(final MultifactorAuthenticationTrustRecord record) {
-        this.storage.put(record.getRecordKey(), record);
-        writeTrustedRecordsToResource();
-        return record;
+        return storage.put(record);
     }
 
-    private void readTrustedRecordsFromResource() {
-        this.storage = new LinkedHashMap<>();
-        if (ResourceUtils.doesResourceExist(location)) {
-            FunctionUtils.doUnchecked(_ -> {
-                try (val reader = new InputStreamReader(location.getInputStream(), StandardCharsets.UTF_8)) {
-                    val personList = new TypeReference<Map<String, MultifactorAuthenticationTrustRecord>>() {
-                    };
-                    this.storage = MAPPER.readValue(JsonValue.readHjson(reader).toString(), personList);
-                }
-            });
+    private static final class TrustedRecordsCodec implements IndexedJsonFileStore.Codec<MultifactorAuthenticationTrustRecord> {
+        @Override
+        public Collection<MultifactorAuthenticationTrustRecord> decode(final String contents) {
+            val records = new TypeReference<Map<String, MultifactorAuthenticationTrustRecord>>() {
+            };
+            return MAPPER.readValue(JsonValue.readHjson(contents).toString(), records).values();
         }
-    }
 
-    private void writeTrustedRecordsToResource() {
-        FunctionUtils.doUnchecked(_ -> {
-            val file = this.location.getFile();
-            val res = file.createNewFile();
-            if (res) {
-                LOGGER.debug("Created JSON resource @ [{}]", this.location);
-            }
-            MAPPER.writerWithDefaultPrettyPrinter().writeValue(file, this.storage);
-            readTrustedRecordsFromResource();
-        });
+        @Override
+        public String encode(final Collection<MultifactorAuthenticationTrustRecord> entries) {
+            val records = entries
+                .stream()
+                .collect(Collectors.toMap(MultifactorAuthenticationTrustRecord::getRecordKey, Function.identity(),
+                    (first, second) -> second, LinkedHashMap::new));
+            return MAPPER.writerWithDefaultPrettyPrinter().writeValueAsString(records);
+        }
     }
 }
@@ -58,20 +58,13 @@ public class MultifactorAuthenticationVerifyTrustAction extends BaseCasWebflowAc
             return result(CasWebflowConstants.TRANSITION_ID_SKIP);
         }
         val principal = authentication.getPrincipal().getId();
-        LOGGER.trace("Retrieving trusted authentication records for [{}]", principal);
-        val results = storage.isAvailable() ? storage.get(principal) : Set.<MultifactorAuthenticationTrustRecord>of();
-        if (results.isEmpty()) {
-            LOGGER.debug("No valid trusted authentication records could be found for [{}]", principal);
-            return no();
-        }
         val request = WebUtils.getHttpServletRequestFromExternalWebflowContext(requestContext);
         val response = WebUtils.getHttpServletResponseFromExternalWebflowContext(requestContext);
         val fingerprint = deviceFingerprintStrategy.determineFingerprint(authentication, request, response);
         LOGGER.trace("Retrieving authentication records for [{}] that matches [{}]", principal, fingerprint);
-        val foundRecord = results.stream()
-            .filter(entry -> StringUtils.isNotBlank(entry.getDeviceFingerprint()))
-            .filter(entry -> entry.getDeviceFingerprint().equals(fingerprint))
-            .findAny();
+        val foundRecord = storage.isAvailable() && StringUtils.isNotBlank(fingerprint)
+            ? storage.get(principal, fingerprint)
+            : Optional.<MultifactorAuthenticationTrustRecord>empty();
         if (foundRecord.isEmpty()) {
             LOGGER.debug("No trusted authentication records could be found for [{}] to match the current device fingerprint", principal);
             return no();
@@ -5,6 +5,7 @@ import org.apereo.cas.authentication.Authentication;
 import org.apereo.cas.util.spring.beans.BeanSupplier;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import lombok.val;
 import org.jooq.lambda.Unchecked;
 import org.springframework.core.annotation.AnnotationAwareOrderComparator;
 import jakarta.servlet.http.HttpServletRequest;
@@ -12,7 +13,8 @@ import jakarta.servlet.http.HttpServletResponse;
 
 /**
  * Default {@link DeviceFingerprintStrategy} implementation that uses {@link DeviceFingerprintExtractor} to generate
- * a fingerprint.
+ * a fingerprint. Components are extracted once per request and principal, and are remembered as request
+ * attributes so that repeated calls do not repeat geolocation lookups or issue new fingerprint cookies.
  *
  * @author Daniel Frett
  * @since 5.3.0
@@ -22,18 +24,35 @@ import jakarta.servlet.http.HttpServletResponse;
 public class DefaultDeviceFingerprintStrategy implements DeviceFingerprintStrategy {
     private final List<DeviceFingerprintExtractor> deviceFingerprintExtractors;
     private final String componentSeparator;
-    
+
     @Override
     public String determineFingerprint(final Authentication authentication,
                                        final HttpServletRequest request,
                                        final HttpServletResponse response) {
+        val components = getExtractedComponents(request);
+        val principal = authentication.getPrincipal().getId();
         return deviceFingerprintExtractors
             .stream()
             .filter(BeanSupplier::isNotProxy)
             .sorted(AnnotationAwareOrderComparator.INSTANCE)
-            .map(Unchecked.function(component -> component.extract(authentication, request, response)))
+            .map(component -> components.computeIfAbsent(new ExtractedComponent(component, principal),
+                Unchecked.function(key -> component.extract(authentication, request, response))))
             .filter(Optional::isPresent)
             .map(Optional::get)
             .collect(Collectors.joining(componentSeparator));
     }
+
+    @SuppressWarnings("unchecked")
+    private static Map<ExtractedComponent, Optional<String>> getExtractedComponents(final HttpServletRequest request) {
+        val attributeName = DefaultDeviceFingerprintStrategy.class.getName();
+        var components = (Map<ExtractedComponent, Optional<String>>) request.getAttribute(attributeName);
+        if (components == null) {
+            components = new ConcurrentHashMap<>();
+            request.setAttribute(attributeName, components);
+        }
+        return components;
+    }
+
+    private record ExtractedComponent(DeviceFingerprintExtractor extractor, String principal) {
+    }
 }
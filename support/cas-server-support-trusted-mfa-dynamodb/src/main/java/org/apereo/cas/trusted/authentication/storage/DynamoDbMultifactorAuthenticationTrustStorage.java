@@ -51,6 +51,11 @@ public class DynamoDbMultifactorAuthenticationTrustStorage extends BaseMultifact
         return dynamoDbFacilitator.getRecordForPrincipal(principal);
     }
 
+    @Override
+    protected Optional<? extends MultifactorAuthenticationTrustRecord> getInternal(final String principal, final String deviceFingerprint) {
+        return dynamoDbFacilitator.getRecordForPrincipalAndFingerprint(principal, deviceFingerprint);
+    }
+
     @Override
     public MultifactorAuthenticationTrustRecord get(final long id) {
         remove();
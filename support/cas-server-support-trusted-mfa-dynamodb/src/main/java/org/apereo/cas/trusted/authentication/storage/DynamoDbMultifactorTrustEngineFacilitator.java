@@ -97,6 +97,32 @@ public record DynamoDbMultifactorTrustEngineFacilitator(DynamoDbTrustedDevicesMu
             .collect(Collectors.toSet());
     }
 
+    /**
+     * Gets the unexpired record for principal and device fingerprint.
+     *
+     * @param principal         the principal
+     * @param deviceFingerprint the device fingerprint
+     * @return the record
+     */
+    public Optional<MultifactorAuthenticationTrustRecord> getRecordForPrincipalAndFingerprint(final String principal,
+                                                                                             final String deviceFingerprint) {
+        val queries = List.of(
+            DynamoDbQueryBuilder.builder()
+                .key(ColumnNames.PRINCIPAL.getColumnName())
+                .operator(ComparisonOperator.EQ)
+                .attributeValue(List.of(AttributeValue.builder().s(principal).build()))
+                .build(),
+            DynamoDbQueryBuilder.builder()
+                .key(ColumnNames.DEVICE_FINGERPRINT.getColumnName())
+                .operator(ComparisonOperator.EQ)
+                .attributeValue(List.of(AttributeValue.builder().s(deviceFingerprint).build()))
+                .build());
+        return DynamoDbTableUtils.getRecordsByKeys(amazonDynamoDBClient, dynamoDbProperties.getTableName(),
+                queries, DynamoDbMultifactorTrustEngineFacilitator::extractAttributeValuesFrom)
+            .filter(record -> !record.isExpired())
+            .findFirst();
+    }
+
     /**
      * Save.
      *
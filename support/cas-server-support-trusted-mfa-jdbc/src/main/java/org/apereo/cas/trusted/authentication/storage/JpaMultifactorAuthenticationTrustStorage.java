@@ -111,6 +111,20 @@ public class JpaMultifactorAuthenticationTrustStorage extends BaseMultifactorAut
         }), e -> new HashSet<MultifactorAuthenticationTrustRecord>()).get();
     }
 
+    @Override
+    protected Optional<? extends MultifactorAuthenticationTrustRecord> getInternal(final String principal, final String deviceFingerprint) {
+        return FunctionUtils.doAndHandle(() -> transactionTemplate.execute(_ -> entityManager
+            .createQuery(QUERY_SELECT + " WHERE r.principal = :principal AND r.deviceFingerprint = :deviceFingerprint"
+                + " AND r.expirationDate > :expirationDate", getEntityFactory().getType())
+            .setParameter("principal", principal)
+            .setParameter("deviceFingerprint", deviceFingerprint)
+            .setParameter("expirationDate", DateTimeUtils.dateOf(ZonedDateTime.now(ZoneOffset.UTC)))
+            .setMaxResults(1)
+            .getResultList()
+            .stream()
+            .findFirst()), e -> Optional.<MultifactorAuthenticationTrustRecord>empty()).get();
+    }
+
     @Override
     public MultifactorAuthenticationTrustRecord get(final long id) {
         try {
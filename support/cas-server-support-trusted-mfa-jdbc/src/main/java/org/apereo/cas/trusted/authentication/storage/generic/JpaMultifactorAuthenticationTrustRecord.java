@@ -8,6 +8,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 
 /**
@@ -17,7 +18,8 @@ import jakarta.persistence.Table;
  * @since 6.2.0
  */
 @Entity(name = "JpaMultifactorAuthenticationTrustRecord")
-@Table(name = "JpaMultifactorAuthenticationTrustRecord")
+@Table(name = "JpaMultifactorAuthenticationTrustRecord", indexes =
+    @Index(name = "idx_trust_record_principal", columnList = "principal"))
 @Getter
 @DiscriminatorValue("JPA")
 public class JpaMultifactorAuthenticationTrustRecord extends MultifactorAuthenticationTrustRecord {
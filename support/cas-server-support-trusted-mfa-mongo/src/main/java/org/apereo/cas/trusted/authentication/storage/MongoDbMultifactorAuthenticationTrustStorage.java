@@ -41,8 +41,11 @@ public class MongoDbMultifactorAuthenticationTrustStorage extends BaseMultifacto
             Expire at zero indicates the entity will expire at the exact date provided in the field
          */
         val expirationDateIndex = new Index().on("expirationDate", Sort.Direction.ASC).expire(0);
+        val deviceFingerprintIndex = new Index()
+            .on("principal", Sort.Direction.ASC)
+            .on("deviceFingerprint", Sort.Direction.ASC);
         val collection = mongoTemplate.getCollection(getTrustedDevicesMultifactorProperties().getMongo().getCollection());
-        MongoDbConnectionFactory.createOrUpdateIndexes(mongoTemplate, collection, List.of(expirationDateIndex));
+        MongoDbConnectionFactory.createOrUpdateIndexes(mongoTemplate, collection, List.of(expirationDateIndex, deviceFingerprintIndex));
     }
 
     @Override
@@ -97,6 +100,16 @@ public class MongoDbMultifactorAuthenticationTrustStorage extends BaseMultifacto
         return new HashSet<>(results);
     }
 
+    @Override
+    protected Optional<? extends MultifactorAuthenticationTrustRecord> getInternal(final String principal, final String deviceFingerprint) {
+        val query = new Query();
+        query.addCriteria(Criteria.where("principal").is(principal)
+            .and("deviceFingerprint").is(deviceFingerprint)
+            .and("expirationDate").gt(ZonedDateTime.now(ZoneOffset.UTC)));
+        return Optional.ofNullable(mongoTemplate.findOne(query, MultifactorAuthenticationTrustRecord.class,
+            getTrustedDevicesMultifactorProperties().getMongo().getCollection()));
+    }
+
     @Override
     public MultifactorAuthenticationTrustRecord get(final long id) {
         val query = new Query();
@@ -6,9 +6,11 @@ import org.apereo.cas.redis.core.CasRedisTemplate;
 import org.apereo.cas.trusted.authentication.api.MultifactorAuthenticationTrustRecord;
 import org.apereo.cas.trusted.authentication.api.MultifactorAuthenticationTrustRecordKeyGenerator;
 import org.apereo.cas.util.DateTimeUtils;
+import org.apereo.cas.util.DigestUtils;
 import org.apereo.cas.util.crypto.CipherExecutor;
 import lombok.val;
 import org.apache.commons.lang3.ObjectUtils;
+import org.apache.commons.lang3.StringUtils;
 import org.springframework.data.redis.core.RedisCallback;
 
 /**
@@ -23,6 +25,11 @@ public class RedisMultifactorAuthenticationTrustStorage extends BaseMultifactorA
      */
     public static final String CAS_PREFIX = RedisMultifactorAuthenticationTrustStorage.class.getSimpleName() + ':';
 
+    /**
+     * Redis key prefix for records indexed by principal and device fingerprint.
+     */
+    public static final String CAS_FINGERPRINT_PREFIX = RedisMultifactorAuthenticationTrustStorage.class.getSimpleName() + "Fingerprint:";
+
     private final CasRedisTemplate<String, List<MultifactorAuthenticationTrustRecord>> redisTemplate;
 
     public RedisMultifactorAuthenticationTrustStorage(
@@ -50,12 +57,17 @@ public class RedisMultifactorAuthenticationTrustStorage extends BaseMultifactorA
         return CAS_PREFIX + record.getPrincipal().toLowerCase(Locale.ENGLISH) + ':' + record.getId();
     }
 
+    private static String buildRedisKeyForFingerprint(final String username, final String deviceFingerprint) {
+        return CAS_FINGERPRINT_PREFIX + username.toLowerCase(Locale.ENGLISH) + ':' + DigestUtils.sha256(deviceFingerprint);
+    }
+
     @Override
     public void remove(final String key) {
         val principal = getKeyGenerationStrategy().getPrincipalFromRecordKey(getCipherExecutor().decode(key));
-        try (val results = redisTemplate.scan(buildRedisKeyForRecord(principal))) {
+        try (val results = redisTemplate.scan(buildRedisKeyForRecord(principal));
+             val fingerprints = redisTemplate.scan(CAS_FINGERPRINT_PREFIX + principal.toLowerCase(Locale.ENGLISH) + ":*")) {
             redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
-                StreamSupport.stream(results.spliterator(), false).forEach(id ->
+                Stream.concat(results, fingerprints).forEach(id ->
                     connection.keyCommands().del(id.getBytes(StandardCharsets.UTF_8)));
                 return null;
             });
@@ -74,6 +86,9 @@ public class RedisMultifactorAuthenticationTrustStorage extends BaseMultifactorA
                     try (val recordKeys = redisTemplate.scan(buildRedisKeyForRecord(record))) {
                         redisTemplate.delete(Objects.requireNonNull(recordKeys.collect(Collectors.toSet())));
                     }
+                    if (StringUtils.isNotBlank(record.getDeviceFingerprint())) {
+                        redisTemplate.delete(buildRedisKeyForFingerprint(record.getPrincipal(), record.getDeviceFingerprint()));
+                    }
                 });
         }
     }
@@ -100,6 +115,19 @@ public class RedisMultifactorAuthenticationTrustStorage extends BaseMultifactorA
         }
     }
 
+    @Override
+    protected Optional<? extends MultifactorAuthenticationTrustRecord> getInternal(final String principal, final String deviceFingerprint) {
+        val expirationDate = ZonedDateTime.now(ZoneOffset.UTC).truncatedTo(ChronoUnit.SECONDS);
+        val results = redisTemplate.boundValueOps(buildRedisKeyForFingerprint(principal, deviceFingerprint)).get();
+        return Optional.ofNullable(results)
+            .stream()
+            .flatMap(List::stream)
+            .filter(record -> deviceFingerprint.equals(record.getDeviceFingerprint()))
+            .filter(record -> DateTimeUtils.zonedDateTimeOf(record.getExpirationDate()).isAfter(expirationDate))
+            .filter(record -> Boolean.TRUE.equals(redisTemplate.hasKey(buildRedisKeyForRecord(record))))
+            .findFirst();
+    }
+
     @Override
     public MultifactorAuthenticationTrustRecord get(final long id) {
         try (val keys = redisTemplate.scan(buildRedisKeyForRecord(id))) {
@@ -124,6 +152,11 @@ public class RedisMultifactorAuthenticationTrustStorage extends BaseMultifactorA
         results.add(record);
         valueOps.set(results);
         valueOps.expireAt(record.getExpirationDate().toInstant());
+        if (StringUtils.isNotBlank(record.getDeviceFingerprint())) {
+            val fingerprintOps = redisTemplate.boundValueOps(buildRedisKeyForFingerprint(record.getPrincipal(), record.getDeviceFingerprint()));
+            fingerprintOps.set(new ArrayList<>(List.of(record)));
+            fingerprintOps.expireAt(record.getExpirationDate().toInstant());
+        }
         return record;
     }
 
@@ -117,6 +117,18 @@ public abstract class AbstractMultifactorAuthenticationTrustStorageTests {
         }
     }
 
+    @Test
+    void verifyTrustedDeviceByFingerprint() {
+        val record = getMultifactorAuthenticationTrustRecord();
+        assertTrue(getMfaTrustEngine().get(record.getPrincipal(), record.getDeviceFingerprint()).isEmpty());
+        getMfaTrustEngine().save(record);
+        val found = getMfaTrustEngine().get(record.getPrincipal(), record.getDeviceFingerprint());
+        assertTrue(found.isPresent());
+        assertEquals(record.getDeviceFingerprint(), found.get().getDeviceFingerprint());
+        assertTrue(getMfaTrustEngine().get(record.getPrincipal(), UUID.randomUUID().toString()).isEmpty());
+        assertTrue(getMfaTrustEngine().get(UUID.randomUUID().toString(), record.getDeviceFingerprint()).isEmpty());
+    }
+
     @SpringBootTestAutoConfigurations
     @ImportAutoConfiguration({
         CasCoreAutoConfiguration.class,
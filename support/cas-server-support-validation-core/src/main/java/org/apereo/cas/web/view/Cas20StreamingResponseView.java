@@ -0,0 +1,95 @@
+package org.apereo.cas.web.view;
+
+import module java.base;
+import org.apereo.cas.CasViewConstants;
+import org.apereo.cas.authentication.AuthenticationServiceSelectionPlan;
+import org.apereo.cas.authentication.ProtocolAttributeEncoder;
+import org.apereo.cas.authentication.attribute.AttributeDefinitionStore;
+import org.apereo.cas.services.ServicesManager;
+import org.apereo.cas.services.web.view.AbstractCasView;
+import org.apereo.cas.util.LoggingUtils;
+import org.apereo.cas.util.function.FunctionUtils;
+import org.apereo.cas.validation.AuthenticationAttributeReleasePolicy;
+import org.apereo.cas.validation.CasProtocolAttributesRenderer;
+import lombok.val;
+import org.jspecify.annotations.NonNull;
+import org.springframework.http.MediaType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Renders CAS2 validation success responses by writing the response directly
+ * via {@link CasServiceValidationSuccessWriter}, instead of delegating to a template.
+ * The output is identical to what the default CAS2 template produces.
+ *
+ * @author Misagh Moayyed
+ * @since 8.1.0
+ */
+public class Cas20StreamingResponseView extends AbstractCasView {
+
+    public Cas20StreamingResponseView(final ProtocolAttributeEncoder protocolAttributeEncoder,
+                                      final ServicesManager servicesManager,
+                                      final AuthenticationAttributeReleasePolicy authenticationAttributeReleasePolicy,
+                                      final AuthenticationServiceSelectionPlan authenticationRequestServiceSelectionStrategies,
+                                      final CasProtocolAttributesRenderer attributesRenderer,
+                                      final AttributeDefinitionStore attributeDefinitionStore) {
+        super(true, protocolAttributeEncoder, servicesManager, authenticationAttributeReleasePolicy,
+            authenticationRequestServiceSelectionStrategies, attributesRenderer, attributeDefinitionStore);
+        setContentType(MediaType.APPLICATION_XML_VALUE + ";charset=UTF-8");
+    }
+
+    @Override
+    protected void renderMergedOutputModel(final @NonNull Map<String, Object> model,
+                                           @NonNull final HttpServletRequest request,
+                                           @NonNull final HttpServletResponse response) {
+        FunctionUtils.doAndHandle(_ -> {
+            prepareMergedOutputModel(model, request, response);
+            setResponseContentType(request, response);
+            response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+            if (LoggingUtils.isProtocolMessageLoggerEnabled()) {
+                val writer = new StringWriter();
+                writeResponse(model, writer);
+                LoggingUtils.protocolMessage("CAS Validation Response", Map.of(), writer.toString());
+                response.getWriter().write(writer.toString());
+            } else {
+                writeResponse(model, response.getWriter());
+            }
+        });
+    }
+
+    /**
+     * Prepare merged output model before the response is written.
+     *
+     * @param model    the model
+     * @param request  the request
+     * @param response the response
+     * @throws Exception the exception
+     */
+    protected void prepareMergedOutputModel(final Map<String, Object> model, final HttpServletRequest request,
+                                            final HttpServletResponse response) throws Exception {
+        prepareViewModelWithAuthenticationPrincipal(model);
+    }
+
+    protected CasServiceValidationSuccessWriter.Layout getLayout() {
+        return CasServiceValidationSuccessWriter.Layout.CAS20;
+    }
+
+    /**
+     * Write attributes into the response, if any.
+     *
+     * @param model  the model
+     * @param writer the writer
+     * @throws Exception the exception
+     */
+    protected void writeAttributes(final Map<String, Object> model, final CasServiceValidationSuccessWriter writer) throws Exception {
+    }
+
+    private void writeResponse(final Map<String, Object> model, final Writer writer) throws Exception {
+        val successWriter = new CasServiceValidationSuccessWriter(writer, getLayout())
+            .writeUser(getPrincipal(model).getId())
+            .writeProxyGrantingTicket(getProxyGrantingTicketIou(model))
+            .writeProxies((List<?>) model.get(CasViewConstants.MODEL_ATTRIBUTE_NAME_PROXIES));
+        writeAttributes(model, successWriter);
+        successWriter.writeEndDocument();
+    }
+}
@@ -0,0 +1,81 @@
+package org.apereo.cas.web.view;
+
+import module java.base;
+import org.apereo.cas.CasProtocolConstants;
+import org.apereo.cas.authentication.AuthenticationServiceSelectionPlan;
+import org.apereo.cas.authentication.ProtocolAttributeEncoder;
+import org.apereo.cas.authentication.attribute.AttributeDefinitionStore;
+import org.apereo.cas.services.RegisteredService;
+import org.apereo.cas.services.ServicesManager;
+import org.apereo.cas.validation.AuthenticationAttributeReleasePolicy;
+import org.apereo.cas.validation.CasProtocolAttributesRenderer;
+import org.apereo.cas.web.view.attributes.DefaultCas30ProtocolAttributesRenderer;
+import lombok.val;
+import org.springframework.util.ClassUtils;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Renders CAS3 validation success responses by writing the response directly
+ * via {@link CasServiceValidationSuccessWriter}, instead of delegating to a template.
+ * When attributes are rendered using {@link DefaultCas30ProtocolAttributesRenderer},
+ * attribute values are escaped and written as they are streamed without first
+ * being formatted into lines.
+ *
+ * @author Misagh Moayyed
+ * @since 8.1.0
+ */
+public class Cas30StreamingResponseView extends Cas20StreamingResponseView {
+
+    public Cas30StreamingResponseView(final ProtocolAttributeEncoder protocolAttributeEncoder,
+                                      final ServicesManager servicesManager,
+                                      final AuthenticationAttributeReleasePolicy authenticationAttributeReleasePolicy,
+                                      final AuthenticationServiceSelectionPlan serviceSelectionStrategy,
+                                      final CasProtocolAttributesRenderer attributesRenderer,
+                                      final AttributeDefinitionStore attributeDefinitionStore) {
+        super(protocolAttributeEncoder, servicesManager, authenticationAttributeReleasePolicy,
+            serviceSelectionStrategy, attributesRenderer, attributeDefinitionStore);
+    }
+
+    @Override
+    protected void prepareMergedOutputModel(final Map<String, Object> model, final HttpServletRequest request,
+                                            final HttpServletResponse response) throws Exception {
+        super.prepareMergedOutputModel(model, request, response);
+        prepareCasResponseAttributesForViewModel(model);
+    }
+
+    @Override
+    protected void putCasResponseAttributesIntoModel(final Map<String, Object> model,
+                                                     final Map<String, Object> attributes,
+                                                     final RegisteredService registeredService,
+                                                     final CasProtocolAttributesRenderer attributesRenderer) {
+        if (isStreamingAttributes()) {
+            val encodedAttributes = protocolAttributeEncoder.encodeAttributes(model, attributes, registeredService, getServiceFrom(model));
+            putIntoModel(model, CasProtocolConstants.VALIDATION_CAS_MODEL_ATTRIBUTE_NAME_ATTRIBUTES, encodedAttributes);
+        } else {
+            super.putCasResponseAttributesIntoModel(model, attributes, registeredService, attributesRenderer);
+        }
+    }
+
+    @Override
+    protected CasServiceValidationSuccessWriter.Layout getLayout() {
+        return CasServiceValidationSuccessWriter.Layout.CAS30;
+    }
+
+    @Override
+    protected void writeAttributes(final Map<String, Object> model, final CasServiceValidationSuccessWriter writer) throws Exception {
+        if (isStreamingAttributes()) {
+            for (val entry : getModelAttributes(model).entrySet()) {
+                writer.writeAttribute(entry.getKey(), entry.getValue());
+            }
+        } else if (model.get(CasProtocolConstants.VALIDATION_CAS_MODEL_ATTRIBUTE_NAME_FORMATTED_ATTRIBUTES) instanceof final Collection<?> formattedAttributes) {
+            for (val attribute : formattedAttributes) {
+                writer.writeFormattedAttribute(attribute.toString());
+            }
+        }
+    }
+
+    private boolean isStreamingAttributes() {
+        return ClassUtils.getUserClass(attributesRenderer) == DefaultCas30ProtocolAttributesRenderer.class;
+    }
+}
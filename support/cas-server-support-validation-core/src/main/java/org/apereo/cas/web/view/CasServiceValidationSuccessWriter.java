@@ -0,0 +1,222 @@
+package org.apereo.cas.web.view;
+
+import module java.base;
+import org.apereo.cas.util.CollectionUtils;
+import org.apereo.cas.validation.CasProtocolAttributesRenderer;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+import org.apache.commons.text.StringEscapeUtils;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * This is {@link CasServiceValidationSuccessWriter} that streams CAS v2 and v3
+ * service validation success responses to a {@link Writer}. The output is assembled
+ * from precomputed fragments and matches, byte for byte, what the default
+ * {@code casServiceValidationSuccess} templates produce, without compiling
+ * or evaluating a template for every validation request.
+ * <p>
+ * Elements must be written in the order in which they appear in the response:
+ * the user, the proxy-granting ticket, proxies, attributes and finally the end of the document.
+ *
+ * @author Misagh Moayyed
+ * @since 8.1.0
+ */
+@RequiredArgsConstructor
+public class CasServiceValidationSuccessWriter {
+    private static final String START_DOCUMENT = """
+        <cas:serviceResponse xmlns:cas='http://www.yale.edu/tp/cas'>
+            <cas:authenticationSuccess>
+                <cas:user>""";
+
+    private static final String END_USER = "</cas:user>";
+
+    private static final String START_PROXY_GRANTING_TICKET = "\n        <cas:proxyGrantingTicket>";
+
+    private static final String END_PROXY_GRANTING_TICKET = "</cas:proxyGrantingTicket>";
+
+    private static final String START_ATTRIBUTES = "        <cas:attributes>\n";
+
+    private static final String END_ATTRIBUTES = "        </cas:attributes>\n";
+
+    private static final String ATTRIBUTE_INDENT = "            ";
+
+    private final Writer writer;
+
+    private final Layout layout;
+
+    private boolean attributesStarted;
+
+    /**
+     * Write the start of the document along with the authenticated user.
+     *
+     * @param user the user
+     * @return this writer
+     * @throws IOException the exception
+     */
+    public CasServiceValidationSuccessWriter writeUser(final String user) throws IOException {
+        writer.write(START_DOCUMENT);
+        writeEscaped(user);
+        writer.write(END_USER);
+        return this;
+    }
+
+    /**
+     * Write the proxy-granting ticket IOU, if any.
+     *
+     * @param proxyGrantingTicketIou the proxy-granting ticket iou
+     * @return this writer
+     * @throws IOException the exception
+     */
+    public CasServiceValidationSuccessWriter writeProxyGrantingTicket(final @Nullable String proxyGrantingTicketIou) throws IOException {
+        if (proxyGrantingTicketIou != null) {
+            writer.write(START_PROXY_GRANTING_TICKET);
+            writeEscaped(proxyGrantingTicketIou);
+            writer.write(END_PROXY_GRANTING_TICKET);
+        }
+        writer.write('\n');
+        return this;
+    }
+
+    /**
+     * Write the list of proxies, if any. Proxy entries are written as they are.
+     *
+     * @param proxies the proxies
+     * @return this writer
+     * @throws IOException the exception
+     */
+    public CasServiceValidationSuccessWriter writeProxies(final @Nullable List<?> proxies) throws IOException {
+        if (proxies != null && !proxies.isEmpty()) {
+            writer.write(layout.getStartProxies());
+            val repetitions = layout.isProxiesRepeated() ? proxies.size() : 1;
+            for (var i = 0; i < repetitions; i++) {
+                for (val proxy : proxies) {
+                    writer.write(layout.getStartProxy());
+                    writer.write(String.valueOf(proxy));
+                    writer.write(layout.getEndProxy());
+                }
+            }
+            writer.write(layout.getEndProxies());
+        }
+        return this;
+    }
+
+    /**
+     * Write an attribute line that is already formatted by a {@link CasProtocolAttributesRenderer}.
+     *
+     * @param formattedAttribute the formatted attribute
+     * @return this writer
+     * @throws IOException the exception
+     */
+    public CasServiceValidationSuccessWriter writeFormattedAttribute(final String formattedAttribute) throws IOException {
+        startAttributes();
+        writer.write(ATTRIBUTE_INDENT);
+        writer.write(formattedAttribute);
+        writer.write('\n');
+        return this;
+    }
+
+    /**
+     * Write an attribute with all its values, one element per value,
+     * in the same way the default CAS v3 attribute renderer formats attributes.
+     *
+     * @param name  the attribute name
+     * @param value the attribute value, which may be multi-valued
+     * @return this writer
+     * @throws IOException the exception
+     */
+    public CasServiceValidationSuccessWriter writeAttribute(final String name, final @Nullable Object value) throws IOException {
+        val values = CollectionUtils.toCollection(value);
+        if (!values.isEmpty()) {
+            val attributeName = CasProtocolAttributesRenderer.sanitizeAttributeName(name);
+            for (val attributeValue : values) {
+                startAttributes();
+                writer.write(ATTRIBUTE_INDENT);
+                writer.write("<cas:");
+                writer.write(attributeName);
+                writer.write('>');
+                StringEscapeUtils.ESCAPE_XML10.translate(attributeValue.toString().trim(), writer);
+                writer.write("</cas:");
+                writer.write(attributeName);
+                writer.write(">\n");
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Write the end of the document.
+     *
+     * @throws IOException the exception
+     */
+    public void writeEndDocument() throws IOException {
+        if (attributesStarted) {
+            writer.write(END_ATTRIBUTES);
+        }
+        writer.write(layout.getEndDocument());
+        writer.flush();
+    }
+
+    private void startAttributes() throws IOException {
+        if (!attributesStarted) {
+            writer.write(START_ATTRIBUTES);
+            attributesStarted = true;
+        }
+    }
+
+    /**
+     * Escapes values the same way the template engine escapes variables.
+     */
+    private void writeEscaped(final String value) throws IOException {
+        var start = 0;
+        for (var i = 0; i < value.length(); i++) {
+            val replacement = switch (value.charAt(i)) {
+                case '&' -> "&amp;";
+                case '\'' -> "&#39;";
+                case '"' -> "&quot;";
+                case '<' -> "&lt;";
+                case '>' -> "&gt;";
+                case '`' -> "&#x60;";
+                case '=' -> "&#x3D;";
+                default -> null;
+            };
+            if (replacement != null) {
+                writer.write(value, start, i - start);
+                writer.write(replacement);
+                start = i + 1;
+            }
+        }
+        writer.write(value, start, value.length() - start);
+    }
+
+    /**
+     * Response layouts that follow the default protocol templates.
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public enum Layout {
+        /**
+         * CAS v2 response, which does not carry attributes.
+         * The default template lists all proxies once for every proxy in the chain.
+         */
+        CAS20("        <cas:proxies>\n", "            <cas:proxy>", "</cas:proxy>\n",
+            "        </cas:proxies>\n", "    </cas:authenticationSuccess>\n</cas:serviceResponse>\n", true),
+        /**
+         * CAS v3 response.
+         */
+        CAS30("            <cas:proxies>\n", "                <cas:proxy>", "</cas:proxy>\n",
+            "            </cas:proxies>\n", "    </cas:authenticationSuccess>\n</cas:serviceResponse>\n\n", false);
+
+        private final String startProxies;
+
+        private final String startProxy;
+
+        private final String endProxy;
+
+        private final String endProxies;
+
+        private final String endDocument;
+
+        private final boolean proxiesRepeated;
+    }
+}
@@ -18,6 +18,7 @@ import org.apereo.cas.services.ServicesManager;
 import org.apereo.cas.ticket.proxy.ProxyHandler;
 import org.apereo.cas.ticket.registry.TicketRegistry;
 import org.apereo.cas.util.CollectionUtils;
+import org.apereo.cas.util.function.FunctionUtils;
 import org.apereo.cas.util.spring.beans.BeanCondition;
 import org.apereo.cas.util.spring.beans.BeanSupplier;
 import org.apereo.cas.util.spring.boot.ConditionalOnFeatureEnabled;
@@ -43,7 +44,9 @@ import org.apereo.cas.web.v3.V3ProxyValidateController;
 import org.apereo.cas.web.v3.V3ServiceValidateController;
 import org.apereo.cas.web.view.Cas10ResponseView;
 import org.apereo.cas.web.view.Cas20ResponseView;
+import org.apereo.cas.web.view.Cas20StreamingResponseView;
 import org.apereo.cas.web.view.Cas30ResponseView;
+import org.apereo.cas.web.view.Cas30StreamingResponseView;
 import org.apereo.cas.web.view.attributes.AttributeValuesPerLineProtocolAttributesRenderer;
 import org.apereo.cas.web.view.attributes.DefaultCas30ProtocolAttributesRenderer;
 import org.apereo.cas.web.view.attributes.InlinedCas30ProtocolAttributesRenderer;
@@ -152,19 +155,26 @@ public class CasValidationAutoConfiguration {
             @Qualifier("cas1ServiceSuccessView")
             final View cas1ServiceSuccessView,
             @Qualifier("cas1ServiceFailureView")
-            final View cas1ServiceFailureView) {
+            final View cas1ServiceFailureView,
+            @Qualifier("cas3ServiceStreamingSuccessView")
+            final View cas3ServiceStreamingSuccessView,
+            @Qualifier("cas2ServiceStreamingSuccessView")
+            final View cas2ServiceStreamingSuccessView) {
             return viewFactory -> {
                 viewFactory.registerView(ServiceValidationViewTypes.JSON, cas3ServiceJsonView);
 
-                viewFactory.registerView(V3ServiceValidateController.class, Pair.of(cas3ServiceSuccessView, cas3ServiceFailureView));
-                viewFactory.registerView(V3ProxyValidateController.class, Pair.of(cas3ServiceSuccessView, cas3ServiceFailureView));
+                val streaming = casProperties.getView().isStreamValidationResponses();
+                val cas3SuccessView = streaming ? cas3ServiceStreamingSuccessView : cas3ServiceSuccessView;
+                viewFactory.registerView(V3ServiceValidateController.class, Pair.of(cas3SuccessView, cas3ServiceFailureView));
+                viewFactory.registerView(V3ProxyValidateController.class, Pair.of(cas3SuccessView, cas3ServiceFailureView));
 
                 if (casProperties.getView().getCas2().isV3ForwardCompatible()) {
-                    viewFactory.registerView(ProxyValidateController.class, Pair.of(cas3ServiceSuccessView, cas3ServiceFailureView));
-                    viewFactory.registerView(ServiceValidateController.class, Pair.of(cas3ServiceSuccessView, cas3ServiceFailureView));
+                    viewFactory.registerView(ProxyValidateController.class, Pair.of(cas3SuccessView, cas3ServiceFailureView));
+                    viewFactory.registerView(ServiceValidateController.class, Pair.of(cas3SuccessView, cas3ServiceFailureView));
                 } else {
-                    viewFactory.registerView(ProxyValidateController.class, Pair.of(cas2ServiceSuccessView, cas2ServiceFailureView));
-                    viewFactory.registerView(ServiceValidateController.class, Pair.of(cas2ServiceSuccessView, cas2ServiceFailureView));
+                    val cas2SuccessView = streaming ? cas2ServiceStreamingSuccessView : cas2ServiceSuccessView;
+                    viewFactory.registerView(ProxyValidateController.class, Pair.of(cas2SuccessView, cas2ServiceFailureView));
+                    viewFactory.registerView(ServiceValidateController.class, Pair.of(cas2SuccessView, cas2ServiceFailureView));
                 }
                 viewFactory.registerView(LegacyValidateController.class, Pair.of(cas1ServiceSuccessView, cas1ServiceFailureView));
             };
@@ -340,6 +350,54 @@ public class CasValidationAutoConfiguration {
                 cas3ProtocolAttributesRenderer, attributeDefinitionStore);
         }
 
+        @Bean
+        @ConditionalOnMissingBean(name = "cas3ServiceStreamingSuccessView")
+        @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
+        public View cas3ServiceStreamingSuccessView(
+            @Qualifier(AttributeDefinitionStore.BEAN_NAME)
+            final AttributeDefinitionStore attributeDefinitionStore,
+            @Qualifier(AuthenticationAttributeReleasePolicy.BEAN_NAME)
+            final AuthenticationAttributeReleasePolicy authenticationAttributeReleasePolicy,
+            @Qualifier("casAttributeEncoder")
+            final ProtocolAttributeEncoder protocolAttributeEncoder,
+            @Qualifier(ServicesManager.BEAN_NAME)
+            final ServicesManager servicesManager,
+            @Qualifier(AuthenticationServiceSelectionPlan.BEAN_NAME)
+            final AuthenticationServiceSelectionPlan authenticationServiceSelectionPlan,
+            @Qualifier("cas3ProtocolAttributesRenderer")
+            final CasProtocolAttributesRenderer cas3ProtocolAttributesRenderer,
+            @Qualifier("cas3SuccessView")
+            final View cas3SuccessView) {
+            val view = new Cas30StreamingResponseView(protocolAttributeEncoder, servicesManager,
+                authenticationAttributeReleasePolicy, authenticationServiceSelectionPlan,
+                cas3ProtocolAttributesRenderer, attributeDefinitionStore);
+            FunctionUtils.doIfNotNull(cas3SuccessView.getContentType(), view::setContentType);
+            return view;
+        }
+
+        @Bean
+        @ConditionalOnMissingBean(name = "cas2ServiceStreamingSuccessView")
+        @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
+        public View cas2ServiceStreamingSuccessView(
+            @Qualifier(AuthenticationAttributeReleasePolicy.BEAN_NAME)
+            final AuthenticationAttributeReleasePolicy authenticationAttributeReleasePolicy,
+            @Qualifier("casAttributeEncoder")
+            final ProtocolAttributeEncoder protocolAttributeEncoder,
+            @Qualifier(ServicesManager.BEAN_NAME)
+            final ServicesManager servicesManager,
+            @Qualifier(AuthenticationServiceSelectionPlan.BEAN_NAME)
+            final AuthenticationServiceSelectionPlan authenticationServiceSelectionPlan,
+            @Qualifier("cas2SuccessView")
+            final View cas2SuccessView,
+            @Qualifier(AttributeDefinitionStore.BEAN_NAME)
+            final AttributeDefinitionStore attributeDefinitionStore) {
+            val view = new Cas20StreamingResponseView(protocolAttributeEncoder, servicesManager,
+                authenticationAttributeReleasePolicy, authenticationServiceSelectionPlan,
+                NoOpProtocolAttributesRenderer.INSTANCE, attributeDefinitionStore);
+            FunctionUtils.doIfNotNull(cas2SuccessView.getContentType(), view::setContentType);
+            return view;
+        }
+
         @Bean
         @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
         public View cas2SuccessView(
@@ -0,0 +1,171 @@
+package org.apereo.cas.web.view;
+
+import module java.base;
+import org.apereo.cas.BaseCasCoreTests;
+import org.apereo.cas.CasProtocolConstants;
+import org.apereo.cas.CasViewConstants;
+import org.apereo.cas.CentralAuthenticationService;
+import org.apereo.cas.authentication.AuthenticationSystemSupport;
+import org.apereo.cas.authentication.CoreAuthenticationTestUtils;
+import org.apereo.cas.config.CasPersonDirectoryTestConfiguration;
+import org.apereo.cas.config.CasThemesAutoConfiguration;
+import org.apereo.cas.config.CasThymeleafAutoConfiguration;
+import org.apereo.cas.config.CasValidationAutoConfiguration;
+import org.apereo.cas.services.RegexMatchingRegisteredServiceProxyPolicy;
+import org.apereo.cas.services.RegisteredServiceTestUtils;
+import org.apereo.cas.services.ServicesManager;
+import org.apereo.cas.test.CasTestExtension;
+import org.apereo.cas.util.MockWebServer;
+import lombok.val;
+import org.apereo.inspektr.common.web.ClientInfo;
+import org.apereo.inspektr.common.web.ClientInfoHolder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.servlet.ModelAndView;
+import org.springframework.web.servlet.View;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * This is {@link Cas30StreamingResponseViewTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 8.1.0
+ */
+@SpringBootTest(classes = {
+    BaseCasCoreTests.SharedTestConfiguration.class,
+    CasPersonDirectoryTestConfiguration.class,
+    CasThemesAutoConfiguration.class,
+    CasThymeleafAutoConfiguration.class,
+    CasValidationAutoConfiguration.class
+}, properties = {
+    "cas.ticket.st.time-to-kill-in-seconds=120",
+    "cas.view.stream-validation-responses=true"
+})
+@Tag("CAS")
+@ExtendWith(CasTestExtension.class)
+@AutoConfigureMockMvc
+class Cas30StreamingResponseViewTests {
+    @Autowired
+    @Qualifier(ServicesManager.BEAN_NAME)
+    private ServicesManager servicesManager;
+
+    @Autowired
+    @Qualifier(AuthenticationSystemSupport.BEAN_NAME)
+    private AuthenticationSystemSupport authenticationSystemSupport;
+
+    @Autowired
+    @Qualifier(CentralAuthenticationService.BEAN_NAME)
+    private CentralAuthenticationService centralAuthenticationService;
+
+    @Autowired
+    @Qualifier("cas3ServiceSuccessView")
+    private View cas3ServiceSuccessView;
+
+    @Autowired
+    @Qualifier("cas3ServiceStreamingSuccessView")
+    private View cas3ServiceStreamingSuccessView;
+
+    @Autowired
+    @Qualifier("cas2ServiceSuccessView")
+    private View cas2ServiceSuccessView;
+
+    @Autowired
+    @Qualifier("cas2ServiceStreamingSuccessView")
+    private View cas2ServiceStreamingSuccessView;
+
+    @Autowired
+    @Qualifier("mockMvc")
+    private MockMvc mockMvc;
+
+    private static String render(final View view, final ModelAndView modelAndView) throws Exception {
+        val response = new MockHttpServletResponse();
+        view.render(new LinkedHashMap<>(modelAndView.getModel()), new MockHttpServletRequest(), response);
+        return response.getContentAsString();
+    }
+
+    @BeforeEach
+    void before() {
+        val request = new MockHttpServletRequest();
+        request.setRemoteAddr("223.456.789.000");
+        request.setLocalAddr("223.456.789.100");
+        request.addHeader(HttpHeaders.USER_AGENT, "Firefox");
+        ClientInfoHolder.setClientInfo(ClientInfo.from(request));
+    }
+
+    @Test
+    void verifyServiceTicket() throws Throwable {
+        val service = RegisteredServiceTestUtils.getService("https://www.casinthecloud.com");
+        val ctx = CoreAuthenticationTestUtils.getAuthenticationResult(authenticationSystemSupport, service);
+        val tId = centralAuthenticationService.createTicketGrantingTicket(ctx);
+        val sId = centralAuthenticationService.grantServiceTicket(tId.getId(), service, ctx);
+
+        val result = mockMvc.perform(get(CasProtocolConstants.ENDPOINT_SERVICE_VALIDATE_V3)
+                .param(CasProtocolConstants.PARAMETER_SERVICE, service.getId())
+                .param(CasProtocolConstants.PARAMETER_TICKET, sId.getId()))
+            .andExpect(status().isOk())
+            .andReturn();
+        val modelAndView = Objects.requireNonNull(result.getModelAndView());
+        assertSame(cas3ServiceStreamingSuccessView, modelAndView.getView());
+        val content = result.getResponse().getContentAsString();
+        assertTrue(content.contains("<cas:attributes>"));
+        assertEquals(render(cas3ServiceSuccessView, modelAndView), content);
+        assertEquals(render(cas2ServiceSuccessView, modelAndView), render(cas2ServiceStreamingSuccessView, modelAndView));
+    }
+
+    @Test
+    void verifyProxyTicket() throws Throwable {
+        try (val webServer = new MockWebServer(HttpStatus.OK)) {
+            webServer.start();
+            val service = RegisteredServiceTestUtils.getService("http://localhost:%s".formatted(webServer.getPort()));
+            val registeredService = RegisteredServiceTestUtils.getRegisteredService(service.getId(), Map.of());
+            registeredService.setProxyPolicy(new RegexMatchingRegisteredServiceProxyPolicy().setUseServiceId(true));
+            servicesManager.save(registeredService);
+
+            val ctx = CoreAuthenticationTestUtils.getAuthenticationResult(authenticationSystemSupport, service);
+            val tId = centralAuthenticationService.createTicketGrantingTicket(ctx);
+            val sId = centralAuthenticationService.grantServiceTicket(tId.getId(), service, ctx);
+
+            var result = mockMvc.perform(get(CasProtocolConstants.ENDPOINT_PROXY_VALIDATE)
+                    .param(CasProtocolConstants.PARAMETER_SERVICE, service.getId())
+                    .param(CasProtocolConstants.PARAMETER_TICKET, sId.getId())
+                    .param(CasProtocolConstants.PARAMETER_PROXY_CALLBACK_URL, service.getId()))
+                .andExpect(status().isOk())
+                .andReturn();
+            var modelAndView = Objects.requireNonNull(result.getModelAndView());
+            assertTrue(result.getResponse().getContentAsString().contains("<cas:proxyGrantingTicket>"));
+            assertEquals(render(cas3ServiceSuccessView, modelAndView), result.getResponse().getContentAsString());
+            assertEquals(render(cas2ServiceSuccessView, modelAndView), render(cas2ServiceStreamingSuccessView, modelAndView));
+            val pgt = modelAndView.getModelMap().get(CasViewConstants.MODEL_ATTRIBUTE_NAME_PROXY_GRANTING_TICKET).toString();
+
+            result = mockMvc.perform(get(CasProtocolConstants.ENDPOINT_PROXY)
+                    .param(CasProtocolConstants.PARAMETER_TARGET_SERVICE, service.getId())
+                    .param(CasProtocolConstants.PARAMETER_PROXY_GRANTING_TICKET, pgt))
+                .andExpect(status().isOk())
+                .andReturn();
+            val pt = Objects.requireNonNull(result.getModelAndView()).getModelMap().get(CasProtocolConstants.PARAMETER_TICKET).toString();
+
+            result = mockMvc.perform(get(CasProtocolConstants.ENDPOINT_PROXY_VALIDATE)
+                    .param(CasProtocolConstants.PARAMETER_SERVICE, service.getId())
+                    .param(CasProtocolConstants.PARAMETER_TICKET, pt))
+                .andExpect(status().isOk())
+                .andReturn();
+            modelAndView = Objects.requireNonNull(result.getModelAndView());
+            assertTrue(result.getResponse().getContentAsString().contains("<cas:proxy>%s</cas:proxy>".formatted(service.getId())));
+            assertEquals(render(cas3ServiceSuccessView, modelAndView), result.getResponse().getContentAsString());
+            assertEquals(render(cas2ServiceSuccessView, modelAndView), render(cas2ServiceStreamingSuccessView, modelAndView));
+        }
+    }
+}
@@ -3,13 +3,13 @@ package org.apereo.cas.webauthn.storage;
 import module java.base;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.util.crypto.CipherExecutor;
-import org.apereo.cas.util.function.FunctionUtils;
+import org.apereo.cas.util.io.IndexedJsonFileStore;
 import org.apereo.cas.webauthn.WebAuthnUtils;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.yubico.data.CredentialRegistration;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
-import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.core.io.Resource;
 
 /**
@@ -19,37 +19,36 @@ import org.springframework.core.io.Resource;
  * @since 6.3.0
  */
 @Slf4j
-public class JsonResourceWebAuthnCredentialRepository extends BaseWebAuthnCredentialRepository implements InitializingBean {
-    private final Resource location;
+public class JsonResourceWebAuthnCredentialRepository extends BaseWebAuthnCredentialRepository implements DisposableBean {
+    private final IndexedJsonFileStore<Map.Entry<String, Set<CredentialRegistration>>> store;
 
     public JsonResourceWebAuthnCredentialRepository(final CasConfigurationProperties properties,
                                                     final Resource location,
                                                     final CipherExecutor<String, String> cipherExecutor) {
         super(properties, cipherExecutor);
-        this.location = location;
+        this.store = new IndexedJsonFileStore<>(location, new CredentialRegistrationsCodec(),
+            Map.Entry::getKey, Map.Entry::getKey).initialize(true);
     }
 
     @Override
-    public void afterPropertiesSet() {
-        readFromJsonRepository();
+    public void destroy() {
+        store.close();
     }
 
     @Override
     public Collection<CredentialRegistration> getRegistrationsByUsername(final String username) {
-        val storage = readFromJsonRepository();
-        return storage.containsKey(username.trim().toLowerCase(Locale.ENGLISH))
-            ? storage.get(username.trim().toLowerCase(Locale.ENGLISH))
-            : new HashSet<>();
+        return store.findById(username.trim().toLowerCase(Locale.ENGLISH))
+            .<Collection<CredentialRegistration>>map(entry -> new LinkedHashSet<>(entry.getValue()))
+            .orElseGet(HashSet::new);
     }
 
     @Override
     public Stream<CredentialRegistration> stream() {
-        return readFromJsonRepository().values().stream().flatMap(Collection::stream);
+        return store.values().stream().map(Map.Entry::getValue).flatMap(Collection::stream);
     }
 
     @Override
     protected void update(final String username, final Collection<CredentialRegistration> givenRecords) {
-        val storage = readFromJsonRepository();
         val records = givenRecords.stream()
             .map(record -> {
                 if (record.getRegistrationTime() == null) {
@@ -57,23 +56,23 @@ public class JsonResourceWebAuthnCredentialRepository extends BaseWebAuthnCreden
                 }
                 return record;
             }).toList();
-        storage.put(username.trim().toLowerCase(Locale.ENGLISH), new LinkedHashSet<>(records));
-        FunctionUtils.doUnchecked(_ -> WebAuthnUtils.getObjectMapper().writerWithDefaultPrettyPrinter().writeValue(location.getFile(), storage));
+        LOGGER.trace("Storing [{}] registration record(s) for [{}]", records.size(), username);
+        store.put(new AbstractMap.SimpleImmutableEntry<>(username.trim().toLowerCase(Locale.ENGLISH), new LinkedHashSet<>(records)));
     }
 
-    private Map<String, Set<CredentialRegistration>> readFromJsonRepository() {
-        return FunctionUtils.doUnchecked(() -> {
-            LOGGER.trace("Ensuring JSON repository file exists at [{}]", location.getFile());
-            val result = location.getFile().createNewFile();
-            if (result) {
-                LOGGER.trace("Created JSON repository file at [{}]", location.getFile());
-            }
-            if (location.getFile().length() > 0) {
-                LOGGER.trace("Reading JSON repository file at [{}]", location.getFile());
-                return new ConcurrentHashMap<>(WebAuthnUtils.getObjectMapper().readValue(location.getFile(), new TypeReference<>() {
-                }));
-            }
-            return new ConcurrentHashMap<>(0);
-        });
+    private static final class CredentialRegistrationsCodec implements IndexedJsonFileStore.Codec<Map.Entry<String, Set<CredentialRegistration>>> {
+        @Override
+        public Collection<Map.Entry<String, Set<CredentialRegistration>>> decode(final String contents) throws Exception {
+            val registrations = WebAuthnUtils.getObjectMapper().readValue(contents, new TypeReference<Map<String, Set<CredentialRegistration>>>() {
+            });
+            return new ArrayList<>(registrations.entrySet());
+        }
+
+        @Override
+        public String encode(final Collection<Map.Entry<String, Set<CredentialRegistration>>> entries) throws Exception {
+            val registrations = new LinkedHashMap<String, Set<CredentialRegistration>>();
+            entries.forEach(entry -> registrations.put(entry.getKey(), entry.getValue()));
+            return WebAuthnUtils.getObjectMapper().writerWithDefaultPrettyPrinter().writeValueAsString(registrations);
+        }
     }
 }
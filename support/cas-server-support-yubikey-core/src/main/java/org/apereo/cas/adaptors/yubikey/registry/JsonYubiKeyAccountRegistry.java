@@ -3,10 +3,8 @@ package org.apereo.cas.adaptors.yubikey.registry;
 import module java.base;
 import org.apereo.cas.adaptors.yubikey.YubiKeyAccount;
 import org.apereo.cas.adaptors.yubikey.YubiKeyAccountValidator;
-import org.apereo.cas.util.ResourceUtils;
 import org.apereo.cas.util.function.FunctionUtils;
-import org.apereo.cas.util.io.FileWatcherService;
-import org.apereo.cas.util.io.WatcherService;
+import org.apereo.cas.util.io.IndexedJsonFileStore;
 import org.apereo.cas.util.serialization.JacksonObjectMapperFactory;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
@@ -27,91 +25,77 @@ public class JsonYubiKeyAccountRegistry extends PermissiveYubiKeyAccountRegistry
     private static final ObjectMapper MAPPER = JacksonObjectMapperFactory.builder()
         .defaultTypingEnabled(true).build().toObjectMapper();
 
-    private final Resource jsonResource;
-    
-    private WatcherService watcherService;
-    
+    private final IndexedJsonFileStore<YubiKeyAccount> store;
+
     public JsonYubiKeyAccountRegistry(final Resource jsonResource,
                                       final boolean watchResource,
                                       final YubiKeyAccountValidator validator) throws Exception {
-        super(getDevicesFromJsonResource(jsonResource), validator);
-        this.jsonResource = jsonResource;
-        
-        if (ResourceUtils.isFile(this.jsonResource) && watchResource) {
-            this.watcherService = new FileWatcherService(jsonResource.getFile(),
-                _ -> setDevices(getDevicesFromJsonResource(jsonResource)));
-            this.watcherService.start(getClass().getSimpleName());
-        }
+        super(new ConcurrentHashMap<>(), validator);
+        this.store = new IndexedJsonFileStore<>(jsonResource, new YubiKeyAccountsCodec(),
+            YubiKeyAccount::getUsername, YubiKeyAccount::getUsername)
+            .onReload(this::refreshDevices)
+            .initialize(watchResource);
+        refreshDevices(store);
     }
 
     @Override
     public void destroy() {
-        FunctionUtils.doIfNotNull(watcherService, WatcherService::close);
-    }
-
-    private static Map<String, YubiKeyAccount> getDevicesFromJsonResource(final Resource jsonResource) {
-        return FunctionUtils.doUnchecked(() -> {
-            if (!ResourceUtils.doesResourceExist(jsonResource)) {
-                val res = jsonResource.getFile().createNewFile();
-                if (res) {
-                    LOGGER.debug("Created JSON resource @ [{}]", jsonResource);
-                }
-            }
-            if (ResourceUtils.doesResourceExist(jsonResource)) {
-                val file = jsonResource.getFile();
-                if (file.canRead() && file.length() > 0) {
-                    return MAPPER.readValue(file, new TypeReference<>() {
-                    });
-                }
-            } else {
-                LOGGER.warn("JSON resource @ [{}] does not exist", jsonResource);
-            }
-            return new HashMap<>();
-        });
+        store.close();
     }
 
     @Override
     public void delete(final String uid) {
         super.delete(uid);
-        writeDevicesToFile();
+        store.remove(uid);
     }
 
     @Override
     public void delete(final String username, final long deviceId) {
         super.delete(username, deviceId);
-        writeDevicesToFile();
+        FunctionUtils.doIfNotNull(devices.get(username), store::put);
     }
 
     @Override
     public void deleteAll() {
         super.deleteAll();
-        writeDevicesToFile();
-    }
-
-    @Override
-    public Collection<? extends YubiKeyAccount> getAccountsInternal() {
-        this.devices.putAll(getDevicesFromJsonResource(this.jsonResource));
-        return super.getAccountsInternal();
+        store.removeAll();
     }
 
     @Override
     public YubiKeyAccount save(final YubiKeyAccount yubiAccount) {
         val account = super.save(yubiAccount);
-        writeDevicesToFile();
-        return account;
+        return store.put(account);
     }
 
     @Override
     public boolean update(final YubiKeyAccount account) {
         val result = super.update(account);
-        writeDevicesToFile();
+        store.put(account);
         return result;
     }
 
-    private void writeDevicesToFile() {
-        FunctionUtils.doUnchecked(_ -> {
-            val file = jsonResource.getFile();
-            MAPPER.writer().withDefaultPrettyPrinter().writeValue(file, this.devices);
-        });
+    private void refreshDevices(final IndexedJsonFileStore<YubiKeyAccount> accounts) {
+        LOGGER.debug("Loaded [{}] YubiKey account(s) from [{}]", accounts.size(), accounts.getResource());
+        setDevices(accounts.values()
+            .stream()
+            .collect(Collectors.toMap(YubiKeyAccount::getUsername, Function.identity(),
+                (first, second) -> second, ConcurrentHashMap::new)));
+    }
+
+    private static final class YubiKeyAccountsCodec implements IndexedJsonFileStore.Codec<YubiKeyAccount> {
+        @Override
+        public Collection<YubiKeyAccount> decode(final String contents) {
+            return MAPPER.readValue(contents, new TypeReference<Map<String, YubiKeyAccount>>() {
+            }).values();
+        }
+
+        @Override
+        public String encode(final Collection<YubiKeyAccount> entries) {
+            val accounts = entries
+                .stream()
+                .collect(Collectors.toMap(YubiKeyAccount::getUsername, Function.identity(),
+                    (first, second) -> second, LinkedHashMap::new));
+            return MAPPER.writer().withDefaultPrettyPrinter().writeValueAsString(accounts);
+        }
     }
 }